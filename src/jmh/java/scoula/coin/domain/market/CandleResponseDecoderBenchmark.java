@@ -0,0 +1,98 @@
+package scoula.coin.domain.market;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scoula.coin.application.dto.CandleDTO;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분봉 응답 파싱 성능 측정 (String + JsonNode 트리 + CandleDTO 버전과 스트리밍 CandleBatch 버전)
+ * 실행: gradle jmh -Pjmh.includes=CandleResponseDecoderBenchmark (gc profiler로 할당량 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandleResponseDecoderBenchmark {
+
+    @Param({"1", "200"})
+    private int count;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 0, 0);
+        double price = 50_000_000;
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            LocalDateTime candleTime = time.minusMinutes(i);
+            price = Math.max(1, price + (random.nextDouble() - 0.5) * 200_000);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"market\":\"KRW-BTC\",\"candle_date_time_utc\":\"").append(candleTime)
+                    .append(":00\",\"candle_date_time_kst\":\"").append(candleTime.plusHours(9))
+                    .append(":00\",\"opening_price\":").append(price)
+                    .append(",\"high_price\":").append(price + 10_000)
+                    .append(",\"low_price\":").append(price - 10_000)
+                    .append(",\"trade_price\":").append(price + 5_000)
+                    .append(",\"timestamp\":").append(candleTime.toInstant(ZoneOffset.UTC).toEpochMilli() + 59_000)
+                    .append(",\"candle_acc_trade_price\":").append(price * 0.3)
+                    .append(",\"candle_acc_trade_volume\":").append(random.nextDouble())
+                    .append(",\"unit\":1}");
+        }
+        body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<CandleDTO> tree() throws Exception {
+        JsonNode root = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        List<CandleDTO> candles = new ArrayList<>(root.size());
+        for (JsonNode candleData : root) {
+            CandleDTO candle = new CandleDTO();
+            candle.setMarket(candleData.get("market").asText());
+            candle.setCandleDateTimeUtc(candleData.get("candle_date_time_utc").asText());
+            candle.setCandleDateTimeKst(candleData.get("candle_date_time_kst").asText());
+            candle.setOpeningPrice(candleData.get("opening_price").asDouble());
+            candle.setHighPrice(candleData.get("high_price").asDouble());
+            candle.setLowPrice(candleData.get("low_price").asDouble());
+            candle.setTradePrice(candleData.get("trade_price").asDouble());
+            candle.setTimeStamp(candleData.get("timestamp").asLong());
+            candle.setCandleAccTradePrice(candleData.get("candle_acc_trade_price").asDouble());
+            candle.setCandleAccTradeVolume(candleData.get("candle_acc_trade_volume").asDouble());
+            candle.setUnit(candleData.get("unit").asInt());
+            candles.add(candle);
+        }
+        return candles;
+    }
+
+    @Benchmark
+    public CandleBatch streaming() throws Exception {
+        return CandleResponseDecoder.decode(new ByteArrayInputStream(body), count);
+    }
+}
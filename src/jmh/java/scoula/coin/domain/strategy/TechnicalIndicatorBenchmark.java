@@ -0,0 +1,163 @@
+package scoula.coin.domain.strategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TechnicalIndicator 지표 계산 성능 측정 (List 버전과 double[] 버전)
+ * 실행: gradle jmh (결과는 build/results/jmh/results.txt, gc profiler로 할당량 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TechnicalIndicatorBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private final TechnicalIndicator indicator = new TechnicalIndicator();
+
+    private List<Double> priceList;
+    private double[] prices;
+
+    private double[] emaOut;
+    private double[] macdOut;
+    private double[] rsiOut;
+    private double[] upperOut;
+    private double[] middleOut;
+    private double[] lowerOut;
+
+    // generateSignals 입력 (끝을 맞춰 자른 같은 길이의 구간)
+    private List<Double> signalPriceList;
+    private List<Double> signalRsiList;
+    private List<Double> signalMacdList;
+    private List<List<Double>> signalBandList;
+    private double[] signalPrices;
+    private double[] signalRsi;
+    private double[] signalMacd;
+    private double[] signalUpper;
+    private double[] signalLower;
+    private int signalLength;
+    private int[] signalOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new double[size];
+        priceList = new ArrayList<>(size);
+        double price = 50_000_000;
+        for (int i = 0; i < size; i++) {
+            price = Math.max(1, price + (random.nextDouble() - 0.5) * 200_000);
+            prices[i] = price;
+            priceList.add(price);
+        }
+
+        emaOut = new double[size];
+        macdOut = new double[size];
+        rsiOut = new double[size];
+        upperOut = new double[size];
+        middleOut = new double[size];
+        lowerOut = new double[size];
+
+        int macdLength = indicator.calculateMACD(prices, size, 12, 26, 9, macdOut);
+        int rsiLength = indicator.calculateRSI(prices, size, 14, rsiOut);
+        int bandLength = indicator.calculateBollingerBands(prices, size, 20, 2.0, upperOut, middleOut, lowerOut);
+        signalLength = Math.min(Math.min(macdLength, rsiLength), bandLength);
+
+        signalPrices = tail(prices, size, signalLength);
+        signalMacd = tail(macdOut, macdLength, signalLength);
+        signalRsi = tail(rsiOut, rsiLength, signalLength);
+        signalUpper = tail(upperOut, bandLength, signalLength);
+        signalLower = tail(lowerOut, bandLength, signalLength);
+        double[] signalMiddle = tail(middleOut, bandLength, signalLength);
+        signalOut = new int[signalLength];
+
+        signalPriceList = toList(signalPrices);
+        signalMacdList = toList(signalMacd);
+        signalRsiList = toList(signalRsi);
+        signalBandList = List.of(toList(signalUpper), toList(signalMiddle), toList(signalLower));
+    }
+
+    @Benchmark
+    public List<Double> emaList() {
+        return indicator.calculateEMA(priceList, 12);
+    }
+
+    @Benchmark
+    public int emaArray() {
+        return indicator.calculateEMA(prices, size, 12, emaOut);
+    }
+
+    @Benchmark
+    public List<Double> macdList() {
+        return indicator.calculateMACD(priceList, 12, 26, 9);
+    }
+
+    @Benchmark
+    public int macdArray() {
+        return indicator.calculateMACD(prices, size, 12, 26, 9, macdOut);
+    }
+
+    @Benchmark
+    public List<Double> rsiList() {
+        return indicator.calculateRSI(priceList, 14);
+    }
+
+    @Benchmark
+    public int rsiArray() {
+        return indicator.calculateRSI(prices, size, 14, rsiOut);
+    }
+
+    @Benchmark
+    public List<List<Double>> bollingerBandsList() {
+        return indicator.calculateBollingerBands(priceList, 20, 2.0);
+    }
+
+    @Benchmark
+    public int bollingerBandsArray() {
+        return indicator.calculateBollingerBands(prices, size, 20, 2.0, upperOut, middleOut, lowerOut);
+    }
+
+    @Benchmark
+    public List<Integer> generateSignalsList() {
+        return indicator.generateSignals(signalPriceList, signalRsiList, signalMacdList, signalBandList);
+    }
+
+    @Benchmark
+    public int generateSignalsArray() {
+        return indicator.generateSignals(signalPrices, signalLength, signalRsi, signalLength,
+                signalMacd, signalLength, signalUpper, signalLower, signalOut);
+    }
+
+    private static double[] tail(double[] values, int length, int count) {
+        double[] result = new double[count];
+        System.arraycopy(values, length - count, result, 0, count);
+        return result;
+    }
+
+    private static List<Double> toList(double[] values) {
+        List<Double> result = new ArrayList<>(values.length);
+        for (double value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package scoula.coin.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+/**
+ * 한 마켓의 분석 결과 (불변)
+ * 분석 사이클이 끝날 때 한 번에 만들어 캐시에 교체 저장하므로 읽는 쪽은 동기화가 필요 없다.
+ */
+public class AnalysisSnapshot {
+    private final String market;
+    private final List<Long> times;                   // 분봉 시작 시각 (UTC epoch millis), prices와 같은 구간
+    private final List<Double> prices;
+    private final List<Double> macd;
+    private final List<Double> rsi;
+    private final List<List<Double>> bollingerBands;  // upper, middle, lower
+    private final List<Integer> signals;
+    private final boolean orderExecuted;
+    private final String orderStatus;
+    private final LocalDateTime analyzedAt;
+    private final Map<String, Long> callLatencies;    // API 호출별 소요 시간 (ms)
+
+    @Builder
+    private AnalysisSnapshot(String market, List<Long> times, List<Double> prices, List<Double> macd, List<Double> rsi,
+                             List<List<Double>> bollingerBands, List<Integer> signals,
+                             boolean orderExecuted, String orderStatus, LocalDateTime analyzedAt,
+                             Map<String, Long> callLatencies) {
+        this.market = market;
+        this.times = times == null ? List.of() : List.copyOf(times);
+        this.prices = List.copyOf(prices);
+        this.macd = List.copyOf(macd);
+        this.rsi = List.copyOf(rsi);
+        this.bollingerBands = bollingerBands.stream().map(List::copyOf).toList();
+        this.signals = List.copyOf(signals);
+        this.orderExecuted = orderExecuted;
+        this.orderStatus = orderStatus;
+        this.analyzedAt = analyzedAt;
+        this.callLatencies = callLatencies == null ? Map.of() : Map.copyOf(callLatencies);
+    }
+
+    /**
+     * 최근 count개 분봉만 남긴 결과
+     * @param count : int 분봉 수
+     * @return : AnalysisSnapshot
+     */
+    public AnalysisSnapshot latest(int count) {
+        if (count >= prices.size()) {
+            return this;
+        }
+        return AnalysisSnapshot.builder()
+                .market(market)
+                .times(tail(times, count))
+                .prices(tail(prices, count))
+                .macd(tail(macd, count))
+                .rsi(tail(rsi, count))
+                .bollingerBands(bollingerBands.stream().map(band -> tail(band, count)).toList())
+                .signals(tail(signals, count))
+                .orderExecuted(orderExecuted)
+                .orderStatus(orderStatus)
+                .analyzedAt(analyzedAt)
+                .callLatencies(callLatencies)
+                .build();
+    }
+
+    /**
+     * @return : long 마지막 닫힌 분봉 시각 (UTC epoch millis), 시각이 없으면 Long.MIN_VALUE
+     */
+    public long lastCandleTime() {
+        return times.isEmpty() ? Long.MIN_VALUE : times.get(times.size() - 1);
+    }
+
+    private static <T> List<T> tail(List<T> values, int count) {
+        return values.subList(Math.max(0, values.size() - count), values.size());
+    }
+}
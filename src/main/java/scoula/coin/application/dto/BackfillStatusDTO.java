@@ -0,0 +1,21 @@
+package scoula.coin.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+/**
+ * 마켓별 과거 분봉 백필 진행 상황
+ */
+public class BackfillStatusDTO {
+    private final String market;
+    private final Long cursorTime;      // 여기까지 거슬러 올라감 (UTC epoch millis)
+    private final Long targetTime;      // 목표 시각 (UTC epoch millis)
+    private final long fetchedCount;
+    private final boolean completed;
+    private final boolean running;
+    private final String error;         // 마지막 실행이 실패했으면 사유
+}
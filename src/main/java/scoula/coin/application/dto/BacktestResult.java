@@ -0,0 +1,30 @@
+package scoula.coin.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+/**
+ * 백테스트 결과
+ */
+public class BacktestResult {
+    private final int candles;              // 처리한 분봉 수
+    private final double initialKrw;
+    private final double finalEquity;       // 마지막 종가 기준 평가 금액
+    private final double profit;
+    private final double returnRate;        // profit / initialKrw
+    private final double maxDrawdown;       // 최고 평가 금액 대비 최대 하락률 (0~1)
+    private final int buySignals;
+    private final int sellSignals;
+    private final int buyOrders;
+    private final int sellOrders;
+    private final int buyFills;
+    private final int sellFills;
+    private final int canceledOrders;       // 시간 초과로 취소된 주문
+    private final int takeProfitStopLoss;   // 익절/손절 매도 주문
+    private final double feesPaid;
+    private final long elapsedMillis;
+}
@@ -1,9 +1,15 @@
 package scoula.coin.application.dto;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import scoula.coin.application.entity.Candle;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 
 @Getter @Setter
 @RequiredArgsConstructor
@@ -11,9 +17,16 @@ import lombok.Setter;
  * API에서 불러오는 시장 정보
  */
 public class CandleDTO {
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private static final long UNSET = Long.MIN_VALUE;
+
     private String market;
-    private String candleDateTimeUtc;
+    private String candleDateTimeUtc;      // setCandleTime()으로 만든 분봉은 처음 읽을 때 만듦
     private String candleDateTimeKst;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private long candleTime = UNSET;       // 분봉 시작 시각 (UTC epoch millis), 문자열로만 받았으면 처음 읽을 때 파싱
     private Double openingPrice;
     private Double highPrice;
     private Double lowPrice;
@@ -22,4 +35,78 @@ public class CandleDTO {
     private Double candleAccTradePrice;
     private Double candleAccTradeVolume;
     private Integer unit;
+
+    /**
+     * 분봉 시작 시각 (UTC epoch millis)
+     * @return : long
+     */
+    public long candleTimeMillis() {
+        if (candleTime == UNSET) {
+            candleTime = LocalDateTime.parse(candleDateTimeUtc).toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+        return candleTime;
+    }
+
+    /**
+     * 분봉 시작 시각 설정, 시간 문자열(UTC, KST)은 읽을 때 만든다 (분봉마다 날짜를 포맷하지 않음)
+     * @param candleTime : long 분봉 시작 시각 (UTC epoch millis)
+     */
+    public void setCandleTime(long candleTime) {
+        this.candleTime = candleTime;
+        this.candleDateTimeUtc = null;
+        this.candleDateTimeKst = null;
+    }
+
+    public String getCandleDateTimeUtc() {
+        if (candleDateTimeUtc == null && candleTime != UNSET) {
+            candleDateTimeUtc = format(ZoneOffset.UTC);
+        }
+        return candleDateTimeUtc;
+    }
+
+    public String getCandleDateTimeKst() {
+        if (candleDateTimeKst == null && candleTime != UNSET) {
+            candleDateTimeKst = format(KST);
+        }
+        return candleDateTimeKst;
+    }
+
+    public void setCandleDateTimeUtc(String candleDateTimeUtc) {
+        this.candleDateTimeUtc = candleDateTimeUtc;
+        this.candleTime = UNSET;
+    }
+
+    private String format(ZoneOffset offset) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(candleTime, 1000L), 0, offset).format(DATE_TIME_FORMAT);
+    }
+
+    public static CandleDTO fromEntity(Candle entity) {
+        CandleDTO dto = new CandleDTO();
+        dto.setMarket(entity.getMarket());
+        dto.setCandleTime(entity.getCandleTime());
+        dto.setOpeningPrice(entity.getOpeningPrice());
+        dto.setHighPrice(entity.getHighPrice());
+        dto.setLowPrice(entity.getLowPrice());
+        dto.setTradePrice(entity.getTradePrice());
+        dto.setTimeStamp(entity.getLastTradeTime());
+        dto.setCandleAccTradePrice(entity.getCandleAccTradePrice());
+        dto.setCandleAccTradeVolume(entity.getCandleAccTradeVolume());
+        dto.setUnit(entity.getUnit());
+        return dto;
+    }
+
+    public Candle toEntity() {
+        return Candle.builder()
+                .market(this.market)
+                .unit(this.unit)
+                .candleTime(candleTimeMillis())
+                .openingPrice(this.openingPrice)
+                .highPrice(this.highPrice)
+                .lowPrice(this.lowPrice)
+                .tradePrice(this.tradePrice)
+                .lastTradeTime(this.timeStamp)
+                .candleAccTradePrice(this.candleAccTradePrice)
+                .candleAccTradeVolume(this.candleAccTradeVolume)
+                .build();
+    }
 }
@@ -0,0 +1,48 @@
+package scoula.coin.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import scoula.coin.domain.strategy.PriceSeries;
+
+@Getter
+@Builder
+/**
+ * 긴 기간 차트용 분봉 (필드별 배열, 인덱스가 같으면 같은 분봉)
+ * 분봉 수가 많아도 분봉마다 객체와 시각 문자열을 만들지 않는다.
+ */
+public class CandleHistoryDTO {
+    private final String market;
+    private final String timeframe;
+    private final long[] times;         // 분봉 시작 시각 (UTC epoch millis)
+    private final double[] opens;
+    private final double[] highs;
+    private final double[] lows;
+    private final double[] closes;
+    private final double[] volumes;
+
+    public static CandleHistoryDTO of(String market, String timeframe, PriceSeries series) {
+        int size = series.size();
+        long[] times = new long[size];
+        double[] opens = new double[size];
+        double[] highs = new double[size];
+        double[] lows = new double[size];
+        double[] closes = new double[size];
+        double[] volumes = new double[size];
+        series.copyTimesTo(times);
+        series.open().copyTo(opens);
+        series.high().copyTo(highs);
+        series.low().copyTo(lows);
+        series.close().copyTo(closes);
+        series.volume().copyTo(volumes);
+        return CandleHistoryDTO.builder()
+                .market(market)
+                .timeframe(timeframe)
+                .times(times)
+                .opens(opens)
+                .highs(highs)
+                .lows(lows)
+                .closes(closes)
+                .volumes(volumes)
+                .build();
+    }
+}
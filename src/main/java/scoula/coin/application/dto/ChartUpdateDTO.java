@@ -0,0 +1,79 @@
+package scoula.coin.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+/**
+ * 실시간 차트로 보내는 분석 결과
+ * snapshot 이벤트는 화면에 그릴 전체 구간을, update 이벤트는 baseCandleTime 이후에 닫힌 분봉과 지표만 담는다.
+ * 클라이언트의 마지막 분봉 시각이 baseCandleTime과 다르면 (놓친 이벤트가 있으면) 다시 연결해 snapshot을 받는다.
+ */
+public class ChartUpdateDTO {
+    private final String market;
+    private final Long baseCandleTime;                // update가 이어지는 분봉 시각, snapshot이면 null
+    private final long lastCandleTime;
+    private final List<Long> times;
+    private final List<Double> prices;
+    private final List<Double> macd;
+    private final List<Double> rsi;
+    private final List<List<Double>> bollingerBands;  // upper, middle, lower
+    private final List<Integer> signals;
+    private final boolean orderExecuted;
+    private final String orderStatus;
+    private final LocalDateTime analyzedAt;
+
+    /**
+     * 전체 구간
+     * @param snapshot : AnalysisSnapshot
+     * @param count : int 분봉 수
+     * @return : ChartUpdateDTO
+     */
+    public static ChartUpdateDTO snapshot(AnalysisSnapshot snapshot, int count) {
+        return of(snapshot, null, count);
+    }
+
+    /**
+     * 이전 결과 이후에 추가된 분봉만
+     * @param previous : AnalysisSnapshot 이전에 보낸 결과 (없으면 null)
+     * @param current : AnalysisSnapshot
+     * @return : ChartUpdateDTO 이어지는 구간이 없으면 (처음이거나 지표를 다시 계산한 경우) null
+     */
+    public static ChartUpdateDTO update(AnalysisSnapshot previous, AnalysisSnapshot current) {
+        if (previous == null || previous.getTimes().isEmpty()) {
+            return null;
+        }
+        long base = previous.lastCandleTime();
+        List<Long> times = current.getTimes();
+        int start = times.size();
+        while (start > 0 && times.get(start - 1) > base) {
+            start--;
+        }
+        if (start == 0 && !times.isEmpty()) {
+            return null;
+        }
+        return of(current, base, times.size() - start);
+    }
+
+    private static ChartUpdateDTO of(AnalysisSnapshot snapshot, Long baseCandleTime, int count) {
+        AnalysisSnapshot window = snapshot.latest(count);
+        return ChartUpdateDTO.builder()
+                .market(snapshot.getMarket())
+                .baseCandleTime(baseCandleTime)
+                .lastCandleTime(snapshot.lastCandleTime())
+                .times(window.getTimes())
+                .prices(window.getPrices())
+                .macd(window.getMacd())
+                .rsi(window.getRsi())
+                .bollingerBands(window.getBollingerBands())
+                .signals(window.getSignals())
+                .orderExecuted(snapshot.isOrderExecuted())
+                .orderStatus(snapshot.getOrderStatus())
+                .analyzedAt(snapshot.getAnalyzedAt())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package scoula.coin.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import scoula.coin.global.util.KeysetCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+/**
+ * 최신순 keyset 페이지
+ * nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회하고, 마지막 페이지면 null
+ */
+public class HistoryPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * limit + 1개를 조회한 결과로 페이지 생성 (남는 한 행으로 다음 페이지 여부 판단)
+     * @param rows : List<E> 최신순 조회 결과 (최대 limit + 1개)
+     * @param limit : int 페이지 크기
+     * @param mapper : Function<E, T> 응답 변환
+     * @param createdAt : Function<E, LocalDateTime> 행의 생성 시각
+     * @param key : Function<E, Object> 행의 키
+     * @return : HistoryPage<T>
+     */
+    public static <E, T> HistoryPage<T> from(List<E> rows, int limit, Function<E, T> mapper,
+                                             Function<E, LocalDateTime> createdAt, Function<E, Object> key) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(createdAt.apply(last), key.apply(last));
+        }
+        return HistoryPage.of(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,24 @@
+package scoula.coin.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@Builder
+/**
+ * 대시보드용 매매 요약 (전체 마켓의 PositionLedger 합계)
+ */
+public class TradingSummaryDTO {
+    private final LocalDateTime startDate;      // 첫 주문 시각
+    private final long numBid;
+    private final long numAsk;
+    private final BigDecimal realizedPnl;
+    private final BigDecimal unrealizedPnl;     // 마켓별 마지막 주문 가격 기준
+    private final BigDecimal fees;
+    private final BigDecimal totalPnl;          // 실현 + 평가 - 수수료
+}
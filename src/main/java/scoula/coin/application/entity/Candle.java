@@ -0,0 +1,48 @@
+package scoula.coin.application.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(catalog = "coin", name = "candle",
+        uniqueConstraints = @UniqueConstraint(name = "uk_candle_market_unit_time",
+                columnNames = {"market", "unit", "candle_time"}))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Candle {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String market;              // 마켓 ID (예: KRW-BTC)
+
+    @Column(nullable = false)
+    private Integer unit;               // 분 단위 (1분봉: 1)
+
+    @Column(name = "candle_time", nullable = false)
+    private Long candleTime;            // 분봉 시작 시각 (UTC epoch millis)
+
+    @Column(name = "opening_price")
+    private Double openingPrice;
+
+    @Column(name = "high_price")
+    private Double highPrice;
+
+    @Column(name = "low_price")
+    private Double lowPrice;
+
+    @Column(name = "trade_price")
+    private Double tradePrice;
+
+    @Column(name = "last_trade_time")
+    private Long lastTradeTime;         // 마지막 체결 시각 (API의 timestamp)
+
+    @Column(name = "candle_acc_trade_price")
+    private Double candleAccTradePrice;
+
+    @Column(name = "candle_acc_trade_volume")
+    private Double candleAccTradeVolume;
+}
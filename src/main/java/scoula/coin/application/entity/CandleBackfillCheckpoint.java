@@ -0,0 +1,41 @@
+package scoula.coin.application.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(catalog = "coin", name = "candle_backfill_checkpoint")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+/**
+ * 마켓별 과거 분봉 백필 진행 상태
+ * 페이지를 저장할 때마다 커서를 갱신하므로 중단되어도 마지막으로 저장한 페이지 이전부터 이어서 받는다.
+ */
+public class CandleBackfillCheckpoint {
+    @Id
+    private String market;              // 마켓 ID (예: KRW-BTC)
+
+    @Column(name = "cursor_time", nullable = false)
+    private Long cursorTime;            // 이 시각 이전의 분봉을 다음에 받음 (UTC epoch millis)
+
+    @Column(name = "target_time", nullable = false)
+    private Long targetTime;            // 이 시각까지 받으면 완료 (UTC epoch millis)
+
+    @Builder.Default
+    @Column(name = "fetched_count")
+    private Long fetchedCount = 0L;     // 지금까지 받은 분봉 수
+
+    @Builder.Default
+    private Boolean completed = false;
+
+    @Builder.Default
+    @Column(name = "archive_pending")
+    private Boolean archivePending = false;     // 저장했지만 아직 보관소(CandleArchive)에 반영하지 않은 분봉이 있음
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
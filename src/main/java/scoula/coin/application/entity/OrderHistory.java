@@ -8,7 +8,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(catalog = "coin", name = "order_history")
+@Table(catalog = "coin", name = "order_history",
+        indexes = {
+                @Index(name = "idx_order_history_market_created", columnList = "market, created_at"),
+                @Index(name = "idx_order_history_side_created", columnList = "side, created_at")
+        })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
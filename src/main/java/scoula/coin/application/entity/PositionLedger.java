@@ -0,0 +1,115 @@
+package scoula.coin.application.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(catalog = "coin", name = "position_ledger")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+/**
+ * 마켓별 포지션/손익 스냅샷 (주문이 저장될 때마다 증분 갱신)
+ * 평균 단가 방식으로 실현 손익을 계산하고, 평가 손익은 마지막 주문 가격 기준이다.
+ * 손익 합계 = 실현 손익 + 평가 손익 - 수수료 = 현금 흐름 + 보유 수량 x 마지막 가격
+ */
+public class PositionLedger {
+    @Id
+    private String market;             // 마켓 ID (예: KRW-BTC)
+
+    @Builder.Default
+    @Column(precision = 30, scale = 8)
+    private BigDecimal position = BigDecimal.ZERO;     // 보유 수량 (매수 +, 매도 -)
+
+    @Builder.Default
+    @Column(name = "cost_basis", precision = 30, scale = 8)
+    private BigDecimal costBasis = BigDecimal.ZERO;    // 보유 수량의 매수 원가 합
+
+    @Builder.Default
+    @Column(name = "realized_pnl", precision = 30, scale = 8)
+    private BigDecimal realizedPnl = BigDecimal.ZERO;  // 매도로 실현된 손익 (수수료 제외 전)
+
+    @Builder.Default
+    @Column(precision = 30, scale = 8)
+    private BigDecimal fees = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "last_price", precision = 30, scale = 8)
+    private BigDecimal lastPrice = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "num_bid")
+    private Long numBid = 0L;
+
+    @Builder.Default
+    @Column(name = "num_ask")
+    private Long numAsk = 0L;
+
+    @Column(name = "first_trade_at")
+    private LocalDateTime firstTradeAt;
+
+    @Column(name = "last_order_uuid")
+    private String lastOrderUuid;      // 마지막으로 반영한 주문 (같은 주문을 두 번 반영하지 않음)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 주문 하나 반영
+     * @param side : String bid, ask
+     * @param price : BigDecimal 주문 가격
+     * @param volume : BigDecimal 주문 수량
+     * @param fee : BigDecimal 주문 수수료
+     * @param createdAt : LocalDateTime 주문 시각
+     */
+    public void apply(String side, BigDecimal price, BigDecimal volume, BigDecimal fee, LocalDateTime createdAt) {
+        if ("bid".equals(side)) {
+            position = position.add(volume);
+            costBasis = costBasis.add(price.multiply(volume));
+            numBid++;
+        } else if ("ask".equals(side)) {
+            // 보유 수량 안에서는 평균 단가로 원가를 덜어내고, 넘는 수량은 원가 없이 매도한 것으로 본다
+            BigDecimal covered = position.signum() > 0 ? volume.min(position) : BigDecimal.ZERO;
+            BigDecimal releasedCost = covered.signum() == 0 ? BigDecimal.ZERO
+                    : costBasis.multiply(covered).divide(position, 8, RoundingMode.HALF_UP);
+            realizedPnl = realizedPnl.add(price.multiply(volume)).subtract(releasedCost);
+            costBasis = costBasis.subtract(releasedCost);
+            position = position.subtract(volume);
+            numAsk++;
+        } else {
+            return;
+        }
+        fees = fees.add(fee);
+        lastPrice = price;
+        if (createdAt != null && (firstTradeAt == null || createdAt.isBefore(firstTradeAt))) {
+            firstTradeAt = createdAt;
+        }
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * @return : BigDecimal 평균 매수 단가 (보유 수량이 없으면 0)
+     */
+    public BigDecimal getAveragePrice() {
+        return position.signum() > 0 ? costBasis.divide(position, 8, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    /**
+     * @return : BigDecimal 마지막 가격 기준 평가 손익
+     */
+    public BigDecimal getUnrealizedPnl() {
+        return lastPrice.multiply(position).subtract(costBasis);
+    }
+
+    /**
+     * @return : BigDecimal 실현 + 평가 손익 - 수수료
+     */
+    public BigDecimal getTotalPnl() {
+        return realizedPnl.add(getUnrealizedPnl()).subtract(fees);
+    }
+}
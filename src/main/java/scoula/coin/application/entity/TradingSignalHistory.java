@@ -9,7 +9,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(catalog = "coin",name = "trading_signal_history")
+@Table(catalog = "coin",name = "trading_signal_history",
+        indexes = {
+                @Index(name = "idx_signal_history_market_created", columnList = "market, created_at"),
+                @Index(name = "idx_signal_history_order_uuid", columnList = "order_uuid")
+        })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
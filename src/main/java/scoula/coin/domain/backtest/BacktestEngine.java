@@ -0,0 +1,284 @@
+package scoula.coin.domain.backtest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import scoula.coin.application.dto.BacktestResult;
+import scoula.coin.domain.strategy.IndicatorSeries;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.domain.strategy.StrategyParameters;
+import scoula.coin.domain.strategy.TechnicalIndicator;
+
+@Service
+@RequiredArgsConstructor
+/**
+ * 과거 분봉으로 실거래 로직을 재현하는 백테스트
+ * 지표는 IndicatorSeries로 한 번 계산하고 분봉을 한 번만 순회하며, 신호는 TechnicalIndicator.evaluateSignal로 판단한다.
+ *
+ * 실거래(TradingService)와 같은 규칙:
+ * - 분봉이 닫히면 다음 분봉 시가(진행 중인 분봉의 현재가)로 지정가 주문
+ * - 매수: KRW 잔고의 orderFraction (최소 minOrderKrw), 매도: 코인 잔고의 orderFraction (최소 minOrderVolume),
+ *   마지막 매수가 * (1 + 매도 수수료) 이상일 때만 매도
+ * - cancelAfterMinutes 동안 체결되지 않은 주문은 취소
+ * - 마지막 매수 체결가 대비 takeProfitStopLoss 이상 움직이면 매도 주문 (매도 조건은 동일)
+ * 지정가 주문은 이후 분봉의 저가(매수) 또는 고가(매도)가 주문가를 넘어서면 주문가로 체결된 것으로 본다.
+ * (주문가에 닿기만 한 경우는 대기 순서를 알 수 없으므로 체결되지 않은 것으로 보수적으로 처리)
+ */
+public class BacktestEngine {
+
+    private static final long CANDLE_MILLIS = 60_000L;
+    private static final int MAX_PENDING_ORDERS = 32;
+
+    private final TechnicalIndicator technicalIndicator;
+
+    /**
+     * 분봉 시계열로 백테스트
+     * @param candles : PriceSeries 시간순 분봉
+     * @param parameters : StrategyParameters
+     * @param initialKrw : double 시작 KRW 잔고
+     * @return : BacktestResult
+     */
+    public BacktestResult run(PriceSeries candles, StrategyParameters parameters, double initialKrw) {
+        int length = candles.size();
+        long[] times = new long[length];
+        double[] open = new double[length];
+        double[] high = new double[length];
+        double[] low = new double[length];
+        double[] close = new double[length];
+        candles.copyTimesTo(times);
+        candles.open().copyTo(open);
+        candles.high().copyTo(high);
+        candles.low().copyTo(low);
+        candles.close().copyTo(close);
+        return run(times, open, high, low, close, length, parameters, initialKrw);
+    }
+
+    /**
+     * 시간순 분봉 배열로 백테스트 (입력 배열은 수정하지 않음)
+     * @param length : int 사용할 분봉 수
+     * @return : BacktestResult
+     */
+    public BacktestResult run(long[] times, double[] open, double[] high, double[] low, double[] close, int length,
+                              StrategyParameters parameters, double initialKrw) {
+        IndicatorSeries indicators = IndicatorSeries.compute(close, length, parameters);
+        return run(times, open, high, low, close, length, indicators, parameters, initialKrw);
+    }
+
+    /**
+     * 미리 계산한 지표로 백테스트, 지표 기간이 같은 여러 파라미터 조합이 지표를 공유할 때 사용
+     * @param indicators : IndicatorSeries parameters의 지표 기간으로 계산한 지표
+     * @return : BacktestResult
+     */
+    public BacktestResult run(long[] times, double[] open, double[] high, double[] low, double[] close, int length,
+                              IndicatorSeries indicators, StrategyParameters parameters, double initialKrw) {
+        long start = System.nanoTime();
+        Simulation simulation = new Simulation(parameters, initialKrw);
+        long cancelAfter = parameters.getCancelAfterMinutes() * CANDLE_MILLIS;
+
+        for (int i = 0; i < length; i++) {
+            // 1. 이 분봉 동안의 체결, 시간이 지난 주문 취소
+            simulation.matchOrders(high[i], low[i], times[i], cancelAfter);
+
+            // 2. 분봉이 닫히면 지표 갱신, 신호 판단
+            int signal = 0;
+            if (indicators.isReady(i)) {
+                signal = technicalIndicator.evaluateSignal(close[i], indicators.getRsi(i), indicators.getPreviousMacd(i),
+                        indicators.getMacd(i), indicators.getUpperBand(i), indicators.getLowerBand(i), parameters);
+            }
+
+            // 3. 다음 분봉 시가로 주문
+            if (i + 1 < length) {
+                double currentPrice = open[i + 1];
+                long orderTime = times[i] + CANDLE_MILLIS;
+                simulation.checkTakeProfitStopLoss(currentPrice, orderTime);
+                if (signal > 0) {
+                    simulation.buySignals++;
+                    simulation.buy(currentPrice, orderTime);
+                } else if (signal < 0) {
+                    simulation.sellSignals++;
+                    simulation.sell(currentPrice, orderTime);
+                }
+            }
+
+            simulation.markToMarket(close[i]);
+        }
+
+        return simulation.result(length, length == 0 ? 0 : close[length - 1], System.nanoTime() - start);
+    }
+
+    /**
+     * 한 번의 백테스트 동안의 잔고, 미체결 주문 (primitive 필드만 사용)
+     */
+    private static final class Simulation {
+        private final StrategyParameters parameters;
+        private final double initialKrw;
+
+        private double krw;
+        private double krwLocked;       // 매수 주문에 묶인 KRW (수수료 포함)
+        private double coin;
+        private double coinLocked;      // 매도 주문에 묶인 코인
+        private double lastBuyPrice = Double.NaN;       // 마지막 매수 주문가
+        private double lastFilledBuyPrice = Double.NaN; // 마지막 매수 체결가
+
+        // 미체결 주문
+        private final boolean[] pendingBuy = new boolean[MAX_PENDING_ORDERS];
+        private final double[] pendingPrice = new double[MAX_PENDING_ORDERS];
+        private final double[] pendingVolume = new double[MAX_PENDING_ORDERS];
+        private final long[] pendingTime = new long[MAX_PENDING_ORDERS];
+        private int pendingCount;
+
+        private double peakEquity;
+        private double maxDrawdown;
+
+        private int buySignals;
+        private int sellSignals;
+        private int buyOrders;
+        private int sellOrders;
+        private int buyFills;
+        private int sellFills;
+        private int canceledOrders;
+        private int takeProfitStopLoss;
+        private double feesPaid;
+
+        Simulation(StrategyParameters parameters, double initialKrw) {
+            this.parameters = parameters;
+            this.initialKrw = initialKrw;
+            this.krw = initialKrw;
+            this.peakEquity = initialKrw;
+        }
+
+        void matchOrders(double high, double low, long candleTime, long cancelAfter) {
+            int i = 0;
+            while (i < pendingCount) {
+                boolean filled = pendingBuy[i] ? low < pendingPrice[i] : high > pendingPrice[i];
+                if (filled) {
+                    fill(i);
+                    remove(i);
+                } else if (candleTime + CANDLE_MILLIS - pendingTime[i] >= cancelAfter) {
+                    cancel(i);
+                    remove(i);
+                } else {
+                    i++;
+                }
+            }
+        }
+
+        void checkTakeProfitStopLoss(double currentPrice, long time) {
+            if (Double.isNaN(lastFilledBuyPrice) || coin <= 0) {
+                return;
+            }
+            double change = (currentPrice - lastFilledBuyPrice) / lastFilledBuyPrice;
+            if (Math.abs(change) >= parameters.getTakeProfitStopLoss() && sell(currentPrice, time)) {
+                takeProfitStopLoss++;
+            }
+        }
+
+        boolean buy(double price, long time) {
+            double size = Math.max(krw * parameters.getOrderFraction(), parameters.getMinOrderKrw());
+            double cost = size * (1 + parameters.getBidFee());
+            if (krw < cost || pendingCount == MAX_PENDING_ORDERS) {
+                return false;
+            }
+            krw -= cost;
+            krwLocked += cost;
+            lastBuyPrice = price;
+            add(true, price, size / price, time);
+            buyOrders++;
+            return true;
+        }
+
+        boolean sell(double price, long time) {
+            if (coin < parameters.getMinOrderVolume() || Double.isNaN(lastBuyPrice)
+                    || price < lastBuyPrice * (1 + parameters.getAskFee())
+                    || pendingCount == MAX_PENDING_ORDERS) {
+                return false;
+            }
+            double volume = Math.min(Math.max(coin * parameters.getOrderFraction(), parameters.getMinOrderVolume()), coin);
+            coin -= volume;
+            coinLocked += volume;
+            add(false, price, volume, time);
+            sellOrders++;
+            return true;
+        }
+
+        void markToMarket(double price) {
+            double equity = equity(price);
+            if (equity > peakEquity) {
+                peakEquity = equity;
+            } else if (peakEquity > 0) {
+                maxDrawdown = Math.max(maxDrawdown, (peakEquity - equity) / peakEquity);
+            }
+        }
+
+        BacktestResult result(int candles, double lastPrice, long elapsedNanos) {
+            double finalEquity = candles == 0 ? initialKrw : equity(lastPrice);
+            return BacktestResult.builder()
+                    .candles(candles)
+                    .initialKrw(initialKrw)
+                    .finalEquity(finalEquity)
+                    .profit(finalEquity - initialKrw)
+                    .returnRate(initialKrw == 0 ? 0 : (finalEquity - initialKrw) / initialKrw)
+                    .maxDrawdown(maxDrawdown)
+                    .buySignals(buySignals)
+                    .sellSignals(sellSignals)
+                    .buyOrders(buyOrders)
+                    .sellOrders(sellOrders)
+                    .buyFills(buyFills)
+                    .sellFills(sellFills)
+                    .canceledOrders(canceledOrders)
+                    .takeProfitStopLoss(takeProfitStopLoss)
+                    .feesPaid(feesPaid)
+                    .elapsedMillis(elapsedNanos / 1_000_000)
+                    .build();
+        }
+
+        private double equity(double price) {
+            return krw + krwLocked + (coin + coinLocked) * price;
+        }
+
+        private void fill(int i) {
+            double notional = pendingPrice[i] * pendingVolume[i];
+            if (pendingBuy[i]) {
+                double fee = notional * parameters.getBidFee();
+                krwLocked = Math.max(krwLocked - (notional + fee), 0);
+                coin += pendingVolume[i];
+                lastFilledBuyPrice = pendingPrice[i];
+                feesPaid += fee;
+                buyFills++;
+            } else {
+                double fee = notional * parameters.getAskFee();
+                coinLocked = Math.max(coinLocked - pendingVolume[i], 0);
+                krw += notional - fee;
+                feesPaid += fee;
+                sellFills++;
+            }
+        }
+
+        private void cancel(int i) {
+            if (pendingBuy[i]) {
+                double locked = pendingPrice[i] * pendingVolume[i] * (1 + parameters.getBidFee());
+                krwLocked = Math.max(krwLocked - locked, 0);
+                krw += locked;
+            } else {
+                coinLocked = Math.max(coinLocked - pendingVolume[i], 0);
+                coin += pendingVolume[i];
+            }
+            canceledOrders++;
+        }
+
+        private void add(boolean buy, double price, double volume, long time) {
+            pendingBuy[pendingCount] = buy;
+            pendingPrice[pendingCount] = price;
+            pendingVolume[pendingCount] = volume;
+            pendingTime[pendingCount] = time;
+            pendingCount++;
+        }
+
+        private void remove(int i) {
+            int last = --pendingCount;
+            pendingBuy[i] = pendingBuy[last];
+            pendingPrice[i] = pendingPrice[last];
+            pendingVolume[i] = pendingVolume[last];
+            pendingTime[i] = pendingTime[last];
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package scoula.coin.domain.backtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import scoula.coin.application.dto.BacktestResult;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.Timeframe;
+import scoula.coin.domain.market.archive.CandleArchive;
+import scoula.coin.domain.order.OrderService;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.domain.strategy.StrategyParameters;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+/**
+ * 저장된 분봉 또는 CSV로 백테스트 실행
+ */
+public class BacktestService {
+
+    private static final int UNIT = 1;
+    private static final int PAGE_SIZE = 10_000;
+
+    private final CandleRepository candleRepository;
+    private final CandleArchive candleArchive;
+    private final BacktestEngine backtestEngine;
+    private final OrderService orderService;
+
+    /**
+     * 거래소의 현재 수수료를 적용한 기본 파라미터 (주문 가능 정보 조회에 실패하면 기본 수수료)
+     * @param market : String 코인 마켓
+     * @return : StrategyParameters
+     */
+    public StrategyParameters currentParameters(String market) {
+        try {
+            return StrategyParameters.DEFAULT.withFees(orderService.getOrderChance(market));
+        } catch (Exception e) {
+            log.warn("Failed to load fees for {}, using default fees: {}", market, e.getMessage());
+            return StrategyParameters.DEFAULT;
+        }
+    }
+
+    /**
+     * DB에 저장된 분봉으로 백테스트
+     * @param market : String 코인 마켓
+     * @param from : long 시작 시각 (UTC epoch millis, 포함)
+     * @param to : long 끝 시각 (UTC epoch millis, 포함)
+     * @return : BacktestResult
+     */
+    public BacktestResult runStored(String market, long from, long to, StrategyParameters parameters, double initialKrw) {
+        // 보관소가 기간을 모두 가지고 있으면 DB를 읽지 않음
+        boolean archived = candleArchive.covers(market, from, to);
+        PriceSeries candles = archived
+                ? candleArchive.load(market, Timeframe.M1, from, to)
+                : loadStored(market, from, to);
+        log.info("Backtesting {} with {} {} candles", market, candles.size(), archived ? "archived" : "stored");
+        return backtestEngine.run(candles, parameters, initialKrw);
+    }
+
+    /**
+     * CSV 분봉 파일로 백테스트 (형식은 CandleCsvReader 참고)
+     * @param path : Path CSV 파일 경로
+     * @return : BacktestResult
+     */
+    public BacktestResult runCsv(Path path, StrategyParameters parameters, double initialKrw) throws IOException {
+        return backtestEngine.run(CandleCsvReader.read(path), parameters, initialKrw);
+    }
+
+    /**
+     * 기간 내 분봉을 시간순으로 나눠 읽음 (마지막으로 읽은 시각 이후부터 다음 페이지)
+     */
+    public PriceSeries loadStored(String market, long from, long to) {
+        long count = candleRepository.countByMarketAndUnitAndCandleTimeBetween(market, UNIT, from, to);
+        PriceSeries series = new PriceSeries((int) Math.max(count, 1));
+
+        long after = from - 1;
+        while (true) {
+            List<Candle> page = candleRepository
+                    .findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                            market, UNIT, after, to, PageRequest.of(0, PAGE_SIZE));
+            for (Candle candle : page) {
+                series.add(candle.getCandleTime(), candle.getOpeningPrice(), candle.getHighPrice(),
+                        candle.getLowPrice(), candle.getTradePrice(), candle.getCandleAccTradeVolume());
+            }
+            if (page.size() < PAGE_SIZE) {
+                return series;
+            }
+            after = page.get(page.size() - 1).getCandleTime();
+        }
+    }
+}
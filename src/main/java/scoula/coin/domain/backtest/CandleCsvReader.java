@@ -0,0 +1,97 @@
+package scoula.coin.domain.backtest;
+
+import scoula.coin.domain.strategy.PriceSeries;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 분봉 CSV 읽기
+ * 컬럼: candle_time, open, high, low, close, volume (시간순)
+ * candle_time은 epoch millis 또는 UTC 시각(yyyy-MM-ddTHH:mm:ss), 첫 줄이 숫자로 시작하지 않으면 header로 보고 건너뛴다.
+ */
+public final class CandleCsvReader {
+
+    private static final int FIELDS = 6;
+
+    private CandleCsvReader() {
+    }
+
+    public static PriceSeries read(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    public static PriceSeries read(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        int capacity = 1 << 16;
+        long[] times = new long[capacity];
+        double[][] values = new double[5][capacity];
+        int size = 0;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && !Character.isDigit(line.charAt(0)))) {
+                continue;
+            }
+            if (size == capacity) {
+                capacity *= 2;
+                times = Arrays.copyOf(times, capacity);
+                for (int column = 0; column < values.length; column++) {
+                    values[column] = Arrays.copyOf(values[column], capacity);
+                }
+            }
+            // 컬럼이 모자라거나 남으면 다른 컬럼의 값을 읽게 되므로 정확히 6개만 허용
+            int fields = countFields(line);
+            if (fields != FIELDS) {
+                throw new IllegalArgumentException("Invalid candle at line " + lineNumber
+                        + ": expected " + FIELDS + " fields but got " + fields + ": " + line);
+            }
+            try {
+                int start = 0;
+                int end = line.indexOf(',');
+                times[size] = parseTime(line.substring(start, end).trim());
+                for (int column = 0; column < values.length; column++) {
+                    start = end + 1;
+                    end = line.indexOf(',', start);
+                    String value = end < 0 ? line.substring(start) : line.substring(start, end);
+                    values[column][size] = Double.parseDouble(value.trim());
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid candle at line " + lineNumber + ": " + line, e);
+            }
+            size++;
+        }
+
+        PriceSeries series = new PriceSeries(Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            series.add(times[i], values[0][i], values[1][i], values[2][i], values[3][i], values[4][i]);
+        }
+        return series;
+    }
+
+    private static int countFields(String line) {
+        int fields = 1;
+        for (int i = line.indexOf(','); i >= 0; i = line.indexOf(',', i + 1)) {
+            fields++;
+        }
+        return fields;
+    }
+
+    private static long parseTime(String value) {
+        if (value.indexOf('T') < 0 && value.indexOf('-') < 0) {
+            return Long.parseLong(value);
+        }
+        return LocalDateTime.parse(value.replace(' ', 'T')).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
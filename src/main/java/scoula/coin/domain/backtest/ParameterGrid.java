@@ -0,0 +1,210 @@
+package scoula.coin.domain.backtest;
+
+import scoula.coin.domain.strategy.StrategyParameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 전략 파라미터 탐색 공간 (파라미터별 후보 값의 곱집합)
+ * 조합을 미리 만들지 않고 인덱스를 혼합 진법으로 풀어 StrategyParameters를 만든다.
+ * 지정하지 않은 파라미터는 base 값을 그대로 쓴다.
+ */
+public class ParameterGrid {
+
+    public static final List<String> NAMES = List.of(
+            "fastPeriod", "slowPeriod", "signalPeriod", "rsiPeriod", "bandPeriod", "bandStdDev",
+            "rsiBuyThreshold", "rsiSellThreshold", "bandBuyPosition", "bandSellPosition",
+            "orderFraction", "takeProfitStopLoss", "cancelAfterMinutes");
+
+    private final StrategyParameters base;
+    private final Map<String, double[]> axes = new LinkedHashMap<>();
+
+    public ParameterGrid(StrategyParameters base) {
+        this.base = base;
+    }
+
+    /**
+     * "이름=값,값,...;이름=시작:끝:간격" 형식의 탐색 공간
+     * 예) rsiPeriod=7,14,21;rsiBuyThreshold=20:40:5;takeProfitStopLoss=0.02:0.08:0.01
+     * @param spec : String 탐색 공간
+     * @param base : StrategyParameters 지정하지 않은 파라미터의 값
+     * @return : ParameterGrid
+     */
+    public static ParameterGrid parse(String spec, StrategyParameters base) {
+        ParameterGrid grid = new ParameterGrid(base);
+        for (String axis : spec.split(";")) {
+            if (axis.isBlank()) {
+                continue;
+            }
+            int separator = axis.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected name=values: " + axis);
+            }
+            String name = axis.substring(0, separator).trim();
+            String values = axis.substring(separator + 1).trim();
+            grid.with(name, values.contains(":") ? range(values) : list(values));
+        }
+        return grid;
+    }
+
+    /**
+     * 파라미터 후보 값 지정 (같은 이름이면 덮어씀)
+     * @param name : String NAMES 중 하나
+     * @param values : double[] 후보 값
+     * @return : ParameterGrid
+     */
+    public ParameterGrid with(String name, double... values) {
+        if (!NAMES.contains(name)) {
+            throw new IllegalArgumentException("Unknown parameter: " + name + " (expected one of " + NAMES + ")");
+        }
+        if (values.length == 0) {
+            throw new IllegalArgumentException("No values for " + name);
+        }
+        axes.put(name, values.clone());
+        return this;
+    }
+
+    /**
+     * @return : long 조합 수
+     */
+    public long size() {
+        long size = 1;
+        for (double[] values : axes.values()) {
+            size = Math.multiplyExact(size, values.length);
+        }
+        return size;
+    }
+
+    public List<String> getNames() {
+        return List.copyOf(axes.keySet());
+    }
+
+    /**
+     * index번째 조합
+     * @param index : long 0 이상 size() 미만
+     * @return : StrategyParameters
+     */
+    public StrategyParameters get(long index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        StrategyParameters.StrategyParametersBuilder builder = base.toBuilder();
+        long remaining = index;
+        for (Map.Entry<String, double[]> axis : axes.entrySet()) {
+            double[] values = axis.getValue();
+            apply(builder, axis.getKey(), values[(int) (remaining % values.length)]);
+            remaining /= values.length;
+        }
+        return builder.build();
+    }
+
+    /**
+     * 전체 조합의 인덱스
+     */
+    public long[] all() {
+        long size = size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Grid is too large to enumerate: " + size);
+        }
+        long[] indices = new long[(int) size];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    /**
+     * 무작위 탐색용 조합 인덱스 (중복 없음, 전체 조합 수보다 많이 요청하면 전체)
+     * @param count : int 뽑을 조합 수
+     * @param seed : long 같은 seed면 같은 조합
+     * @return : long[] 오름차순 인덱스
+     */
+    public long[] sample(int count, long seed) {
+        long size = size();
+        if (count >= size) {
+            return all();
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] indices = random.longs(0, size).distinct().limit(count).toArray();
+        Arrays.sort(indices);
+        return indices;
+    }
+
+    /**
+     * 단기 EMA 기간이 장기보다 짧고 매수/매도 조건이 겹치지 않는 조합만 유효
+     */
+    public static boolean isValid(StrategyParameters parameters) {
+        return parameters.getFastPeriod() < parameters.getSlowPeriod()
+                && parameters.getRsiBuyThreshold() < parameters.getRsiSellThreshold()
+                && parameters.getBandBuyPosition() < parameters.getBandSellPosition();
+    }
+
+    /**
+     * 탐색한 파라미터 값 (report 컬럼용)
+     */
+    public static double value(StrategyParameters parameters, String name) {
+        return switch (name) {
+            case "fastPeriod" -> parameters.getFastPeriod();
+            case "slowPeriod" -> parameters.getSlowPeriod();
+            case "signalPeriod" -> parameters.getSignalPeriod();
+            case "rsiPeriod" -> parameters.getRsiPeriod();
+            case "bandPeriod" -> parameters.getBandPeriod();
+            case "bandStdDev" -> parameters.getBandStdDev();
+            case "rsiBuyThreshold" -> parameters.getRsiBuyThreshold();
+            case "rsiSellThreshold" -> parameters.getRsiSellThreshold();
+            case "bandBuyPosition" -> parameters.getBandBuyPosition();
+            case "bandSellPosition" -> parameters.getBandSellPosition();
+            case "orderFraction" -> parameters.getOrderFraction();
+            case "takeProfitStopLoss" -> parameters.getTakeProfitStopLoss();
+            case "cancelAfterMinutes" -> parameters.getCancelAfterMinutes();
+            default -> throw new IllegalArgumentException("Unknown parameter: " + name);
+        };
+    }
+
+    private static void apply(StrategyParameters.StrategyParametersBuilder builder, String name, double value) {
+        switch (name) {
+            case "fastPeriod" -> builder.fastPeriod((int) value);
+            case "slowPeriod" -> builder.slowPeriod((int) value);
+            case "signalPeriod" -> builder.signalPeriod((int) value);
+            case "rsiPeriod" -> builder.rsiPeriod((int) value);
+            case "bandPeriod" -> builder.bandPeriod((int) value);
+            case "bandStdDev" -> builder.bandStdDev(value);
+            case "rsiBuyThreshold" -> builder.rsiBuyThreshold(value);
+            case "rsiSellThreshold" -> builder.rsiSellThreshold(value);
+            case "bandBuyPosition" -> builder.bandBuyPosition(value);
+            case "bandSellPosition" -> builder.bandSellPosition(value);
+            case "orderFraction" -> builder.orderFraction(value);
+            case "takeProfitStopLoss" -> builder.takeProfitStopLoss(value);
+            case "cancelAfterMinutes" -> builder.cancelAfterMinutes((int) value);
+            default -> throw new IllegalArgumentException("Unknown parameter: " + name);
+        }
+    }
+
+    private static double[] list(String values) {
+        return Arrays.stream(values.split(",")).map(String::trim).mapToDouble(Double::parseDouble).toArray();
+    }
+
+    private static double[] range(String values) {
+        String[] parts = values.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Expected from:to:step: " + values);
+        }
+        double from = Double.parseDouble(parts[0].trim());
+        double to = Double.parseDouble(parts[1].trim());
+        double step = Double.parseDouble(parts[2].trim());
+        if (step <= 0 || to < from) {
+            throw new IllegalArgumentException("Invalid range: " + values);
+        }
+        List<Double> result = new ArrayList<>();
+        // 간격이 소수일 때 누적 오차로 끝 값이 빠지지 않도록 인덱스로 계산
+        for (int i = 0; from + i * step <= to + step * 1e-9; i++) {
+            result.add(Math.round((from + i * step) * 1e9) / 1e9);
+        }
+        return result.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
@@ -0,0 +1,186 @@
+package scoula.coin.domain.backtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import scoula.coin.domain.strategy.IndicatorSeries;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.domain.strategy.StrategyParameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+/**
+ * 전략 파라미터 탐색 (grid / random search)
+ * 지표는 기간 조합별로 한 번만 계산해 같은 기간을 쓰는 파라미터 조합끼리 공유하고,
+ * 조합별 백테스트는 fork-join으로 모든 코어에 나눠 실행한다.
+ * 결과는 수익률 내림차순, 같으면 최대 낙폭 오름차순으로 정렬한다.
+ */
+public class ParameterSweep {
+
+    // 조합 하나가 분봉 전체를 순회하므로 작게 나눠도 분할 비용은 무시할 수 있다
+    private static final int SPLIT_THRESHOLD = 2;
+
+    public static final Comparator<SweepResult> RANKING = Comparator
+            .comparingDouble((SweepResult sweep) -> sweep.getResult().getReturnRate()).reversed()
+            .thenComparingDouble(sweep -> sweep.getResult().getMaxDrawdown());
+
+    private final BacktestEngine backtestEngine;
+
+    /**
+     * @param candles : PriceSeries 시간순 분봉
+     * @param grid : ParameterGrid 탐색 공간
+     * @param indices : long[] 실행할 조합 인덱스 (grid.all() 또는 grid.sample())
+     * @param initialKrw : double 시작 KRW 잔고
+     * @param parallelism : int 사용할 스레드 수
+     * @return : List<SweepResult> 순위순, 유효하지 않은 조합(ParameterGrid.isValid)은 제외
+     */
+    public List<SweepResult> run(PriceSeries candles, ParameterGrid grid, long[] indices,
+                                 double initialKrw, int parallelism) {
+        long start = System.nanoTime();
+        int length = candles.size();
+        long[] times = new long[length];
+        double[] open = new double[length];
+        double[] high = new double[length];
+        double[] low = new double[length];
+        double[] close = new double[length];
+        candles.copyTimesTo(times);
+        candles.open().copyTo(open);
+        candles.high().copyTo(high);
+        candles.low().copyTo(low);
+        candles.close().copyTo(close);
+
+        List<StrategyParameters> candidates = new ArrayList<>(indices.length);
+        for (long index : indices) {
+            StrategyParameters parameters = grid.get(index);
+            if (ParameterGrid.isValid(parameters)) {
+                candidates.add(parameters);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            IndicatorSeries[] indicators = precompute(pool, close, length, candidates);
+            SweepResult[] results = new SweepResult[candidates.size()];
+            pool.invoke(new SweepTask(times, open, high, low, close, length, candidates, indicators,
+                    initialKrw, results, 0, results.length));
+
+            List<SweepResult> ranked = new ArrayList<>(Arrays.asList(results));
+            ranked.sort(RANKING);
+            log.info("Swept {} parameter sets ({} skipped as invalid) over {} candles in {} ms",
+                    candidates.size(), indices.length - candidates.size(), length,
+                    (System.nanoTime() - start) / 1_000_000);
+            return ranked;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 지표 기간 조합별로 한 번씩 병렬 계산 후 파라미터 조합마다 공유 배열로 묶음
+     */
+    private IndicatorSeries[] precompute(ForkJoinPool pool, double[] close, int length,
+                                         List<StrategyParameters> candidates) {
+        Map<List<Number>, double[]> macd = new ConcurrentHashMap<>();
+        Map<List<Number>, double[]> rsi = new ConcurrentHashMap<>();
+        Map<List<Number>, double[][]> bands = new ConcurrentHashMap<>();
+
+        // 병렬 stream은 호출한 ForkJoinPool 안에서 실행된다
+        pool.submit(() -> {
+            candidates.stream().map(ParameterSweep::macdKey).distinct().toList().parallelStream()
+                    .forEach(key -> macd.put(key, IndicatorSeries.macd(close, length,
+                            key.get(0).intValue(), key.get(1).intValue(), key.get(2).intValue())));
+            candidates.stream().map(ParameterSweep::rsiKey).distinct().toList().parallelStream()
+                    .forEach(key -> rsi.put(key, IndicatorSeries.rsi(close, length, key.get(0).intValue())));
+            candidates.stream().map(ParameterSweep::bandKey).distinct().toList().parallelStream()
+                    .forEach(key -> bands.put(key, IndicatorSeries.bands(close, length,
+                            key.get(0).intValue(), key.get(1).doubleValue())));
+        }).join();
+        log.info("Precomputed {} MACD, {} RSI, {} Bollinger series for {} parameter sets",
+                macd.size(), rsi.size(), bands.size(), candidates.size());
+
+        IndicatorSeries[] indicators = new IndicatorSeries[candidates.size()];
+        for (int i = 0; i < indicators.length; i++) {
+            StrategyParameters parameters = candidates.get(i);
+            double[][] band = bands.get(bandKey(parameters));
+            indicators[i] = new IndicatorSeries(macd.get(macdKey(parameters)), rsi.get(rsiKey(parameters)),
+                    band[0], band[1]);
+        }
+        return indicators;
+    }
+
+    private static List<Number> macdKey(StrategyParameters parameters) {
+        return List.of(parameters.getFastPeriod(), parameters.getSlowPeriod(), parameters.getSignalPeriod());
+    }
+
+    private static List<Number> rsiKey(StrategyParameters parameters) {
+        return List.of(parameters.getRsiPeriod());
+    }
+
+    private static List<Number> bandKey(StrategyParameters parameters) {
+        return List.of(parameters.getBandPeriod(), parameters.getBandStdDev());
+    }
+
+    /**
+     * 조합 범위를 반씩 나눠 실행, 결과는 같은 인덱스의 results에 기록
+     */
+    private final class SweepTask extends RecursiveAction {
+        private final long[] times;
+        private final double[] open;
+        private final double[] high;
+        private final double[] low;
+        private final double[] close;
+        private final int length;
+        private final List<StrategyParameters> candidates;
+        private final IndicatorSeries[] indicators;
+        private final double initialKrw;
+        private final SweepResult[] results;
+        private final int from;
+        private final int to;
+
+        SweepTask(long[] times, double[] open, double[] high, double[] low, double[] close, int length,
+                  List<StrategyParameters> candidates, IndicatorSeries[] indicators, double initialKrw,
+                  SweepResult[] results, int from, int to) {
+            this.times = times;
+            this.open = open;
+            this.high = high;
+            this.low = low;
+            this.close = close;
+            this.length = length;
+            this.candidates = candidates;
+            this.indicators = indicators;
+            this.initialKrw = initialKrw;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    StrategyParameters parameters = candidates.get(i);
+                    results[i] = new SweepResult(parameters, backtestEngine.run(times, open, high, low, close,
+                            length, indicators[i], parameters, initialKrw));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(split(from, middle), split(middle, to));
+        }
+
+        private SweepTask split(int from, int to) {
+            return new SweepTask(times, open, high, low, close, length, candidates, indicators, initialKrw,
+                    results, from, to);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package scoula.coin.domain.backtest;
+
+import lombok.extern.log4j.Log4j2;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.domain.strategy.StrategyParameters;
+import scoula.coin.domain.strategy.TechnicalIndicator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Log4j2
+/**
+ * 분봉 CSV로 파라미터 탐색을 실행하고 순위표를 쓰는 명령행 진입점 (Spring context 없이 실행)
+ * gradle sweep -Pcsv=candles.csv -Pgrid="rsiPeriod=7,14,21;rsiBuyThreshold=20:40:5" -Pout=sweep.csv
+ * 선택: -Psamples=N (무작위 N개 조합), -Pseed, -PinitialKrw, -Pparallelism, -Ptop (로그에 출력할 순위 수),
+ * -PbidFee, -PaskFee (거래소 수수료 비율, 기본값은 StrategyParameters의 0.0025. 주문 가능 정보의 bid_fee/ask_fee를 넣음)
+ */
+public final class ParameterSweepRunner {
+
+    private ParameterSweepRunner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        if (!options.containsKey("csv") || !options.containsKey("grid")) {
+            throw new IllegalArgumentException("Usage: csv=<candles.csv> grid=<spec> [out=sweep.csv] [samples=N] "
+                    + "[seed=S] [initialKrw=1000000] [parallelism=N] [top=10] [bidFee=0.0025] [askFee=0.0025]");
+        }
+
+        PriceSeries candles = CandleCsvReader.read(Path.of(options.get("csv")));
+        StrategyParameters base = StrategyParameters.DEFAULT.toBuilder()
+                .bidFee(Double.parseDouble(options.getOrDefault("bidFee", String.valueOf(StrategyParameters.DEFAULT.getBidFee()))))
+                .askFee(Double.parseDouble(options.getOrDefault("askFee", String.valueOf(StrategyParameters.DEFAULT.getAskFee()))))
+                .build();
+        ParameterGrid grid = ParameterGrid.parse(options.get("grid"), base);
+        long[] indices = options.containsKey("samples")
+                ? grid.sample(Integer.parseInt(options.get("samples")), Long.parseLong(options.getOrDefault("seed", "42")))
+                : grid.all();
+        double initialKrw = Double.parseDouble(options.getOrDefault("initialKrw", "1000000"));
+        int parallelism = Integer.parseInt(options.getOrDefault("parallelism",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        log.info("Sweeping {} of {} parameter sets over {} candles with {} threads (bid fee {}, ask fee {})",
+                indices.length, grid.size(), candles.size(), parallelism, base.getBidFee(), base.getAskFee());
+
+        ParameterSweep sweep = new ParameterSweep(new BacktestEngine(new TechnicalIndicator()));
+        List<SweepResult> ranked = sweep.run(candles, grid, indices, initialKrw, parallelism);
+
+        Path out = Path.of(options.getOrDefault("out", "sweep.csv"));
+        SweepReportWriter.write(out, ranked, grid.getNames());
+        int top = Math.min(Integer.parseInt(options.getOrDefault("top", "10")), ranked.size());
+        for (int i = 0; i < top; i++) {
+            log.info("#{} {}", i + 1, ranked.get(i));
+        }
+        log.info("Wrote {} results to {}", ranked.size(), out.toAbsolutePath());
+    }
+}
@@ -0,0 +1,64 @@
+package scoula.coin.domain.backtest;
+
+import scoula.coin.application.dto.BacktestResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 파라미터 탐색 결과 순위표 CSV 쓰기
+ * 컬럼: rank, 결과 지표, 탐색한 파라미터 (ParameterGrid.getNames 순서)
+ */
+public final class SweepReportWriter {
+
+    private static final String RESULT_COLUMNS =
+            "rank,return_rate,profit,max_drawdown,buy_orders,sell_orders,buy_fills,sell_fills,"
+                    + "canceled_orders,take_profit_stop_loss,fees_paid";
+
+    private SweepReportWriter() {
+    }
+
+    public static void write(Path path, List<SweepResult> ranked, List<String> names) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            write(writer, ranked, names);
+        }
+    }
+
+    /**
+     * @param ranked : List<SweepResult> 순위순 결과 (ParameterSweep.run)
+     * @param names : List<String> 파라미터 컬럼
+     */
+    public static void write(Writer writer, List<SweepResult> ranked, List<String> names) throws IOException {
+        StringBuilder line = new StringBuilder(RESULT_COLUMNS);
+        for (String name : names) {
+            line.append(',').append(name);
+        }
+        writer.write(line.append('\n').toString());
+
+        int rank = 1;
+        for (SweepResult sweep : ranked) {
+            BacktestResult result = sweep.getResult();
+            line.setLength(0);
+            line.append(rank++)
+                    .append(',').append(result.getReturnRate())
+                    .append(',').append(result.getProfit())
+                    .append(',').append(result.getMaxDrawdown())
+                    .append(',').append(result.getBuyOrders())
+                    .append(',').append(result.getSellOrders())
+                    .append(',').append(result.getBuyFills())
+                    .append(',').append(result.getSellFills())
+                    .append(',').append(result.getCanceledOrders())
+                    .append(',').append(result.getTakeProfitStopLoss())
+                    .append(',').append(result.getFeesPaid());
+            for (String name : names) {
+                line.append(',').append(ParameterGrid.value(sweep.getParameters(), name));
+            }
+            writer.write(line.append('\n').toString());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package scoula.coin.domain.backtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import scoula.coin.application.dto.BacktestResult;
+import scoula.coin.domain.strategy.StrategyParameters;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+/**
+ * 파라미터 조합 하나의 백테스트 결과
+ */
+public class SweepResult {
+    private final StrategyParameters parameters;
+    private final BacktestResult result;
+}
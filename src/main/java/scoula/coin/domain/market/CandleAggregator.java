@@ -0,0 +1,259 @@
+package scoula.coin.domain.market;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import scoula.coin.application.dto.CandleDTO;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.strategy.PriceSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Log4j2
+@Component
+/**
+ * 닫힌 1분봉을 상위 분봉(5m/15m/1h/4h/1d)으로 합치는 집계기
+ * 1분봉이 들어올 때마다 단위별 마지막 봉에 OHLCV만 합치므로(시가 유지, 고가/저가 갱신, 종가 교체, 거래량 누적)
+ * 상위 분봉을 API로 따로 불러오지 않는다. 단위별로 capacity개의 봉을 ring buffer(PriceSeries)에 유지한다.
+ * 상위 분봉을 처음 조회할 때 첫 1분봉 이전 seed-minutes 분량부터의 저장된 1분봉으로 한 번 다시 채운다.
+ * (분봉마다 호출되는 accept는 DB를 읽지 않으므로 매매/WebSocket 스레드가 seed를 기다리지 않는다.)
+ * 집계 봉은 시각과 OHLCV만 가지며 거래대금과 마지막 체결 시각은 채우지 않는다.
+ */
+public class CandleAggregator {
+
+    private static final int UNIT = 1;                  // 1분봉
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final int SEED_PAGE_SIZE = 1_000;
+
+    private final CandleRepository candleRepository;
+    private final int capacity;
+    private final long seedMinutes;
+
+    private final Map<String, Frames> frames = new ConcurrentHashMap<>();
+
+    public CandleAggregator(CandleRepository candleRepository,
+                            @Value("${trading.timeframes.capacity:500}") int capacity,
+                            @Value("${trading.timeframes.seed-minutes:10080}") long seedMinutes) {
+        this.candleRepository = candleRepository;
+        this.capacity = capacity;
+        this.seedMinutes = seedMinutes;
+    }
+
+    /**
+     * 닫힌 1분봉 반영, 이미 반영한 시각 이전의 분봉은 무시
+     * @param market : String 코인 마켓
+     * @param minute : CandleDTO 닫힌 1분봉
+     * @return : boolean 반영했으면 true
+     */
+    public boolean accept(String market, CandleDTO minute) {
+        long time = minute.candleTimeMillis();
+        Frames state = frames.computeIfAbsent(market, key -> new Frames(capacity));
+        synchronized (state) {
+            if (state.firstMinute == Long.MIN_VALUE) {
+                state.firstMinute = time;
+            }
+            return state.merge(time, minute.getOpeningPrice(), minute.getHighPrice(), minute.getLowPrice(),
+                    minute.getTradePrice(), minute.getCandleAccTradeVolume());
+        }
+    }
+
+    /**
+     * 단위별 분봉 복사본 (시간순, TechnicalIndicator의 double[] 입력은 PriceSeries.Column.copyTo로)
+     * @param market : String 코인 마켓
+     * @param timeframe : Timeframe
+     * @param closedOnly : boolean true면 아직 닫히지 않은 마지막 봉은 제외
+     * @return : PriceSeries 반영한 분봉이 없으면 비어 있음
+     */
+    public PriceSeries getSeries(String market, Timeframe timeframe, boolean closedOnly) {
+        Frames state = frames.get(market);
+        if (state == null) {
+            return new PriceSeries(1);
+        }
+        ensureSeeded(market, state);
+        synchronized (state) {
+            PriceSeries source = state.series[timeframe.ordinal()];
+            int size = source.size();
+            if (closedOnly && size > 0 && !state.isClosed(timeframe)) {
+                size--;
+            }
+            PriceSeries copy = new PriceSeries(Math.max(size, 1));
+            for (int i = 0; i < size; i++) {
+                copy.add(source.getTime(i), source.open().get(i), source.high().get(i), source.low().get(i),
+                        source.close().get(i), source.volume().get(i));
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * 단위별 최근 분봉, CandleSyncService.getCandles와 같이 시간 역순이며 0번은 진행 중인 봉
+     * @param market : String 코인 마켓
+     * @param timeframe : Timeframe
+     * @param count : int 분봉 수
+     * @param forming : CandleDTO 진행 중인 1분봉 (없으면 null), 복사본에만 합침
+     * @return : List<CandleDTO>
+     */
+    public List<CandleDTO> getCandles(String market, Timeframe timeframe, int count, CandleDTO forming) {
+        List<CandleDTO> result = new ArrayList<>(count);
+        Frames state = frames.get(market);
+        if (state == null) {
+            if (forming != null && count > 0) {
+                result.add(toCandle(market, timeframe, timeframe.bucketStart(forming.candleTimeMillis()),
+                        forming.getOpeningPrice(), forming.getHighPrice(), forming.getLowPrice(),
+                        forming.getTradePrice(), forming.getCandleAccTradeVolume()));
+            }
+            return result;
+        }
+
+        ensureSeeded(market, state);
+        synchronized (state) {
+            PriceSeries series = state.series[timeframe.ordinal()];
+            int last = series.size() - 1;
+            if (forming != null && count > 0 && forming.candleTimeMillis() > state.lastMinute) {
+                long bucket = timeframe.bucketStart(forming.candleTimeMillis());
+                if (last >= 0 && series.getTime(last) == bucket) {
+                    result.add(toCandle(market, timeframe, bucket, series.open().get(last),
+                            Math.max(series.high().get(last), forming.getHighPrice()),
+                            Math.min(series.low().get(last), forming.getLowPrice()),
+                            forming.getTradePrice(),
+                            series.volume().get(last) + forming.getCandleAccTradeVolume()));
+                    last--;
+                } else {
+                    result.add(toCandle(market, timeframe, bucket, forming.getOpeningPrice(),
+                            forming.getHighPrice(), forming.getLowPrice(), forming.getTradePrice(),
+                            forming.getCandleAccTradeVolume()));
+                }
+            }
+            for (int i = last; i >= 0 && result.size() < count; i--) {
+                result.add(toCandle(market, timeframe, series.getTime(i), series.open().get(i),
+                        series.high().get(i), series.low().get(i), series.close().get(i), series.volume().get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 처음 조회할 때 저장된 1분봉으로 단위별 분봉을 다시 만듦 (실패해도 반영된 분봉으로 집계)
+     * DB는 분봉 잠금 밖에서 읽고, 읽는 동안 들어온 1분봉은 1분봉 ring buffer에서 이어 붙인 뒤 한 번에 교체한다.
+     */
+    private void ensureSeeded(String market, Frames state) {
+        if (state.seeded) {
+            return;
+        }
+        synchronized (state.seedLock) {
+            if (state.seeded) {
+                return;
+            }
+            if (seedMinutes <= 0) {
+                state.seeded = true;
+                return;
+            }
+            long firstMinute;
+            long until;
+            synchronized (state) {
+                firstMinute = state.firstMinute;
+                until = state.lastMinute;
+            }
+
+            Frames seeded = new Frames(capacity);
+            long after = firstMinute - seedMinutes * MINUTE_MILLIS - 1;
+            int loaded = 0;
+            try {
+                while (true) {
+                    List<Candle> page = candleRepository
+                            .findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                                    market, UNIT, after, until, PageRequest.of(0, SEED_PAGE_SIZE));
+                    for (Candle candle : page) {
+                        seeded.merge(candle.getCandleTime(), candle.getOpeningPrice(), candle.getHighPrice(),
+                                candle.getLowPrice(), candle.getTradePrice(), candle.getCandleAccTradeVolume());
+                    }
+                    loaded += page.size();
+                    if (page.size() < SEED_PAGE_SIZE) {
+                        break;
+                    }
+                    after = page.get(page.size() - 1).getCandleTime();
+                }
+            } catch (Exception e) {
+                log.error("Failed to seed timeframes for market {}: {}", market, e.getMessage());
+                state.seeded = true;
+                return;
+            }
+
+            synchronized (state) {
+                PriceSeries minutes = state.series[Timeframe.M1.ordinal()];
+                for (int i = 0; i < minutes.size(); i++) {
+                    seeded.merge(minutes.getTime(i), minutes.open().get(i), minutes.high().get(i),
+                            minutes.low().get(i), minutes.close().get(i), minutes.volume().get(i));
+                }
+                System.arraycopy(seeded.series, 0, state.series, 0, state.series.length);
+                state.lastMinute = Math.max(state.lastMinute, seeded.lastMinute);
+                state.seeded = true;
+            }
+            log.info("Seeded timeframes for market {} with {} stored candles", market, loaded);
+        }
+    }
+
+    private CandleDTO toCandle(String market, Timeframe timeframe, long time,
+                               double open, double high, double low, double close, double volume) {
+        CandleDTO candle = new CandleDTO();
+        candle.setMarket(market);
+        candle.setCandleTime(time);
+        candle.setOpeningPrice(open);
+        candle.setHighPrice(high);
+        candle.setLowPrice(low);
+        candle.setTradePrice(close);
+        candle.setCandleAccTradeVolume(volume);
+        candle.setUnit(timeframe.getMinutes());
+        return candle;
+    }
+
+    /**
+     * 마켓 하나의 단위별 분봉 (this로 동기화, seed는 seedLock으로 한 번만)
+     */
+    private static final class Frames {
+        private final PriceSeries[] series;
+        private final Object seedLock = new Object();
+        private long firstMinute = Long.MIN_VALUE;
+        private long lastMinute = Long.MIN_VALUE;
+        private volatile boolean seeded;
+
+        private Frames(int capacity) {
+            Timeframe[] timeframes = Timeframe.values();
+            this.series = new PriceSeries[timeframes.length];
+            for (int i = 0; i < timeframes.length; i++) {
+                series[i] = new PriceSeries(capacity);
+            }
+        }
+
+        private boolean merge(long time, double open, double high, double low, double close, double volume) {
+            if (time <= lastMinute) {
+                return false;
+            }
+            lastMinute = time;
+            for (Timeframe timeframe : Timeframe.values()) {
+                PriceSeries target = series[timeframe.ordinal()];
+                long bucket = timeframe.bucketStart(time);
+                if (target.isEmpty() || target.getLastTime() < bucket) {
+                    target.add(bucket, open, high, low, close, volume);
+                } else {
+                    target.updateLast(Math.max(target.high().last(), high), Math.min(target.low().last(), low),
+                            close, target.volume().last() + volume);
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 마지막 봉의 마지막 1분봉까지 반영했는지 (체결 없는 분이 끝에 있으면 다음 봉이 시작될 때 닫힘)
+         */
+        private boolean isClosed(Timeframe timeframe) {
+            PriceSeries target = series[timeframe.ordinal()];
+            return lastMinute + MINUTE_MILLIS >= target.getLastTime() + timeframe.getMillis();
+        }
+    }
+}
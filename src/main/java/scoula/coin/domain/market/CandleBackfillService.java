@@ -0,0 +1,264 @@
+package scoula.coin.domain.market;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import scoula.coin.application.dto.BackfillStatusDTO;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.application.entity.CandleBackfillCheckpoint;
+import scoula.coin.domain.market.Repository.CandleBackfillCheckpointRepository;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.archive.CandleArchive;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+import scoula.coin.global.util.TokenBucket;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+@Log4j2
+@Service
+/**
+ * 과거 1분봉 백필
+ * 마켓마다 API의 to 파라미터로 200개씩 과거로 거슬러 올라가며 받아 DB에 저장하고, 페이지마다 체크포인트를 남겨
+ * 중단되어도 이어서 받는다. 마켓들은 backfillExecutor에서 동시에 돌지만 모든 요청이 하나의 token bucket을 거치므로
+ * 전체 요청 수는 rate-limit 이하로 유지되고, 걸리는 시간은 (분봉 수 / 200) / 초당 요청 수로 정해진다.
+ * 백필은 처음 시작한 시각부터 과거로만 진행하며, 그 이후의 분봉은 CandleSyncService가 채운다.
+ */
+public class CandleBackfillService {
+
+    private static final int PAGE_COUNT = 200;              // API 1회 최대 분봉 수
+    private static final long CANDLE_MILLIS = 60_000L;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 1_000L;
+
+    private final CandleService candleService;
+    private final CandleRepository candleRepository;
+    private final CandleBackfillCheckpointRepository checkpointRepository;
+    private final CandleArchive candleArchive;
+    private final Executor executor;
+    private final TokenBucket rateLimiter;
+
+    private final Map<String, String> running = new ConcurrentHashMap<>();    // 실행 중인 마켓
+    private final Map<String, String> errors = new ConcurrentHashMap<>();     // 마켓별 마지막 실패 사유
+    private volatile boolean stopping;
+
+    public CandleBackfillService(CandleService candleService,
+                                 CandleRepository candleRepository,
+                                 CandleBackfillCheckpointRepository checkpointRepository,
+                                 CandleArchive candleArchive,
+                                 @Qualifier("backfillExecutor") Executor executor,
+                                 @Value("${bithumb.rate-limit.candles-per-second:8}") double permitsPerSecond,
+                                 @Value("${bithumb.rate-limit.burst:8}") int burst) {
+        this.candleService = candleService;
+        this.candleRepository = candleRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.candleArchive = candleArchive;
+        this.executor = executor;
+        this.rateLimiter = new TokenBucket(permitsPerSecond, burst);
+    }
+
+    /**
+     * 마켓별 백필 시작 (이미 실행 중인 마켓은 건너뜀)
+     * @param markets : List<String> 코인 마켓
+     * @param from : long 이 시각까지 거슬러 올라감 (UTC epoch millis)
+     * @return : List<BackfillStatusDTO> 시작 시점의 상태
+     */
+    public List<BackfillStatusDTO> start(List<String> markets, long from) {
+        if (markets == null || markets.isEmpty() || markets.stream().anyMatch(market -> market == null || market.isBlank())) {
+            throw new CustomException(ErrorCode.ORDER_INVALID_MARKET);
+        }
+        long now = System.currentTimeMillis();
+        if (from >= now) {
+            throw new CustomException(ErrorCode.HISTORY_INVALID_RANGE);
+        }
+
+        long requests = estimateRequests(markets, from, now);
+        log.info("Starting candle backfill for {} markets - about {} requests, {} min at {}/s",
+                markets.size(), requests,
+                TimeUnit.SECONDS.toMinutes((long) (requests / rateLimiter.getPermitsPerSecond())),
+                rateLimiter.getPermitsPerSecond());
+
+        stopping = false;
+        for (String market : markets) {
+            if (running.putIfAbsent(market, market) == null) {
+                errors.remove(market);
+                executor.execute(() -> run(market, from));
+            }
+        }
+        return getStatus(markets);
+    }
+
+    /**
+     * @param markets : List<String> 코인 마켓
+     * @return : List<BackfillStatusDTO>
+     */
+    public List<BackfillStatusDTO> getStatus(List<String> markets) {
+        List<BackfillStatusDTO> statuses = new ArrayList<>(markets.size());
+        for (String market : markets) {
+            CandleBackfillCheckpoint checkpoint = checkpointRepository.findById(market).orElse(null);
+            statuses.add(BackfillStatusDTO.builder()
+                    .market(market)
+                    .cursorTime(checkpoint == null ? null : checkpoint.getCursorTime())
+                    .targetTime(checkpoint == null ? null : checkpoint.getTargetTime())
+                    .fetchedCount(checkpoint == null ? 0 : checkpoint.getFetchedCount())
+                    .completed(checkpoint != null && Boolean.TRUE.equals(checkpoint.getCompleted()))
+                    .running(running.containsKey(market))
+                    .error(errors.get(market))
+                    .build());
+        }
+        return statuses;
+    }
+
+    /**
+     * 요청 수 기준 예상 (체크포인트가 있으면 남은 구간만, 이미 목표까지 끝난 마켓은 0)
+     * @return : long 예상 요청 수
+     */
+    long estimateRequests(List<String> markets, long from, long now) {
+        long requests = 0;
+        for (String market : markets) {
+            CandleBackfillCheckpoint checkpoint = checkpointRepository.findById(market).orElse(null);
+            if (checkpoint != null && Boolean.TRUE.equals(checkpoint.getCompleted()) && from >= checkpoint.getTargetTime()) {
+                continue;
+            }
+            long cursor = checkpoint == null ? now : checkpoint.getCursorTime();
+            requests += Math.max(0, (cursor - from) / CANDLE_MILLIS / PAGE_COUNT + 1);
+        }
+        return requests;
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+    }
+
+    private void run(String market, long from) {
+        try {
+            backfill(market, from);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.put(market, "Interrupted");
+        } catch (Exception e) {
+            log.error("Candle backfill failed for {}: {}", market, e.getMessage());
+            errors.put(market, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+        } finally {
+            try {
+                rebuildArchiveIfPending(market);
+            } finally {
+                running.remove(market);
+            }
+        }
+    }
+
+    /**
+     * 저장한 페이지가 있으면 (중간에 실패했거나 이전 실행이 중단된 경우도) 보관소를 다시 만듦
+     * 보관소는 append only이므로 과거 분봉이 추가되면 처음부터 다시 만들어야 한다.
+     */
+    private void rebuildArchiveIfPending(String market) {
+        try {
+            CandleBackfillCheckpoint checkpoint = checkpointRepository.findById(market).orElse(null);
+            if (checkpoint == null || !Boolean.TRUE.equals(checkpoint.getArchivePending())) {
+                return;
+            }
+            candleArchive.rebuild(market);
+            checkpoint.setArchivePending(false);
+            checkpointRepository.save(checkpoint);
+        } catch (Exception e) {
+            log.error("Failed to rebuild candle archive for {} after backfill: {}", market, e.getMessage());
+            errors.putIfAbsent(market, "Archive rebuild failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 체크포인트부터 목표 시각까지 과거로 페이지를 받아 저장
+     * @return : long 이번 실행에서 저장한 분봉 수
+     */
+    long backfill(String market, long from) throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        // 진행 중인 분봉은 받지 않음 (to는 미포함)
+        long now = Math.floorDiv(startedAt, CANDLE_MILLIS) * CANDLE_MILLIS;
+        CandleBackfillCheckpoint checkpoint = checkpointRepository.findById(market)
+                .orElseGet(() -> CandleBackfillCheckpoint.builder()
+                        .market(market)
+                        .cursorTime(now)
+                        .targetTime(from)
+                        .build());
+        if (from < checkpoint.getTargetTime()) {
+            // 이전보다 더 과거까지 받도록 목표만 옮기고 커서에서 이어서 진행
+            checkpoint.setTargetTime(from);
+            checkpoint.setCompleted(false);
+        }
+
+        long fetched = 0;
+        while (!Boolean.TRUE.equals(checkpoint.getCompleted()) && !stopping) {
+            long cursor = checkpoint.getCursorTime();
+            long target = checkpoint.getTargetTime();
+            if (cursor <= target) {
+                checkpoint.setCompleted(true);
+                break;
+            }
+
+            CandleBatch page = fetch(market, cursor);
+            long oldest = cursor;
+            List<Candle> entities = new ArrayList<>(page.size());
+            for (int i = 0; i < page.size(); i++) {
+                long time = page.getTime(i);
+                oldest = Math.min(oldest, time);
+                if (time < cursor && time >= target) {
+                    entities.add(page.toEntity(i));
+                }
+            }
+            if (!entities.isEmpty()) {
+                if (!Boolean.TRUE.equals(checkpoint.getArchivePending())) {
+                    // 저장 직후 실패해도 다음 정리 때 보관소를 다시 만들도록 먼저 기록
+                    checkpoint.setArchivePending(true);
+                    checkpointRepository.save(checkpoint);
+                }
+                candleRepository.batchInsert(entities);
+            }
+
+            if (oldest >= cursor) {
+                // 더 과거의 분봉이 없음 (상장 이전)
+                checkpoint.setCompleted(true);
+            } else {
+                checkpoint.setCursorTime(oldest);
+            }
+            checkpoint.setFetchedCount(checkpoint.getFetchedCount() + entities.size());
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+            fetched += entities.size();
+        }
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+
+        log.info("Candle backfill for {} {} - {} candles in {} ms, cursor {}", market,
+                Boolean.TRUE.equals(checkpoint.getCompleted()) ? "completed" : "paused",
+                fetched, System.currentTimeMillis() - startedAt, checkpoint.getCursorTime());
+        return fetched;
+    }
+
+    /**
+     * 요청 제한을 지켜 페이지 하나 조회, 실패하면 간격을 늘려 다시 시도
+     */
+    private CandleBatch fetch(String market, long to) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            try {
+                return candleService.getCandleBatch(market, PAGE_COUNT, to);
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS || stopping) {
+                    throw e;
+                }
+                log.warn("Candle page for {} before {} failed (attempt {}): {}", market, to, attempt, e.getMessage());
+                TimeUnit.MILLISECONDS.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+            }
+        }
+    }
+}
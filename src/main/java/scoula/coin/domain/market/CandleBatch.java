@@ -0,0 +1,191 @@
+package scoula.coin.domain.market;
+
+import scoula.coin.application.dto.CandleDTO;
+import scoula.coin.application.entity.Candle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * API 응답 한 번의 분봉 묶음 (필드별 primitive 배열, 응답과 같은 시간 역순)
+ * CandleResponseDecoder가 응답 스트림에서 바로 채우며, 분봉마다 객체나 시각 문자열을 만들지 않는다.
+ * CandleDTO가 필요한 곳에서만 toCandleDTOs()로 변환한다.
+ */
+public class CandleBatch {
+
+    private String market;
+    private int unit = 1;
+    private int size;
+    private int rejected;               // 가격 필드가 없어 뺀 분봉 수
+
+    private long[] times;               // 분봉 시작 시각 (UTC epoch millis)
+    private double[] opens;
+    private double[] highs;
+    private double[] lows;
+    private double[] closes;
+    private long[] lastTradeTimes;      // 마지막 체결 시각 (timestamp)
+    private double[] accTradePrices;
+    private double[] accTradeVolumes;
+
+    public CandleBatch(int capacity) {
+        int initial = Math.max(capacity, 1);
+        this.times = new long[initial];
+        this.opens = new double[initial];
+        this.highs = new double[initial];
+        this.lows = new double[initial];
+        this.closes = new double[initial];
+        this.lastTradeTimes = new long[initial];
+        this.accTradePrices = new double[initial];
+        this.accTradeVolumes = new double[initial];
+    }
+
+    /**
+     * 분봉 추가, 용량이 부족하면 두 배로 늘림
+     * @param time : long 분봉 시작 시각 (UTC epoch millis)
+     */
+    public void add(long time, double open, double high, double low, double close,
+                    long lastTradeTime, double accTradePrice, double accTradeVolume) {
+        if (size == times.length) {
+            grow();
+        }
+        times[size] = time;
+        opens[size] = open;
+        highs[size] = high;
+        lows[size] = low;
+        closes[size] = close;
+        lastTradeTimes[size] = lastTradeTime;
+        accTradePrices[size] = accTradePrice;
+        accTradeVolumes[size] = accTradeVolume;
+        size++;
+    }
+
+    /**
+     * 가격 필드가 없어 추가하지 않은 분봉 하나를 셈
+     */
+    public void reject() {
+        rejected++;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String getMarket() {
+        return market;
+    }
+
+    public void setMarket(String market) {
+        this.market = market;
+    }
+
+    public int getUnit() {
+        return unit;
+    }
+
+    public void setUnit(int unit) {
+        this.unit = unit;
+    }
+
+    public long getTime(int i) {
+        return times[check(i)];
+    }
+
+    public double getOpen(int i) {
+        return opens[check(i)];
+    }
+
+    public double getHigh(int i) {
+        return highs[check(i)];
+    }
+
+    public double getLow(int i) {
+        return lows[check(i)];
+    }
+
+    public double getClose(int i) {
+        return closes[check(i)];
+    }
+
+    public long getLastTradeTime(int i) {
+        return lastTradeTimes[check(i)];
+    }
+
+    public double getAccTradePrice(int i) {
+        return accTradePrices[check(i)];
+    }
+
+    public double getAccTradeVolume(int i) {
+        return accTradeVolumes[check(i)];
+    }
+
+    public CandleDTO toCandleDTO(int i) {
+        check(i);
+        CandleDTO candle = new CandleDTO();
+        candle.setMarket(market);
+        candle.setCandleTime(times[i]);
+        candle.setOpeningPrice(opens[i]);
+        candle.setHighPrice(highs[i]);
+        candle.setLowPrice(lows[i]);
+        candle.setTradePrice(closes[i]);
+        candle.setTimeStamp(lastTradeTimes[i]);
+        candle.setCandleAccTradePrice(accTradePrices[i]);
+        candle.setCandleAccTradeVolume(accTradeVolumes[i]);
+        candle.setUnit(unit);
+        return candle;
+    }
+
+    /**
+     * @return : List<CandleDTO> 응답과 같은 순서
+     */
+    public List<CandleDTO> toCandleDTOs() {
+        List<CandleDTO> candles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            candles.add(toCandleDTO(i));
+        }
+        return candles;
+    }
+
+    public Candle toEntity(int i) {
+        check(i);
+        return Candle.builder()
+                .market(market)
+                .unit(unit)
+                .candleTime(times[i])
+                .openingPrice(opens[i])
+                .highPrice(highs[i])
+                .lowPrice(lows[i])
+                .tradePrice(closes[i])
+                .lastTradeTime(lastTradeTimes[i])
+                .candleAccTradePrice(accTradePrices[i])
+                .candleAccTradeVolume(accTradeVolumes[i])
+                .build();
+    }
+
+    private int check(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return i;
+    }
+
+    private void grow() {
+        int capacity = times.length * 2;
+        times = Arrays.copyOf(times, capacity);
+        opens = Arrays.copyOf(opens, capacity);
+        highs = Arrays.copyOf(highs, capacity);
+        lows = Arrays.copyOf(lows, capacity);
+        closes = Arrays.copyOf(closes, capacity);
+        lastTradeTimes = Arrays.copyOf(lastTradeTimes, capacity);
+        accTradePrices = Arrays.copyOf(accTradePrices, capacity);
+        accTradeVolumes = Arrays.copyOf(accTradeVolumes, capacity);
+    }
+}
@@ -0,0 +1,166 @@
+package scoula.coin.domain.market;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 분봉 API 응답을 token 단위로 읽어 CandleBatch에 바로 채우는 디코더
+ * 응답 전체를 String이나 JsonNode 트리로 만들지 않고, 필드 이름은 Jackson이 공유하는 이름을 switch로 비교하며,
+ * candle_date_time_utc는 parser의 문자 버퍼에서 바로 epoch millis로 변환한다 (candle_date_time_kst는 같은 값이므로 건너뜀).
+ * 시가/고가/저가/종가 중 하나라도 없는 분봉은 NaN으로 저장되지 않도록 빼고 CandleBatch.getRejected()로 센다.
+ * 스레드 안전하며 JsonFactory 하나를 공유한다.
+ */
+public final class CandleResponseDecoder {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private CandleResponseDecoder() {
+    }
+
+    /**
+     * @param body : InputStream 응답 본문 (닫지 않음)
+     * @param expected : int 예상 분봉 수 (배열 초기 크기)
+     * @return : CandleBatch 응답과 같은 순서 (시간 역순)
+     */
+    public static CandleBatch decode(InputStream body, int expected) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            return decode(parser, expected);
+        }
+    }
+
+    /**
+     * 테스트/벤치마크용 (byte[] 본문)
+     */
+    public static CandleBatch decode(byte[] body, int expected) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            return decode(parser, expected);
+        }
+    }
+
+    private static CandleBatch decode(JsonParser parser, int expected) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Candle API error: " + errorMessage(parser));
+        }
+        if (first != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected candle array but got " + first);
+        }
+
+        CandleBatch batch = new CandleBatch(expected);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            long time = Long.MIN_VALUE;
+            double open = Double.NaN;
+            double high = Double.NaN;
+            double low = Double.NaN;
+            double close = Double.NaN;
+            long lastTradeTime = 0;
+            double accTradePrice = 0;
+            double accTradeVolume = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "market" -> {
+                        if (batch.getMarket() == null) {
+                            batch.setMarket(parser.getText());
+                        }
+                    }
+                    case "candle_date_time_utc" -> time = parseUtcMillis(parser);
+                    case "opening_price" -> open = parser.getValueAsDouble(Double.NaN);
+                    case "high_price" -> high = parser.getValueAsDouble(Double.NaN);
+                    case "low_price" -> low = parser.getValueAsDouble(Double.NaN);
+                    case "trade_price" -> close = parser.getValueAsDouble(Double.NaN);
+                    case "timestamp" -> lastTradeTime = parser.getValueAsLong();
+                    case "candle_acc_trade_price" -> accTradePrice = parser.getValueAsDouble(0);
+                    case "candle_acc_trade_volume" -> accTradeVolume = parser.getValueAsDouble(0);
+                    case "unit" -> batch.setUnit(parser.getValueAsInt(1));
+                    default -> parser.skipChildren();
+                }
+            }
+            if (time == Long.MIN_VALUE) {
+                throw new JsonParseException(parser, "Candle without candle_date_time_utc");
+            }
+            if (Double.isNaN(open) || Double.isNaN(high) || Double.isNaN(low) || Double.isNaN(close)) {
+                batch.reject();
+                continue;
+            }
+            batch.add(time, open, high, low, close, lastTradeTime, accTradePrice, accTradeVolume);
+        }
+        return batch;
+    }
+
+    /**
+     * yyyy-MM-dd'T'HH:mm:ss (UTC)를 문자 버퍼에서 바로 변환, 다른 형식이면 LocalDateTime으로 파싱
+     */
+    private static long parseUtcMillis(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        if (length != 19 || chars[offset + 4] != '-' || chars[offset + 7] != '-' || chars[offset + 10] != 'T'
+                || chars[offset + 13] != ':' || chars[offset + 16] != ':') {
+            return LocalDateTime.parse(new String(chars, offset, length)).toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+        int year = digits(parser, chars, offset, 4);
+        int month = digits(parser, chars, offset + 5, 2);
+        int day = digits(parser, chars, offset + 8, 2);
+        int hour = digits(parser, chars, offset + 11, 2);
+        int minute = digits(parser, chars, offset + 14, 2);
+        int second = digits(parser, chars, offset + 17, 2);
+        long seconds = ((epochDay(year, month, day) * 24 + hour) * 60 + minute) * 60 + second;
+        return seconds * 1000L;
+    }
+
+    private static int digits(JsonParser parser, char[] chars, int offset, int count) throws JsonParseException {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new JsonParseException(parser, "Invalid candle_date_time_utc");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 그레고리력 날짜의 epoch day (1970-01-01 = 0)
+     */
+    static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+
+    /**
+     * {"error": {"name": ..., "message": ...}} 형태의 오류 응답에서 메시지만 꺼냄
+     */
+    private static String errorMessage(JsonParser parser) throws IOException {
+        String name = null;
+        String message = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.VALUE_STRING) {
+                if ("message".equals(parser.currentName())) {
+                    message = parser.getText();
+                } else if ("name".equals(parser.currentName())) {
+                    name = parser.getText();
+                }
+            }
+        }
+        return name == null ? String.valueOf(message) : name + " - " + message;
+    }
+}
@@ -2,8 +2,6 @@ package scoula.coin.domain.market;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.aspectj.apache.bcel.classfile.annotation.NameValuePair;
@@ -19,6 +17,9 @@ import scoula.coin.application.dto.CandleDTO;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 @Log4j2
@@ -29,6 +30,9 @@ import java.util.*;
  */
 public class CandleService {
 
+    private static final DateTimeFormatter TO_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
     private String baseUrl = "https://api.bithumb.com/v1/candles/minutes/1";
     @Value("${mycoin.appKey}")
     private String appKey;
@@ -36,7 +40,6 @@ public class CandleService {
     private String secretKey;
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
 
     /**
      * API로 1분봉 단위로 불러옴
@@ -45,6 +48,29 @@ public class CandleService {
      * @return : List<CandleDTO>
      */
     public List<CandleDTO> getCandle(String market, int count){
+        return getCandle(market, count, null);
+    }
+
+    /**
+     * 특정 시각 이전의 1분봉을 불러옴 (과거 분봉을 거슬러 올라가며 조회할 때 사용)
+     * @param market : String 코인 코드
+     * @param count : int 분봉 수 (최대 200)
+     * @param to : Long 이 시각 이전의 분봉 (UTC epoch millis, 미포함), null이면 최근 분봉
+     * @return : List<CandleDTO> 시간 역순
+     */
+    public List<CandleDTO> getCandle(String market, int count, Long to){
+        return getCandleBatch(market, count, to).toCandleDTOs();
+    }
+
+    /**
+     * 1분봉을 primitive 배열 묶음으로 불러옴 (CandleDTO를 만들지 않음, 백필처럼 많은 분봉을 받을 때 사용)
+     * 응답 본문은 String으로 읽지 않고 스트림에서 바로 디코딩한다.
+     * @param market : String 코인 코드
+     * @param count : int 분봉 수 (최대 200)
+     * @param to : Long 이 시각 이전의 분봉 (UTC epoch millis, 미포함), null이면 최근 분봉
+     * @return : CandleBatch 시간 역순
+     */
+    public CandleBatch getCandleBatch(String market, int count, Long to){
         try {
             // Generate access token using JWT
             Algorithm algorithm = Algorithm.HMAC256(secretKey);
@@ -63,43 +89,23 @@ public class CandleService {
             headers.set("Accept", "application/json");
             headers.set("Content-Type", "application/json; charset=UTF-8");
 
-            // Create HttpEntity object with headers
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
             // Construct URL with parameters
             String url = String.format("%s?market=%s&count=%d", baseUrl, market, count);
+            if (to != null) {
+                url += "&to=" + TO_FORMAT.format(Instant.ofEpochMilli(to));
+            }
 
-            // Make the API call and get the response as String
-            ResponseEntity<String> response = restTemplate.exchange(
+            // Make the API call and decode the response stream
+            CandleBatch batch = restTemplate.execute(
                     url,
                     HttpMethod.GET,
-                    entity,
-                    String.class
+                    request -> request.getHeaders().putAll(headers),
+                    response -> CandleResponseDecoder.decode(response.getBody(), count)
             );
-
-            // Parse the response using ObjectMapper
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
-            List<CandleDTO> candleDTOs = new ArrayList<>();
-
-            for (JsonNode candleData : jsonNode) {
-                CandleDTO candleDTO = new CandleDTO();
-                candleDTO.setMarket(candleData.get("market").asText());
-                candleDTO.setCandleDateTimeUtc(candleData.get("candle_date_time_utc").asText());
-                candleDTO.setCandleDateTimeKst(candleData.get("candle_date_time_kst").asText());
-                candleDTO.setOpeningPrice(candleData.get("opening_price").asDouble());
-                candleDTO.setHighPrice(candleData.get("high_price").asDouble());
-                candleDTO.setLowPrice(candleData.get("low_price").asDouble());
-                candleDTO.setTradePrice(candleData.get("trade_price").asDouble());
-                candleDTO.setTimeStamp(candleData.get("timestamp").asLong());
-                candleDTO.setCandleAccTradePrice(candleData.get("candle_acc_trade_price").asDouble());
-                candleDTO.setCandleAccTradeVolume(candleData.get("candle_acc_trade_volume").asDouble());
-                candleDTO.setUnit(candleData.get("unit").asInt());
-
-                candleDTOs.add(candleDTO);
+            if (batch != null && batch.getRejected() > 0) {
+                log.warn("Rejected {} candles without prices for market {}", batch.getRejected(), market);
             }
-
-            // Return the parsed response as a Map
-            return candleDTOs;
+            return batch;
 
         } catch (Exception e) {
             log.error("Error occurred while fetching coin data: ", e);
@@ -0,0 +1,246 @@
+package scoula.coin.domain.market;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import scoula.coin.application.dto.CandleDTO;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.stream.CandleClosedEvent;
+import scoula.coin.domain.market.stream.MarketStreamHandler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+/**
+ * 분봉 DB 저장 + 마켓별 최근 분봉 캐시
+ * 마지막으로 저장된 분봉 이후의 분봉만 API로 불러와 저장하고 캐시에 이어 붙인다.
+ * 캐시에 추가되는 닫힌 분봉은 CandleAggregator로 넘겨 상위 분봉도 함께 갱신한다.
+ * API 응답은 CandleBatch로 받아 캐시에 새로 추가되는 분봉과 진행 중인 분봉만 CandleDTO로 만든다.
+ */
+public class CandleSyncService {
+
+    private static final int UNIT = 1;                  // 1분봉
+    private static final long CANDLE_MILLIS = 60_000L;
+    private static final int MAX_FETCH_COUNT = 200;     // API 1회 최대 분봉 수
+    private static final int TAIL_CAPACITY = 500;       // 마켓별 캐시할 닫힌 분봉 수
+
+    private final CandleService candleService;
+    private final CandleRepository candleRepository;
+    private final CandleAggregator candleAggregator;
+    private final ObjectProvider<MarketStreamHandler> streamHandler;  // bithumb.websocket.enabled=true 일 때만 있음
+
+    private final Map<String, Tail> tails = new ConcurrentHashMap<>();
+
+    /**
+     * 최근 분봉 조회, API 응답과 같이 시간 역순이며 0번은 진행 중인 분봉
+     * @param market : String 코인 코드
+     * @param count : int 분봉 수
+     * @return : List<CandleDTO>
+     */
+    public List<CandleDTO> getCandles(String market, int count) {
+        Tail tail = tails.computeIfAbsent(market, key -> new Tail());
+        List<CandleDTO> result;
+        List<CandleDTO> unstored;
+
+        synchronized (tail) {
+            if (tail.closed.isEmpty()) {
+                loadFromStore(market, tail);
+            }
+
+            CandleDTO streamed = streamedForming(market, tail);
+            if (streamed != null) {
+                // 스트림으로 닫힌 분봉이 모두 반영되어 있으면 API 호출 없이 응답
+                tail.forming = streamed;
+            } else {
+                int fetchCount = tail.closed.isEmpty()
+                        ? count
+                        : (int) ((System.currentTimeMillis() - tail.lastCandleTime()) / CANDLE_MILLIS) + 1;
+                fetchCount = Math.max(2, Math.min(fetchCount, MAX_FETCH_COUNT));
+
+                CandleBatch fetched = candleService.getCandleBatch(market, fetchCount, null);
+                if (fetched.isEmpty()) {
+                    throw new IllegalStateException("No candles returned for market " + market);
+                }
+                appendClosed(market, tail, fetched);
+                tail.forming = fetched.toCandleDTO(0);
+            }
+            result = tail.latest(count);
+            unstored = tail.drainUnstored();
+        }
+
+        // DB 저장은 캐시 잠금 밖에서 (스트림 스레드가 기다리지 않도록)
+        if (!unstored.isEmpty()) {
+            store(market, unstored);
+        }
+        return result;
+    }
+
+    /**
+     * 단위별 최근 분봉, 1분봉을 동기화한 뒤 집계된 상위 분봉을 응답 (상위 분봉은 API로 불러오지 않음)
+     * @param market : String 코인 코드
+     * @param timeframe : Timeframe
+     * @param count : int 분봉 수
+     * @return : List<CandleDTO> 시간 역순이며 0번은 진행 중인 분봉
+     */
+    public List<CandleDTO> getCandles(String market, Timeframe timeframe, int count) {
+        if (timeframe == Timeframe.M1) {
+            return getCandles(market, count);
+        }
+        CandleDTO forming = getCandles(market, 1).get(0);
+        return candleAggregator.getCandles(market, timeframe, count, forming);
+    }
+
+    /**
+     * WebSocket으로 만든 1분봉이 닫히면 캐시의 바로 다음 분일 때만 이어 붙임
+     * 재연결이나 시작 직후에는 스트림이 일부 분을 건너뛰므로, 이어지지 않는 분봉은 무시하고 다음 getCandles에서
+     * API로 빠진 구간을 채운다 (getLastClosedTime이 캐시보다 앞서므로 streamedForming을 쓰지 않음).
+     * 캐시가 비어 있어도 무시한다. DB 저장은 이 스레드(WebSocket 수신)에서 하지 않고 다음 getCandles에서 한다.
+     * @param event : CandleClosedEvent
+     */
+    @EventListener
+    public void onCandleClosed(CandleClosedEvent event) {
+        Tail tail = tails.get(event.market());
+        if (tail == null) {
+            return;
+        }
+        synchronized (tail) {
+            if (tail.closed.isEmpty() || event.candle().candleTimeMillis() != tail.lastCandleTime() + CANDLE_MILLIS) {
+                return;
+            }
+            addClosed(event.market(), tail, event.candle());
+            tail.unstored.add(event.candle());
+        }
+    }
+
+    /**
+     * 스트림의 진행 중인 분봉, 스트림이 닫은 분봉이 캐시에 모두 있고 현재 분의 분봉일 때만 사용
+     * @return : CandleDTO 사용할 수 없으면 null
+     */
+    private CandleDTO streamedForming(String market, Tail tail) {
+        MarketStreamHandler handler = streamHandler.getIfAvailable();
+        if (handler == null || tail.closed.isEmpty()) {
+            return null;
+        }
+        long lastStreamed = handler.getLastClosedTime(market);
+        if (lastStreamed == Long.MIN_VALUE || tail.lastCandleTime() < lastStreamed) {
+            return null;
+        }
+        long currentMinute = Math.floorDiv(System.currentTimeMillis(), CANDLE_MILLIS) * CANDLE_MILLIS;
+        return handler.getFormingCandle(market)
+                .filter(candle -> candle.candleTimeMillis() == currentMinute)
+                .orElse(null);
+    }
+
+    /**
+     * DB에 저장된 최근 분봉으로 캐시 채움 (서버 재시작 시)
+     */
+    private void loadFromStore(String market, Tail tail) {
+        try {
+            List<Candle> stored = candleRepository.findByMarketAndUnitOrderByCandleTimeDesc(
+                    market, UNIT, PageRequest.of(0, TAIL_CAPACITY));
+            for (int i = stored.size() - 1; i >= 0; i--) {
+                addClosed(market, tail, CandleDTO.fromEntity(stored.get(i)));
+            }
+            log.info("Loaded {} stored candles for market {}", stored.size(), market);
+        } catch (Exception e) {
+            log.error("Failed to load stored candles for market {}: {}", market, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시의 마지막 분봉 이후에 닫힌 분봉만 캐시에 추가 (저장은 잠금 밖에서)
+     * @param fetched : 시간 역순, 0번은 진행 중인 분봉
+     */
+    private void appendClosed(String market, Tail tail, CandleBatch fetched) {
+        if (fetched.size() < 2) {
+            return;
+        }
+
+        long oldestFetched = fetched.getTime(fetched.size() - 1);
+        if (!tail.closed.isEmpty() && oldestFetched > tail.lastCandleTime() + CANDLE_MILLIS) {
+            // 한 번에 불러올 수 있는 범위보다 오래 비어 있었으면 이어지는 구간만 유지
+            log.warn("Candle gap for market {} since {}. Restarting cache from {}",
+                    market, tail.lastCandleTime(), oldestFetched);
+            tail.closed.clear();
+        }
+
+        for (int i = fetched.size() - 1; i >= 1; i--) {
+            if (tail.closed.isEmpty() || fetched.getTime(i) > tail.lastCandleTime()) {
+                CandleDTO candle = fetched.toCandleDTO(i);
+                addClosed(market, tail, candle);
+                tail.unstored.add(candle);
+            }
+        }
+    }
+
+    private void addClosed(String market, Tail tail, CandleDTO candle) {
+        tail.add(candle);
+        candleAggregator.accept(market, candle);
+    }
+
+    private void store(String market, List<CandleDTO> newCandles) {
+        try {
+            List<Candle> entities = new ArrayList<>(newCandles.size());
+            for (CandleDTO candle : newCandles) {
+                entities.add(candle.toEntity());
+            }
+            candleRepository.batchInsert(entities);
+        } catch (Exception e) {
+            // 저장 실패가 매매를 멈추지 않도록 캐시는 유지
+            log.error("Failed to store {} candles for market {}: {}", newCandles.size(), market, e.getMessage());
+        }
+    }
+
+    /**
+     * 마켓별 최근 분봉 캐시
+     */
+    private static final class Tail {
+        private final Deque<CandleDTO> closed = new ArrayDeque<>();
+        private List<CandleDTO> unstored = new ArrayList<>();   // 캐시에 추가했지만 아직 저장하지 않은 분봉
+        private CandleDTO forming;
+        private long lastCandleTime;
+
+        void add(CandleDTO candle) {
+            if (closed.size() == TAIL_CAPACITY) {
+                closed.pollFirst();
+            }
+            closed.addLast(candle);
+            lastCandleTime = candle.candleTimeMillis();
+        }
+
+        List<CandleDTO> drainUnstored() {
+            if (unstored.isEmpty()) {
+                return List.of();
+            }
+            List<CandleDTO> drained = unstored;
+            unstored = new ArrayList<>();
+            return drained;
+        }
+
+        long lastCandleTime() {
+            return lastCandleTime;
+        }
+
+        List<CandleDTO> latest(int count) {
+            List<CandleDTO> result = new ArrayList<>(Math.min(count, closed.size() + 1));
+            result.add(forming);
+            Iterator<CandleDTO> iterator = closed.descendingIterator();
+            while (result.size() < count && iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+            return result;
+        }
+    }
+}
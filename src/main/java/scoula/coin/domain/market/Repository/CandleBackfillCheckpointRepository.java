@@ -0,0 +1,7 @@
+package scoula.coin.domain.market.Repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import scoula.coin.application.entity.CandleBackfillCheckpoint;
+
+public interface CandleBackfillCheckpointRepository extends JpaRepository<CandleBackfillCheckpoint, String> {
+}
@@ -0,0 +1,26 @@
+package scoula.coin.domain.market.Repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import scoula.coin.application.entity.Candle;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CandleRepository extends JpaRepository<Candle, Long>, CandleRepositoryCustom {
+    List<Candle> findByMarketAndUnitOrderByCandleTimeDesc(String market, Integer unit, Pageable pageable);
+
+    List<Candle> findByMarketAndUnitAndCandleTimeBetweenOrderByCandleTimeAsc(String market, Integer unit, Long from, Long to);
+
+    List<Candle> findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+            String market, Integer unit, Long after, Long to, Pageable pageable);
+
+    long countByMarketAndUnitAndCandleTimeBetween(String market, Integer unit, Long from, Long to);
+
+    boolean existsByMarketAndUnitAndCandleTimeBetween(String market, Integer unit, Long from, Long to);
+
+    @Query("select max(c.candleTime) from Candle c where c.market = :market and c.unit = :unit")
+    Optional<Long> findLastCandleTime(@Param("market") String market, @Param("unit") Integer unit);
+}
@@ -0,0 +1,14 @@
+package scoula.coin.domain.market.Repository;
+
+import scoula.coin.application.entity.Candle;
+
+import java.util.List;
+
+public interface CandleRepositoryCustom {
+    /**
+     * 분봉 일괄 저장, 이미 있는 (market, unit, candle_time)은 건너뜀
+     * @param candles : List<Candle>
+     * @return : int 새로 저장된 분봉 수
+     */
+    int batchInsert(List<Candle> candles);
+}
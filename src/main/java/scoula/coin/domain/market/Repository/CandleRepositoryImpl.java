@@ -0,0 +1,56 @@
+package scoula.coin.domain.market.Repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import scoula.coin.application.entity.Candle;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * IDENTITY 키를 쓰는 엔티티는 Hibernate가 insert를 묶지 못하므로 JDBC batch로 저장
+ * (MySQL은 rewriteBatchedStatements=true일 때 한 번의 multi-row insert로 전송)
+ */
+@RequiredArgsConstructor
+public class CandleRepositoryImpl implements CandleRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO coin.candle " +
+            "(market, unit, candle_time, opening_price, high_price, low_price, trade_price, " +
+            "last_trade_time, candle_acc_trade_price, candle_acc_trade_volume) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int batchInsert(List<Candle> candles) {
+        if (candles.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, candles, candles.size(),
+                (PreparedStatement ps, Candle candle) -> bind(ps, candle));
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // rewriteBatchedStatements 사용 시 개수 대신 SUCCESS_NO_INFO(-2)가 올 수 있음
+                inserted += count > 0 ? count : (count == PreparedStatement.SUCCESS_NO_INFO ? 1 : 0);
+            }
+        }
+        return inserted;
+    }
+
+    private void bind(PreparedStatement ps, Candle candle) throws SQLException {
+        ps.setString(1, candle.getMarket());
+        ps.setInt(2, candle.getUnit());
+        ps.setLong(3, candle.getCandleTime());
+        ps.setObject(4, candle.getOpeningPrice());
+        ps.setObject(5, candle.getHighPrice());
+        ps.setObject(6, candle.getLowPrice());
+        ps.setObject(7, candle.getTradePrice());
+        ps.setObject(8, candle.getLastTradeTime());
+        ps.setObject(9, candle.getCandleAccTradePrice());
+        ps.setObject(10, candle.getCandleAccTradeVolume());
+    }
+}
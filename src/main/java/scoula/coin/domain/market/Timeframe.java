@@ -0,0 +1,84 @@
+package scoula.coin.domain.market;
+
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.util.Locale;
+
+/**
+ * 분석에 쓰는 분봉 단위, 모두 1분봉을 합쳐서 만든다
+ * 봉의 시작 시각은 UTC epoch 기준으로 단위 시간에 맞춰 내림 (일봉은 UTC 00:00 = KST 09:00, API 일봉과 같음)
+ */
+public enum Timeframe {
+    M1("1m", 1),
+    M5("5m", 5),
+    M15("15m", 15),
+    H1("1h", 60),
+    H4("4h", 240),
+    D1("1d", 1440);
+
+    private final String label;
+    private final int minutes;
+    private final long millis;
+
+    Timeframe(String label, int minutes) {
+        this.label = label;
+        this.minutes = minutes;
+        this.millis = minutes * 60_000L;
+    }
+
+    /**
+     * @param value : String 1m, 5m, 15m, 1h, 4h, 1d (대소문자 무시)
+     * @return : Timeframe
+     */
+    public static Timeframe from(String value) {
+        if (value != null) {
+            for (Timeframe timeframe : values()) {
+                if (timeframe.label.equals(value.trim().toLowerCase(Locale.ROOT))) {
+                    return timeframe;
+                }
+            }
+        }
+        throw new CustomException(ErrorCode.MARKET_INVALID_TIMEFRAME);
+    }
+
+    /**
+     * 기간 안의 봉 수가 maxPoints 이하가 되는 가장 작은 단위 (이 단위 이상에서 고름)
+     * @param span : long 조회 기간 (millis)
+     * @param maxPoints : int 최대 봉 수
+     * @return : Timeframe 1일봉으로도 넘으면 HISTORY_INVALID_RANGE
+     */
+    public Timeframe coarsenFor(long span, int maxPoints) {
+        Timeframe[] timeframes = values();
+        for (int i = ordinal(); i < timeframes.length; i++) {
+            if (span / timeframes[i].millis <= maxPoints) {
+                return timeframes[i];
+            }
+        }
+        throw new CustomException(ErrorCode.HISTORY_INVALID_RANGE);
+    }
+
+    /**
+     * 시각이 속한 봉의 시작 시각
+     * @param time : long epoch millis
+     * @return : long
+     */
+    public long bucketStart(long time) {
+        return Math.floorDiv(time, millis) * millis;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return : int 분 단위 (CandleDTO.unit 값)
+     */
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+}
@@ -0,0 +1,235 @@
+package scoula.coin.domain.market.archive;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.Timeframe;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+@Log4j2
+@Service
+/**
+ * 장기 분봉 보관소 (마켓/분봉 단위별 컬럼 파일)
+ * DB에 저장된 1분봉을 sync-ms마다 마지막으로 보관한 시각 이후만 읽어 붙이고, 닫힌 상위 분봉(5m~1d)도 함께 만들어 둔다.
+ * 차트와 백테스트는 여기서 읽으므로 긴 기간도 DB 조회나 JSON 파싱 없이 매핑된 파일에서 바로 읽는다.
+ * 디렉터리 구조: {dir}/{market}/{timeframe}/time.bin, open.bin, ...
+ */
+public class CandleArchive {
+
+    private static final int UNIT = 1;                  // 1분봉
+    private static final int PAGE_SIZE = 10_000;
+    private static final long ROLL_UP_CHUNK_MILLIS = 30L * 24 * 60 * 60_000;   // 상위 분봉을 만들 때 한 번에 읽는 기간
+    private static final Pattern MARKET_PATTERN = Pattern.compile("[A-Z0-9]+-[A-Z0-9]+");
+
+    private final CandleRepository candleRepository;
+    private final Path root;
+    private final List<String> markets;
+
+    private final Map<String, CandleColumns> columns = new ConcurrentHashMap<>();
+    private final Map<String, Long> syncedAt = new ConcurrentHashMap<>();   // 마켓별 마지막 동기화 시작 시각
+
+    public CandleArchive(CandleRepository candleRepository,
+                         @Value("${trading.archive.dir:data/candles}") Path root,
+                         @Value("${trading.markets:KRW-BTC}") List<String> markets) {
+        this.candleRepository = candleRepository;
+        this.root = root;
+        this.markets = markets;
+    }
+
+    @Scheduled(initialDelayString = "${trading.archive.initial-delay-ms:60000}",
+            fixedDelayString = "${trading.archive.sync-ms:60000}")
+    /**
+     * 설정된 마켓의 새 분봉을 DB에서 가져와 보관
+     */
+    public void syncAll() {
+        for (String market : markets) {
+            try {
+                sync(market);
+            } catch (Exception e) {
+                log.error("Failed to archive candles for {}: {}", market, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 마켓 하나의 1분봉을 DB에서 이어 붙이고 상위 분봉 갱신
+     * @param market : String 코인 마켓
+     * @return : long 새로 보관한 1분봉 수
+     */
+    public long sync(String market) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        CandleColumns minutes = open(market, Timeframe.M1);
+        long imported = 0;
+        synchronized (minutes) {
+            long after = minutes.isEmpty() ? Long.MIN_VALUE : minutes.getLastTime();
+            while (true) {
+                List<Candle> page = candleRepository
+                        .findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                                market, UNIT, after, Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                PriceSeries batch = new PriceSeries(page.size());
+                for (Candle candle : page) {
+                    batch.add(candle.getCandleTime(), candle.getOpeningPrice(), candle.getHighPrice(),
+                            candle.getLowPrice(), candle.getTradePrice(), candle.getCandleAccTradeVolume());
+                }
+                imported += minutes.append(batch, 0, batch.size());
+                if (page.size() < PAGE_SIZE) {
+                    break;
+                }
+                after = page.get(page.size() - 1).getCandleTime();
+            }
+            for (Timeframe timeframe : Timeframe.values()) {
+                if (timeframe != Timeframe.M1) {
+                    rollUp(market, minutes, timeframe);
+                }
+            }
+        }
+        syncedAt.put(market, startedAt);
+        if (imported > 0) {
+            log.info("Archived {} candles for {} in {} ms", imported, market, System.currentTimeMillis() - startedAt);
+        }
+        return imported;
+    }
+
+    /**
+     * 마켓의 보관 파일을 비우고 DB에서 처음부터 다시 만듦
+     * 보관소는 append only이므로 백필처럼 마지막 보관 시각 이전의 분봉이 DB에 추가되었을 때 사용한다.
+     * @param market : String 코인 마켓
+     * @return : long 보관한 1분봉 수
+     */
+    public long rebuild(String market) throws IOException {
+        CandleColumns minutes = open(market, Timeframe.M1);
+        synchronized (minutes) {
+            for (Timeframe timeframe : Timeframe.values()) {
+                open(market, timeframe).clear();
+            }
+            syncedAt.remove(market);
+            return sync(market);
+        }
+    }
+
+    /**
+     * 보관된 분봉 조회 (상위 분봉은 닫힌 봉만)
+     * @param market : String 코인 마켓
+     * @param timeframe : Timeframe
+     * @param from : long 시작 시각 (UTC epoch millis, 포함)
+     * @param to : long 끝 시각 (UTC epoch millis, 포함)
+     * @return : PriceSeries 시간순
+     */
+    public PriceSeries load(String market, Timeframe timeframe, long from, long to) {
+        try {
+            return open(market, timeframe).read(from, to);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archived candles for " + market, e);
+        }
+    }
+
+    /**
+     * 기간의 1분봉이 모두 보관되어 있는지 (한 번 이상 동기화했고, 끝 시각까지 동기화됨)
+     * 보관소는 마지막 시각 이후만 이어 붙이므로, 시작 시각이 보관된 첫 분봉보다 앞서면
+     * 그 사이에 DB에만 있는 분봉(나중에 가져온 과거 분봉 등)이 없을 때만 true
+     * @param market : String 코인 마켓
+     * @param from : long 시작 시각 (UTC epoch millis)
+     * @param to : long 끝 시각 (UTC epoch millis)
+     * @return : boolean
+     */
+    public boolean covers(String market, long from, long to) {
+        Long synced = syncedAt.get(market);
+        if (synced == null) {
+            return false;
+        }
+        CandleColumns minutes = columns.get(key(market, Timeframe.M1));
+        if (minutes == null || minutes.isEmpty() || to > Math.max(minutes.getLastTime(), synced)) {
+            return false;
+        }
+        long firstTime = minutes.getFirstTime();
+        return from >= firstTime
+                || !candleRepository.existsByMarketAndUnitAndCandleTimeBetween(market, UNIT, from, firstTime - 1);
+    }
+
+    @PreDestroy
+    public void close() {
+        for (CandleColumns column : columns.values()) {
+            try {
+                column.force();
+                column.close();
+            } catch (IOException e) {
+                log.error("Failed to close candle archive {}: {}", column.getDir(), e.getMessage());
+            }
+        }
+        columns.clear();
+    }
+
+    /**
+     * 상위 분봉 파일의 마지막 봉 다음부터 1분봉을 합쳐 닫힌 봉만 붙임
+     * 마지막(진행 중인) 봉은 다음 동기화에서 1분봉으로 다시 계산하므로 따로 상태를 두지 않는다.
+     * 처음 만들 때 전체 이력을 한 번에 읽지 않도록 봉 경계에 맞춘 구간 단위로 나눠 읽는다.
+     */
+    private void rollUp(String market, CandleColumns minutes, Timeframe timeframe) throws IOException {
+        if (minutes.isEmpty()) {
+            return;
+        }
+        CandleColumns target = open(market, timeframe);
+        long from = target.isEmpty()
+                ? timeframe.bucketStart(minutes.getFirstTime())
+                : target.getLastTime() + timeframe.getMillis();
+        long chunk = Math.max(1, ROLL_UP_CHUNK_MILLIS / timeframe.getMillis()) * timeframe.getMillis();
+        long lastMinute = minutes.getLastTime();
+
+        for (long start = from; start <= lastMinute; start += chunk) {
+            PriceSeries source = minutes.read(start, start + chunk - 1);
+            if (source.isEmpty()) {
+                continue;
+            }
+            PriceSeries buckets = new PriceSeries(source.size());
+            for (int i = 0; i < source.size(); i++) {
+                long bucket = timeframe.bucketStart(source.getTime(i));
+                if (buckets.isEmpty() || buckets.getLastTime() < bucket) {
+                    buckets.add(bucket, source.open().get(i), source.high().get(i), source.low().get(i),
+                            source.close().get(i), source.volume().get(i));
+                } else {
+                    buckets.updateLast(Math.max(buckets.high().last(), source.high().get(i)),
+                            Math.min(buckets.low().last(), source.low().get(i)),
+                            source.close().get(i), buckets.volume().last() + source.volume().get(i));
+                }
+            }
+            // 마지막 구간의 마지막 봉은 아직 1분봉이 더 들어올 수 있음
+            boolean lastChunk = start + chunk > lastMinute;
+            target.append(buckets, 0, lastChunk ? buckets.size() - 1 : buckets.size());
+        }
+    }
+
+    private CandleColumns open(String market, Timeframe timeframe) {
+        if (market == null || !MARKET_PATTERN.matcher(market).matches()) {
+            throw new CustomException(ErrorCode.ORDER_INVALID_MARKET);
+        }
+        return columns.computeIfAbsent(key(market, timeframe), key -> {
+            try {
+                return new CandleColumns(root.resolve(market).resolve(timeframe.getLabel()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open candle archive for " + key, e);
+            }
+        });
+    }
+
+    private static String key(String market, Timeframe timeframe) {
+        return market + "/" + timeframe.getLabel();
+    }
+}
@@ -0,0 +1,261 @@
+package scoula.coin.domain.market.archive;
+
+import scoula.coin.domain.strategy.PriceSeries;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 마켓/분봉 단위 하나의 컬럼 파일 묶음 (append only)
+ * 필드마다 파일 하나(time.bin은 long, 나머지는 double, 모두 little endian 8바이트)에 같은 순서로 행을 붙인다.
+ * 읽을 때는 파일을 MappedByteBuffer로 매핑해 시각 컬럼에서 이진 탐색한 구간만 복사하므로
+ * 파싱이나 객체 생성이 없다. 쓰는 도중 종료되어 컬럼 길이가 다르면 열 때 가장 짧은 컬럼에 맞춰 자른다.
+ * 시각은 반드시 증가해야 하며 이전 시각 이하의 행은 건너뛴다.
+ */
+public class CandleColumns implements Closeable {
+
+    static final String[] FILES = {"time.bin", "open.bin", "high.bin", "low.bin", "close.bin", "volume.bin"};
+    private static final int TIME = 0;
+    private static final int ROW_BYTES = Long.BYTES;
+
+    private final Path dir;
+    private final FileChannel[] channels = new FileChannel[FILES.length];
+    private final MappedByteBuffer[] mapped = new MappedByteBuffer[FILES.length];
+    private long rows;
+    private long mappedRows;
+    private long firstTime = Long.MIN_VALUE;
+    private long lastTime = Long.MIN_VALUE;
+
+    /**
+     * 디렉터리의 컬럼 파일을 열거나 새로 만듦
+     * @param dir : Path 마켓/분봉 단위 디렉터리
+     */
+    public CandleColumns(Path dir) throws IOException {
+        this.dir = dir;
+        Files.createDirectories(dir);
+        try {
+            long complete = Long.MAX_VALUE;
+            for (int i = 0; i < FILES.length; i++) {
+                channels[i] = FileChannel.open(dir.resolve(FILES[i]),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                complete = Math.min(complete, channels[i].size() / ROW_BYTES);
+            }
+            for (FileChannel channel : channels) {
+                if (channel.size() > complete * ROW_BYTES) {
+                    channel.truncate(complete * ROW_BYTES);
+                }
+            }
+            rows = complete;
+            if (rows > 0) {
+                firstTime = readTime(0);
+                lastTime = readTime(rows - 1);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 행 추가, 마지막 시각 이하의 행은 건너뜀
+     * @param series : PriceSeries 시간순 분봉
+     * @param offset : int series에서 시작할 위치
+     * @param length : int 추가할 행 수
+     * @return : int 실제로 추가한 행 수
+     */
+    public synchronized int append(PriceSeries series, int offset, int length) throws IOException {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && series.getTime(start) <= lastTime) {
+            start++;
+        }
+        int count = end - start;
+        if (count == 0) {
+            return 0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(count * ROW_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long previous = lastTime;
+        for (int i = start; i < end; i++) {
+            long time = series.getTime(i);
+            if (time <= previous) {
+                throw new IllegalArgumentException("Candle times must be increasing: " + time);
+            }
+            buffer.putLong(time);
+            previous = time;
+        }
+        write(TIME, buffer);
+        PriceSeries.Column[] values = {series.open(), series.high(), series.low(), series.close(), series.volume()};
+        for (int column = 0; column < values.length; column++) {
+            buffer.clear();
+            for (int i = start; i < end; i++) {
+                buffer.putDouble(values[column].get(i));
+            }
+            write(column + 1, buffer);
+        }
+
+        if (rows == 0) {
+            firstTime = series.getTime(start);
+        }
+        rows += count;
+        lastTime = previous;
+        return count;
+    }
+
+    /**
+     * 기간 내 행 (양 끝 포함)
+     * @param from : long 시작 시각 (epoch millis)
+     * @param to : long 끝 시각 (epoch millis)
+     * @return : PriceSeries 시간순, 없으면 비어 있음
+     */
+    public synchronized PriceSeries read(long from, long to) throws IOException {
+        if (rows == 0 || from > to) {
+            return new PriceSeries(1);
+        }
+        remapIfGrown();
+        LongBuffer times = mapped[TIME].duplicate().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        int first = lowerBound(times, from);
+        int last = lowerBound(times, to == Long.MAX_VALUE ? to : to + 1);
+        int count = last - first;
+
+        PriceSeries series = new PriceSeries(Math.max(count, 1));
+        DoubleBuffer[] values = new DoubleBuffer[FILES.length];
+        for (int column = 1; column < FILES.length; column++) {
+            values[column] = mapped[column].duplicate().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+        for (int i = first; i < last; i++) {
+            series.add(times.get(i), values[1].get(i), values[2].get(i), values[3].get(i),
+                    values[4].get(i), values[5].get(i));
+        }
+        return series;
+    }
+
+    /**
+     * 모든 행 삭제 (보관소를 다시 만들 때)
+     */
+    public synchronized void clear() throws IOException {
+        for (int i = 0; i < FILES.length; i++) {
+            mapped[i] = null;
+            channels[i].truncate(0);
+        }
+        rows = 0;
+        mappedRows = 0;
+        firstTime = Long.MIN_VALUE;
+        lastTime = Long.MIN_VALUE;
+    }
+
+    /**
+     * 디스크에 기록 (종료 시)
+     */
+    public synchronized void force() throws IOException {
+        for (FileChannel channel : channels) {
+            if (channel != null && channel.isOpen()) {
+                channel.force(false);
+            }
+        }
+    }
+
+    public synchronized long size() {
+        return rows;
+    }
+
+    public synchronized boolean isEmpty() {
+        return rows == 0;
+    }
+
+    /**
+     * @return : long 첫 행 시각, 비어 있으면 Long.MIN_VALUE
+     */
+    public synchronized long getFirstTime() {
+        return firstTime;
+    }
+
+    /**
+     * @return : long 마지막 행 시각, 비어 있으면 Long.MIN_VALUE
+     */
+    public synchronized long getLastTime() {
+        return lastTime;
+    }
+
+    public Path getDir() {
+        return dir;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (int i = 0; i < channels.length; i++) {
+            mapped[i] = null;
+            if (channels[i] == null) {
+                continue;
+            }
+            try {
+                channels[i].close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void write(int column, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        long position = rows * ROW_BYTES;
+        while (buffer.hasRemaining()) {
+            position += channels[column].write(buffer, position);
+        }
+    }
+
+    private void remapIfGrown() throws IOException {
+        if (mappedRows == rows && mapped[TIME] != null) {
+            return;
+        }
+        if (rows * ROW_BYTES > Integer.MAX_VALUE) {
+            throw new IOException("Column file too large to map: " + dir);
+        }
+        for (int i = 0; i < FILES.length; i++) {
+            mapped[i] = channels[i].map(FileChannel.MapMode.READ_ONLY, 0, rows * ROW_BYTES);
+        }
+        mappedRows = rows;
+    }
+
+    private long readTime(long row) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(ROW_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long position = row * ROW_BYTES;
+        while (buffer.hasRemaining()) {
+            int read = channels[TIME].read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of " + dir.resolve(FILES[TIME]));
+            }
+        }
+        return buffer.getLong(0);
+    }
+
+    /**
+     * @return : int time 이상인 첫 행 위치 (없으면 행 수)
+     */
+    private static int lowerBound(LongBuffer times, long time) {
+        int low = 0;
+        int high = times.limit();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times.get(mid) < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,226 @@
+package scoula.coin.domain.market.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "bithumb.websocket.enabled", havingValue = "true")
+/**
+ * Bithumb WebSocket 시세 구독 (trade, ticker, orderbook)
+ * 받은 메시지는 MarketStreamHandler로 넘기고, 연결이 끊기면 지수 backoff로 다시 연결한다.
+ * 서버가 연결을 닫지 않고 보내기만 멈추는 경우(half-open)에 대비해, idle-timeout-ms 동안 아무 메시지도 없으면
+ * 연결을 끊고 다시 연결한다.
+ */
+public class BithumbWebSocketClient implements WebSocket.Listener {
+
+    private static final long MAX_BACKOFF_MILLIS = 30_000L;
+
+    private final MarketStreamHandler handler;
+    private final ObjectMapper objectMapper;
+    private final URI uri;
+    private final List<String> markets;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService reconnector;
+    private final long idleTimeoutMillis;
+
+    // 메시지가 여러 frame으로 나뉘어 올 수 있음 (listener 호출은 순차적)
+    private final StringBuilder textBuffer = new StringBuilder();
+    private final ByteArrayOutputStream binaryBuffer = new ByteArrayOutputStream();
+
+    private volatile WebSocket webSocket;
+    private volatile boolean running;
+    private volatile long lastMessageNanos;
+    private long backoffMillis = 1_000L;
+
+    public BithumbWebSocketClient(MarketStreamHandler handler,
+                                  ObjectMapper objectMapper,
+                                  @Value("${bithumb.websocket.url:wss://ws-api.bithumb.com/websocket/v1}") String url,
+                                  @Value("${trading.markets:KRW-BTC}") List<String> markets,
+                                  @Value("${bithumb.websocket.idle-timeout-ms:30000}") long idleTimeoutMillis) {
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.uri = URI.create(url);
+        this.markets = markets;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.reconnector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bithumb-ws-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        long checkMillis = Math.max(idleTimeoutMillis / 4, 100L);
+        reconnector.scheduleWithFixedDelay(this::checkIdle, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+        connect();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        reconnector.shutdownNow();
+        WebSocket current = webSocket;
+        if (current != null) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+        }
+    }
+
+    public boolean isConnected() {
+        WebSocket current = webSocket;
+        return current != null && !current.isInputClosed() && !current.isOutputClosed();
+    }
+
+    private void connect() {
+        if (!running) {
+            return;
+        }
+        httpClient.newWebSocketBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .buildAsync(uri, this)
+                .whenComplete((ws, error) -> {
+                    if (error != null) {
+                        log.warn("WebSocket connect to {} failed: {}", uri, error.getMessage());
+                        scheduleReconnect(null);
+                    }
+                });
+    }
+
+    /**
+     * 연결된 뒤 idle-timeout-ms 동안 받은 메시지가 없으면 끊고 다시 연결 (reconnector 스레드)
+     */
+    private void checkIdle() {
+        WebSocket current = webSocket;
+        if (current == null || System.nanoTime() - lastMessageNanos < TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis)) {
+            return;
+        }
+        log.warn("No WebSocket message for {} ms. Reconnecting.", idleTimeoutMillis);
+        current.abort();
+        scheduleReconnect(current);
+    }
+
+    /**
+     * @param failed : WebSocket 끊긴 연결, 이미 다른 경로로 재연결을 시작했으면 무시 (연결 전 실패는 null)
+     */
+    private synchronized void scheduleReconnect(WebSocket failed) {
+        if (!running || (failed != null && failed != webSocket)) {
+            return;
+        }
+        webSocket = null;
+        long delay = backoffMillis;
+        backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        log.info("Reconnecting WebSocket in {} ms", delay);
+        reconnector.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독 요청 메시지, 형식은 [{ticket}, {type, codes}..., {format}]
+     */
+    String subscribeMessage() {
+        ArrayNode request = objectMapper.createArrayNode();
+        request.addObject().put("ticket", UUID.randomUUID().toString());
+        for (String type : List.of("trade", "ticker", "orderbook")) {
+            ArrayNode codes = request.addObject().put("type", type).putArray("codes");
+            markets.forEach(codes::add);
+        }
+        request.addObject().put("format", "DEFAULT");
+        return request.toString();
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        log.info("WebSocket connected to {} for markets {}", uri, markets);
+        // 끊긴 연결에서 받다 만 frame이 새 연결의 첫 메시지 앞에 붙지 않도록
+        textBuffer.setLength(0);
+        binaryBuffer.reset();
+        lastMessageNanos = System.nanoTime();
+        synchronized (this) {
+            this.webSocket = webSocket;
+            backoffMillis = 1_000L;
+        }
+        handler.reset();
+        webSocket.sendText(subscribeMessage(), true);
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        lastMessageNanos = System.nanoTime();
+        textBuffer.append(data);
+        if (last) {
+            dispatch(textBuffer.toString());
+            textBuffer.setLength(0);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+        lastMessageNanos = System.nanoTime();
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        binaryBuffer.writeBytes(bytes);
+        if (last) {
+            dispatch(binaryBuffer.toString(StandardCharsets.UTF_8));
+            binaryBuffer.reset();
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onPing(WebSocket webSocket, ByteBuffer message) {
+        // pong은 HttpClient가 자동으로 보냄
+        lastMessageNanos = System.nanoTime();
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        log.warn("WebSocket closed: {} {}", statusCode, reason);
+        scheduleReconnect(webSocket);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        log.error("WebSocket error: {}", error.getMessage());
+        scheduleReconnect(webSocket);
+    }
+
+    private void dispatch(String message) {
+        try {
+            handler.handle(message);
+        } catch (Exception e) {
+            // 메시지 하나 처리 실패로 수신이 멈추지 않도록
+            log.error("Failed to handle stream message: {}", e.getMessage(), e);
+        }
+    }
+}
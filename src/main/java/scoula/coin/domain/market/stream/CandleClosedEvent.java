@@ -0,0 +1,11 @@
+package scoula.coin.domain.market.stream;
+
+import scoula.coin.application.dto.CandleDTO;
+
+/**
+ * WebSocket 체결로 만든 1분봉이 닫혔을 때 발행되는 이벤트
+ * @param market : String 코인 마켓
+ * @param candle : CandleDTO 닫힌 분봉
+ */
+public record CandleClosedEvent(String market, CandleDTO candle) {
+}
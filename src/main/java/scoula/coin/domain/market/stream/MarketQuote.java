@@ -0,0 +1,24 @@
+package scoula.coin.domain.market.stream;
+
+/**
+ * ticker/orderbook 스트림으로 받은 마켓의 최신 시세 (불변)
+ * @param market : String 코인 마켓
+ * @param tradePrice : double 현재가
+ * @param bestBidPrice : double 매수 1호가
+ * @param bestAskPrice : double 매도 1호가
+ * @param timestamp : long 마지막 수신 시각 (epoch millis)
+ */
+public record MarketQuote(String market, double tradePrice, double bestBidPrice, double bestAskPrice, long timestamp) {
+
+    static MarketQuote empty(String market) {
+        return new MarketQuote(market, Double.NaN, Double.NaN, Double.NaN, 0L);
+    }
+
+    MarketQuote withTradePrice(double price, long time) {
+        return new MarketQuote(market, price, bestBidPrice, bestAskPrice, Math.max(timestamp, time));
+    }
+
+    MarketQuote withBestPrices(double bid, double ask, long time) {
+        return new MarketQuote(market, tradePrice, bid, ask, Math.max(timestamp, time));
+    }
+}
@@ -0,0 +1,150 @@
+package scoula.coin.domain.market.stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import scoula.coin.application.dto.CandleDTO;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "bithumb.websocket.enabled", havingValue = "true")
+/**
+ * WebSocket 메시지 처리
+ * trade로 1분봉을 만들어 닫힐 때 CandleClosedEvent를 발행하고, ticker/orderbook으로 최신 시세를 유지한다.
+ */
+public class MarketStreamHandler {
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long closeGraceMillis;
+
+    private final Map<String, MinuteCandleBuilder> builders = new ConcurrentHashMap<>();
+    private final Map<String, MarketQuote> quotes = new ConcurrentHashMap<>();
+
+    public MarketStreamHandler(ObjectMapper objectMapper,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${bithumb.websocket.close-grace-ms:1000}") long closeGraceMillis) {
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.closeGraceMillis = closeGraceMillis;
+    }
+
+    /**
+     * 수신한 메시지 하나 처리
+     * @param message : String JSON 메시지
+     */
+    public void handle(String message) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(message);
+        } catch (Exception e) {
+            log.warn("Invalid stream message: {}", message);
+            return;
+        }
+        String market = node.path("code").asText(null);
+        if (market == null) {
+            // 구독 응답, 에러 메시지 등
+            log.debug("Ignoring stream message: {}", message);
+            return;
+        }
+
+        switch (node.path("type").asText()) {
+            case "trade" -> onTrade(market, node);
+            case "ticker" -> quotes.compute(market, (key, quote) -> (quote == null ? MarketQuote.empty(key) : quote)
+                    .withTradePrice(node.path("trade_price").asDouble(), node.path("timestamp").asLong()));
+            case "orderbook" -> {
+                JsonNode best = node.path("orderbook_units").path(0);
+                if (!best.isMissingNode()) {
+                    quotes.compute(market, (key, quote) -> (quote == null ? MarketQuote.empty(key) : quote)
+                            .withBestPrices(best.path("bid_price").asDouble(), best.path("ask_price").asDouble(),
+                                    node.path("timestamp").asLong()));
+                }
+            }
+            default -> log.debug("Unknown stream message type: {}", node.path("type").asText());
+        }
+    }
+
+    private void onTrade(String market, JsonNode node) {
+        MinuteCandleBuilder builder = builders.computeIfAbsent(market, MinuteCandleBuilder::new);
+        CandleDTO closed;
+        synchronized (builder) {
+            closed = builder.onTrade(
+                    node.path("trade_price").asDouble(),
+                    node.path("trade_volume").asDouble(),
+                    node.path("trade_timestamp").asLong());
+        }
+        publish(market, closed);
+    }
+
+    @Scheduled(fixedRate = 1_000)
+    /**
+     * 다음 체결이 오지 않아도 분이 끝나면 분봉을 닫음
+     */
+    public void closeElapsedCandles() {
+        long now = System.currentTimeMillis();
+        builders.forEach((market, builder) -> {
+            CandleDTO closed;
+            synchronized (builder) {
+                closed = builder.closeIfElapsed(now, closeGraceMillis);
+            }
+            publish(market, closed);
+        });
+    }
+
+    /**
+     * 재연결 시 끊긴 동안의 체결이 빠진 분봉을 내보내지 않도록 처음부터 다시 만듦
+     */
+    public void reset() {
+        builders.clear();
+    }
+
+    /**
+     * 스트림으로 만들고 있는 진행 중인 분봉
+     * @param market : String 코인 마켓
+     * @return : Optional<CandleDTO>
+     */
+    public Optional<CandleDTO> getFormingCandle(String market) {
+        MinuteCandleBuilder builder = builders.get(market);
+        if (builder == null) {
+            return Optional.empty();
+        }
+        synchronized (builder) {
+            return Optional.ofNullable(builder.forming());
+        }
+    }
+
+    /**
+     * 스트림으로 마지막으로 닫은 분봉의 시작 시각
+     * @param market : String 코인 마켓
+     * @return : long 없으면 Long.MIN_VALUE
+     */
+    public long getLastClosedTime(String market) {
+        MinuteCandleBuilder builder = builders.get(market);
+        if (builder == null) {
+            return Long.MIN_VALUE;
+        }
+        synchronized (builder) {
+            return builder.getLastClosedTime();
+        }
+    }
+
+    public Optional<MarketQuote> getQuote(String market) {
+        return Optional.ofNullable(quotes.get(market));
+    }
+
+    private void publish(String market, CandleDTO closed) {
+        if (closed != null) {
+            log.debug("Stream candle closed for {} at {}", market, closed.getCandleDateTimeUtc());
+            eventPublisher.publishEvent(new CandleClosedEvent(market, closed));
+        }
+    }
+}
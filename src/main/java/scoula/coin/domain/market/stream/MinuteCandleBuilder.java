@@ -0,0 +1,126 @@
+package scoula.coin.domain.market.stream;
+
+import scoula.coin.application.dto.CandleDTO;
+
+/**
+ * 체결 데이터로 마켓 하나의 1분봉을 만든다
+ * REST 분봉과 같게 체결이 없는 분은 분봉을 만들지 않고,
+ * 연결 직후의 첫 분봉은 앞부분 체결이 빠져 있으므로 닫혀도 내보내지 않는다.
+ * 호출 측에서 이 객체로 동기화한다.
+ */
+public class MinuteCandleBuilder {
+
+    static final long CANDLE_MILLIS = 60_000L;
+
+    private final String market;
+
+    private long candleTime = Long.MIN_VALUE;
+    private boolean partial = true;
+    private int trades;
+    private double open;
+    private double high;
+    private double low;
+    private double close;
+    private double volume;
+    private double accTradePrice;
+    private long lastTradeTime;
+    private long lastClosedTime = Long.MIN_VALUE;
+
+    public MinuteCandleBuilder(String market) {
+        this.market = market;
+    }
+
+    /**
+     * 체결 반영
+     * @param price : double 체결가
+     * @param tradeVolume : double 체결량
+     * @param timestamp : long 체결 시각 (epoch millis)
+     * @return : CandleDTO 이 체결로 이전 분봉이 닫혔으면 그 분봉, 아니면 null
+     */
+    public CandleDTO onTrade(double price, double tradeVolume, long timestamp) {
+        long minute = Math.floorDiv(timestamp, CANDLE_MILLIS) * CANDLE_MILLIS;
+        if (minute <= lastClosedTime || (candleTime != Long.MIN_VALUE && minute < candleTime)) {
+            return null; // 이미 닫은 분봉의 늦은 체결
+        }
+
+        CandleDTO closed = null;
+        if (minute > candleTime) {
+            closed = roll(minute);
+        }
+        if (trades == 0) {
+            open = price;
+            high = price;
+            low = price;
+        } else {
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+        }
+        close = price;
+        volume += tradeVolume;
+        accTradePrice += price * tradeVolume;
+        lastTradeTime = Math.max(lastTradeTime, timestamp);
+        trades++;
+        return closed;
+    }
+
+    /**
+     * 체결 없이 분이 지나갔을 때 진행 중인 분봉을 닫음
+     * @param now : long 현재 시각 (epoch millis)
+     * @param graceMillis : long 늦게 도착하는 체결을 기다릴 시간
+     * @return : CandleDTO 닫힌 분봉, 없으면 null
+     */
+    public CandleDTO closeIfElapsed(long now, long graceMillis) {
+        if (candleTime == Long.MIN_VALUE || now < candleTime + CANDLE_MILLIS + graceMillis) {
+            return null;
+        }
+        return roll(Math.floorDiv(now, CANDLE_MILLIS) * CANDLE_MILLIS);
+    }
+
+    /**
+     * 진행 중인 분봉 (체결이 없었으면 null)
+     */
+    public CandleDTO forming() {
+        if (trades == 0 || partial) {
+            return null;
+        }
+        return toCandle();
+    }
+
+    /**
+     * 마지막으로 내보낸 분봉의 시작 시각
+     */
+    public long getLastClosedTime() {
+        return lastClosedTime;
+    }
+
+    private CandleDTO roll(long nextMinute) {
+        CandleDTO closed = null;
+        if (candleTime != Long.MIN_VALUE) {
+            if (trades > 0 && !partial) {
+                closed = toCandle();
+                lastClosedTime = candleTime;
+            }
+            partial = false;
+        }
+        candleTime = nextMinute;
+        trades = 0;
+        volume = 0;
+        accTradePrice = 0;
+        return closed;
+    }
+
+    private CandleDTO toCandle() {
+        CandleDTO candle = new CandleDTO();
+        candle.setMarket(market);
+        candle.setCandleTime(candleTime);
+        candle.setOpeningPrice(open);
+        candle.setHighPrice(high);
+        candle.setLowPrice(low);
+        candle.setTradePrice(close);
+        candle.setTimeStamp(lastTradeTime);
+        candle.setCandleAccTradePrice(accTradePrice);
+        candle.setCandleAccTradeVolume(volume);
+        candle.setUnit(1);
+        return candle;
+    }
+}
@@ -0,0 +1,89 @@
+package scoula.coin.domain.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.NameValuePair;
+import org.apache.http.message.BasicNameValuePair;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import scoula.coin.global.util.OrderUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "trading.exchange", havingValue = "bithumb", matchIfMissing = true)
+/**
+ * Bithumb 주문 API 호출
+ */
+public class BithumbExchangeClient implements ExchangeClient {
+
+    private static final String BASE_URL = "https://api.bithumb.com";
+
+    private final OrderUtils orderUtils;
+
+    @Override
+    public JsonNode getOrderChance(String market) {
+        List<NameValuePair> queryParams = Collections.singletonList(
+                new BasicNameValuePair("market", market)
+        );
+        return orderUtils.executeGetRequest(BASE_URL, "/v1/orders/chance", queryParams);
+    }
+
+    @Override
+    public JsonNode placeOrder(String market, String side, double volume, double price, String ordType) {
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("market", market);
+        requestBody.put("side", side);
+        requestBody.put("volume", volume);
+        requestBody.put("price", price);
+        requestBody.put("ord_type", ordType);
+
+        return orderUtils.executePostRequest(BASE_URL, "/v1/orders", requestBody);
+    }
+
+    @Override
+    public JsonNode getOrders(String market, List<String> uuids, int page, int limit, String state) {
+        return orderUtils.executeGetRequest(BASE_URL, "/v1/orders",
+                createOrderQueryParams(market, uuids, page, limit, state));
+    }
+
+    @Override
+    public JsonNode cancelOrder(String uuid) {
+        List<NameValuePair> queryParams = Collections.singletonList(
+                new BasicNameValuePair("uuid", uuid)
+        );
+        return orderUtils.executeDeleteRequest(BASE_URL, "/v1/order", queryParams);
+    }
+
+    /**
+     * 주문 쿼리 파라미터 생성
+     * @param market : String
+     * @param uuids : List<String>
+     * @param page : int
+     * @param limit : int
+     * @return : List<NameValuePair>
+     */
+    private List<NameValuePair> createOrderQueryParams(String market, List<String> uuids, int page, int limit, String state) {
+        List<NameValuePair> queryParams = new ArrayList<>();
+        queryParams.add(new BasicNameValuePair("market", market));
+        queryParams.add(new BasicNameValuePair("limit", String.valueOf(limit)));
+        queryParams.add(new BasicNameValuePair("page", String.valueOf(page)));
+        queryParams.add(new BasicNameValuePair("order_by", "desc"));
+        queryParams.add(new BasicNameValuePair("state", state));
+
+        if (uuids != null && !uuids.isEmpty()) {
+            String uuidQuery = uuids.stream()
+                    .map(uuid -> "uuids[]=" + uuid)
+                    .collect(Collectors.joining("&"));
+            queryParams.add(new BasicNameValuePair("uuids", uuidQuery));
+        }
+
+        return queryParams;
+    }
+}
@@ -0,0 +1,43 @@
+package scoula.coin.domain.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * 거래소 주문 API
+ * 응답은 Bithumb /v1/orders 응답과 같은 형식의 JsonNode이며, 파싱과 검증은 OrderService에서 한다.
+ * trading.exchange=bithumb(기본)이면 실거래, paper면 메모리 안의 모의 거래소를 사용한다.
+ */
+public interface ExchangeClient {
+
+    /**
+     * 주문 가능 정보 (수수료, 마켓 제약, 매수/매도 계좌)
+     * @param market : String 코인 마켓
+     * @return : JsonNode /v1/orders/chance 응답
+     */
+    JsonNode getOrderChance(String market);
+
+    /**
+     * 주문 생성
+     * @param side : String bid, ask
+     * @param ordType : String limit
+     * @return : JsonNode 생성된 주문
+     */
+    JsonNode placeOrder(String market, String side, double volume, double price, String ordType);
+
+    /**
+     * 주문 목록 (최신순)
+     * @param uuids : List<String> 조회할 주문, null이면 전체
+     * @param state : String wait, done, cancel
+     * @return : JsonNode data 배열
+     */
+    JsonNode getOrders(String market, List<String> uuids, int page, int limit, String state);
+
+    /**
+     * 주문 취소
+     * @param uuid : String 주문 UUID
+     * @return : JsonNode 취소한 주문
+     */
+    JsonNode cancelOrder(String uuid);
+}
@@ -0,0 +1,45 @@
+package scoula.coin.domain.order;
+
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.util.Locale;
+
+/**
+ * 이력 내보내기 형식
+ */
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");     // 한 줄에 JSON 객체 하나
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * @param value : String csv, ndjson (대소문자 무시)
+     * @return : ExportFormat
+     */
+    public static ExportFormat from(String value) {
+        if (value != null) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equals(value.trim().toLowerCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+        }
+        throw new CustomException(ErrorCode.HISTORY_INVALID_FORMAT);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,186 @@
+package scoula.coin.domain.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import scoula.coin.application.dto.OrderHistoryDTO;
+import scoula.coin.application.dto.TradingSignalHistoryDTO;
+import scoula.coin.application.entity.OrderHistory;
+import scoula.coin.application.entity.TradingSignalHistory;
+import scoula.coin.domain.order.Repository.OrderHistoryRepository;
+import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+/**
+ * 주문/시그널 이력 내보내기
+ * DB 결과를 스트림으로 한 행씩 읽어 바로 CSV 또는 NDJSON으로 쓰고, 쓴 행은 영속성 컨텍스트에서 떼어내
+ * 행 수와 관계없이 메모리 사용량이 일정하다. 행은 시간순(created_at 오름차순)이다.
+ */
+public class HistoryExportService {
+
+    private static final int FLUSH_EVERY = 1_000;    // 이 행 수마다 응답으로 내보냄
+
+    private static final List<Column<OrderHistory>> ORDER_COLUMNS = List.of(
+            new Column<>("uuid", OrderHistory::getUuid),
+            new Column<>("market", OrderHistory::getMarket),
+            new Column<>("side", OrderHistory::getSide),
+            new Column<>("ord_type", OrderHistory::getOrdType),
+            new Column<>("price", OrderHistory::getPrice),
+            new Column<>("volume", OrderHistory::getVolume),
+            new Column<>("remaining_volume", OrderHistory::getRemainingVolume),
+            new Column<>("reserved_fee", OrderHistory::getReservedFee),
+            new Column<>("remaining_fee", OrderHistory::getRemainingFee),
+            new Column<>("paid_fee", OrderHistory::getPaidFee),
+            new Column<>("locked", OrderHistory::getLocked),
+            new Column<>("executed_volume", OrderHistory::getExecutedVolume),
+            new Column<>("trades_count", OrderHistory::getTradesCount),
+            new Column<>("state", OrderHistory::getState),
+            new Column<>("created_at", OrderHistory::getCreatedAt));
+
+    private static final List<Column<TradingSignalHistory>> SIGNAL_COLUMNS = List.of(
+            new Column<>("id", TradingSignalHistory::getId),
+            new Column<>("market", TradingSignalHistory::getMarket),
+            new Column<>("price", TradingSignalHistory::getPrice),
+            new Column<>("rsi", TradingSignalHistory::getRsi),
+            new Column<>("signal_type", TradingSignalHistory::getSignalType),
+            new Column<>("order_executed", TradingSignalHistory::getOrderExecuted),
+            new Column<>("order_uuid", TradingSignalHistory::getOrderUuid),
+            new Column<>("failure_reason", TradingSignalHistory::getFailureReason),
+            new Column<>("created_at", TradingSignalHistory::getCreatedAt),
+            new Column<>("updated_at", TradingSignalHistory::getUpdatedAt));
+
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final TradingSignalHistoryRepository signalHistoryRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 주문 이력 내보내기
+     * @param format : ExportFormat
+     * @param market : String null이면 전체 마켓
+     * @param side : String null이면 전체
+     * @param from : LocalDateTime 이 시각 이후 (포함)
+     * @param to : LocalDateTime 이 시각 이전 (미포함)
+     * @param out : OutputStream 응답 (닫지 않음)
+     * @return : long 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(ExportFormat format, String market, String side, LocalDateTime from, LocalDateTime to,
+                             OutputStream out) {
+        try (Stream<OrderHistory> rows = orderHistoryRepository.streamHistory(market, side, from, to)) {
+            return write(format, rows, ORDER_COLUMNS, OrderHistoryDTO::fromEntity, out);
+        }
+    }
+
+    /**
+     * 시그널 이력 내보내기
+     * @param format : ExportFormat
+     * @param market : String null이면 전체 마켓
+     * @param signalType : Integer null이면 전체
+     * @param executed : Boolean null이면 전체
+     * @param from : LocalDateTime 이 시각 이후 (포함)
+     * @param to : LocalDateTime 이 시각 이전 (미포함)
+     * @param out : OutputStream 응답 (닫지 않음)
+     * @return : long 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportSignals(ExportFormat format, String market, Integer signalType, Boolean executed,
+                              LocalDateTime from, LocalDateTime to, OutputStream out) {
+        try (Stream<TradingSignalHistory> rows =
+                     signalHistoryRepository.streamHistory(market, signalType, executed, from, to)) {
+            return write(format, rows, SIGNAL_COLUMNS, TradingSignalHistoryDTO::fromEntity, out);
+        }
+    }
+
+    /**
+     * 내보내기 구간 검사, 응답 스트림을 열기 전에 호출해 잘못된 요청은 400으로 돌려줌
+     * @param from : LocalDateTime
+     * @param to : LocalDateTime
+     */
+    public void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new CustomException(ErrorCode.HISTORY_INVALID_RANGE);
+        }
+    }
+
+    private <E> long write(ExportFormat format, Stream<E> rows, List<Column<E>> columns,
+                           Function<E, ?> toJson, OutputStream out) {
+        long start = System.currentTimeMillis();
+        long count = 0;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, columns.stream().map(Column::name).toList());
+            }
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                E row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+                } else {
+                    writer.write(objectMapper.writeValueAsString(toJson.apply(row)));
+                    writer.write('\n');
+                }
+                // 쓴 행은 더 이상 필요 없으므로 영속성 컨텍스트에 쌓이지 않게 분리
+                entityManager.detach(row);
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // 클라이언트가 다운로드를 끊은 경우 등
+            throw new UncheckedIOException("Export aborted after " + count + " rows", e);
+        }
+        log.info("Exported {} rows as {} in {} ms", count, format, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+     */
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private record Column<E>(String name, Function<E, Object> value) {
+    }
+}
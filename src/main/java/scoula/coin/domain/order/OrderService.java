@@ -3,18 +3,22 @@ package scoula.coin.domain.order;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.http.NameValuePair;
-import org.apache.http.message.BasicNameValuePair;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import scoula.coin.application.dto.HistoryPage;
 import scoula.coin.application.dto.OrderBookDTO;
 import scoula.coin.application.dto.OrderHistoryDTO;
+import scoula.coin.application.dto.TradingSignalHistoryDTO;
 import scoula.coin.application.entity.OrderHistory;
+import scoula.coin.application.entity.TradingSignalHistory;
 import scoula.coin.domain.order.Repository.OrderHistoryRepository;
+import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
 import scoula.coin.global.error.CustomException;
 import scoula.coin.global.error.ErrorCode;
-import scoula.coin.global.util.OrderUtils;
+import scoula.coin.global.util.KeysetCursor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -23,13 +27,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 /**
  * 주문 관련 서비스 계층
+ * 거래소 호출은 ExchangeClient(실거래 또는 모의 거래소)에 맡기고 응답 파싱, 검증, 저장을 담당한다.
  */
 public class OrderService {
 
-    private final String BASE_URL  = "https://api.bithumb.com";
+    public static final int MAX_HISTORY_LIMIT = 500;
 
-    private final OrderUtils orderUtils;
+    private final ExchangeClient exchangeClient;
     private final OrderHistoryRepository orderHistoryRepository;
+    private final PositionLedgerService positionLedgerService;
+    private final TradingSignalHistoryRepository signalHistoryRepository;
 
     /**
      * 주문 가능 조건 조회
@@ -40,15 +47,7 @@ public class OrderService {
         try {
             validateMarket(market);
 
-            List<NameValuePair> queryParams = Collections.singletonList(
-                    new BasicNameValuePair("market", market)
-            );
-
-            JsonNode dataNode = orderUtils.executeGetRequest(
-                    BASE_URL,
-                    "/v1/orders/chance",
-                    queryParams
-            );
+            JsonNode dataNode = exchangeClient.getOrderChance(market);
 
             return OrderBookDTO.builder()
                     .bidFee(getBigDecimal(dataNode, "bid_fee"))
@@ -84,21 +83,16 @@ public class OrderService {
         try {
             validateOrderParameters(market, side, volume, price, ordType);
 
-            Map<String, Object> requestBody = new LinkedHashMap<>();
-            requestBody.put("market", market);
-            requestBody.put("side", side);
-            requestBody.put("volume", volume);
-            requestBody.put("price", price);
-            requestBody.put("ord_type", ordType);
-
-            JsonNode responseNode = orderUtils.executePostRequest(
-                    BASE_URL,
-                    "/v1/orders",
-                    requestBody
-            );
+            JsonNode responseNode = exchangeClient.placeOrder(market, side, volume, price, ordType);
 
-            OrderHistory orderHistory = buildOrderHistory(responseNode);
-            return orderHistoryRepository.save(orderHistory);
+            OrderHistory orderHistory = orderHistoryRepository.save(buildOrderHistory(responseNode));
+            try {
+                positionLedgerService.record(orderHistory);
+            } catch (Exception e) {
+                // 원장 갱신 실패로 이미 나간 주문을 실패 처리하지 않음
+                log.error("Failed to update position ledger for order {}: {}", orderHistory.getUuid(), e.getMessage());
+            }
+            return orderHistory;
 
         } catch (CustomException e) {
             throw e;
@@ -109,21 +103,59 @@ public class OrderService {
     }
 
     /**
-     * 주문 조회 (DB)
+     * 주문 조회 (DB, 최신순 keyset 페이지)
+     * @param market : String null이면 전체 마켓
+     * @param side : String bid, ask, null이면 전체
+     * @param from : LocalDateTime 이 시각 이후 (포함), null이면 제한 없음
+     * @param to : LocalDateTime 이 시각 이전 (미포함), null이면 제한 없음
+     * @param cursor : String 이전 페이지의 nextCursor, null이면 첫 페이지
+     * @param limit : int 페이지 크기 (1 ~ MAX_HISTORY_LIMIT)
+     * @return : HistoryPage<OrderHistoryDTO>
+     */
+    public HistoryPage<OrderHistoryDTO> getOrderHistory(String market, String side, LocalDateTime from,
+                                                        LocalDateTime to, String cursor, int limit) {
+        validateHistoryRange(from, to, limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<OrderHistory> rows = orderHistoryRepository.findHistoryPage(market, side, from, to,
+                after == null ? null : after.getCreatedAt(), after == null ? null : after.getKey(),
+                PageRequest.of(0, limit + 1));
+        return HistoryPage.from(rows, limit, OrderHistoryDTO::fromEntity,
+                OrderHistory::getCreatedAt, OrderHistory::getUuid);
+    }
+
+    /**
+     * 시그널 이력 조회 (DB, 최신순 keyset 페이지)
+     * @param market : String null이면 전체 마켓
+     * @param signalType : Integer 1: 매수, -1: 매도, null이면 전체
+     * @param executed : Boolean 주문 실행 여부, null이면 전체
+     * @param from : LocalDateTime 이 시각 이후 (포함), null이면 제한 없음
+     * @param to : LocalDateTime 이 시각 이전 (미포함), null이면 제한 없음
+     * @param cursor : String 이전 페이지의 nextCursor, null이면 첫 페이지
+     * @param limit : int 페이지 크기 (1 ~ MAX_HISTORY_LIMIT)
+     * @return : HistoryPage<TradingSignalHistoryDTO>
+     */
+    public HistoryPage<TradingSignalHistoryDTO> getSignalHistory(String market, Integer signalType, Boolean executed,
+                                                                 LocalDateTime from, LocalDateTime to,
+                                                                 String cursor, int limit) {
+        validateHistoryRange(from, to, limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<TradingSignalHistory> rows = signalHistoryRepository.findHistoryPage(market, signalType, executed,
+                from, to, after == null ? null : after.getCreatedAt(), after == null ? null : after.getLongKey(),
+                PageRequest.of(0, limit + 1));
+        return HistoryPage.from(rows, limit, TradingSignalHistoryDTO::fromEntity,
+                TradingSignalHistory::getCreatedAt, TradingSignalHistory::getId);
+    }
+
+    /**
+     * 마켓의 가장 최근 주문 (DB)
      * @param market : String
-     * @return : List<OrderHistoryDTO>
+     * @param side : String bid, ask
+     * @return : Optional<OrderHistoryDTO>
      */
-    public List<OrderHistoryDTO> getOrderHistory(String market) {
-        try {
-            validateMarket(market);
-            return orderHistoryRepository.findByMarketOrderByCreatedAtDesc(market)
-                    .stream()
-                    .map(OrderHistoryDTO::fromEntity)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Failed to get order history: {}", e.getMessage());
-            throw new CustomException(ErrorCode.ORDER_NOT_FOUND);
-        }
+    public Optional<OrderHistoryDTO> getLastOrder(String market, String side) {
+        validateMarket(market);
+        return orderHistoryRepository.findFirstByMarketAndSideOrderByCreatedAtDesc(market, side)
+                .map(OrderHistoryDTO::fromEntity);
     }
 
     /**
@@ -137,9 +169,7 @@ public class OrderService {
     public JsonNode getOrders(String market, List<String> uuids, Integer page, Integer limit,String state) {
         try {
             validateMarket(market);
-            List<NameValuePair> queryParams = createOrderQueryParams(market, uuids, page, limit,state);
-
-            return orderUtils.executeGetRequest(BASE_URL, "/v1/orders", queryParams);
+            return exchangeClient.getOrders(market, uuids, page != null ? page : 1, limit != null ? limit : 100, state);
         } catch (CustomException e) {
             throw e;
         } catch (Exception e) {
@@ -157,15 +187,7 @@ public class OrderService {
         try {
             validateUuid(uuid);
 
-            List<NameValuePair> queryParams = Collections.singletonList(
-                    new BasicNameValuePair("uuid", uuid)
-            );
-
-            JsonNode response = orderUtils.executeDeleteRequest(
-                    BASE_URL,
-                    "/v1/order",
-                    queryParams
-            );
+            JsonNode response = exchangeClient.cancelOrder(uuid);
 
             log.info("Successfully canceled order with UUID: {}", uuid);
             return response;
@@ -178,6 +200,15 @@ public class OrderService {
         }
     }
 
+    /**
+     * 이력 조회 조건 확인
+     */
+    private void validateHistoryRange(LocalDateTime from, LocalDateTime to, int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_LIMIT || (from != null && to != null && !from.isBefore(to))) {
+            throw new CustomException(ErrorCode.HISTORY_INVALID_RANGE);
+        }
+    }
+
     /**
      * UUID 유효성 검사
      * @param uuid : String
@@ -198,32 +229,6 @@ public class OrderService {
         }
     }
 
-    /**
-     * 주문 쿼리 파라미터 생성
-     * @param market : String
-     * @param uuids : List<String>
-     * @param page : Integer
-     * @param limit :  Integer
-     * @return : List<NameValuePair>
-     */
-    private List<NameValuePair> createOrderQueryParams(String market, List<String> uuids, Integer page, Integer limit,String state) {
-        List<NameValuePair> queryParams = new ArrayList<>();
-        queryParams.add(new BasicNameValuePair("market", market));
-        queryParams.add(new BasicNameValuePair("limit", String.valueOf(limit != null ? limit : 100)));
-        queryParams.add(new BasicNameValuePair("page", String.valueOf(page != null ? page : 1)));
-        queryParams.add(new BasicNameValuePair("order_by", "desc"));
-        queryParams.add(new BasicNameValuePair("state", state));
-
-        if (uuids != null && !uuids.isEmpty()) {
-            String uuidQuery = uuids.stream()
-                    .map(uuid -> "uuids[]=" + uuid)
-                    .collect(Collectors.joining("&"));
-            queryParams.add(new BasicNameValuePair("uuids", uuidQuery));
-        }
-
-        return queryParams;
-    }
-
     private OrderBookDTO.Market mapMarket(JsonNode marketNode) {
         if (marketNode == null) return null;
 
@@ -338,24 +343,24 @@ public class OrderService {
         return result;
     }
 
+    /**
+     * 손익 합계 (PositionLedger 기준)
+     * @return : Optional<BigDecimal>
+     */
     public Optional caclTradingResult() {
-        Optional result = orderHistoryRepository.caclTradingResult();
-        return result;
+        return Optional.of(positionLedgerService.getSummary().getTotalPnl());
     }
 
     public Optional getStartDate(){
-        Optional result = orderHistoryRepository.getStartDate();
-        return result;
+        return Optional.ofNullable(positionLedgerService.getSummary().getStartDate());
     }
 
     public Optional getNumBid(){
-        Optional result = orderHistoryRepository.getNumofBid();
-        return result;
+        return Optional.of(positionLedgerService.getSummary().getNumBid());
     }
 
     public Optional getNumAsk(){
-        Optional result = orderHistoryRepository.getNumofAsk();
-        return result;
+        return Optional.of(positionLedgerService.getSummary().getNumAsk());
     }
 
-}
\ No newline at end of file
+}
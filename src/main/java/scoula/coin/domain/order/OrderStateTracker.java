@@ -0,0 +1,274 @@
+package scoula.coin.domain.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import scoula.coin.application.entity.OrderHistory;
+import scoula.coin.application.entity.TradingSignalHistory;
+import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
+import scoula.coin.domain.trading.SignalJournal;
+import scoula.coin.global.util.TimerWheel;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Log4j2
+@Component
+/**
+ * 미체결 주문과 최근 체결 주문의 메모리 상태
+ * 분석 사이클마다 미체결/체결 주문 API와 주문별 시그널 이력 DB 조회를 하지 않도록 주문 상태를 여기서 관리한다.
+ * - 주문 시 track()으로 등록하고, 시그널에서 나온 주문은 시그널 생성 후 cancel-after-ms가 지나면 타이머 휠에서 바로 취소
+ * - reconcile-ms마다 API와 대조해 체결/외부 취소를 반영 (첫 대조가 기동 시 상태를 채움)
+ */
+public class OrderStateTracker {
+
+    private static final int DONE_ORDER_COUNT = 10;        // 마켓별로 보관할 최근 체결 주문 수
+    private static final int WAIT_ORDER_LIMIT = 100;
+    private static final long TICK_MILLIS = 1_000L;
+    private static final int WHEEL_SLOTS = 512;            // 1초 x 512 = 한 바퀴 약 8.5분
+    private static final long CANCEL_RETRY_MILLIS = 60_000L;
+
+    private final OrderService orderService;
+    private final TradingSignalHistoryRepository signalHistoryRepository;
+    private final SignalJournal signalJournal;
+    private final List<String> markets;
+    private final long cancelAfterMillis;
+
+    // 아래 상태는 모두 this로 동기화
+    private final Map<String, TrackedOrder> openOrders = new HashMap<>();
+    private final Map<String, List<TrackedOrder>> doneOrders = new HashMap<>();   // 마켓별 최신순
+    private final TimerWheel<String> timeouts;
+
+    public OrderStateTracker(OrderService orderService,
+                             TradingSignalHistoryRepository signalHistoryRepository,
+                             SignalJournal signalJournal,
+                             @Value("${trading.markets:KRW-BTC}") List<String> markets,
+                             @Value("${trading.orders.cancel-after-ms:180000}") long cancelAfterMillis) {
+        this.orderService = orderService;
+        this.signalHistoryRepository = signalHistoryRepository;
+        this.signalJournal = signalJournal;
+        this.markets = markets;
+        this.cancelAfterMillis = cancelAfterMillis;
+        this.timeouts = new TimerWheel<>(TICK_MILLIS, WHEEL_SLOTS, System.currentTimeMillis());
+    }
+
+    /**
+     * 새 주문 등록
+     * @param market : String 코인 마켓
+     * @param order : OrderHistory 주문 응답
+     * @param signal : TradingSignalHistory 주문을 만든 시그널, 없으면 (익절/손절 주문) 시간 초과 취소를 하지 않음
+     */
+    public synchronized void track(String market, OrderHistory order, TradingSignalHistory signal) {
+        if (order == null || order.getUuid() == null) {
+            return;
+        }
+        TrackedOrder tracked = new TrackedOrder(order.getUuid(), market, order.getSide(),
+                order.getPrice() == null ? Double.NaN : order.getPrice().doubleValue(), signal,
+                System.currentTimeMillis());
+        if ("done".equals(order.getState())) {
+            addDone(tracked);
+        } else if (order.getState() == null || "wait".equals(order.getState())) {
+            addOpen(tracked);
+        }
+    }
+
+    /**
+     * 최근 체결된 매수 주문 가격 (최신순, 익절/손절 판단용)
+     * @param market : String 코인 마켓
+     * @return : List<Double>
+     */
+    public synchronized List<Double> getFilledBidPrices(String market) {
+        List<Double> prices = new ArrayList<>();
+        for (TrackedOrder order : doneOrders.getOrDefault(market, List.of())) {
+            if ("bid".equals(order.side) && !Double.isNaN(order.price)) {
+                prices.add(order.price);
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * @return : List<String> 마켓의 미체결 주문 UUID
+     */
+    public synchronized List<String> getOpenOrders(String market) {
+        List<String> uuids = new ArrayList<>();
+        for (TrackedOrder order : openOrders.values()) {
+            if (order.market.equals(market)) {
+                uuids.add(order.uuid);
+            }
+        }
+        return uuids;
+    }
+
+    @Scheduled(fixedRate = 1_000)
+    /**
+     * 시간이 지난 미체결 주문 취소 (실패하면 CANCEL_RETRY_MILLIS 후 다시 시도)
+     */
+    public void cancelExpiredOrders() {
+        cancelExpiredOrders(System.currentTimeMillis());
+    }
+
+    void cancelExpiredOrders(long now) {
+        List<TrackedOrder> expired = new ArrayList<>();
+        synchronized (this) {
+            for (String uuid : timeouts.advance(now)) {
+                TrackedOrder order = openOrders.get(uuid);
+                if (order != null) {
+                    expired.add(order);
+                }
+            }
+        }
+
+        for (TrackedOrder order : expired) {
+            log.info("Canceling unfilled order after {} ms - UUID: {}, Signal At: {}",
+                    cancelAfterMillis, order.uuid, order.signal.getCreatedAt());
+            try {
+                orderService.cancelOrder(order.uuid);
+                log.info("Order canceled successfully - UUID: {}", order.uuid);
+                synchronized (this) {
+                    openOrders.remove(order.uuid);
+                }
+                // 시그널 이력 업데이트
+                signalJournal.updateFailureReason(order.uuid,
+                        String.format("Order canceled after %d minutes timeout", cancelAfterMillis / 60_000));
+            } catch (Exception e) {
+                log.error("Failed to cancel order {}: {}", order.uuid, e.getMessage());
+                synchronized (this) {
+                    if (openOrders.containsKey(order.uuid)) {
+                        timeouts.schedule(order.uuid, now + CANCEL_RETRY_MILLIS);
+                    }
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trading.orders.reconcile-ms:30000}")
+    /**
+     * 설정된 마켓과 미체결 주문이 있는 마켓의 주문 상태를 API와 대조
+     */
+    public void reconcile() {
+        Set<String> targets = new LinkedHashSet<>(markets);
+        synchronized (this) {
+            for (TrackedOrder order : openOrders.values()) {
+                targets.add(order.market);
+            }
+        }
+        for (String market : targets) {
+            try {
+                reconcile(market);
+            } catch (Exception e) {
+                log.error("Failed to reconcile orders for {}: {}", market, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 마켓 하나의 미체결/체결 주문을 API 응답으로 맞춤
+     * 모르는 미체결 주문(재시작 전 주문 등)만 시그널 이력을 조회해 시간 초과 취소를 이어서 건다.
+     * @param market : String 코인 마켓
+     */
+    public void reconcile(String market) {
+        long startedAt = System.currentTimeMillis();
+        JsonNode waitOrders = orderService.getOrders(market, null, 1, WAIT_ORDER_LIMIT, "wait");
+        JsonNode completedOrders = orderService.getOrders(market, null, 1, DONE_ORDER_COUNT, "done");
+
+        Set<String> waiting = new LinkedHashSet<>();
+        List<TrackedOrder> discovered = new ArrayList<>();
+        for (JsonNode order : data(waitOrders)) {
+            String uuid = order.get("uuid").asText();
+            waiting.add(uuid);
+            if (!isTracked(uuid)) {
+                TradingSignalHistory signal = signalHistoryRepository.findByOrderUuid(uuid).orElse(null);
+                discovered.add(fromJson(market, order, signal, startedAt));
+            }
+        }
+        List<TrackedOrder> done = new ArrayList<>();
+        for (JsonNode order : data(completedOrders)) {
+            done.add(fromJson(market, order, null, startedAt));
+        }
+
+        synchronized (this) {
+            // 대조를 시작한 뒤 등록된 주문은 응답에 없을 수 있으므로 건드리지 않음
+            openOrders.values().removeIf(order -> {
+                boolean gone = order.market.equals(market) && order.trackedAt < startedAt
+                        && !waiting.contains(order.uuid);
+                if (gone) {
+                    timeouts.cancel(order.uuid);
+                }
+                return gone;
+            });
+            for (TrackedOrder order : discovered) {
+                if (!openOrders.containsKey(order.uuid)) {
+                    addOpen(order);
+                }
+            }
+            doneOrders.put(market, done);
+        }
+        log.debug("Reconciled orders for {} - wait: {}, done: {}", market, waiting.size(), done.size());
+    }
+
+    private synchronized boolean isTracked(String uuid) {
+        return openOrders.containsKey(uuid);
+    }
+
+    private void addOpen(TrackedOrder order) {
+        openOrders.put(order.uuid, order);
+        if (order.signal != null) {
+            timeouts.schedule(order.uuid, signalTime(order) + cancelAfterMillis);
+        }
+    }
+
+    private void addDone(TrackedOrder order) {
+        List<TrackedOrder> done = doneOrders.computeIfAbsent(order.market, key -> new ArrayList<>());
+        done.add(0, order);
+        if (done.size() > DONE_ORDER_COUNT) {
+            done.remove(done.size() - 1);
+        }
+    }
+
+    private long signalTime(TrackedOrder order) {
+        LocalDateTime createdAt = order.signal.getCreatedAt();
+        return createdAt == null ? order.trackedAt : createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private TrackedOrder fromJson(String market, JsonNode order, TradingSignalHistory signal, long trackedAt) {
+        JsonNode price = order.get("price");
+        return new TrackedOrder(order.get("uuid").asText(), market, order.path("side").asText(),
+                price == null || price.isNull() ? Double.NaN : price.asDouble(), signal, trackedAt);
+    }
+
+    private Iterable<JsonNode> data(JsonNode response) {
+        return response != null && response.has("data") && response.get("data").isArray()
+                ? response.get("data") : List.of();
+    }
+
+    /**
+     * 추적 중인 주문 하나
+     */
+    private static final class TrackedOrder {
+        private final String uuid;
+        private final String market;
+        private final String side;
+        private final double price;
+        private final TradingSignalHistory signal;
+        private final long trackedAt;
+
+        private TrackedOrder(String uuid, String market, String side, double price,
+                             TradingSignalHistory signal, long trackedAt) {
+            this.uuid = uuid;
+            this.market = market;
+            this.side = side;
+            this.price = price;
+            this.signal = signal;
+            this.trackedAt = trackedAt;
+        }
+    }
+}
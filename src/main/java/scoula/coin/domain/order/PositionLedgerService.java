@@ -0,0 +1,158 @@
+package scoula.coin.domain.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import scoula.coin.application.dto.TradingSummaryDTO;
+import scoula.coin.application.entity.OrderHistory;
+import scoula.coin.application.entity.PositionLedger;
+import scoula.coin.domain.order.Repository.OrderHistoryRepository;
+import scoula.coin.domain.order.Repository.PositionLedgerRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+/**
+ * 마켓별 포지션/손익 원장
+ * 주문이 저장될 때 record()로 해당 마켓의 원장만 갱신하고 스냅샷 행(position_ledger)을 저장한다.
+ * 대시보드 통계는 메모리의 원장 합계라 주문 수와 관계없이 조회 비용이 일정하다.
+ * 스냅샷이 하나도 없고 주문 이력이 있으면 처음 한 번만 주문 이력으로 다시 만든다.
+ * 원장은 복사본에 반영해 저장이 성공한 뒤에만 바꿔 끼우므로, 저장에 실패해도 메모리와 DB가 어긋나지 않는다.
+ */
+public class PositionLedgerService {
+
+    private final PositionLedgerRepository positionLedgerRepository;
+    private final OrderHistoryRepository orderHistoryRepository;
+
+    // 공개된 원장은 수정하지 않음 (record()는 복사본을 저장한 뒤 교체)
+    private final Map<String, PositionLedger> ledgers = new ConcurrentHashMap<>();
+    private final Map<String, Object> marketLocks = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 저장된 주문 반영
+     * @param order : OrderHistory
+     */
+    public void record(OrderHistory order) {
+        if (order == null || order.getMarket() == null || order.getPrice() == null || order.getVolume() == null) {
+            return;
+        }
+        load();
+        String market = order.getMarket();
+        synchronized (marketLocks.computeIfAbsent(market, key -> new Object())) {
+            PositionLedger current = ledgers.get(market);
+            if (current != null && order.getUuid() != null && order.getUuid().equals(current.getLastOrderUuid())) {
+                return;
+            }
+            PositionLedger next = current == null
+                    ? PositionLedger.builder().market(market).build()
+                    : current.toBuilder().build();
+            apply(next, order);
+            positionLedgerRepository.save(next);
+            ledgers.put(market, next);
+        }
+    }
+
+    /**
+     * @param market : String 코인 마켓
+     * @return : Optional<PositionLedger>
+     */
+    public Optional<PositionLedger> getLedger(String market) {
+        load();
+        return Optional.ofNullable(ledgers.get(market));
+    }
+
+    /**
+     * 전체 마켓 합계
+     * @return : TradingSummaryDTO
+     */
+    public TradingSummaryDTO getSummary() {
+        load();
+        LocalDateTime startDate = null;
+        long numBid = 0;
+        long numAsk = 0;
+        BigDecimal realized = BigDecimal.ZERO;
+        BigDecimal unrealized = BigDecimal.ZERO;
+        BigDecimal fees = BigDecimal.ZERO;
+        for (PositionLedger ledger : ledgers.values()) {
+            if (ledger.getFirstTradeAt() != null
+                    && (startDate == null || ledger.getFirstTradeAt().isBefore(startDate))) {
+                startDate = ledger.getFirstTradeAt();
+            }
+            numBid += ledger.getNumBid();
+            numAsk += ledger.getNumAsk();
+            realized = realized.add(ledger.getRealizedPnl());
+            unrealized = unrealized.add(ledger.getUnrealizedPnl());
+            fees = fees.add(ledger.getFees());
+        }
+        return TradingSummaryDTO.builder()
+                .startDate(startDate)
+                .numBid(numBid)
+                .numAsk(numAsk)
+                .realizedPnl(realized)
+                .unrealizedPnl(unrealized)
+                .fees(fees)
+                .totalPnl(realized.add(unrealized).subtract(fees))
+                .build();
+    }
+
+    /**
+     * 스냅샷 불러오기 (없으면 주문 이력으로 한 번 재구성)
+     */
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            List<PositionLedger> snapshots = positionLedgerRepository.findAll();
+            if (snapshots.isEmpty() && orderHistoryRepository.count() > 0) {
+                rebuild();
+            } else {
+                snapshots.forEach(ledger -> ledgers.put(ledger.getMarket(), ledger));
+            }
+            loaded = true;
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        List<OrderHistory> orders = orderHistoryRepository.findAll(Sort.by("createdAt"));
+        Map<String, PositionLedger> rebuilt = new HashMap<>();
+        for (OrderHistory order : orders) {
+            if (order.getMarket() == null || order.getPrice() == null || order.getVolume() == null) {
+                continue;
+            }
+            apply(rebuilt.computeIfAbsent(order.getMarket(), market -> PositionLedger.builder().market(market).build()),
+                    order);
+        }
+        // 저장에 실패하면 다음 조회에서 처음부터 다시 만듦
+        positionLedgerRepository.saveAll(rebuilt.values());
+        ledgers.putAll(rebuilt);
+        log.info("Rebuilt position ledger for {} markets from {} orders in {} ms",
+                ledgers.size(), orders.size(), System.currentTimeMillis() - start);
+    }
+
+    private void apply(PositionLedger ledger, OrderHistory order) {
+        // 주문 시점 응답 기준이라 수수료는 예약 수수료(remaining_fee)와 낸 수수료(paid_fee)의 합
+        BigDecimal fee = orZero(order.getRemainingFee()).add(orZero(order.getPaidFee()));
+        ledger.apply(order.getSide(), order.getPrice(), order.getVolume(), fee,
+                order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now());
+        ledger.setLastOrderUuid(order.getUuid());
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
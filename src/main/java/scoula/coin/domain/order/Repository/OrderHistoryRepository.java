@@ -1,61 +1,59 @@
 package scoula.coin.domain.order.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import scoula.coin.application.entity.OrderHistory;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderHistoryRepository extends JpaRepository<OrderHistory, String> {
-    List<OrderHistory> findByMarketOrderByCreatedAtDesc(String market);
-
-    List<OrderHistory> findBySideOrderByCreatedAtDesc(String side);
-
-    List<OrderHistory> findByStateOrderByCreatedAtDesc(String state);
-
-    @Query(nativeQuery = true, value = "SELECT\n" +
-            "  ( # 거래 후 남은 코인 평가액\n" +
-            "    SELECT \n" +
-            "      t1.total_volume * t2.latest_price AS multiplied_result FROM (\n" +
-            "      -- 볼륨 총합\n" +
-            "      SELECT  SUM(\n" +
-            "\t\tCASE\n" +
-            "\t\t\tWHEN side = 'bid' THEN volume\n" +
-            "            WHEN side = 'ask' THEN -volume\n" +
-            "            ELSE 0 END ) AS total_volume FROM coin.order_history\n" +
-            "\t\t) AS t1\n" +
-            "    CROSS JOIN (\n" +
-            "      -- 가장 최근 price\n" +
-            "      SELECT price AS latest_price FROM coin.order_history ORDER BY created_at DESC LIMIT 1\n" +
-            "\t\t) AS t2        -- ★★★ 여기서 꼭 별칭을 줘야 함\n" +
-            "  )\n" +
-            "  +\n" +
-            "  ( # 매매 금액 정산\n" +
-            "    SELECT\n" +
-            "      SUM(\n" +
-            "        CASE \n" +
-            "          WHEN side = 'bid' THEN - (price * volume) - remaining_fee\n" +
-            "          WHEN side = 'ask' THEN ((price * volume) + remaining_fee)\n" +
-            "          ELSE 0\n" +
-            "        END\n" +
-            "      ) AS total\n" +
-            "    FROM coin.order_history\n" +
-            "  )\n" +
-            "-\n" +
-            "  (select sum(remaining_fee) from coin.order_history) # 누락된 매도 수수료 계산\n" +
-            "  AS final_result\n" +
-            ";\n")
-    Optional caclTradingResult();
-
-    @Query(value = "select min(o.createdAt) from OrderHistory o")
-    Optional getStartDate();
-
-    @Query(value = "select count(*) from OrderHistory o where o.side='bid'")
-    Optional getNumofBid();
-
-    @Query(value = "select count(*) from OrderHistory o where o.side='ask'")
-    Optional getNumofAsk();
-
 
+    /**
+     * 최신순 keyset 페이지 (idx_order_history_market_created / idx_order_history_side_created 사용)
+     * null인 조건은 적용하지 않는다. 커서가 있으면 (created_at, uuid)가 커서보다 작은 행부터 읽는다.
+     */
+    @Query("select o from OrderHistory o " +
+            "where (:market is null or o.market = :market) " +
+            "and (:side is null or o.side = :side) " +
+            "and (:from is null or o.createdAt >= :from) " +
+            "and (:to is null or o.createdAt < :to) " +
+            "and (:cursorTime is null or o.createdAt < :cursorTime " +
+            "or (o.createdAt = :cursorTime and o.uuid < :cursorKey)) " +
+            "order by o.createdAt desc, o.uuid desc")
+    List<OrderHistory> findHistoryPage(@Param("market") String market,
+                                       @Param("side") String side,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("cursorTime") LocalDateTime cursorTime,
+                                       @Param("cursorKey") String cursorKey,
+                                       Pageable pageable);
+
+    /**
+     * 내보내기용 시간순 스트림 (트랜잭션 안에서 사용하고 반드시 닫아야 함)
+     * fetch size를 Integer.MIN_VALUE로 주면 MySQL 드라이버가 결과를 한 행씩 받아온다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from OrderHistory o " +
+            "where (:market is null or o.market = :market) " +
+            "and (:side is null or o.side = :side) " +
+            "and (:from is null or o.createdAt >= :from) " +
+            "and (:to is null or o.createdAt < :to) " +
+            "order by o.createdAt asc, o.uuid asc")
+    Stream<OrderHistory> streamHistory(@Param("market") String market,
+                                       @Param("side") String side,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    Optional<OrderHistory> findFirstByMarketAndSideOrderByCreatedAtDesc(String market, String side);
 }
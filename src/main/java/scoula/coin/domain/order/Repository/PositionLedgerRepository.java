@@ -0,0 +1,7 @@
+package scoula.coin.domain.order.Repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import scoula.coin.application.entity.PositionLedger;
+
+public interface PositionLedgerRepository extends JpaRepository<PositionLedger, String> {
+}
@@ -0,0 +1,421 @@
+package scoula.coin.domain.order.paper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.stream.CandleClosedEvent;
+import scoula.coin.domain.market.stream.MarketQuote;
+import scoula.coin.domain.market.stream.MarketStreamHandler;
+import scoula.coin.domain.order.ExchangeClient;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "trading.exchange", havingValue = "paper")
+/**
+ * 모의 거래소 (trading.exchange=paper)
+ * 주문, 잔고, 주문 상태를 메모리에 두고 Bithumb과 같은 형식으로 응답한다. 네트워크나 실제 자금 없이
+ * 많은 마켓과 빠른 주기로 봇을 돌려볼 때 사용한다.
+ *
+ * 체결 규칙:
+ * - 주문 시 스트림 호가가 있고 주문가가 호가를 넘어서면 호가로 즉시 체결
+ * - 그 외에는 주문 시각 이후에 시작한 분봉의 저가(매수)/고가(매도)가 주문가를 넘어서면 주문가로 전량 체결 (BacktestEngine과 동일)
+ * 분봉은 스트림(CandleClosedEvent)으로 받거나, 스트림이 없으면 조회 시 DB에 저장된 분봉에서 새로 닫힌 것만 읽는다.
+ */
+public class PaperExchangeClient implements ExchangeClient {
+
+    private static final String KRW = "KRW";
+    private static final long CANDLE_MILLIS = 60_000L;
+    private static final int CATCH_UP_PAGE = 1_000;
+    private static final int MAX_HISTORY = 10_000;     // 마켓별로 보관할 주문 수 (넘으면 오래된 완료 주문부터 삭제)
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final ObjectMapper objectMapper;
+    private final CandleRepository candleRepository;
+    private final ObjectProvider<MarketStreamHandler> streamHandler;
+    private final BigDecimal fee;
+    private final BigDecimal minTotal;
+
+    // 아래 상태는 모두 this로 동기화
+    private final Map<String, Balance> balances = new HashMap<>();
+    private final Map<String, PaperOrder> orders = new HashMap<>();
+    private final Map<String, List<PaperOrder>> history = new HashMap<>();  // 마켓별 생성 순서
+    private final Map<String, List<PaperOrder>> openOrders = new HashMap<>();
+    private final Map<String, Long> lastMatchedCandle = new HashMap<>();
+    private final Map<String, Long> lastCatchUp = new HashMap<>();
+
+    public PaperExchangeClient(ObjectMapper objectMapper,
+                               CandleRepository candleRepository,
+                               ObjectProvider<MarketStreamHandler> streamHandler,
+                               @Value("${paper.initial-krw:10000000}") BigDecimal initialKrw,
+                               @Value("${paper.fee:0.0025}") BigDecimal fee,
+                               @Value("${paper.min-total:5000}") BigDecimal minTotal) {
+        this.objectMapper = objectMapper;
+        this.candleRepository = candleRepository;
+        this.streamHandler = streamHandler;
+        this.fee = fee;
+        this.minTotal = minTotal;
+        balance(KRW).balance = initialKrw;
+        log.info("Paper trading enabled with {} KRW", initialKrw);
+    }
+
+    @Override
+    public synchronized JsonNode getOrderChance(String market) {
+        catchUp(market);
+        String quote = quoteCurrency(market);
+        String base = baseCurrency(market);
+
+        ObjectNode chance = objectMapper.createObjectNode();
+        chance.put("bid_fee", fee.toPlainString());
+        chance.put("ask_fee", fee.toPlainString());
+        chance.put("maker_bid_fee", fee.toPlainString());
+        chance.put("maker_ask_fee", fee.toPlainString());
+
+        ObjectNode marketNode = chance.putObject("market");
+        marketNode.put("id", market);
+        marketNode.put("name", base + "/" + quote);
+        marketNode.putArray("order_types").add("limit");
+        marketNode.putArray("ask_types").add("limit");
+        marketNode.putArray("bid_types").add("limit");
+        marketNode.putArray("order_sides").add("ask").add("bid");
+        constraint(marketNode.putObject("bid"), quote);
+        constraint(marketNode.putObject("ask"), base);
+        marketNode.put("max_total", "1000000000");
+        marketNode.put("state", "active");
+
+        account(chance.putObject("bid_account"), quote);
+        account(chance.putObject("ask_account"), base);
+        return chance;
+    }
+
+    @Override
+    public synchronized JsonNode placeOrder(String market, String side, double volume, double price, String ordType) {
+        catchUp(market);
+        BigDecimal orderPrice = BigDecimal.valueOf(price);
+        BigDecimal orderVolume = BigDecimal.valueOf(volume);
+        BigDecimal total = orderPrice.multiply(orderVolume);
+        if (total.compareTo(minTotal) < 0) {
+            log.warn("Paper order below minimum total {}: {}", minTotal, total);
+            throw new CustomException(ErrorCode.ORDER_INVALID_VOLUME);
+        }
+
+        PaperOrder order = new PaperOrder(UUID.randomUUID().toString(), market, side, ordType, orderPrice,
+                orderVolume, System.currentTimeMillis());
+        if (order.isBid()) {
+            Balance krw = balance(quoteCurrency(market));
+            BigDecimal reserve = total.add(total.multiply(fee));
+            if (krw.balance.compareTo(reserve) < 0) {
+                log.warn("Insufficient paper {} balance: {} < {}", krw.currency, krw.balance, reserve);
+                throw new CustomException(ErrorCode.ORDER_EXECUTION_FAILED);
+            }
+            krw.lock(reserve);
+            order.reserved = reserve;
+        } else {
+            Balance coin = balance(baseCurrency(market));
+            if (coin.balance.compareTo(orderVolume) < 0) {
+                log.warn("Insufficient paper {} balance: {} < {}", coin.currency, coin.balance, orderVolume);
+                throw new CustomException(ErrorCode.ORDER_EXECUTION_FAILED);
+            }
+            coin.lock(orderVolume);
+            order.reserved = orderVolume;
+        }
+        orders.put(order.uuid, order);
+        openOrders.computeIfAbsent(market, key -> new ArrayList<>()).add(order);
+        List<PaperOrder> marketHistory = history.computeIfAbsent(market, key -> new ArrayList<>());
+        marketHistory.add(order);
+        if (marketHistory.size() > MAX_HISTORY) {
+            prune(marketHistory);
+        }
+
+        // 호가를 넘어서는 주문은 바로 체결
+        MarketStreamHandler handler = streamHandler.getIfAvailable();
+        MarketQuote quote = handler == null ? null : handler.getQuote(market).orElse(null);
+        if (quote != null) {
+            double best = order.isBid() ? quote.bestAskPrice() : quote.bestBidPrice();
+            if (Double.isNaN(best)) {
+                best = quote.tradePrice();
+            }
+            if (!Double.isNaN(best) && (order.isBid() ? best <= price : best >= price)) {
+                fill(order, BigDecimal.valueOf(best));
+                openOrders.get(market).remove(order);
+            }
+        }
+        return toJson(order);
+    }
+
+    @Override
+    public synchronized JsonNode getOrders(String market, List<String> uuids, int page, int limit, String state) {
+        catchUp(market);
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode data = response.putArray("data");
+        List<PaperOrder> marketHistory = history.getOrDefault(market, List.of());
+        int skip = Math.max(page - 1, 0) * limit;
+
+        // 최신순 (order_by=desc)
+        for (int i = marketHistory.size() - 1; i >= 0 && data.size() < limit; i--) {
+            PaperOrder order = marketHistory.get(i);
+            if ((state == null || order.state.equals(state))
+                    && (uuids == null || uuids.isEmpty() || uuids.contains(order.uuid))
+                    && skip-- <= 0) {
+                data.add(toJson(order));
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public synchronized JsonNode cancelOrder(String uuid) {
+        PaperOrder order = orders.get(uuid);
+        if (order == null || !"wait".equals(order.state)) {
+            throw new CustomException(ErrorCode.ORDER_NOT_FOUND);
+        }
+        if (order.isBid()) {
+            balance(quoteCurrency(order.market)).unlock(order.reserved, order.reserved);
+        } else {
+            balance(baseCurrency(order.market)).unlock(order.reserved, order.reserved);
+        }
+        order.state = "cancel";
+        openOrders.get(order.market).remove(order);
+        return toJson(order);
+    }
+
+    /**
+     * 스트림에서 분봉이 닫히면 대기 주문 체결 확인
+     */
+    @EventListener
+    public void onCandleClosed(CandleClosedEvent event) {
+        match(event.market(), event.candle().candleTimeMillis(), event.candle().getHighPrice(),
+                event.candle().getLowPrice());
+    }
+
+    /**
+     * 분봉 하나로 대기 주문 체결 (부하 테스트에서 직접 가격을 넣을 때도 사용)
+     * @param candleTime : long 분봉 시작 시각 (epoch millis)
+     * @param high : double 고가
+     * @param low : double 저가
+     */
+    public synchronized void match(String market, long candleTime, double high, double low) {
+        Long last = lastMatchedCandle.get(market);
+        if (last != null && candleTime <= last) {
+            return;
+        }
+        lastMatchedCandle.put(market, candleTime);
+
+        List<PaperOrder> open = openOrders.get(market);
+        if (open == null || open.isEmpty()) {
+            return;
+        }
+        open.removeIf(order -> {
+            // 주문 이후에 시작한 분봉만 확인 (주문을 낸 분봉의 고가/저가에는 주문 전 거래가 섞여 있음)
+            if (candleTime < order.createdAt) {
+                return false;
+            }
+            double price = order.price.doubleValue();
+            boolean filled = order.isBid() ? low < price : high > price;
+            if (filled) {
+                fill(order, order.price);
+            }
+            return filled;
+        });
+    }
+
+    /**
+     * 스트림이 없을 때 DB에 저장된 분봉 중 아직 확인하지 않은 것으로 체결 (분봉이 새로 닫혔을 때만 조회)
+     */
+    private void catchUp(String market) {
+        if (streamHandler.getIfAvailable() != null) {
+            return;
+        }
+        List<PaperOrder> open = openOrders.get(market);
+        long now = System.currentTimeMillis();
+        long lastClosed = now / CANDLE_MILLIS * CANDLE_MILLIS - CANDLE_MILLIS;
+        if (open == null || open.isEmpty() || lastCatchUp.getOrDefault(market, Long.MIN_VALUE) >= lastClosed) {
+            return;
+        }
+        lastCatchUp.put(market, lastClosed);
+
+        long oldestOrder = open.stream().mapToLong(order -> order.createdAt).min().orElse(now);
+        long after = Math.max(lastMatchedCandle.getOrDefault(market, Long.MIN_VALUE), oldestOrder - 1);
+        List<Candle> candles = candleRepository
+                .findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                        market, 1, after, lastClosed, PageRequest.of(0, CATCH_UP_PAGE));
+        for (Candle candle : candles) {
+            match(market, candle.getCandleTime(), candle.getHighPrice(), candle.getLowPrice());
+        }
+    }
+
+    private void fill(PaperOrder order, BigDecimal fillPrice) {
+        BigDecimal funds = fillPrice.multiply(order.volume);
+        BigDecimal paidFee = funds.multiply(fee);
+        Balance quote = balance(quoteCurrency(order.market));
+        Balance base = balance(baseCurrency(order.market));
+
+        if (order.isBid()) {
+            // 예약한 금액 중 체결 금액과 수수료를 뺀 나머지는 돌려준다
+            quote.unlock(order.reserved, order.reserved.subtract(funds).subtract(paidFee));
+            base.buy(order.volume, fillPrice);
+        } else {
+            base.unlock(order.reserved, BigDecimal.ZERO);
+            quote.balance = quote.balance.add(funds).subtract(paidFee);
+        }
+        order.executedVolume = order.volume;
+        order.paidFee = paidFee;
+        order.tradesCount = 1;
+        order.state = "done";
+        log.debug("Paper order filled - UUID: {}, Side: {}, Price: {}", order.uuid, order.side, fillPrice);
+    }
+
+    private void prune(List<PaperOrder> marketHistory) {
+        Iterator<PaperOrder> iterator = marketHistory.iterator();
+        while (marketHistory.size() > MAX_HISTORY && iterator.hasNext()) {
+            PaperOrder order = iterator.next();
+            if (!"wait".equals(order.state)) {
+                iterator.remove();
+                orders.remove(order.uuid);
+            }
+        }
+    }
+
+    private ObjectNode toJson(PaperOrder order) {
+        ObjectNode node = objectMapper.createObjectNode();
+        boolean open = "wait".equals(order.state);
+        BigDecimal reservedFee = order.isBid() ? order.price.multiply(order.volume).multiply(fee) : BigDecimal.ZERO;
+        node.put("uuid", order.uuid);
+        node.put("side", order.side);
+        node.put("ord_type", order.ordType);
+        node.put("price", order.price.toPlainString());
+        node.put("state", order.state);
+        node.put("market", order.market);
+        node.put("created_at", OffsetDateTime.ofInstant(Instant.ofEpochMilli(order.createdAt), KST).toString());
+        node.put("volume", order.volume.toPlainString());
+        node.put("remaining_volume", order.volume.subtract(order.executedVolume).toPlainString());
+        node.put("reserved_fee", reservedFee.toPlainString());
+        node.put("remaining_fee", (open ? reservedFee : BigDecimal.ZERO).toPlainString());
+        node.put("paid_fee", order.paidFee.toPlainString());
+        node.put("locked", (open ? order.reserved : BigDecimal.ZERO).toPlainString());
+        node.put("executed_volume", order.executedVolume.toPlainString());
+        node.put("trades_count", order.tradesCount);
+        return node;
+    }
+
+    private void constraint(ObjectNode node, String currency) {
+        node.put("currency", currency);
+        node.put("price_unit", KRW.equals(currency) ? "1" : "0.00000001");
+        node.put("min_total", minTotal.toPlainString());
+    }
+
+    private void account(ObjectNode node, String currency) {
+        Balance balance = balance(currency);
+        node.put("currency", currency);
+        node.put("balance", balance.balance.toPlainString());
+        node.put("locked", balance.locked.toPlainString());
+        node.put("avg_buy_price", balance.avgBuyPrice.toPlainString());
+        node.put("avg_buy_price_modified", false);
+        node.put("unit_currency", KRW);
+    }
+
+    private Balance balance(String currency) {
+        return balances.computeIfAbsent(currency, Balance::new);
+    }
+
+    // KRW-BTC: 주문 화폐 KRW, 거래 화폐 BTC
+    private static String quoteCurrency(String market) {
+        return market.substring(0, market.indexOf('-'));
+    }
+
+    private static String baseCurrency(String market) {
+        return market.substring(market.indexOf('-') + 1);
+    }
+
+    /**
+     * 화폐 하나의 잔고 (balance: 주문 가능, locked: 주문에 묶인 양)
+     */
+    private static final class Balance {
+        private final String currency;
+        private BigDecimal balance = BigDecimal.ZERO;
+        private BigDecimal locked = BigDecimal.ZERO;
+        private BigDecimal avgBuyPrice = BigDecimal.ZERO;
+
+        private Balance(String currency) {
+            this.currency = currency;
+        }
+
+        void lock(BigDecimal amount) {
+            balance = balance.subtract(amount);
+            locked = locked.add(amount);
+        }
+
+        /**
+         * @param amount : BigDecimal 묶음을 풀 양
+         * @param refund : BigDecimal 그중 주문 가능 잔고로 돌려줄 양
+         */
+        void unlock(BigDecimal amount, BigDecimal refund) {
+            locked = locked.subtract(amount);
+            balance = balance.add(refund);
+        }
+
+        void buy(BigDecimal volume, BigDecimal price) {
+            BigDecimal held = balance.add(locked);
+            BigDecimal total = held.add(volume);
+            avgBuyPrice = avgBuyPrice.multiply(held).add(price.multiply(volume))
+                    .divide(total, 8, RoundingMode.HALF_UP);
+            balance = balance.add(volume);
+        }
+    }
+
+    /**
+     * 모의 주문 (전량 체결만 지원)
+     */
+    private static final class PaperOrder {
+        private final String uuid;
+        private final String market;
+        private final String side;
+        private final String ordType;
+        private final BigDecimal price;
+        private final BigDecimal volume;
+        private final long createdAt;
+        private BigDecimal reserved = BigDecimal.ZERO;
+        private BigDecimal executedVolume = BigDecimal.ZERO;
+        private BigDecimal paidFee = BigDecimal.ZERO;
+        private int tradesCount;
+        private String state = "wait";
+
+        private PaperOrder(String uuid, String market, String side, String ordType, BigDecimal price,
+                           BigDecimal volume, long createdAt) {
+            this.uuid = uuid;
+            this.market = market;
+            this.side = side;
+            this.ordType = ordType;
+            this.price = price;
+            this.volume = volume;
+            this.createdAt = createdAt;
+        }
+
+        boolean isBid() {
+            return "bid".equals(side);
+        }
+    }
+}
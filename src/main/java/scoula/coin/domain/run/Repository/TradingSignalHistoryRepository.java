@@ -1,15 +1,63 @@
 package scoula.coin.domain.run.Repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import scoula.coin.application.entity.TradingSignalHistory;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TradingSignalHistoryRepository extends CrudRepository<TradingSignalHistory, Integer> {
-    List<TradingSignalHistory> findByMarketOrderByCreatedAtDesc(String market);
-    List<TradingSignalHistory> findBySignalTypeOrderByCreatedAtDesc(Integer signalType);
-    List<TradingSignalHistory> findByOrderExecutedOrderByCreatedAtDesc(Boolean orderExecuted);
+public interface TradingSignalHistoryRepository extends CrudRepository<TradingSignalHistory, Integer>, TradingSignalHistoryRepositoryCustom {
+
+    /**
+     * 최신순 keyset 페이지 (마켓 조건은 idx_signal_history_market_created 사용)
+     * null인 조건은 적용하지 않는다. 커서가 있으면 (created_at, id)가 커서보다 작은 행부터 읽는다.
+     */
+    @Query("select s from TradingSignalHistory s " +
+            "where (:market is null or s.market = :market) " +
+            "and (:signalType is null or s.signalType = :signalType) " +
+            "and (:executed is null or s.orderExecuted = :executed) " +
+            "and (:from is null or s.createdAt >= :from) " +
+            "and (:to is null or s.createdAt < :to) " +
+            "and (:cursorTime is null or s.createdAt < :cursorTime " +
+            "or (s.createdAt = :cursorTime and s.id < :cursorId)) " +
+            "order by s.createdAt desc, s.id desc")
+    List<TradingSignalHistory> findHistoryPage(@Param("market") String market,
+                                               @Param("signalType") Integer signalType,
+                                               @Param("executed") Boolean executed,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("cursorTime") LocalDateTime cursorTime,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+
+    /**
+     * 내보내기용 시간순 스트림 (트랜잭션 안에서 사용하고 반드시 닫아야 함)
+     * fetch size를 Integer.MIN_VALUE로 주면 MySQL 드라이버가 결과를 한 행씩 받아온다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s from TradingSignalHistory s " +
+            "where (:market is null or s.market = :market) " +
+            "and (:signalType is null or s.signalType = :signalType) " +
+            "and (:executed is null or s.orderExecuted = :executed) " +
+            "and (:from is null or s.createdAt >= :from) " +
+            "and (:to is null or s.createdAt < :to) " +
+            "order by s.createdAt asc, s.id asc")
+    Stream<TradingSignalHistory> streamHistory(@Param("market") String market,
+                                               @Param("signalType") Integer signalType,
+                                               @Param("executed") Boolean executed,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
 
     Optional<TradingSignalHistory> findByOrderUuid(String orderUuid);
 }
@@ -0,0 +1,22 @@
+package scoula.coin.domain.run.Repository;
+
+import scoula.coin.application.entity.TradingSignalHistory;
+
+import java.util.List;
+import java.util.Map;
+
+public interface TradingSignalHistoryRepositoryCustom {
+    /**
+     * 시그널 이력 일괄 저장 (created_at, updated_at은 엔티티 값을 그대로 사용)
+     * @param signals : List<TradingSignalHistory>
+     * @return : int 저장된 행 수
+     */
+    int batchInsert(List<TradingSignalHistory> signals);
+
+    /**
+     * 주문 UUID로 실패 사유 일괄 갱신
+     * @param failureReasons : Map<String, String> 주문 UUID, 실패 사유
+     * @return : int 갱신된 행 수
+     */
+    int batchUpdateFailureReason(Map<String, String> failureReasons);
+}
@@ -0,0 +1,75 @@
+package scoula.coin.domain.run.Repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import scoula.coin.application.entity.TradingSignalHistory;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IDENTITY 키라 Hibernate가 insert를 묶지 못하므로 SignalJournal이 모은 행을 JDBC batch로 저장
+ */
+@RequiredArgsConstructor
+public class TradingSignalHistoryRepositoryImpl implements TradingSignalHistoryRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO coin.trading_signal_history " +
+            "(market, price, rsi, signal_type, order_executed, order_uuid, failure_reason, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_FAILURE_SQL = "UPDATE coin.trading_signal_history " +
+            "SET failure_reason = ?, updated_at = ? WHERE order_uuid = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int batchInsert(List<TradingSignalHistory> signals) {
+        if (signals.isEmpty()) {
+            return 0;
+        }
+        return count(jdbcTemplate.batchUpdate(INSERT_SQL, signals, signals.size(),
+                (PreparedStatement ps, TradingSignalHistory signal) -> bind(ps, signal)));
+    }
+
+    @Override
+    public int batchUpdateFailureReason(Map<String, String> failureReasons) {
+        if (failureReasons.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Map.Entry<String, String>> entries = new ArrayList<>(failureReasons.entrySet());
+        return count(jdbcTemplate.batchUpdate(UPDATE_FAILURE_SQL, entries, entries.size(),
+                (PreparedStatement ps, Map.Entry<String, String> entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setTimestamp(2, now);
+                    ps.setString(3, entry.getKey());
+                }));
+    }
+
+    private int count(int[][] results) {
+        int rows = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // rewriteBatchedStatements 사용 시 개수 대신 SUCCESS_NO_INFO(-2)가 올 수 있음
+                rows += count > 0 ? count : (count == PreparedStatement.SUCCESS_NO_INFO ? 1 : 0);
+            }
+        }
+        return rows;
+    }
+
+    private void bind(PreparedStatement ps, TradingSignalHistory signal) throws SQLException {
+        ps.setString(1, signal.getMarket());
+        ps.setBigDecimal(2, signal.getPrice());
+        ps.setObject(3, signal.getRsi());
+        ps.setObject(4, signal.getSignalType());
+        ps.setObject(5, signal.getOrderExecuted());
+        ps.setString(6, signal.getOrderUuid());
+        ps.setString(7, signal.getFailureReason());
+        ps.setTimestamp(8, signal.getCreatedAt() == null ? null : Timestamp.valueOf(signal.getCreatedAt()));
+        ps.setTimestamp(9, signal.getUpdatedAt() == null ? null : Timestamp.valueOf(signal.getUpdatedAt()));
+    }
+}
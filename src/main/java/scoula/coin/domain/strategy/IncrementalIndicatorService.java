@@ -0,0 +1,61 @@
+package scoula.coin.domain.strategy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+/**
+ * 마켓별 증분 지표 상태를 보관하는 서비스 계층
+ * 매 분석마다 전체 분봉으로 지표를 다시 계산하지 않고, 새로 닫힌 분봉만 반영한다.
+ * trading.strategies에 나열한 전략을 마켓마다 함께 실행하며, 첫 번째 전략의 신호로 주문한다.
+ */
+public class IncrementalIndicatorService {
+
+    private final List<Strategy> strategies;
+    private final Map<String, IndicatorState> states = new ConcurrentHashMap<>();
+
+    /**
+     * @param available : List<Strategy> 등록된 전략 bean
+     * @param names : List<String> 실행할 전략 이름 (순서대로, 첫 번째가 주문에 쓰이는 주 전략)
+     */
+    public IncrementalIndicatorService(List<Strategy> available,
+                                       @Value("${trading.strategies:" + MacdRsiBandStrategy.NAME + "}") List<String> names) {
+        List<Strategy> selected = new ArrayList<>();
+        for (String name : names) {
+            Strategy strategy = available.stream()
+                    .filter(candidate -> candidate.getName().equals(name.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown strategy: " + name));
+            selected.add(strategy);
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one strategy is required");
+        }
+        this.strategies = List.copyOf(selected);
+    }
+
+    /**
+     * 마켓의 지표 상태 조회, 없거나 이력 크기가 부족하면 새로 생성
+     * @param market : String 코인 마켓
+     * @param historySize : int 결과로 유지할 분봉 수
+     * @return : IndicatorState
+     */
+    public IndicatorState getState(String market, int historySize) {
+        return states.compute(market, (key, state) ->
+                state == null || state.getHistorySize() < historySize ? createState(historySize) : state);
+    }
+
+    public List<Strategy> getStrategies() {
+        return strategies;
+    }
+
+    private IndicatorState createState(int historySize) {
+        // MACD 12/26/9, RSI 14, 볼린저 밴드 20/2.0 + 전략이 선언한 지표
+        return StrategyParameters.DEFAULT.newIndicatorState(historySize, strategies);
+    }
+}
@@ -0,0 +1,325 @@
+package scoula.coin.domain.strategy;
+
+/**
+ * 종가를 하나씩 받아 O(1)로 갱신하는 지표 계산기
+ * IndicatorSpec.source() 하나당 계산기 하나를 만들며, 계산 전 구간은 NaN을 기록한다.
+ */
+final class IndicatorCalculators {
+
+    private IndicatorCalculators() {
+    }
+
+    interface Calculator {
+        /**
+         * @param close : double 닫힌 분봉의 종가
+         * @param out : double[] 결과 (IndicatorSpec.output() 위치에 기록)
+         */
+        void update(double close, double[] out);
+    }
+
+    static Calculator create(IndicatorSpec source) {
+        return switch (source.type()) {
+            case CLOSE -> (close, out) -> out[0] = close;
+            case MACD -> new Macd(source.period(), source.slowPeriod(), source.signalPeriod());
+            case RSI -> new RsiCalculator(source.period());
+            case BAND_MIDDLE -> new BandsCalculator(source.period(), source.stdDev());
+            case MOMENTUM -> new Momentum(source.period());
+            case PIVOT_BOTTOM -> new Pivot(source.period(), true);
+            case PIVOT_TOP -> new Pivot(source.period(), false);
+            default -> throw new IllegalArgumentException("Not a source indicator: " + source);
+        };
+    }
+
+    /**
+     * 지수이동평균, 첫 값은 period개의 단순평균으로 시작 (calculateEMA와 동일)
+     */
+    static final class Ema {
+        private final int period;
+        private final double multiplier;
+        private double sum;
+        private int count;
+        private double value;
+
+        Ema(int period) {
+            this.period = period;
+            this.multiplier = 2.0 / (period + 1);
+        }
+
+        void update(double price) {
+            if (count < period) {
+                sum += price;
+                count++;
+                if (count == period) {
+                    value = sum / period;
+                }
+                return;
+            }
+            value = (price - value) * multiplier + value;
+        }
+
+        boolean isReady() {
+            return count >= period;
+        }
+
+        double value() {
+            return value;
+        }
+    }
+
+    /**
+     * Wilder 방식 RSI (calculateRSI와 동일)
+     */
+    static final class WilderRsi {
+        private final int period;
+        private double previousPrice = Double.NaN;
+        private double avgGain;
+        private double avgLoss;
+        private int changes;
+        private double value;
+
+        WilderRsi(int period) {
+            this.period = period;
+        }
+
+        void update(double price) {
+            if (Double.isNaN(previousPrice)) {
+                previousPrice = price;
+                return;
+            }
+            double change = price - previousPrice;
+            previousPrice = price;
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+
+            if (changes < period) {
+                avgGain += gain;
+                avgLoss += loss;
+                changes++;
+                if (changes < period) {
+                    return;
+                }
+                avgGain /= period;
+                avgLoss /= period;
+            } else {
+                avgGain = ((avgGain * (period - 1)) + gain) / period;
+                avgLoss = ((avgLoss * (period - 1)) + loss) / period;
+            }
+            double rs = avgGain / Math.max(avgLoss, 0.0001); // Avoid division by zero
+            value = 100 - (100 / (1 + rs));
+        }
+
+        boolean isReady() {
+            return changes >= period;
+        }
+
+        double value() {
+            return value;
+        }
+    }
+
+    /**
+     * 볼린저 밴드, 구간 합과 제곱합을 유지해 O(1)로 갱신
+     * 누적 오차를 막기 위해 일정 주기마다 기준값(anchor)을 옮기고 합을 다시 계산한다
+     */
+    static final class RollingBands {
+        private final int period;
+        private final double stdDev;
+        private final double[] window;
+        private int next;
+        private int count;
+        private long updates;
+
+        private double anchor;
+        private double sum;
+        private double sumSq;
+
+        private double middle;
+        private double deviation;
+
+        RollingBands(int period, double stdDev) {
+            this.period = period;
+            this.stdDev = stdDev;
+            this.window = new double[period];
+        }
+
+        void update(double price) {
+            if (count == 0) {
+                anchor = price;
+            }
+            if (count == period) {
+                double leaving = window[next] - anchor;
+                sum -= leaving;
+                sumSq -= leaving * leaving;
+            } else {
+                count++;
+            }
+            window[next] = price;
+            next = (next + 1) % period;
+
+            double shifted = price - anchor;
+            sum += shifted;
+            sumSq += shifted * shifted;
+
+            if (++updates % TechnicalIndicator.BAND_REANCHOR_INTERVAL == 0) {
+                reanchor();
+            }
+
+            if (count == period) {
+                double mean = sum / period;
+                double variance = Math.max(sumSq / period - mean * mean, 0);
+                middle = anchor + mean;
+                deviation = Math.sqrt(variance) * stdDev;
+            }
+        }
+
+        private void reanchor() {
+            double total = 0;
+            for (int i = 0; i < count; i++) {
+                total += window[i];
+            }
+            anchor = total / count;
+            sum = 0;
+            sumSq = 0;
+            for (int i = 0; i < count; i++) {
+                double shifted = window[i] - anchor;
+                sum += shifted;
+                sumSq += shifted * shifted;
+            }
+        }
+
+        boolean isReady() {
+            return count == period;
+        }
+
+        double upper() {
+            return middle + deviation;
+        }
+
+        double middle() {
+            return middle;
+        }
+
+        double lower() {
+            return middle - deviation;
+        }
+    }
+
+    /**
+     * MACD 시그널 라인, 시그널 라인은 MACD 라인(단기 EMA - 장기 EMA)의 EMA
+     */
+    private static final class Macd implements Calculator {
+        private final Ema fast;
+        private final Ema slow;
+        private final Ema signal;
+
+        Macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+            this.fast = new Ema(fastPeriod);
+            this.slow = new Ema(slowPeriod);
+            this.signal = new Ema(signalPeriod);
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            fast.update(close);
+            slow.update(close);
+            if (slow.isReady()) {
+                signal.update(fast.value() - slow.value());
+            }
+            out[0] = signal.isReady() ? signal.value() : Double.NaN;
+        }
+    }
+
+    private static final class RsiCalculator implements Calculator {
+        private final WilderRsi rsi;
+
+        RsiCalculator(int period) {
+            this.rsi = new WilderRsi(period);
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            rsi.update(close);
+            out[0] = rsi.isReady() ? rsi.value() : Double.NaN;
+        }
+    }
+
+    /**
+     * 결과 순서: middle, upper, lower (IndicatorSpec.output())
+     */
+    private static final class BandsCalculator implements Calculator {
+        private final RollingBands bands;
+
+        BandsCalculator(int period, double stdDev) {
+            this.bands = new RollingBands(period, stdDev);
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            bands.update(close);
+            boolean ready = bands.isReady();
+            out[0] = ready ? bands.middle() : Double.NaN;
+            out[1] = ready ? bands.upper() : Double.NaN;
+            out[2] = ready ? bands.lower() : Double.NaN;
+        }
+    }
+
+    /**
+     * 종가 - period 분봉 전 종가
+     */
+    private static final class Momentum implements Calculator {
+        private final double[] closes;
+        private int next;
+        private int count;
+
+        Momentum(int period) {
+            this.closes = new double[period + 1];
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            closes[next] = close;
+            next = (next + 1) % closes.length;
+            count = Math.min(count + 1, closes.length);
+            // 가득 차면 next가 가장 오래된(period 분봉 전) 종가를 가리킨다
+            out[0] = count == closes.length ? close - closes[next] : Double.NaN;
+        }
+    }
+
+    /**
+     * 피봇 저점/고점, period 분봉 전 종가가 앞뒤 period 분봉 안에서 최저(최고)인지
+     * 이후 구간이 닫혀야 확정되므로 period 분봉 늦게 판단된다
+     */
+    private static final class Pivot implements Calculator {
+        private final int window;
+        private final boolean bottom;
+        private final double[] closes;
+        private int next;
+        private int count;
+
+        Pivot(int window, boolean bottom) {
+            this.window = window;
+            this.bottom = bottom;
+            this.closes = new double[window * 2 + 1];
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            closes[next] = close;
+            next = (next + 1) % closes.length;
+            count = Math.min(count + 1, closes.length);
+            if (count < closes.length) {
+                out[0] = Double.NaN;
+                return;
+            }
+
+            double center = closes[(next + window) % closes.length];
+            for (double price : closes) {
+                if (bottom ? price < center : price > center) {
+                    out[0] = 0;
+                    return;
+                }
+            }
+            out[0] = 1;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package scoula.coin.domain.strategy;
+
+/**
+ * 전략 하나가 선언한 지표에 대한 읽기 전용 view
+ * 인덱스는 Strategy.getIndicators()의 순서이며, 값은 StrategyEngine의 공유 배열에서 바로 읽는다.
+ */
+public final class IndicatorFrame {
+
+    private final StrategyEngine engine;
+    private final int[] slots;
+
+    IndicatorFrame(StrategyEngine engine, int[] slots) {
+        this.engine = engine;
+        this.slots = slots;
+    }
+
+    /**
+     * @param indicator : int getIndicators()에서의 위치
+     * @return : double 방금 닫힌 분봉의 값, 계산 전이면 NaN
+     */
+    public double get(int indicator) {
+        return engine.value(slots[indicator], 0);
+    }
+
+    /**
+     * @param ago : int 몇 분봉 전 값인지 (0 이상 getLookback() 이하)
+     * @return : double 계산 전이거나 보관 범위를 벗어나면 NaN
+     */
+    public double get(int indicator, int ago) {
+        return engine.value(slots[indicator], ago);
+    }
+
+    public boolean isReady(int indicator, int ago) {
+        return !Double.isNaN(get(indicator, ago));
+    }
+}
@@ -0,0 +1,130 @@
+package scoula.coin.domain.strategy;
+
+import java.util.Arrays;
+
+/**
+ * 분봉 전체 구간에 대해 미리 계산한 지표 (분봉 인덱스에 맞춰 정렬, 계산 전 구간은 NaN)
+ * IndicatorState와 같은 방식으로 계산하며, 지표별 배열을 따로 만들기 때문에
+ * 지표 기간이 같은 파라미터 조합끼리 배열을 공유할 수 있다. 배열은 읽기 전용으로 다룬다.
+ */
+public final class IndicatorSeries {
+
+    private final double[] macd;
+    private final double[] rsi;
+    private final double[] upper;
+    private final double[] lower;
+
+    /**
+     * @param macd : double[] MACD 시그널 라인 (macd())
+     * @param rsi : double[] rsi()
+     * @param upper : double[] bands()[0]
+     * @param lower : double[] bands()[1]
+     */
+    public IndicatorSeries(double[] macd, double[] rsi, double[] upper, double[] lower) {
+        this.macd = macd;
+        this.rsi = rsi;
+        this.upper = upper;
+        this.lower = lower;
+    }
+
+    /**
+     * 파라미터의 지표 기간으로 전체 지표 계산
+     * @param close : double[] 시간순 종가
+     * @param length : int 사용할 분봉 수
+     * @return : IndicatorSeries
+     */
+    public static IndicatorSeries compute(double[] close, int length, StrategyParameters parameters) {
+        double[][] bands = bands(close, length, parameters.getBandPeriod(), parameters.getBandStdDev());
+        return new IndicatorSeries(
+                macd(close, length, parameters.getFastPeriod(), parameters.getSlowPeriod(), parameters.getSignalPeriod()),
+                rsi(close, length, parameters.getRsiPeriod()),
+                bands[0], bands[1]);
+    }
+
+    /**
+     * 같은 분봉끼리 맞춘 MACD 시그널 라인 (IndicatorState.getMacd와 동일)
+     */
+    public static double[] macd(double[] close, int length, int fastPeriod, int slowPeriod, int signalPeriod) {
+        double[] out = nanArray(length);
+        IndicatorCalculators.Ema fast = new IndicatorCalculators.Ema(fastPeriod);
+        IndicatorCalculators.Ema slow = new IndicatorCalculators.Ema(slowPeriod);
+        IndicatorCalculators.Ema signal = new IndicatorCalculators.Ema(signalPeriod);
+        for (int i = 0; i < length; i++) {
+            fast.update(close[i]);
+            slow.update(close[i]);
+            if (slow.isReady()) {
+                signal.update(fast.value() - slow.value());
+                if (signal.isReady()) {
+                    out[i] = signal.value();
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Wilder 방식 RSI (IndicatorState.getRsi와 동일)
+     */
+    public static double[] rsi(double[] close, int length, int period) {
+        double[] out = nanArray(length);
+        IndicatorCalculators.WilderRsi rsi = new IndicatorCalculators.WilderRsi(period);
+        for (int i = 0; i < length; i++) {
+            rsi.update(close[i]);
+            if (rsi.isReady()) {
+                out[i] = rsi.value();
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 볼린저 밴드 (IndicatorState와 동일)
+     * @return : double[][] upper, lower 순서
+     */
+    public static double[][] bands(double[] close, int length, int period, double stdDev) {
+        double[] upper = nanArray(length);
+        double[] lower = nanArray(length);
+        IndicatorCalculators.RollingBands bands = new IndicatorCalculators.RollingBands(period, stdDev);
+        for (int i = 0; i < length; i++) {
+            bands.update(close[i]);
+            if (bands.isReady()) {
+                upper[i] = bands.upper();
+                lower[i] = bands.lower();
+            }
+        }
+        return new double[][]{upper, lower};
+    }
+
+    /**
+     * i번째 분봉에서 신호를 판단할 수 있는지 (모든 지표와 직전 분봉의 MACD가 있어야 함)
+     */
+    public boolean isReady(int i) {
+        return i > 0 && !Double.isNaN(macd[i - 1]) && !Double.isNaN(rsi[i]) && !Double.isNaN(upper[i]);
+    }
+
+    public double getMacd(int i) {
+        return macd[i];
+    }
+
+    public double getPreviousMacd(int i) {
+        return macd[i - 1];
+    }
+
+    public double getRsi(int i) {
+        return rsi[i];
+    }
+
+    public double getUpperBand(int i) {
+        return upper[i];
+    }
+
+    public double getLowerBand(int i) {
+        return lower[i];
+    }
+
+    private static double[] nanArray(int length) {
+        double[] values = new double[length];
+        Arrays.fill(values, Double.NaN);
+        return values;
+    }
+}
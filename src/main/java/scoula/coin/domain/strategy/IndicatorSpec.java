@@ -0,0 +1,87 @@
+package scoula.coin.domain.strategy;
+
+/**
+ * 전략이 사용하는 지표와 기간 (값이 같으면 같은 지표로 보고 한 번만 계산)
+ * @param type : Type 지표 종류
+ * @param period : int 기간 (MACD는 단기 EMA, 피봇은 좌우 분봉 수)
+ * @param slowPeriod : int MACD 장기 EMA 기간, 그 외 0
+ * @param signalPeriod : int MACD 시그널 기간, 그 외 0
+ * @param stdDev : double 볼린저 밴드 표준편차 배수, 그 외 0
+ */
+public record IndicatorSpec(Type type, int period, int slowPeriod, int signalPeriod, double stdDev) {
+
+    public enum Type {
+        CLOSE,          // 종가
+        MACD,           // MACD 시그널 라인 (IndicatorState.getMacd와 동일)
+        RSI,
+        BAND_UPPER,
+        BAND_MIDDLE,
+        BAND_LOWER,
+        MOMENTUM,       // 종가 - period 분봉 전 종가
+        PIVOT_BOTTOM,   // period 분봉 전 종가가 앞뒤 period 분봉의 최저가면 1, 아니면 0
+        PIVOT_TOP       // period 분봉 전 종가가 앞뒤 period 분봉의 최고가면 1, 아니면 0
+    }
+
+    public IndicatorSpec {
+        if (type != Type.CLOSE && period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + type + " " + period);
+        }
+    }
+
+    public static IndicatorSpec close() {
+        return new IndicatorSpec(Type.CLOSE, 0, 0, 0, 0);
+    }
+
+    public static IndicatorSpec macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+        return new IndicatorSpec(Type.MACD, fastPeriod, slowPeriod, signalPeriod, 0);
+    }
+
+    public static IndicatorSpec rsi(int period) {
+        return new IndicatorSpec(Type.RSI, period, 0, 0, 0);
+    }
+
+    public static IndicatorSpec bandUpper(int period, double stdDev) {
+        return new IndicatorSpec(Type.BAND_UPPER, period, 0, 0, stdDev);
+    }
+
+    public static IndicatorSpec bandMiddle(int period, double stdDev) {
+        return new IndicatorSpec(Type.BAND_MIDDLE, period, 0, 0, stdDev);
+    }
+
+    public static IndicatorSpec bandLower(int period, double stdDev) {
+        return new IndicatorSpec(Type.BAND_LOWER, period, 0, 0, stdDev);
+    }
+
+    public static IndicatorSpec momentum(int period) {
+        return new IndicatorSpec(Type.MOMENTUM, period, 0, 0, 0);
+    }
+
+    public static IndicatorSpec pivotBottom(int window) {
+        return new IndicatorSpec(Type.PIVOT_BOTTOM, window, 0, 0, 0);
+    }
+
+    public static IndicatorSpec pivotTop(int window) {
+        return new IndicatorSpec(Type.PIVOT_TOP, window, 0, 0, 0);
+    }
+
+    /**
+     * 실제로 계산하는 단위 (볼린저 상단/중간/하단은 같은 계산을 공유)
+     */
+    IndicatorSpec source() {
+        return switch (type) {
+            case BAND_UPPER, BAND_LOWER -> bandMiddle(period, stdDev);
+            default -> this;
+        };
+    }
+
+    /**
+     * source() 계산 결과 중 이 지표의 위치
+     */
+    int output() {
+        return switch (type) {
+            case BAND_UPPER -> 1;
+            case BAND_LOWER -> 2;
+            default -> 0;
+        };
+    }
+}
@@ -0,0 +1,264 @@
+package scoula.coin.domain.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마켓 하나에 대한 증분 지표 상태
+ * 새 분봉이 닫힐 때마다 update()로 종가 하나만 반영하며, 각 지표는 O(1)로 갱신된다.
+ * 지표 계산은 StrategyEngine이 맡아 차트용 MACD/RSI/볼린저 밴드와 전략이 선언한 지표를 한 번씩만 계산한다.
+ * 같은 마켓의 분석이 동시에 돌지 않도록 호출 측에서 이 객체로 동기화한다.
+ */
+public class IndicatorState {
+
+    private final int historySize;
+    private final StrategyEngine engine;
+    private final int macdSlot;
+    private final int rsiSlot;
+    private final int upperSlot;
+    private final int middleSlot;
+    private final int lowerSlot;
+
+    private long lastCandleTime;
+    private double lastOpen;
+    private double lastHigh;
+    private double lastLow;
+    private double lastClose;
+    private double lastVolume;
+
+    // 결과 이력 (ring buffer)
+    private final PriceSeries candles;
+    private final double[] macdHistory;
+    private final double[] rsiHistory;
+    private final double[] upperHistory;
+    private final double[] middleHistory;
+    private final double[] lowerHistory;
+    private final int[] signalHistory;
+    private int head;
+    private int size;
+
+    public IndicatorState(int historySize, int fastPeriod, int slowPeriod, int signalPeriod,
+                          int rsiPeriod, int bandPeriod, double bandStdDev) {
+        this(historySize, fastPeriod, slowPeriod, signalPeriod, rsiPeriod, bandPeriod, bandStdDev, List.of());
+    }
+
+    /**
+     * @param strategies : List<Strategy> 분봉마다 함께 실행할 전략 (getStrategySignal로 조회)
+     */
+    public IndicatorState(int historySize, int fastPeriod, int slowPeriod, int signalPeriod,
+                          int rsiPeriod, int bandPeriod, double bandStdDev, List<Strategy> strategies) {
+        this.historySize = historySize;
+        IndicatorSpec macd = IndicatorSpec.macd(fastPeriod, slowPeriod, signalPeriod);
+        IndicatorSpec rsi = IndicatorSpec.rsi(rsiPeriod);
+        IndicatorSpec upper = IndicatorSpec.bandUpper(bandPeriod, bandStdDev);
+        IndicatorSpec middle = IndicatorSpec.bandMiddle(bandPeriod, bandStdDev);
+        IndicatorSpec lower = IndicatorSpec.bandLower(bandPeriod, bandStdDev);
+        this.engine = new StrategyEngine(strategies, List.of(macd, rsi, upper, middle, lower));
+        this.macdSlot = engine.slot(macd);
+        this.rsiSlot = engine.slot(rsi);
+        this.upperSlot = engine.slot(upper);
+        this.middleSlot = engine.slot(middle);
+        this.lowerSlot = engine.slot(lower);
+
+        this.candles = new PriceSeries(historySize);
+        this.macdHistory = new double[historySize];
+        this.rsiHistory = new double[historySize];
+        this.upperHistory = new double[historySize];
+        this.middleHistory = new double[historySize];
+        this.lowerHistory = new double[historySize];
+        this.signalHistory = new int[historySize];
+        reset();
+    }
+
+    /**
+     * 분봉이 누락되어 이어서 계산할 수 없을 때 처음부터 다시 계산하도록 초기화
+     */
+    public void reset() {
+        engine.reset();
+        lastCandleTime = Long.MIN_VALUE;
+        candles.clear();
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * 닫힌 분봉의 종가 반영
+     * @param candleTime : long 분봉 시작 시각 (epoch millis)
+     * @param close : double 종가
+     * @return : boolean 모든 지표가 계산 가능한 상태이면 true
+     */
+    public boolean update(long candleTime, double close) {
+        return update(candleTime, close, close, close, close, 0);
+    }
+
+    /**
+     * 닫힌 분봉 반영, 지표는 종가로 계산하고 OHLCV는 결과 이력에 남긴다
+     * @param candleTime : long 분봉 시작 시각 (epoch millis)
+     * @return : boolean 모든 지표가 계산 가능한 상태이면 true
+     */
+    public boolean update(long candleTime, double open, double high, double low, double close, double volume) {
+        if (candleTime <= lastCandleTime) {
+            throw new IllegalArgumentException("Candle is not newer than the last one: " + candleTime);
+        }
+        lastCandleTime = candleTime;
+        lastOpen = open;
+        lastHigh = high;
+        lastLow = low;
+        lastClose = close;
+        lastVolume = volume;
+
+        engine.update(close);
+        return isReady();
+    }
+
+    /**
+     * 현재 지표값과 신호를 결과 이력에 추가
+     * @param signal : int 1: 매수, -1: 매도, 0: 중립
+     */
+    public void appendHistory(int signal) {
+        int index = (head + size) % historySize;
+        if (size == historySize) {
+            head = (head + 1) % historySize;
+        } else {
+            size++;
+        }
+        candles.add(lastCandleTime, lastOpen, lastHigh, lastLow, lastClose, lastVolume);
+        macdHistory[index] = getMacd();
+        rsiHistory[index] = getRsi();
+        upperHistory[index] = getUpperBand();
+        middleHistory[index] = getMiddleBand();
+        lowerHistory[index] = getLowerBand();
+        signalHistory[index] = signal;
+    }
+
+    public boolean isReady() {
+        return !Double.isNaN(engine.value(macdSlot, 0)) && !Double.isNaN(engine.value(rsiSlot, 0))
+                && !Double.isNaN(engine.value(upperSlot, 0));
+    }
+
+    /**
+     * 직전 분봉의 MACD가 있어야 교차 여부를 판단할 수 있다
+     */
+    public boolean hasPreviousMacd() {
+        return !Double.isNaN(getPreviousMacd());
+    }
+
+    public boolean isEmpty() {
+        return lastCandleTime == Long.MIN_VALUE;
+    }
+
+    public long getLastCandleTime() {
+        return lastCandleTime;
+    }
+
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getClose() {
+        return lastClose;
+    }
+
+    public double getMacd() {
+        return engine.value(macdSlot, 0);
+    }
+
+    public double getPreviousMacd() {
+        return engine.value(macdSlot, 1);
+    }
+
+    public double getRsi() {
+        return engine.value(rsiSlot, 0);
+    }
+
+    public double getUpperBand() {
+        return engine.value(upperSlot, 0);
+    }
+
+    public double getMiddleBand() {
+        return engine.value(middleSlot, 0);
+    }
+
+    public double getLowerBand() {
+        return engine.value(lowerSlot, 0);
+    }
+
+    /**
+     * 마지막으로 반영한 분봉에 대한 전략의 신호
+     * @param strategy : int getStrategies()에서의 위치
+     * @return : int 1: 매수, -1: 매도, 0: 중립
+     */
+    public int getStrategySignal(int strategy) {
+        return engine.getSignal(strategy);
+    }
+
+    public List<Strategy> getStrategies() {
+        return engine.getStrategies();
+    }
+
+    public int getLatestSignal() {
+        return size == 0 ? 0 : signalHistory[(head + size - 1) % historySize];
+    }
+
+    /**
+     * 결과 이력과 같은 구간의 분봉 (OHLCV view 제공)
+     */
+    public PriceSeries getCandles() {
+        return candles;
+    }
+
+    public List<Double> getPrices() {
+        PriceSeries.Column close = candles.close();
+        List<Double> result = new ArrayList<>(close.size());
+        for (int i = 0; i < close.size(); i++) {
+            result.add(close.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return : List<Long> getPrices()와 같은 구간의 분봉 시작 시각 (UTC epoch millis)
+     */
+    public List<Long> getCandleTimes() {
+        List<Long> result = new ArrayList<>(candles.size());
+        for (int i = 0; i < candles.size(); i++) {
+            result.add(candles.getTime(i));
+        }
+        return result;
+    }
+
+    public List<Double> getMacdHistory() {
+        return toList(macdHistory);
+    }
+
+    public List<Double> getRsiHistory() {
+        return toList(rsiHistory);
+    }
+
+    /**
+     * @return : List<List<Double>> upper, middle, lower 순서 (calculateBollingerBands와 동일)
+     */
+    public List<List<Double>> getBollingerBandHistory() {
+        return List.of(toList(upperHistory), toList(middleHistory), toList(lowerHistory));
+    }
+
+    public List<Integer> getSignalHistory() {
+        List<Integer> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(signalHistory[(head + i) % historySize]);
+        }
+        return result;
+    }
+
+    private List<Double> toList(double[] history) {
+        List<Double> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(history[(head + i) % historySize]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package scoula.coin.domain.strategy;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+/**
+ * 기본 전략: MACD 교차 + RSI + 볼린저 밴드 위치 (TechnicalIndicator.evaluateSignal)
+ */
+public class MacdRsiBandStrategy implements Strategy {
+
+    public static final String NAME = "macd-rsi-band";
+
+    private static final int CLOSE = 0;
+    private static final int MACD = 1;
+    private static final int RSI = 2;
+    private static final int UPPER = 3;
+    private static final int LOWER = 4;
+
+    private final TechnicalIndicator technicalIndicator;
+    private final StrategyParameters parameters = StrategyParameters.DEFAULT;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<IndicatorSpec> getIndicators() {
+        return List.of(
+                IndicatorSpec.close(),
+                IndicatorSpec.macd(parameters.getFastPeriod(), parameters.getSlowPeriod(), parameters.getSignalPeriod()),
+                IndicatorSpec.rsi(parameters.getRsiPeriod()),
+                IndicatorSpec.bandUpper(parameters.getBandPeriod(), parameters.getBandStdDev()),
+                IndicatorSpec.bandLower(parameters.getBandPeriod(), parameters.getBandStdDev()));
+    }
+
+    @Override
+    public int evaluate(IndicatorFrame frame) {
+        // 직전 분봉의 MACD가 있어야 교차 여부를 판단할 수 있다
+        if (!frame.isReady(MACD, 1) || !frame.isReady(RSI, 0) || !frame.isReady(UPPER, 0)) {
+            return 0;
+        }
+        return technicalIndicator.evaluateSignal(frame.get(CLOSE), frame.get(RSI), frame.get(MACD, 1),
+                frame.get(MACD), frame.get(UPPER), frame.get(LOWER), parameters);
+    }
+}
@@ -0,0 +1,57 @@
+package scoula.coin.domain.strategy;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+/**
+ * 피봇 반전 전략
+ * 피봇 저점이 확정된 분봉에서 모멘텀이 양수이고 RSI가 중립 아래면 매수,
+ * 피봇 고점이 확정된 분봉에서 모멘텀이 음수이고 RSI가 중립 위면 매도
+ */
+public class PivotMomentumStrategy implements Strategy {
+
+    public static final String NAME = "pivot-momentum";
+
+    private static final int PIVOT_WINDOW = 5;
+    private static final int MOMENTUM_PERIOD = 10;
+    private static final double RSI_NEUTRAL = 50;
+
+    private static final int RSI = 0;
+    private static final int MOMENTUM = 1;
+    private static final int PIVOT_BOTTOM = 2;
+    private static final int PIVOT_TOP = 3;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<IndicatorSpec> getIndicators() {
+        // RSI 14는 기본 전략과 같은 지표라 한 번만 계산된다
+        return List.of(
+                IndicatorSpec.rsi(StrategyParameters.DEFAULT.getRsiPeriod()),
+                IndicatorSpec.momentum(MOMENTUM_PERIOD),
+                IndicatorSpec.pivotBottom(PIVOT_WINDOW),
+                IndicatorSpec.pivotTop(PIVOT_WINDOW));
+    }
+
+    @Override
+    public int evaluate(IndicatorFrame frame) {
+        if (!frame.isReady(RSI, 0) || !frame.isReady(MOMENTUM, 0) || !frame.isReady(PIVOT_BOTTOM, 0)) {
+            return 0;
+        }
+        double rsi = frame.get(RSI);
+        double momentum = frame.get(MOMENTUM);
+
+        if (frame.get(PIVOT_BOTTOM) > 0 && momentum > 0 && rsi < RSI_NEUTRAL) {
+            return 1;  // BUY
+        }
+        if (frame.get(PIVOT_TOP) > 0 && momentum < 0 && rsi > RSI_NEUTRAL) {
+            return -1; // SELL
+        }
+        return 0;
+    }
+}
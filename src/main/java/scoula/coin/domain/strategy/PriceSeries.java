@@ -0,0 +1,178 @@
+package scoula.coin.domain.strategy;
+
+/**
+ * 고정 크기 ring buffer 기반의 분봉 시계열
+ * 시각과 OHLCV를 primitive 배열에 저장해 분봉을 추가할 때 객체를 만들지 않는다.
+ * 용량을 넘으면 가장 오래된 분봉을 덮어쓰며, 인덱스 0이 가장 오래된 분봉이다.
+ */
+public class PriceSeries {
+
+    private final int capacity;
+    private final long[] times;
+    private final double[] opens;
+    private final double[] highs;
+    private final double[] lows;
+    private final double[] closes;
+    private final double[] volumes;
+    private int head;
+    private int size;
+
+    private final Column open;
+    private final Column high;
+    private final Column low;
+    private final Column close;
+    private final Column volume;
+
+    public PriceSeries(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.times = new long[capacity];
+        this.opens = new double[capacity];
+        this.highs = new double[capacity];
+        this.lows = new double[capacity];
+        this.closes = new double[capacity];
+        this.volumes = new double[capacity];
+
+        this.open = new Column(opens);
+        this.high = new Column(highs);
+        this.low = new Column(lows);
+        this.close = new Column(closes);
+        this.volume = new Column(volumes);
+    }
+
+    /**
+     * 분봉 추가, 가득 차 있으면 가장 오래된 분봉을 덮어씀
+     * @param time : long 분봉 시작 시각 (epoch millis)
+     */
+    public void add(long time, double open, double high, double low, double close, double volume) {
+        int index = (head + size) % capacity;
+        if (size == capacity) {
+            head = (head + 1) % capacity;
+        } else {
+            size++;
+        }
+        times[index] = time;
+        opens[index] = open;
+        highs[index] = high;
+        lows[index] = low;
+        closes[index] = close;
+        volumes[index] = volume;
+    }
+
+    /**
+     * 가장 최근 분봉 수정 (진행 중인 분봉 갱신용)
+     */
+    public void updateLast(double high, double low, double close, double volume) {
+        if (size == 0) {
+            throw new IllegalStateException("Series is empty");
+        }
+        int index = physical(size - 1);
+        highs[index] = high;
+        lows[index] = low;
+        closes[index] = close;
+        volumes[index] = volume;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getTime(int i) {
+        return times[physical(i)];
+    }
+
+    public long getLastTime() {
+        if (size == 0) {
+            throw new IllegalStateException("Series is empty");
+        }
+        return times[physical(size - 1)];
+    }
+
+    /**
+     * 시각을 시간순으로 dst에 복사
+     * @return : int 복사한 개수
+     */
+    public int copyTimesTo(long[] dst) {
+        int first = Math.min(size, capacity - head);
+        System.arraycopy(times, head, dst, 0, first);
+        System.arraycopy(times, 0, dst, first, size - first);
+        return size;
+    }
+
+    public Column open() {
+        return open;
+    }
+
+    public Column high() {
+        return high;
+    }
+
+    public Column low() {
+        return low;
+    }
+
+    public Column close() {
+        return close;
+    }
+
+    public Column volume() {
+        return volume;
+    }
+
+    private int physical(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return (head + i) % capacity;
+    }
+
+    /**
+     * 한 필드(open/high/low/close/volume)에 대한 읽기 전용 view
+     */
+    public final class Column {
+        private final double[] values;
+
+        private Column(double[] values) {
+            this.values = values;
+        }
+
+        public double get(int i) {
+            return values[physical(i)];
+        }
+
+        public double last() {
+            return get(size - 1);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 시간순으로 dst에 복사, TechnicalIndicator의 double[] 메서드 입력으로 사용
+         * @param dst : double[] size() 이상의 길이
+         * @return : int 복사한 개수
+         */
+        public int copyTo(double[] dst) {
+            int first = Math.min(size, capacity - head);
+            System.arraycopy(values, head, dst, 0, first);
+            System.arraycopy(values, 0, dst, first, size - first);
+            return size;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package scoula.coin.domain.strategy;
+
+import java.util.List;
+
+/**
+ * 매매 전략 SPI
+ * 전략은 필요한 지표를 getIndicators()로 선언하고, StrategyEngine이 분봉마다 같은 지표를 한 번만 계산해
+ * 모든 전략에 공유한다. evaluate()는 분봉이 닫힐 때마다 호출되며 primitive 값만 읽어야 한다.
+ * Spring bean으로 등록하고 trading.strategies에 이름을 추가하면 마켓마다 실행된다.
+ */
+public interface Strategy {
+
+    /**
+     * @return : String trading.strategies에서 쓰는 이름
+     */
+    String getName();
+
+    /**
+     * @return : List<IndicatorSpec> 필요한 지표, IndicatorFrame에서 이 순서의 인덱스로 조회
+     */
+    List<IndicatorSpec> getIndicators();
+
+    /**
+     * @return : int 조회할 과거 분봉 수 (IndicatorFrame.get의 ago 최댓값)
+     */
+    default int getLookback() {
+        return 1;
+    }
+
+    /**
+     * 닫힌 분봉에 대한 신호 판단
+     * @param frame : IndicatorFrame 선언한 지표의 현재/과거 값
+     * @return : int 1: 매수, -1: 매도, 0: 중립
+     */
+    int evaluate(IndicatorFrame frame);
+}
@@ -0,0 +1,157 @@
+package scoula.coin.domain.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 전략을 한 마켓에서 실행하는 엔진
+ * 전략들이 선언한 지표를 모아 같은 지표(IndicatorSpec)는 한 번만 계산하고,
+ * 결과는 지표별 primitive ring buffer에 보관해 전략들이 공유한다.
+ * 분봉이 닫힐 때마다 update()를 호출하며, 객체 생성 없이 O(지표 수 + 전략 수)로 처리한다.
+ * 동기화는 호출 측(IndicatorState)에서 한다.
+ */
+public class StrategyEngine {
+
+    private final List<Strategy> strategies;
+    private final IndicatorSpec[] sources;
+    private final IndicatorCalculators.Calculator[] calculators;
+    private final double[][] outputs;           // source별 계산 결과
+    private final Map<IndicatorSpec, Integer> slots = new HashMap<>();
+    private final int[] slotSource;
+    private final int[] slotOutput;
+    private final double[][] history;           // [slot][ring]
+    private final int depth;
+    private int head;
+    private int filled;
+
+    private final IndicatorFrame[] frames;
+    private final int[] signals;
+
+    /**
+     * @param strategies : List<Strategy> 실행할 전략
+     * @param indicators : Collection<IndicatorSpec> 전략 외에 값을 조회할 지표 (차트 이력 등)
+     */
+    public StrategyEngine(List<Strategy> strategies, Collection<IndicatorSpec> indicators) {
+        this.strategies = List.copyOf(strategies);
+
+        List<IndicatorSpec> specs = new ArrayList<>(indicators);
+        int lookback = 1;
+        for (Strategy strategy : this.strategies) {
+            specs.addAll(strategy.getIndicators());
+            lookback = Math.max(lookback, strategy.getLookback());
+        }
+        this.depth = lookback + 1;
+
+        // 지표 → slot, 계산 단위(source) → 계산기
+        Map<IndicatorSpec, Integer> sourceIndex = new LinkedHashMap<>();
+        List<Integer> slotSources = new ArrayList<>();
+        List<Integer> slotOutputs = new ArrayList<>();
+        for (IndicatorSpec spec : specs) {
+            if (slots.containsKey(spec)) {
+                continue;
+            }
+            int source = sourceIndex.computeIfAbsent(spec.source(), key -> sourceIndex.size());
+            slots.put(spec, slots.size());
+            slotSources.add(source);
+            slotOutputs.add(spec.output());
+        }
+        this.sources = sourceIndex.keySet().toArray(new IndicatorSpec[0]);
+        this.calculators = new IndicatorCalculators.Calculator[sources.length];
+        this.outputs = new double[sources.length][3];
+        this.slotSource = slotSources.stream().mapToInt(Integer::intValue).toArray();
+        this.slotOutput = slotOutputs.stream().mapToInt(Integer::intValue).toArray();
+        this.history = new double[slots.size()][depth];
+
+        this.frames = new IndicatorFrame[this.strategies.size()];
+        for (int i = 0; i < frames.length; i++) {
+            List<IndicatorSpec> declared = this.strategies.get(i).getIndicators();
+            int[] mapping = new int[declared.size()];
+            for (int j = 0; j < mapping.length; j++) {
+                mapping[j] = slots.get(declared.get(j));
+            }
+            frames[i] = new IndicatorFrame(this, mapping);
+        }
+        this.signals = new int[this.strategies.size()];
+        reset();
+    }
+
+    /**
+     * 처음부터 다시 계산하도록 초기화
+     */
+    public void reset() {
+        for (int i = 0; i < sources.length; i++) {
+            calculators[i] = IndicatorCalculators.create(sources[i]);
+        }
+        head = depth - 1;
+        filled = 0;
+        Arrays.fill(signals, 0);
+    }
+
+    /**
+     * 닫힌 분봉 반영: 지표를 계산기마다 한 번씩 갱신한 뒤 모든 전략의 신호 판단
+     * @param close : double 종가
+     */
+    public void update(double close) {
+        head = (head + 1) % depth;
+        filled = Math.min(filled + 1, depth);
+
+        for (int i = 0; i < calculators.length; i++) {
+            calculators[i].update(close, outputs[i]);
+        }
+        for (int slot = 0; slot < history.length; slot++) {
+            history[slot][head] = outputs[slotSource[slot]][slotOutput[slot]];
+        }
+        for (int i = 0; i < frames.length; i++) {
+            signals[i] = strategies.get(i).evaluate(frames[i]);
+        }
+    }
+
+    /**
+     * 지표의 slot 번호 (value 조회용)
+     * @param spec : IndicatorSpec 생성 시 등록한 지표
+     * @return : int
+     */
+    public int slot(IndicatorSpec spec) {
+        Integer slot = slots.get(spec);
+        if (slot == null) {
+            throw new IllegalArgumentException("Indicator is not registered: " + spec);
+        }
+        return slot;
+    }
+
+    /**
+     * @param slot : int slot()
+     * @param ago : int 몇 분봉 전 값인지
+     * @return : double 계산 전이거나 보관 범위를 벗어나면 NaN
+     */
+    public double value(int slot, int ago) {
+        if (ago >= filled) {
+            return Double.NaN;
+        }
+        return history[slot][(head - ago + depth) % depth];
+    }
+
+    /**
+     * @param strategy : int getStrategies()에서의 위치
+     * @return : int 마지막 update()에서의 신호
+     */
+    public int getSignal(int strategy) {
+        return signals[strategy];
+    }
+
+    public List<Strategy> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * @return : int 실제로 계산하는 지표 수 (전략 간 공유 후)
+     */
+    public int getCalculatorCount() {
+        return calculators.length;
+    }
+}
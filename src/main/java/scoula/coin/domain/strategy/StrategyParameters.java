@@ -0,0 +1,74 @@
+package scoula.coin.domain.strategy;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import scoula.coin.application.dto.OrderBookDTO;
+
+import java.util.List;
+
+@Getter
+@ToString
+@Builder(toBuilder = true)
+/**
+ * 매매 전략 상수 (불변)
+ * 기본값은 실거래(TradingService, TechnicalIndicator)에서 쓰는 값과 같다.
+ */
+public class StrategyParameters {
+
+    public static final StrategyParameters DEFAULT = StrategyParameters.builder().build();
+
+    // 지표
+    @Builder.Default private final int fastPeriod = 12;
+    @Builder.Default private final int slowPeriod = 26;
+    @Builder.Default private final int signalPeriod = 9;
+    @Builder.Default private final int rsiPeriod = 14;
+    @Builder.Default private final int bandPeriod = 20;
+    @Builder.Default private final double bandStdDev = 2.0;
+
+    // 신호 조건
+    @Builder.Default private final double rsiBuyThreshold = 30;
+    @Builder.Default private final double rsiSellThreshold = 70;
+    @Builder.Default private final double bandBuyPosition = 0.3;
+    @Builder.Default private final double bandSellPosition = 0.7;
+
+    // 주문
+    @Builder.Default private final double orderFraction = 0.1;          // 잔고 대비 주문 비율
+    @Builder.Default private final double minOrderKrw = 10_000;         // 최소 매수 금액
+    @Builder.Default private final double minOrderVolume = 0.0001;      // 최소 매도 수량
+    @Builder.Default private final double takeProfitStopLoss = 0.05;    // 체결가 대비 변동률
+    @Builder.Default private final int cancelAfterMinutes = 3;          // 미체결 주문 취소 시간
+    @Builder.Default private final double bidFee = 0.0025;
+    @Builder.Default private final double askFee = 0.0025;
+
+    /**
+     * 주문 가능 정보의 수수료 적용 (응답에 없는 수수료는 그대로 둠)
+     * @param orderChance : OrderBookDTO
+     * @return : StrategyParameters
+     */
+    public StrategyParameters withFees(OrderBookDTO orderChance) {
+        return toBuilder()
+                .bidFee(orderChance.getBidFee() == null ? bidFee : orderChance.getBidFee().doubleValue())
+                .askFee(orderChance.getAskFee() == null ? askFee : orderChance.getAskFee().doubleValue())
+                .build();
+    }
+
+    /**
+     * 이 파라미터의 지표 기간으로 증분 지표 상태 생성
+     * @param historySize : int 결과로 유지할 분봉 수
+     * @return : IndicatorState
+     */
+    public IndicatorState newIndicatorState(int historySize) {
+        return newIndicatorState(historySize, List.of());
+    }
+
+    /**
+     * 전략을 함께 실행하는 증분 지표 상태 생성
+     * @param strategies : List<Strategy> 분봉마다 실행할 전략
+     * @return : IndicatorState
+     */
+    public IndicatorState newIndicatorState(int historySize, List<Strategy> strategies) {
+        return new IndicatorState(historySize, fastPeriod, slowPeriod, signalPeriod, rsiPeriod, bandPeriod, bandStdDev,
+                strategies);
+    }
+}
@@ -4,7 +4,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 /**
@@ -12,6 +11,9 @@ import java.util.stream.Collectors;
  */
 public class TechnicalIndicator {
 
+    // 볼린저 밴드 구간 합을 다시 계산하는 주기 (밴드 값 개수 기준)
+    static final int BAND_REANCHOR_INTERVAL = 1024;
+
     /**
      * 장단기 이동평균선간의 차이 계산
      * @param prices : List<Double>
@@ -38,6 +40,63 @@ public class TechnicalIndicator {
         return calculateEMA(macdLine, signalPeriod);
     }
 
+    /**
+     * calculateMACD의 primitive 버전, 박싱 없이 out에 시그널 라인을 기록
+     * @param prices : double[] 시간순 가격
+     * @param length : int prices 중 사용할 개수
+     * @param fastPeriod : int
+     * @param slowPeriod : int
+     * @param signalPeriod : int
+     * @param out : double[] length - slowPeriod - signalPeriod + 2 이상의 길이
+     * @return : int out에 기록한 개수
+     */
+    public int calculateMACD(double[] prices, int length, int fastPeriod, int slowPeriod, int signalPeriod, double[] out) {
+        if (length < slowPeriod) {
+            return 0;
+        }
+
+        double fastMultiplier = 2.0 / (fastPeriod + 1);
+        double slowMultiplier = 2.0 / (slowPeriod + 1);
+        double signalMultiplier = 2.0 / (signalPeriod + 1);
+
+        // 초기 SMA
+        double fastEma = 0;
+        for (int i = 0; i < fastPeriod; i++) {
+            fastEma += prices[i];
+        }
+        fastEma /= fastPeriod;
+        double slowEma = 0;
+        for (int i = 0; i < slowPeriod; i++) {
+            slowEma += prices[i];
+        }
+        slowEma /= slowPeriod;
+
+        // MACD 라인은 calculateMACD와 같이 두 EMA 결과의 같은 순번끼리 뺀다
+        int macdLength = length - slowPeriod + 1;
+        double signal = 0;
+        int written = 0;
+        for (int j = 0; j < macdLength; j++) {
+            if (j > 0) {
+                fastEma = (prices[fastPeriod - 1 + j] - fastEma) * fastMultiplier + fastEma;
+                slowEma = (prices[slowPeriod - 1 + j] - slowEma) * slowMultiplier + slowEma;
+            }
+            double macdValue = fastEma - slowEma;
+
+            // 시그널 라인 계산
+            if (j < signalPeriod) {
+                signal += macdValue;
+                if (j == signalPeriod - 1) {
+                    signal /= signalPeriod;
+                    out[written++] = signal;
+                }
+            } else {
+                signal = (macdValue - signal) * signalMultiplier + signal;
+                out[written++] = signal;
+            }
+        }
+        return written;
+    }
+
     public List<Double> calculateEMA(List<Double> prices, int period) {
         if (prices.size() < period) {
             return new ArrayList<>();
@@ -63,6 +122,38 @@ public class TechnicalIndicator {
         return ema;
     }
 
+    /**
+     * calculateEMA의 primitive 버전
+     * @param prices : double[] 시간순 가격
+     * @param length : int prices 중 사용할 개수
+     * @param period : int
+     * @param out : double[] length - period + 1 이상의 길이
+     * @return : int out에 기록한 개수
+     */
+    public int calculateEMA(double[] prices, int length, int period, double[] out) {
+        if (length < period) {
+            return 0;
+        }
+
+        double multiplier = 2.0 / (period + 1);
+
+        // Initial SMA calculation
+        double sum = 0;
+        for (int i = 0; i < period; i++) {
+            sum += prices[i];
+        }
+        double ema = sum / period;
+        out[0] = ema;
+
+        // EMA calculation
+        int written = 1;
+        for (int i = period; i < length; i++) {
+            ema = (prices[i] - ema) * multiplier + ema;
+            out[written++] = ema;
+        }
+        return written;
+    }
+
     /**
      * 상대강도지수 계산
      * @param prices : List<Double>
@@ -110,8 +201,49 @@ public class TechnicalIndicator {
         return rsi;
     }
 
+    /**
+     * calculateRSI의 primitive 버전
+     * @param prices : double[] 시간순 가격
+     * @param length : int prices 중 사용할 개수
+     * @param period : int
+     * @param out : double[] length - period 이상의 길이
+     * @return : int out에 기록한 개수
+     */
+    public int calculateRSI(double[] prices, int length, int period, double[] out) {
+        if (length < period + 1) {
+            return 0;
+        }
+
+        // Initial averages
+        double avgGain = 0;
+        double avgLoss = 0;
+        for (int i = 1; i <= period; i++) {
+            double change = prices[i] - prices[i - 1];
+            avgGain += Math.max(change, 0);
+            avgLoss += Math.max(-change, 0);
+        }
+        avgGain /= period;
+        avgLoss /= period;
+
+        // First RSI
+        double rs = avgGain / Math.max(avgLoss, 0.0001); // Avoid division by zero
+        out[0] = 100 - (100 / (1 + rs));
+
+        // Calculate subsequent RSI values
+        int written = 1;
+        for (int i = period + 1; i < length; i++) {
+            double change = prices[i] - prices[i - 1];
+            avgGain = ((avgGain * (period - 1)) + Math.max(change, 0)) / period;
+            avgLoss = ((avgLoss * (period - 1)) + Math.max(-change, 0)) / period;
+            rs = avgGain / Math.max(avgLoss, 0.0001);
+            out[written++] = 100 - (100 / (1 + rs));
+        }
+        return written;
+    }
+
     /**
      * 볼린저 밴드 계산
+     * 구간 합과 제곱합을 한 번의 순회로 갱신하므로 O(n)
      * @param prices : List<Double>
      * @param period : int
      * @param stdDev : double
@@ -122,27 +254,91 @@ public class TechnicalIndicator {
             return List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
         }
 
-        List<Double> sma = new ArrayList<>();
-        List<Double> upperBand = new ArrayList<>();
-        List<Double> lowerBand = new ArrayList<>();
-
-        for (int i = period - 1; i < prices.size(); i++) {
-            List<Double> window = prices.subList(i - period + 1, i + 1);
-            double avg = window.stream().mapToDouble(Double::doubleValue).average().orElse(0);
-            double variance = window.stream()
-                    .mapToDouble(x -> Math.pow(x - avg, 2))
-                    .average()
-                    .orElse(0);
-            double standardDeviation = Math.sqrt(variance);
+        double[] values = new double[prices.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = prices.get(i);
+        }
 
-            sma.add(avg);
-            upperBand.add(avg + (standardDeviation * stdDev));
-            lowerBand.add(avg - (standardDeviation * stdDev));
+        int bandSize = values.length - period + 1;
+        double[] upper = new double[bandSize];
+        double[] middle = new double[bandSize];
+        double[] lower = new double[bandSize];
+        calculateBollingerBands(values, values.length, period, stdDev, upper, middle, lower);
+
+        List<Double> sma = new ArrayList<>(bandSize);
+        List<Double> upperBand = new ArrayList<>(bandSize);
+        List<Double> lowerBand = new ArrayList<>(bandSize);
+        for (int i = 0; i < bandSize; i++) {
+            sma.add(middle[i]);
+            upperBand.add(upper[i]);
+            lowerBand.add(lower[i]);
         }
 
         return List.of(upperBand, sma, lowerBand);
     }
 
+    /**
+     * calculateBollingerBands의 primitive 버전
+     * 기준값(anchor)과의 차이로 구간 합과 제곱합을 유지하고,
+     * 누적 오차를 막기 위해 BAND_REANCHOR_INTERVAL마다 기준값을 구간 평균으로 옮겨 다시 합산한다
+     * @param prices : double[] 시간순 가격
+     * @param length : int prices 중 사용할 개수
+     * @param period : int
+     * @param stdDev : double
+     * @param upper : double[] length - period + 1 이상의 길이
+     * @param middle : double[] length - period + 1 이상의 길이
+     * @param lower : double[] length - period + 1 이상의 길이
+     * @return : int 각 밴드에 기록한 개수
+     */
+    public int calculateBollingerBands(double[] prices, int length, int period, double stdDev,
+                                       double[] upper, double[] middle, double[] lower) {
+        if (length < period) {
+            return 0;
+        }
+
+        double anchor = prices[0];
+        double sum = 0;
+        double sumSq = 0;
+        int written = 0;
+
+        for (int i = 0; i < length; i++) {
+            double entering = prices[i] - anchor;
+            sum += entering;
+            sumSq += entering * entering;
+
+            if (i >= period) {
+                double leaving = prices[i - period] - anchor;
+                sum -= leaving;
+                sumSq -= leaving * leaving;
+            }
+            if (i < period - 1) {
+                continue;
+            }
+
+            if (written > 0 && written % BAND_REANCHOR_INTERVAL == 0) {
+                anchor = sum / period + anchor;
+                sum = 0;
+                sumSq = 0;
+                for (int k = i - period + 1; k <= i; k++) {
+                    double shifted = prices[k] - anchor;
+                    sum += shifted;
+                    sumSq += shifted * shifted;
+                }
+            }
+
+            double mean = sum / period;
+            double variance = Math.max(sumSq / period - mean * mean, 0);
+            double avg = anchor + mean;
+            double standardDeviation = Math.sqrt(variance);
+
+            middle[written] = avg;
+            upper[written] = avg + (standardDeviation * stdDev);
+            lower[written] = avg - (standardDeviation * stdDev);
+            written++;
+        }
+        return written;
+    }
+
     /**
      * 거래 신호 생성
      * @param prices
@@ -156,7 +352,6 @@ public class TechnicalIndicator {
         signals.add(0); // 첫 포인트는 신호 없음
 
         for (int i = 1; i < prices.size(); i++) {
-            int signal = 0;
             double price = prices.get(i);
             double lastRsi = i < rsi.size() ? rsi.get(i) : 0.0;
             double macdValue = macd.size() > i ? macd.get(i) : 0.0;
@@ -164,96 +359,92 @@ public class TechnicalIndicator {
             // 직전 MACD (i-1) 값
             double prevMacd = (i - 1) < macd.size() ? macd.get(i - 1) : 0.0;
 
-            // 볼린저 밴드 위치 계산
-            double pricePosition = calculatePricePosition(prices.get(i),
+            signals.add(evaluateSignal(price, lastRsi, prevMacd, macdValue,
                     bollingerBands.get(0).get(i), // upper
                     bollingerBands.get(2).get(i)  // lower
-            );
-
-            // 매수 신호 조건
-            if (lastRsi <= 30
-                    && pricePosition < 0.3
-                    && prevMacd < 0
-                    && macdValue > 0) {
-                signal = 1;  // BUY
-            }
-
-            // 매도 신호 조건
-            if (lastRsi >= 70
-                    && pricePosition > 0.7
-                    && prevMacd > 0
-                    && macdValue < 0) {
-                signal = -1; // SELL
-            }
-
-            signals.add(signal);
+            ));
         }
 
         return signals;
     }
 
-    // 피봇 저점 확인
-    private boolean isPivotBottom(List<Double> prices, int currentIndex, int window) {
-        if (currentIndex < window || currentIndex >= prices.size() - window) {
-            return false;
+    /**
+     * generateSignals의 primitive 버전
+     * 모든 입력은 generateSignals와 같이 같은 인덱스가 같은 분봉을 가리키도록 끝을 맞춰 잘라둔 상태여야 한다
+     * @param prices : double[]
+     * @param length : int 사용할 가격 개수
+     * @param rsi : double[]
+     * @param rsiLength : int
+     * @param macd : double[]
+     * @param macdLength : int
+     * @param upper : double[] 볼린저 상단
+     * @param lower : double[] 볼린저 하단
+     * @param out : int[] length 이상의 길이
+     * @return : int out에 기록한 개수
+     */
+    public int generateSignals(double[] prices, int length, double[] rsi, int rsiLength,
+                               double[] macd, int macdLength, double[] upper, double[] lower, int[] out) {
+        if (length == 0) {
+            return 0;
         }
+        out[0] = 0; // 첫 포인트는 신호 없음
 
-        double currentPrice = prices.get(currentIndex);
-        boolean isBottom = true;
+        for (int i = 1; i < length; i++) {
+            double lastRsi = i < rsiLength ? rsi[i] : 0.0;
+            double macdValue = macdLength > i ? macd[i] : 0.0;
 
-        // 이전 구간 체크
-        for (int i = currentIndex - window; i < currentIndex; i++) {
-            if (prices.get(i) < currentPrice) {
-                isBottom = false;
-                break;
-            }
-        }
+            // 직전 MACD (i-1) 값
+            double prevMacd = (i - 1) < macdLength ? macd[i - 1] : 0.0;
 
-        // 이후 구간 체크
-        for (int i = currentIndex + 1; i <= currentIndex + window; i++) {
-            if (prices.get(i) < currentPrice) {
-                isBottom = false;
-                break;
-            }
+            out[i] = evaluateSignal(prices[i], lastRsi, prevMacd, macdValue, upper[i], lower[i]);
         }
-
-        return isBottom;
+        return length;
     }
 
-    // 피봇 고점 확인
-    private boolean isPivotTop(List<Double> prices, int currentIndex, int window) {
-        if (currentIndex < window || currentIndex >= prices.size() - window) {
-            return false;
-        }
-
-        double currentPrice = prices.get(currentIndex);
-        boolean isTop = true;
+    /**
+     * 한 분봉에 대한 거래 신호 판단
+     * generateSignals와 증분 지표 엔진이 같은 규칙을 사용하도록 분리
+     * @param price : double 종가
+     * @param rsi : double
+     * @param prevMacd : double 직전 분봉의 MACD
+     * @param macd : double
+     * @param upper : double 볼린저 상단
+     * @param lower : double 볼린저 하단
+     * @return : int 1: 매수, -1: 매도, 0: 중립
+     */
+    public int evaluateSignal(double price, double rsi, double prevMacd, double macd, double upper, double lower) {
+        return evaluateSignal(price, rsi, prevMacd, macd, upper, lower, StrategyParameters.DEFAULT);
+    }
 
-        // 이전 구간 체크
-        for (int i = currentIndex - window; i < currentIndex; i++) {
-            if (prices.get(i) > currentPrice) {
-                isTop = false;
-                break;
-            }
+    /**
+     * 전략 상수를 지정한 거래 신호 판단 (백테스트, 파라미터 탐색용)
+     * @param parameters : StrategyParameters RSI, 볼린저 밴드 위치 기준값
+     * @return : int 1: 매수, -1: 매도, 0: 중립
+     */
+    public int evaluateSignal(double price, double rsi, double prevMacd, double macd, double upper, double lower,
+                              StrategyParameters parameters) {
+        int signal = 0;
+
+        // 볼린저 밴드 위치 계산
+        double pricePosition = calculatePricePosition(price, upper, lower);
+
+        // 매수 신호 조건
+        if (rsi <= parameters.getRsiBuyThreshold()
+                && pricePosition < parameters.getBandBuyPosition()
+                && prevMacd < 0
+                && macd > 0) {
+            signal = 1;  // BUY
         }
 
-        // 이후 구간 체크
-        for (int i = currentIndex + 1; i <= currentIndex + window; i++) {
-            if (prices.get(i) > currentPrice) {
-                isTop = false;
-                break;
-            }
+        // 매도 신호 조건
+        if (rsi >= parameters.getRsiSellThreshold()
+                && pricePosition > parameters.getBandSellPosition()
+                && prevMacd > 0
+                && macd < 0) {
+            signal = -1; // SELL
         }
 
-        return isTop;
-    }
-
-    // 모멘텀 계산
-    private double calculateMomentum(List<Double> prices, int currentIndex, int period) {
-        if (currentIndex < period) {
-            return 0;
-        }
-        return prices.get(currentIndex) - prices.get(currentIndex - period);
+        return signal;
     }
 
     /**
@@ -269,7 +460,6 @@ public class TechnicalIndicator {
 
     /**
      * TODO :
-     *  1. 분봉 정보 DB화
-     *  2. order history 차트에 그리기
+     *  1. order history 차트에 그리기
      */
 }
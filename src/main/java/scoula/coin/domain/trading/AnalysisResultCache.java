@@ -0,0 +1,67 @@
+package scoula.coin.domain.trading;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import scoula.coin.application.dto.AnalysisSnapshot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+@Component
+/**
+ * 마켓별 최신 분석 결과 캐시
+ * 화면과 조회 API는 이 캐시만 읽으며, 분석(및 주문)은 스케쥴러에서만 실행된다.
+ */
+public class AnalysisResultCache {
+
+    private final Map<String, AnalysisSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final List<BiConsumer<AnalysisSnapshot, AnalysisSnapshot>> listeners = new CopyOnWriteArrayList<>();
+    private final Duration ttl;
+
+    public AnalysisResultCache(@Value("${trading.analysis.ttl-seconds:180}") long ttlSeconds) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 분석 결과 교체 저장
+     * @param snapshot : AnalysisSnapshot
+     */
+    public void publish(AnalysisSnapshot snapshot) {
+        AnalysisSnapshot previous = snapshots.put(snapshot.getMarket(), snapshot);
+        for (BiConsumer<AnalysisSnapshot, AnalysisSnapshot> listener : listeners) {
+            listener.accept(previous, snapshot);
+        }
+    }
+
+    /**
+     * 분석 결과가 저장될 때마다 호출할 listener 등록 (분석 스레드에서 호출되므로 오래 걸리는 작업은 넘겨서 처리)
+     * @param listener : BiConsumer<AnalysisSnapshot, AnalysisSnapshot> (이전 결과 또는 null, 새 결과)
+     */
+    public void addListener(BiConsumer<AnalysisSnapshot, AnalysisSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 마켓의 최신 분석 결과
+     * @param market : String 코인 마켓
+     * @return : Optional<AnalysisSnapshot> 아직 분석 전이면 empty
+     */
+    public Optional<AnalysisSnapshot> get(String market) {
+        return Optional.ofNullable(snapshots.get(market));
+    }
+
+    /**
+     * TTL이 지난 분석 결과인지 확인 (스케쥴러가 멈췄거나 해당 마켓 분석이 계속 실패하는 경우)
+     * @param snapshot : AnalysisSnapshot
+     * @return : boolean
+     */
+    public boolean isStale(AnalysisSnapshot snapshot) {
+        return snapshot.getAnalyzedAt().plus(ttl).isBefore(LocalDateTime.now());
+    }
+}
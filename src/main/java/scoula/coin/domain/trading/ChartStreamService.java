@@ -0,0 +1,170 @@
+package scoula.coin.domain.trading;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import scoula.coin.application.dto.AnalysisSnapshot;
+import scoula.coin.application.dto.ChartUpdateDTO;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Log4j2
+@Service
+/**
+ * 실시간 차트 (Server-Sent Events)
+ * 연결할 때 최신 분석 결과 전체를 snapshot 이벤트로 한 번 보내고, 이후에는 분석 결과가 저장될 때마다
+ * 새로 닫힌 분봉의 가격/지표/신호와 주문 상태만 update 이벤트로 보낸다.
+ * 전송은 chartStreamExecutor에서 하므로 분석 스레드는 클라이언트를 기다리지 않는다.
+ */
+public class ChartStreamService {
+
+    private static final int MAX_COUNT = 1000;
+
+    private final AnalysisResultCache analysisResultCache;
+    private final Executor streamExecutor;
+    private final List<String> markets;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public ChartStreamService(AnalysisResultCache analysisResultCache,
+                              @Qualifier("chartStreamExecutor") Executor streamExecutor,
+                              @Value("${trading.markets:KRW-BTC}") List<String> markets,
+                              @Value("${trading.chart.stream-timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${trading.chart.max-subscribers:100}") int maxSubscribers) {
+        this.analysisResultCache = analysisResultCache;
+        this.streamExecutor = streamExecutor;
+        this.markets = markets;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        analysisResultCache.addListener(this::onPublish);
+    }
+
+    /**
+     * 마켓 차트 구독
+     * @param market : String 코인 마켓 (trading.markets 중 하나)
+     * @param count : int 화면에 그릴 분봉 수
+     * @return : SseEmitter
+     */
+    public SseEmitter subscribe(String market, int count) {
+        if (!markets.contains(market)) {
+            throw new CustomException(ErrorCode.ORDER_INVALID_MARKET);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CustomException(ErrorCode.MARKET_STREAM_LIMIT);
+        }
+
+        Subscriber subscriber = new Subscriber(market, Math.max(1, Math.min(count, MAX_COUNT)), newEmitter());
+        subscriber.emitter().onCompletion(() -> remove(subscriber));
+        subscriber.emitter().onTimeout(() -> {
+            remove(subscriber);
+            subscriber.emitter().complete();
+        });
+        subscriber.emitter().onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(market, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        // 연결 직후 분석 결과가 저장되면 update가 먼저 도착할 수 있으며, 클라이언트는 snapshot 전의 update를 무시한다
+        analysisResultCache.get(market).ifPresent(snapshot ->
+                send(subscriber, "snapshot", ChartUpdateDTO.snapshot(snapshot, subscriber.count())));
+        return subscriber.emitter();
+    }
+
+    @Scheduled(fixedDelayString = "${trading.chart.heartbeat-ms:15000}")
+    /**
+     * 연결 유지용 주석 이벤트 (프록시의 유휴 연결 종료 방지, 끊긴 연결 정리)
+     */
+    public void heartbeat() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        dispatch(() -> {
+            for (Set<Subscriber> marketSubscribers : subscribers.values()) {
+                for (Subscriber subscriber : marketSubscribers) {
+                    try {
+                        subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+                    } catch (IOException | IllegalStateException e) {
+                        remove(subscriber);
+                    }
+                }
+            }
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 테스트에서 전송 내용을 확인할 수 있도록 분리
+     */
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * 분석 결과가 저장될 때 (분석 스레드에서 호출)
+     * 이어지는 구간이 있으면 모든 구독자에게 같은 update를, 없으면 구독자별 분봉 수에 맞춘 snapshot을 보낸다.
+     */
+    private void onPublish(AnalysisSnapshot previous, AnalysisSnapshot current) {
+        Set<Subscriber> marketSubscribers = subscribers.get(current.getMarket());
+        if (marketSubscribers == null || marketSubscribers.isEmpty()) {
+            return;
+        }
+        dispatch(() -> {
+            ChartUpdateDTO update = ChartUpdateDTO.update(previous, current);
+            for (Subscriber subscriber : marketSubscribers) {
+                if (update != null) {
+                    send(subscriber, "update", update);
+                } else {
+                    send(subscriber, "snapshot", ChartUpdateDTO.snapshot(current, subscriber.count()));
+                }
+            }
+        });
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            streamExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.warn("Chart stream executor rejected an update: {}", e.getMessage());
+        }
+    }
+
+    private void send(Subscriber subscriber, String name, ChartUpdateDTO data) {
+        try {
+            subscriber.emitter().send(SseEmitter.event()
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+            log.debug("Dropping chart subscriber for {}: {}", subscriber.market(), e.getMessage());
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        Set<Subscriber> marketSubscribers = subscribers.get(subscriber.market());
+        if (marketSubscribers != null && marketSubscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private record Subscriber(String market, int count, SseEmitter emitter) {
+    }
+}
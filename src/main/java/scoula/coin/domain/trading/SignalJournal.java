@@ -0,0 +1,179 @@
+package scoula.coin.domain.trading;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import scoula.coin.application.entity.TradingSignalHistory;
+import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
+import scoula.coin.global.util.TradingMetrics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Log4j2
+@Component
+/**
+ * 시그널 이력 write-behind 저장소
+ * 거래 스레드는 주문 결과(UUID, 실패 사유)까지 채운 행을 append()로 큐에 넣기만 하고,
+ * flush-ms마다 스케쥴러 스레드가 모인 행을 JDBC batch insert로 저장한다. 주문 제출 경로에 DB 왕복이 없다.
+ * 시간 초과 취소처럼 저장 후 바뀌는 실패 사유는 주문 UUID 기준 batch update로 반영한다 (insert 다음에 실행).
+ * 저장에 실패하면 버리지 않고 backoff-ms부터 두 배씩 (max-backoff-ms까지) 늘려 가며 다시 시도한다.
+ * 대기 중인 행이 max-pending을 넘으면 새로 들어오는 행만 버리고 trading.signal.journal.dropped로 센다.
+ */
+public class SignalJournal {
+
+    private final TradingSignalHistoryRepository signalHistoryRepository;
+    private final TradingMetrics tradingMetrics;
+    private final int batchSize;
+    private final int maxPending;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    private final ConcurrentLinkedQueue<TradingSignalHistory> pendingInserts = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Map.Entry<String, String>> pendingFailures = new ConcurrentLinkedQueue<>();
+
+    // 대기열과 재시도 중인 행을 합한 수 (max-pending 확인용)
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    // 아직 저장하지 못한 행 (flush() 안에서만 사용)
+    private final List<TradingSignalHistory> inserts = new ArrayList<>();
+    private final Map<String, String> failures = new LinkedHashMap<>();
+    private int failedFlushes;
+    private long retryAtNanos;
+
+    public SignalJournal(TradingSignalHistoryRepository signalHistoryRepository,
+                         TradingMetrics tradingMetrics,
+                         @Value("${trading.signal-journal.batch-size:500}") int batchSize,
+                         @Value("${trading.signal-journal.max-pending:50000}") int maxPending,
+                         @Value("${trading.signal-journal.backoff-ms:1000}") long backoffMillis,
+                         @Value("${trading.signal-journal.max-backoff-ms:60000}") long maxBackoffMillis) {
+        this.signalHistoryRepository = signalHistoryRepository;
+        this.tradingMetrics = tradingMetrics;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * 시그널 이력 한 행 추가 (생성 시각이 없으면 지금으로 채움)
+     * @param signal : TradingSignalHistory 주문 결과까지 반영된 행
+     */
+    public void append(TradingSignalHistory signal) {
+        LocalDateTime now = LocalDateTime.now();
+        if (signal.getCreatedAt() == null) {
+            signal.setCreatedAt(now);
+        }
+        signal.setUpdatedAt(now);
+        if (reserve()) {
+            pendingInserts.add(signal);
+        }
+    }
+
+    /**
+     * 이미 추가한 시그널의 실패 사유 변경
+     * @param orderUuid : String 시그널로 나간 주문 UUID
+     * @param failureReason : String
+     */
+    public void updateFailureReason(String orderUuid, String failureReason) {
+        if (reserve()) {
+            pendingFailures.add(Map.entry(orderUuid, failureReason));
+        }
+    }
+
+    /**
+     * @return : int 아직 저장하지 않은 행 수 (재시도 중인 행 포함)
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @Scheduled(fixedDelayString = "${trading.signal-journal.flush-ms:1000}")
+    /**
+     * 모인 행 저장 (재시도 대기 중이면 건너뜀)
+     */
+    public synchronized void flush() {
+        if (failedFlushes > 0 && System.nanoTime() - retryAtNanos < 0) {
+            return;
+        }
+        flushNow();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        flushNow();
+        if (!inserts.isEmpty() || !failures.isEmpty()) {
+            log.error("Shutting down with {} unsaved signal rows and {} failure updates",
+                    inserts.size(), failures.size());
+        }
+    }
+
+    private void flushNow() {
+        drain(pendingInserts, inserts);
+        Map.Entry<String, String> failure;
+        while ((failure = pendingFailures.poll()) != null) {
+            // 같은 주문의 변경은 마지막 값만 남으므로 대기 수에서 뺌
+            if (failures.put(failure.getKey(), failure.getValue()) != null) {
+                pendingCount.decrementAndGet();
+            }
+        }
+        if (inserts.isEmpty() && failures.isEmpty()) {
+            return;
+        }
+
+        int inserted = 0;
+        try {
+            while (!inserts.isEmpty()) {
+                // 저장된 묶음은 바로 빼서 재시도 시 중복 저장하지 않음
+                List<TradingSignalHistory> batch = inserts.subList(0, Math.min(batchSize, inserts.size()));
+                signalHistoryRepository.batchInsert(List.copyOf(batch));
+                inserted += batch.size();
+                pendingCount.addAndGet(-batch.size());
+                batch.clear();
+            }
+            int updates = failures.size();
+            if (updates > 0) {
+                signalHistoryRepository.batchUpdateFailureReason(Map.copyOf(failures));
+                pendingCount.addAndGet(-updates);
+                failures.clear();
+            }
+            failedFlushes = 0;
+            log.debug("Flushed signal journal - inserted: {}, failure updates: {}", inserted, updates);
+        } catch (Exception e) {
+            failedFlushes++;
+            long delay = Math.min(maxBackoffMillis, backoffMillis << Math.min(failedFlushes - 1, 20));
+            retryAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            log.warn("Failed to flush signal journal ({} times in a row, {} rows pending), retrying in {} ms: {}",
+                    failedFlushes, pendingCount.get(), delay, e.getMessage());
+        }
+    }
+
+    /**
+     * 대기열 자리 확보, 가득 찼으면 버린 행으로 셈
+     * @return : boolean 추가해도 되면 true
+     */
+    private boolean reserve() {
+        if (pendingCount.incrementAndGet() <= maxPending) {
+            return true;
+        }
+        pendingCount.decrementAndGet();
+        tradingMetrics.countSignalJournalDropped(1);
+        log.warn("Signal journal is full ({} rows pending), dropping a row", maxPending);
+        return false;
+    }
+
+    private static <T> void drain(ConcurrentLinkedQueue<T> queue, List<T> target) {
+        T item;
+        while ((item = queue.poll()) != null) {
+            target.add(item);
+        }
+    }
+}
@@ -1,166 +1,132 @@
 package scoula.coin.domain.trading;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import scoula.coin.application.dto.AnalysisSnapshot;
 import scoula.coin.application.dto.CandleDTO;
 import scoula.coin.application.dto.OrderBookDTO;
 import scoula.coin.application.dto.OrderHistoryDTO;
+import scoula.coin.application.entity.OrderHistory;
 import scoula.coin.application.entity.TradingSignalHistory;
-import scoula.coin.domain.market.CandleService;
+import scoula.coin.domain.market.CandleSyncService;
 import scoula.coin.domain.order.OrderService;
-import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
-import scoula.coin.domain.strategy.TechnicalIndicator;
+import scoula.coin.domain.order.OrderStateTracker;
+import scoula.coin.domain.strategy.IncrementalIndicatorService;
+import scoula.coin.domain.strategy.IndicatorState;
+import scoula.coin.domain.strategy.Strategy;
+import scoula.coin.global.util.ApiCallExecutor;
+import scoula.coin.global.util.TradingMetrics;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.Future;
 
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class TradingService {
-    private final CandleService candleService;
-    private final TechnicalIndicator technicalIndicator;
+    private final CandleSyncService candleSyncService;
     private final OrderService orderService;
-    private final TradingSignalHistoryRepository signalHistoryRepository;
+    private final OrderStateTracker orderStateTracker;
+    private final SignalJournal signalJournal;
+    private final IncrementalIndicatorService indicatorService;
+    private final AnalysisResultCache analysisResultCache;
+    private final ApiCallExecutor apiCallExecutor;
+    private final TradingMetrics tradingMetrics;
 
-    private Map<String, Object> latestAnalysisResult;
+    private static final int CATCH_UP_COUNT = 5;          // 지표 상태가 있을 때 불러올 분봉 수
+    private static final long CANDLE_MILLIS = 60_000L;    // 1분봉
 
     /**
      * 매매 신호를 생성하기 위한 분석
      * @param market : KRW-BTC (코인 마켓)
      * @param count : 분봉 수
-     * @return
+     * @return : AnalysisSnapshot
      */
-    public Map<String, Object> analyzeTradingSignals(String market, int count) {
-
-        try {
-            int extendedCount = count + 35; // RSI와 볼린저 밴드 계산을 위한 추가 데이터
-            List<CandleDTO> candles = candleService.getCandle(market, extendedCount);
-            List<Double> prices = extractPrices(candles);
-
-            // 최소 필요 데이터 확인
-            if (prices.size() < 20) { // 볼린저 밴드 기간
-                throw new IllegalStateException("Not enough data points for analysis");
-            }
-
-            // RSI와 볼린저 밴드 계산
-            List<Double> macd = technicalIndicator.calculateMACD(prices, 12, 26, 9);
-            List<Double> rsi = technicalIndicator.calculateRSI(prices, 14);
-            List<List<Double>> bollingerBands = technicalIndicator.calculateBollingerBands(prices, 20, 2.0);
-
-            // 가장 최근 데이터만 반환 (요청한 count만큼)
-            int resultSize = Math.min(count, prices.size());
-
-            OrderBookDTO orderChance = orderService.getOrderChance(market);
+    public AnalysisSnapshot analyzeTradingSignals(String market, int count) {
+        long cycleStart = System.nanoTime();
+
+        try (ApiCallExecutor.Cycle calls = apiCallExecutor.newCycle(
+                (stage, nanos) -> tradingMetrics.recordStage(stage, market, nanos))) {
+            // 서로 독립적인 조회는 분봉 조회와 동시에 시작
+            Future<OrderBookDTO> orderChanceCall =
+                    calls.submit("orderChance", () -> orderService.getOrderChance(market));
+            IndicatorState state = indicatorService.getState(market, count);
+            List<CandleDTO> candles;
+            int newCandles;
+
+            synchronized (state) {
+                // 지표 상태가 비어 있을 때만 전체 구간을 불러오고, 이후에는 새로 닫힌 분봉만 반영
+                int fetchCount = state.isEmpty() ? count + 35 : CATCH_UP_COUNT; // RSI와 볼린저 밴드 계산을 위한 추가 데이터
+                candles = calls.timed("candles", () -> candleSyncService.getCandles(market, fetchCount));
+
+                if (!state.isEmpty() && hasGap(state, candles)) {
+                    log.warn("Missing candles since {} for market {}. Rebuilding indicators.",
+                            state.getLastCandleTime(), market);
+                    state.reset();
+                    candles = calls.timed("candles", () -> candleSyncService.getCandles(market, count + 35));
+                }
 
-            // 최신 데이터를 유지하기 위해 끝에서부터 자름
-            prices = prices.subList(prices.size() - resultSize, prices.size());
-            macd = macd.subList(Math.max(0, macd.size() - resultSize), macd.size());
-            rsi = rsi.subList(Math.max(0, rsi.size() - resultSize), rsi.size());
+                long indicatorStart = System.nanoTime();
+                newCandles = feedClosedCandles(state, candles);
+                tradingMetrics.recordStage("indicators", market, System.nanoTime() - indicatorStart);
 
-            List<List<Double>> trimmedBollingerBands = new ArrayList<>();
-            for (List<Double> band : bollingerBands) {
-                trimmedBollingerBands.add(band.subList(Math.max(0, band.size() - resultSize), band.size()));
+                // 최소 필요 데이터 확인
+                if (!state.isReady()) {
+                    throw new IllegalStateException("Not enough data points for analysis");
+                }
             }
 
-            // 모든 분봉에 대한 신호 생성
-            List<Integer> signals = technicalIndicator.generateSignals(
-                    prices,
-                    rsi,
-                    macd,
-                    trimmedBollingerBands
-            );
+            OrderBookDTO orderChance = calls.await("orderChance", orderChanceCall);
 
             boolean orderExecuted = false;
             String orderStatus = "No signal generated";
 
-            // 미체결 주문 확인 및 취소
-            JsonNode waitOrders = orderService.getOrders(market, null, 1, 10, "wait");
-            if (waitOrders.has("data") && waitOrders.get("data").isArray()) {
-                for (JsonNode order : waitOrders.get("data")) {
-                    String uuid = order.get("uuid").asText();
-
-                    // UUID로 시그널 이력 조회
-                    TradingSignalHistory signalHistory = signalHistoryRepository.findByOrderUuid(uuid)
-                            .orElse(null);
-
-                    if (signalHistory != null) {
-                        LocalDateTime orderTime = signalHistory.getCreatedAt();
-                        LocalDateTime now = LocalDateTime.now();
-
-                        // 주문 생성 후 3분이 지났는지 확인
-                        if (ChronoUnit.MINUTES.between(orderTime, now) >= 3) {
-                            log.info("Canceling unfilled order after 3 minutes - UUID: {}, Created At: {}",
-                                    uuid, orderTime);
-
-                            try {
-                                JsonNode cancelResult = orderService.cancelOrder(uuid);
-                                log.info("Order canceled successfully - UUID: {}", uuid);
-                                orderStatus = "Canceled unfilled order after 3 minutes: " + uuid;
-
-                                // 시그널 이력 업데이트
-                                signalHistory.setFailureReason("Order canceled after 3 minutes timeout");
-                                signalHistoryRepository.save(signalHistory);
-                            } catch (Exception e) {
-                                log.error("Failed to cancel order: {}", e.getMessage());
-                            }
-                        } else {
-                            log.debug("Order {} is still within 3-minute window. Created at: {}",
-                                    uuid, orderTime);
+            // 가격 모니터링 및 매도 주문 확인 (진행 중인 분봉의 현재가 기준)
+            double currentPrice = candles.get(0).getTradePrice();
+            // 미체결 주문의 시간 초과 취소는 OrderStateTracker가 맡고, 여기서는 최근 체결된 매수 가격만 확인
+            long doneScanStart = System.nanoTime();
+
+            for (double orderPrice : orderStateTracker.getFilledBidPrices(market)) {
+                double priceChange = (currentPrice - orderPrice) / orderPrice;
+
+                if (Math.abs(priceChange) >= 0.05) {
+                    log.info("Price change detected - Order Price: {}, Current Price: {}, Change: {}%",
+                            orderPrice, currentPrice, priceChange * 100);
+
+                    BigDecimal btcBalance = orderChance.getAskAccount().getBalance();
+                    if (btcBalance.compareTo(BigDecimal.ZERO) > 0) {
+                        try {
+                            orderStateTracker.track(market, executeSellOrder(market, currentPrice, orderChance), null);
+                            orderStatus = String.format("Take profit/Stop loss executed. Price change: %.2f%%", priceChange * 100);
+                            log.info("Take profit/Stop loss order executed at price: {}", currentPrice);
+                            orderExecuted = true;
+                        } catch (Exception e) {
+                            log.error("Failed to execute take profit/stop loss order: {}", e.getMessage());
                         }
                     }
                 }
             }
 
-            // 가격 모니터링 및 매도 주문 확인
-            double currentPrice = prices.get(prices.size() - 1);
-            JsonNode orders = orderService.getOrders(market, null, 1, 10, "done");
-
-            if (orders.has("data") && orders.get("data").isArray()) {
-                for (JsonNode order : orders.get("data")) {
-                    if ("bid".equals(order.get("side").asText()) && "done".equals(order.get("state").asText())) {
-                        double orderPrice = order.get("price").asDouble();
-                        double priceChange = (currentPrice - orderPrice) / orderPrice;
-
-                        if (Math.abs(priceChange) >= 0.05) {
-                            log.info("Price change detected - Order Price: {}, Current Price: {}, Change: {}%",
-                                    orderPrice, currentPrice, priceChange * 100);
-
-                            BigDecimal btcBalance = orderChance.getAskAccount().getBalance();
-                            if (btcBalance.compareTo(BigDecimal.ZERO) > 0) {
-                                try {
-                                    executeSellOrder(market, currentPrice, orderChance);
-                                    orderStatus = String.format("Take profit/Stop loss executed. Price change: %.2f%%", priceChange * 100);
-                                    log.info("Take profit/Stop loss order executed at price: {}", currentPrice);
-                                    orderExecuted = true;
-                                } catch (Exception e) {
-                                    log.error("Failed to execute take profit/stop loss order: {}", e.getMessage());
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+            tradingMetrics.recordStage("doneOrderScan", market, System.nanoTime() - doneScanStart);
 
-            // 마지막 분봉의 신호에 대해서만 주문 실행
-            if (!signals.isEmpty() && !prices.isEmpty()) {
-                int latestSignal = signals.get(signals.size() - 1);
-                double lastRsi = rsi.get(rsi.size() - 1);
+            // 새로 닫힌 마지막 분봉의 신호에 대해서만 주문 실행
+            if (newCandles > 0) {
+                reportStrategySignals(market, state);
+                int latestSignal = state.getLatestSignal();
+                double lastRsi = state.getRsi();
 
                 if (latestSignal != 0) {
                     log.info("Trading signal detected in last candle - Type: {}, RSI: {}, Price: {}",
                             latestSignal > 0 ? "BUY" : "SELL",
                             lastRsi,
                             currentPrice);
+                    tradingMetrics.countSignal(market, latestSignal);
 
+                    long submitStart = System.nanoTime();
                     try {
                         executeOrder(market, latestSignal, currentPrice, orderChance);
                         orderExecuted = true;
@@ -168,6 +134,8 @@ public class TradingService {
                     } catch (Exception e) {
                         orderStatus = "Order execution failed: " + e.getMessage();
                         log.error("Order execution failed for last candle", e);
+                    } finally {
+                        tradingMetrics.recordStage("orderSubmit", market, System.nanoTime() - submitStart);
                     }
                 } else {
                     log.debug("No trading signal in last candle. RSI: {}, Price: {}",
@@ -175,39 +143,91 @@ public class TradingService {
                 }
             }
 
-            Map<String, Object> result = Map.of(
-                    "prices", prices,
-                    "macd", macd,
-                    "rsi", rsi,
-                    "bollingerBands", trimmedBollingerBands,
-                    "signals", signals,
-                    "orderExecuted", orderExecuted,
-                    "orderStatus", orderStatus
-            );
+            AnalysisSnapshot result;
+            synchronized (state) {
+                result = AnalysisSnapshot.builder()
+                        .market(market)
+                        .times(state.getCandleTimes())
+                        .prices(state.getPrices())
+                        .macd(state.getMacdHistory())
+                        .rsi(state.getRsiHistory())
+                        .bollingerBands(state.getBollingerBandHistory())
+                        .signals(state.getSignalHistory())
+                        .orderExecuted(orderExecuted)
+                        .orderStatus(orderStatus)
+                        .analyzedAt(LocalDateTime.now())
+                        .callLatencies(calls.getLatencies())
+                        .build();
+            }
 
-            // 분석 결과를 캐시에 저장
-            this.latestAnalysisResult = result;
+            // 분석 결과를 마켓별 캐시에 저장
+            analysisResultCache.publish(result);
+            tradingMetrics.recordCycle(market, "success", System.nanoTime() - cycleStart);
             return result;
 
         } catch (Exception e) {
+            tradingMetrics.recordCycle(market, "failure", System.nanoTime() - cycleStart);
             log.error("Error in trading analysis: ", e);
             throw new RuntimeException("Failed to analyze trading signals", e);
         }
     }
 
     /**
-     * 가격 시간순으로 정렬
-     * @param candles
-     * @return
+     * 지표 상태 이후에 닫힌 분봉만 시간순으로 반영
+     * @param state : IndicatorState
+     * @param candles : 시간 역순 분봉, 0번은 아직 진행 중인 분봉
+     * @return : int 새로 반영한 분봉 수
+     */
+    private int feedClosedCandles(IndicatorState state, List<CandleDTO> candles) {
+        int fed = 0;
+        for (int i = candles.size() - 1; i >= 1; i--) {
+            CandleDTO candle = candles.get(i);
+            long candleTime = candle.candleTimeMillis();
+            if (candleTime <= state.getLastCandleTime()) {
+                continue;
+            }
+
+            if (state.update(candleTime, candle.getOpeningPrice(), candle.getHighPrice(), candle.getLowPrice(),
+                    candle.getTradePrice(), candle.getCandleAccTradeVolume())) {
+                state.appendHistory(state.getStrategySignal(0)); // 주 전략의 신호
+            }
+            fed++;
+        }
+        return fed;
+    }
+
+    /**
+     * 주 전략 외 전략들의 마지막 분봉 신호 기록 (주문하지 않음)
+     * @param market : String 코인 마켓
+     * @param state : IndicatorState
      */
-    private List<Double> extractPrices(List<CandleDTO> candles) {
-        // 최신 데이터가 마지막에 오도록 정렬된 가격 리스트 반환
-        List<Double> prices = new ArrayList<>();
-        // candles는 이미 시간 역순으로 정렬되어 있으므로, 역순으로 추가하여 시간순 정렬
-        for (int i = candles.size() - 1; i >= 0; i--) {
-            prices.add(candles.get(i).getTradePrice());
+    private void reportStrategySignals(String market, IndicatorState state) {
+        List<Strategy> strategies = state.getStrategies();
+        for (int i = 1; i < strategies.size(); i++) {
+            int signal;
+            synchronized (state) {
+                signal = state.getStrategySignal(i);
+            }
+            if (signal != 0) {
+                log.info("Strategy {} signal in last candle - Type: {}, Market: {}",
+                        strategies.get(i).getName(), signal > 0 ? "BUY" : "SELL", market);
+                tradingMetrics.countStrategySignal(market, strategies.get(i).getName(), signal);
+            }
         }
-        return prices;
+    }
+
+    /**
+     * 불러온 분봉이 지표 상태의 마지막 분봉과 이어지는지 확인
+     * @param state : IndicatorState
+     * @param candles : 시간 역순 분봉
+     * @return : boolean 중간에 빠진 분봉이 있으면 true
+     */
+    private boolean hasGap(IndicatorState state, List<CandleDTO> candles) {
+        if (candles.size() < 2) {
+            return false;
+        }
+        long oldestClosed = candles.get(candles.size() - 1).candleTimeMillis();
+        return oldestClosed > state.getLastCandleTime() + CANDLE_MILLIS;
     }
 
     /**
@@ -218,27 +238,33 @@ public class TradingService {
      * @param orderChance
      */
     private void executeOrder(String market, int signal, double currentPrice, OrderBookDTO orderChance) {
+        // 주문 결과까지 채운 뒤 한 번만 기록 (저장은 SignalJournal이 거래 스레드 밖에서 묶어서 처리)
         TradingSignalHistory signalHistory = TradingSignalHistory.builder()
                 .market(market)
                 .price(BigDecimal.valueOf(currentPrice))
                 .signalType(signal)
                 .orderExecuted(false)  // 초기값
+                .createdAt(LocalDateTime.now())
                 .build();
-        signalHistory = signalHistoryRepository.save(signalHistory);
 
         try {
+            OrderHistory order;
             if (signal > 0) {  // Buy signal
-                executeBuyOrder(market, currentPrice, orderChance);
+                order = executeBuyOrder(market, currentPrice, orderChance);
             } else {  // Sell signal
-                executeSellOrder(market, currentPrice, orderChance);
+                order = executeSellOrder(market, currentPrice, orderChance);
             }
             signalHistory.setOrderExecuted(true);
-            signalHistoryRepository.save(signalHistory);
+            if (order != null) {
+                signalHistory.setOrderUuid(order.getUuid());
+                orderStateTracker.track(market, order, signalHistory);
+            }
         } catch (Exception e) {
             log.error("Error executing order: " + e.getMessage(), e);
             signalHistory.setFailureReason(e.getMessage());
-            signalHistoryRepository.save(signalHistory);
             throw new RuntimeException("Failed to execute order", e);
+        } finally {
+            signalJournal.append(signalHistory);
         }
     }
 
@@ -247,9 +273,10 @@ public class TradingService {
      * @param market : String
      * @param currentPrice : double
      * @param orderChance : OrderBookDTO
+     * @return : OrderHistory 주문하지 않았으면 null
      * @throws Exception
      */
-    private void executeBuyOrder(String market, double currentPrice, OrderBookDTO orderChance) throws Exception {
+    private OrderHistory executeBuyOrder(String market, double currentPrice, OrderBookDTO orderChance) throws Exception {
         // Get KRW balance for buying
         BigDecimal availableBalance = orderChance.getBidAccount().getBalance();
         BigDecimal minOrderSize = BigDecimal.valueOf(10000.0);
@@ -272,9 +299,10 @@ public class TradingService {
                     RoundingMode.DOWN
             );
 
-            executeOrderRequest(market, "bid", volume.doubleValue(), currentPrice);
+            return executeOrderRequest(market, "bid", volume.doubleValue(), currentPrice);
         } else {
             log.warn("Insufficient KRW balance for buy order. Available: {} KRW", availableBalance);
+            return null;
         }
     }
 
@@ -283,9 +311,10 @@ public class TradingService {
      * @param market : String
      * @param currentPrice : double
      * @param orderChance : OrderBookDTO
+     * @return : OrderHistory 주문하지 않았으면 null
      * @throws Exception
      */
-    private void executeSellOrder(String market, double currentPrice, OrderBookDTO orderChance) throws Exception {
+    private OrderHistory executeSellOrder(String market, double currentPrice, OrderBookDTO orderChance) throws Exception {
         // Get BTC balance
         BigDecimal btcBalance = orderChance.getAskAccount().getBalance();
 
@@ -295,30 +324,20 @@ public class TradingService {
         // Skip if no BTC balance or balance less than minimum
         if (btcBalance.compareTo(BigDecimal.ZERO) <= 0) {
             log.warn("No BTC balance available for sell order");
-            return;
+            return null;
         }
 
         if (btcBalance.compareTo(MIN_BTC_ORDER) < 0) {
             log.warn("BTC balance ({}) is less than minimum order size ({})",
                     btcBalance, MIN_BTC_ORDER);
-            return;
+            return null;
         }
         // Get last buy price from order history
-        List<OrderHistoryDTO> orderHistory = orderService.getOrderHistory(market);
-        if (orderHistory.isEmpty()) {
-            log.warn("No previous buy orders found for market: {}", market);
-            return;
-        }
-
-        // Assume the most recent buy order is the last executed buy
-        OrderHistoryDTO lastBuyOrder = orderHistory.stream()
-                .filter(order -> "bid".equals(order.getSide()))
-                .findFirst()
-                .orElse(null);
+        OrderHistoryDTO lastBuyOrder = orderService.getLastOrder(market, "bid").orElse(null);
 
         if (lastBuyOrder == null) {
             log.warn("No previous buy orders found for market: {}", market);
-            return;
+            return null;
         }
 
         double lastBuyPrice = lastBuyOrder.getPrice().doubleValue();
@@ -329,7 +348,7 @@ public class TradingService {
         if (currentPrice < minimumSellPrice) {
             log.warn("Current price ({}) is less than minimum sell price ({}). Skipping sell order.",
                     currentPrice, minimumSellPrice);
-            return;
+            return null;
         }
 
         // Calculate 10% of BTC balance
@@ -349,7 +368,7 @@ public class TradingService {
                 sellVolume, currentPrice, totalValueKRW);
 
         // Execute sell order
-        executeOrderRequest(market, "ask", sellVolume.doubleValue(), currentPrice);
+        return executeOrderRequest(market, "ask", sellVolume.doubleValue(), currentPrice);
     }
 
     /**
@@ -359,33 +378,18 @@ public class TradingService {
      * @param side
      * @param volume
      * @param price
+     * @return : OrderHistory
      * @throws Exception
      */
-    private void executeOrderRequest(String market, String side, double volume, double price) throws Exception {
-        Object orderResult = orderService.doOrder(market, side, volume, price, "limit");
-        // orderResult에서 UUID 추출하여 시그널 이력 업데이트
-        if (orderResult instanceof JsonNode) {
-            String uuid = ((JsonNode) orderResult).get("uuid").asText();
-            // 가장 최근 시그널 이력 찾아서 업데이트
-            TradingSignalHistory latestSignal = signalHistoryRepository
-                    .findByMarketOrderByCreatedAtDesc(market)
-                    .stream()
-                    .findFirst()
-                    .orElse(null);
-
-            if (latestSignal != null) {
-                latestSignal.setOrderUuid(uuid);
-                signalHistoryRepository.save(latestSignal);
-            }
+    private OrderHistory executeOrderRequest(String market, String side, double volume, double price) throws Exception {
+        try {
+            OrderHistory order = orderService.doOrder(market, side, volume, price, "limit");
+            tradingMetrics.countOrder(market, side, "success");
+            return order;
+        } catch (Exception e) {
+            tradingMetrics.countOrder(market, side, "failure");
+            throw e;
         }
     }
 
-    /**
-     * getter
-     * @return
-     */
-    public Map<String, Object> getLatestAnalysisResult() {
-        return this.latestAnalysisResult;
-    }
-
 }
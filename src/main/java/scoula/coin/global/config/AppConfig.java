@@ -1,13 +1,100 @@
 package scoula.coin.global.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import scoula.coin.global.util.ApiMetricsInterceptor;
+import scoula.coin.global.util.TradingMetrics;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 @Configuration
+/**
+ * Bithumb API 호출에 쓰는 공용 HTTP 클라이언트
+ * 연결을 pool에 유지(keep-alive)해 주문/취소마다 TCP, TLS 연결을 새로 맺지 않는다.
+ */
 public class AppConfig {
+
+    @Value("${bithumb.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${bithumb.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${bithumb.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${bithumb.http.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${bithumb.http.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Value("${bithumb.http.http2:false}")
+    private boolean http2;
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ClientHttpRequestFactory clientHttpRequestFactory, TradingMetrics tradingMetrics) {
+        RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
+        restTemplate.getInterceptors().add(new ApiMetricsInterceptor(tradingMetrics));
+        return restTemplate;
+    }
+
+    /**
+     * bithumb.http.http2=true 이면 JDK HttpClient(HTTP/2, 연결 다중화), 아니면 Apache HttpClient 연결 pool 사용
+     * @return : ClientHttpRequestFactory
+     */
+    @Bean
+    public ClientHttpRequestFactory clientHttpRequestFactory() {
+        if (http2) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                    .build();
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client);
+            factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+            return factory;
+        }
+        return new HttpComponentsClientHttpRequestFactory(pooledHttpClient());
+    }
+
+    private CloseableHttpClient pooledHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        // 서버가 먼저 끊은 연결을 재사용하지 않도록 오래 쉰 연결은 검사 후 사용
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .build();
     }
 }
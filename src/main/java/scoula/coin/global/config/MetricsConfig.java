@@ -0,0 +1,13 @@
+package scoula.coin.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+@Configuration
+@PropertySource("classpath:metrics.properties")
+/**
+ * actuator 기본 설정 (prometheus endpoint 노출)
+ * PropertySource는 우선순위가 가장 낮아 application.properties에 같은 설정이 있으면 그 값을 따른다.
+ */
+public class MetricsConfig {
+}
@@ -0,0 +1,93 @@
+package scoula.coin.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 작업을 실행하는 스레드 풀 (기본값은 스레드 하나)
+     * 주문 취소 타이머, 체결 대조(REST 조회), 신호 기록, 분봉 보관 등이 서로 기다리지 않도록
+     * 작업 수만큼 스레드를 둔다. 느린 거래소 호출이 정밀 취소나 매매 주기를 밀지 않는다.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${trading.scheduler.timer-pool-size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * 마켓별 분석/주문 사이클을 실행하는 스레드 풀
+     * 스케쥴러 스레드는 마켓별 작업을 넘기기만 하므로 한 마켓이 느려도 다른 마켓이 밀리지 않는다.
+     */
+    @Bean(name = "tradingExecutor")
+    public ThreadPoolTaskExecutor tradingExecutor(
+            @Value("${trading.scheduler.pool-size:8}") int poolSize,
+            @Value("${trading.scheduler.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("trading-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 분석 사이클 안의 독립적인 API 조회(주문 가능 정보, 미체결/체결 주문)를 동시에 실행하는 스레드 풀
+     */
+    @Bean(name = "apiExecutor")
+    public ThreadPoolTaskExecutor apiExecutor(
+            @Value("${trading.api.pool-size:16}") int poolSize,
+            @Value("${trading.api.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("api-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 과거 분봉 백필을 마켓별로 동시에 실행하는 스레드 풀 (요청 수는 공용 token bucket이 제한)
+     */
+    @Bean(name = "backfillExecutor")
+    public ThreadPoolTaskExecutor backfillExecutor(
+            @Value("${trading.backfill.parallelism:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("backfill-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 실시간 차트(SSE) 전송 스레드 (분석 스레드가 느린 클라이언트를 기다리지 않도록 분리)
+     * 마켓별 변경분 순서가 바뀌지 않도록 스레드 하나로 보내고, 큐가 차면 버린다 (클라이언트가 다시 연결해 맞춤).
+     */
+    @Bean(name = "chartStreamExecutor")
+    public ThreadPoolTaskExecutor chartStreamExecutor(
+            @Value("${trading.chart.stream-queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chart-stream-");
+        executor.initialize();
+        return executor;
+    }
+}
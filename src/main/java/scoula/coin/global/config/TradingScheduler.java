@@ -1,31 +1,99 @@
 package scoula.coin.global.config;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import scoula.coin.domain.market.stream.CandleClosedEvent;
 import scoula.coin.domain.trading.TradingService;
+import scoula.coin.global.util.TradingMetrics;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 /**
  * 스케쥴러
  */
 public class TradingScheduler {
     private final TradingService tradingService;
+    private final TradingMetrics tradingMetrics;
+    private final TaskExecutor tradingExecutor;
+    private final List<String> markets;
+    private final int count;
+
+    // 이전 사이클이 아직 끝나지 않은 마켓
+    private final Set<String> runningMarkets = ConcurrentHashMap.newKeySet();
+
+    public TradingScheduler(TradingService tradingService,
+                            TradingMetrics tradingMetrics,
+                            @Qualifier("tradingExecutor") TaskExecutor tradingExecutor,
+                            @Value("${trading.markets:KRW-BTC}") List<String> markets,
+                            @Value("${trading.count:100}") int count) {
+        this.tradingService = tradingService;
+        this.tradingMetrics = tradingMetrics;
+        this.tradingExecutor = tradingExecutor;
+        this.markets = markets;
+        this.count = count;
+    }
 
     @Scheduled(fixedRate = 60_000)
     /**
      * 1분마다 자동 실행 되도록 설정.
-     * analyzeTradingSignals 실행
+     * 설정된 마켓마다 analyzeTradingSignals를 별도 작업으로 실행
      */
     public void scheduledAnalyzeTradingSignals() {
+        int dispatched = 0;
+        for (String market : markets) {
+            if (dispatch(market)) {
+                dispatched++;
+            }
+        }
+        log.info("scheduledAnalyzeTradingSignals dispatched {}/{} markets.", dispatched, markets.size());
+    }
+
+    @EventListener
+    /**
+     * WebSocket 분봉이 닫히면 다음 스케쥴을 기다리지 않고 해당 마켓을 바로 분석
+     * @param event : CandleClosedEvent
+     */
+    public void onCandleClosed(CandleClosedEvent event) {
+        if (markets.contains(event.market())) {
+            dispatch(event.market());
+        }
+    }
+
+    private boolean dispatch(String market) {
+        if (!runningMarkets.add(market)) {
+            log.warn("Skipping {}: previous cycle is still running", market);
+            return false;
+        }
+        try {
+            long dispatchedAt = System.nanoTime();
+            tradingExecutor.execute(() -> analyzeMarket(market, dispatchedAt));
+            return true;
+        } catch (TaskRejectedException e) {
+            runningMarkets.remove(market);
+            log.error("Trading executor rejected market {}: {}", market, e.getMessage());
+            return false;
+        }
+    }
+
+    private void analyzeMarket(String market, long dispatchedAt) {
+        tradingMetrics.recordSchedulerLag(market, System.nanoTime() - dispatchedAt);
         try {
-            tradingService.analyzeTradingSignals("KRW-BTC", 100);
-            log.info("scheduledAnalyzeTradingSignals executed at every 1 minute.");
+            tradingService.analyzeTradingSignals(market, count);
+            log.debug("Analysis completed for {}", market);
         } catch (Exception e) {
-            log.error("Error in scheduled analyze: ", e);
+            log.error("Error in scheduled analyze for {}: ", market, e);
+        } finally {
+            runningMarkets.remove(market);
         }
     }
 }
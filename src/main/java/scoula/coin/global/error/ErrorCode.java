@@ -22,6 +22,15 @@ public enum ErrorCode {
     ORDER_DELETION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "ORDER_008", "주문 취소에 실패했습니다."),
     ORDER_UUID_INVALID(HttpStatus.BAD_REQUEST, "ORDER_009", "유효하지 않은 주문 UUID입니다."),
 
+    // History query errors
+    HISTORY_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "HISTORY_001", "유효하지 않은 페이지 커서입니다."),
+    HISTORY_INVALID_RANGE(HttpStatus.BAD_REQUEST, "HISTORY_002", "조회 기간 또는 개수가 유효하지 않습니다."),
+    HISTORY_INVALID_FORMAT(HttpStatus.BAD_REQUEST, "HISTORY_003", "지원하지 않는 내보내기 형식입니다."),
+
+    // Market data errors
+    MARKET_INVALID_TIMEFRAME(HttpStatus.BAD_REQUEST, "MARKET_001", "지원하지 않는 분봉 단위입니다."),
+    MARKET_STREAM_LIMIT(HttpStatus.SERVICE_UNAVAILABLE, "MARKET_002", "실시간 차트 연결 수가 너무 많습니다."),
+
     // System errors
     SYSTEM_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SYS_001", "시스템 오류가 발생했습니다.")
     ;
@@ -0,0 +1,142 @@
+package scoula.coin.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+/**
+ * 서로 독립적인 API 조회를 동시에 실행
+ * 한 사이클의 호출은 같은 마감 시각(deadline)을 공유하고, 호출별 소요 시간을 기록한다.
+ * 취소는 실행 중인 스레드를 interrupt 하지만 소켓 읽기는 interrupt로 끝나지 않으므로, 실제로 호출을 끝내는 것은
+ * RestTemplate의 connect/read timeout(bithumb.http.*-timeout-ms)이다. 취소된 호출은 버려질 뿐이다.
+ */
+public class ApiCallExecutor {
+
+    private final Executor executor;
+    private final long deadlineMillis;
+
+    public ApiCallExecutor(@Qualifier("apiExecutor") Executor executor,
+                           @Value("${trading.cycle.deadline-ms:10000}") long deadlineMillis) {
+        this.executor = executor;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    /**
+     * 새 사이클 시작, 마감 시각은 지금부터 deadline-ms 후
+     * @return : Cycle
+     */
+    public Cycle newCycle() {
+        return newCycle((name, nanos) -> { });
+    }
+
+    /**
+     * 새 사이클 시작, 호출이 끝날 때마다 listener에 소요 시간 전달
+     * @param latencyListener : BiConsumer<String, Long> 호출 이름, 소요 시간 (ns)
+     * @return : Cycle
+     */
+    public Cycle newCycle(BiConsumer<String, Long> latencyListener) {
+        return new Cycle(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis), latencyListener);
+    }
+
+    /**
+     * 사이클 하나의 호출 묶음, 끝나면 close()로 남은 호출을 취소
+     * close() 이후에 끝난 호출의 소요 시간은 기록하지 않는다 (다음 사이클 값을 덮어쓰지 않도록).
+     */
+    public class Cycle implements AutoCloseable {
+        private final long deadlineNanos;
+        private final BiConsumer<String, Long> latencyListener;
+        private final Map<String, Long> latencies = new ConcurrentHashMap<>();
+        private final List<Future<?>> pending = new ArrayList<>();
+        private volatile boolean closed;
+
+        private Cycle(long deadlineNanos, BiConsumer<String, Long> latencyListener) {
+            this.deadlineNanos = deadlineNanos;
+            this.latencyListener = latencyListener;
+        }
+
+        /**
+         * API 호출을 스레드 풀에서 바로 시작
+         * @param name : String 호출 이름 (소요 시간 기록용)
+         * @param call : Supplier<T> API 호출
+         * @return : Future<T> cancel(true)는 실행 중인 스레드를 interrupt
+         */
+        public <T> Future<T> submit(String name, Supplier<T> call) {
+            FutureTask<T> task = new FutureTask<>(() -> timed(name, call));
+            pending.add(task);
+            executor.execute(task);
+            return task;
+        }
+
+        /**
+         * 현재 스레드에서 실행하고 소요 시간만 기록
+         */
+        public <T> T timed(String name, Supplier<T> call) {
+            long start = System.nanoTime();
+            try {
+                return call.get();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (closed) {
+                    log.debug("{} finished {} ms after its cycle was closed", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                } else {
+                    latencies.put(name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                    latencyListener.accept(name, elapsed);
+                    log.debug("{} took {} ms", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                }
+            }
+        }
+
+        /**
+         * 사이클 마감 시각까지 결과를 기다림
+         * @param name : String 호출 이름 (오류 메시지용)
+         * @param future : Future<T> submit()의 결과
+         * @return : T
+         */
+        public <T> T await(String name, Future<T> future) {
+            long remaining = deadlineNanos - System.nanoTime();
+            try {
+                return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                throw new IllegalStateException("Deadline exceeded while waiting for " + name);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(name + " failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + name, e);
+            }
+        }
+
+        /**
+         * 호출별 소요 시간 (ms)
+         */
+        public Map<String, Long> getLatencies() {
+            return Map.copyOf(latencies);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package scoula.coin.global.util;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * RestTemplate 호출마다 endpoint, 상태 코드별 응답 시간 기록
+ * endpoint 태그는 query(주문 uuid 등)를 빼고 경로만 사용한다.
+ */
+public class ApiMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final TradingMetrics metrics;
+
+    public ApiMetricsInterceptor(TradingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            metrics.recordApiCall(request.getMethod().name(), request.getURI().getPath(), status,
+                    System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package scoula.coin.global.util;
+
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최신순 keyset 페이지 커서 (마지막 행의 created_at과 동률을 가르는 키)
+ * 다음 페이지는 (created_at, key)가 커서보다 작은 행부터 읽으므로 OFFSET 없이 인덱스에서 바로 이어진다.
+ * 클라이언트에는 "created_at|key"를 URL-safe Base64로 감싼 문자열로 전달한다.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final String key;
+
+    private KeysetCursor(LocalDateTime createdAt, String key) {
+        this.createdAt = createdAt;
+        this.key = key;
+    }
+
+    /**
+     * @param createdAt : LocalDateTime 페이지 마지막 행의 생성 시각
+     * @param key : Object 페이지 마지막 행의 키 (UUID, id)
+     * @return : String 커서
+     */
+    public static String encode(LocalDateTime createdAt, Object key) {
+        String raw = createdAt + String.valueOf(SEPARATOR) + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor : String encode() 결과, null이나 빈 문자열이면 첫 페이지
+     * @return : KeysetCursor 첫 페이지면 null
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new CustomException(ErrorCode.HISTORY_INVALID_CURSOR);
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.HISTORY_INVALID_CURSOR);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 숫자 키 (시그널 id)
+     */
+    public Long getLongKey() {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.HISTORY_INVALID_CURSOR);
+        }
+    }
+}
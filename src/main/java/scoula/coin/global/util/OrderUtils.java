@@ -8,15 +8,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.NameValuePair;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpDelete;
-import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URLEncodedUtils;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.util.EntityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -26,6 +19,7 @@ import scoula.coin.global.error.CustomException;
 import scoula.coin.global.error.ErrorCode;
 
 import java.math.BigInteger;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -150,22 +144,21 @@ public class OrderUtils {
             String query = URLEncodedUtils.format(queryParams, StandardCharsets.UTF_8);
             String jwtToken = generateJwtToken(query);
 
-            final HttpPost httpRequest = new HttpPost(baseUrl + endpoint);
-            httpRequest.addHeader("Authorization", "Bearer " + jwtToken);
-            httpRequest.addHeader("Content-type", "application/json");
-            httpRequest.setEntity(new StringEntity(objectMapper.writeValueAsString(requestBody), StandardCharsets.UTF_8));
-
-            try (CloseableHttpClient client = HttpClients.createDefault();
-                 CloseableHttpResponse response = client.execute(httpRequest)) {
+            HttpHeaders headers = createHttpHeaders(jwtToken);
+            HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
 
-                if (response.getStatusLine().getStatusCode() != HttpStatus.OK.value() &&
-                        response.getStatusLine().getStatusCode() != HttpStatus.CREATED.value()) {
-                    throw new CustomException(ErrorCode.ORDER_EXECUTION_FAILED);
-                }
+            // 공용 RestTemplate의 연결 pool을 사용 (요청마다 새 연결을 맺지 않음)
+            ResponseEntity<String> response = restTemplate.exchange(
+                    URI.create(baseUrl + endpoint),
+                    HttpMethod.POST,
+                    entity,
+                    String.class
+            );
 
-                String responseBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
-                return objectMapper.readTree(responseBody);
+            if (response.getStatusCode() != HttpStatus.OK && response.getStatusCode() != HttpStatus.CREATED) {
+                throw new CustomException(ErrorCode.ORDER_EXECUTION_FAILED);
             }
+            return objectMapper.readTree(response.getBody());
         } catch (Exception e) {
             log.error("Failed to execute POST request: {}", e.getMessage());
             throw new CustomException(ErrorCode.ORDER_EXECUTION_FAILED);
@@ -184,21 +177,21 @@ public class OrderUtils {
             String query = URLEncodedUtils.format(queryParams, StandardCharsets.UTF_8);
             String jwtToken = generateJwtToken(query);
 
-            final HttpDelete httpRequest = new HttpDelete(baseUrl + endpoint + "?" + query);
-            httpRequest.addHeader("Authorization", "Bearer " + jwtToken);
-            httpRequest.addHeader("Content-type", "application/json");
+            HttpEntity<String> entity = new HttpEntity<>(createHttpHeaders(jwtToken));
 
-            try (CloseableHttpClient client = HttpClients.createDefault();
-                 CloseableHttpResponse response = client.execute(httpRequest)) {
-
-                if (response.getStatusLine().getStatusCode() != HttpStatus.OK.value()) {
-                    log.error("Delete request failed with status: {}", response.getStatusLine().getStatusCode());
-                    throw new CustomException(ErrorCode.ORDER_DELETION_FAILED);
-                }
+            // query는 이미 인코딩되어 있으므로 URI로 넘겨 다시 인코딩되지 않게 함
+            ResponseEntity<String> response = restTemplate.exchange(
+                    URI.create(baseUrl + endpoint + "?" + query),
+                    HttpMethod.DELETE,
+                    entity,
+                    String.class
+            );
 
-                String responseBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
-                return objectMapper.readTree(responseBody);
+            if (response.getStatusCode() != HttpStatus.OK) {
+                log.error("Delete request failed with status: {}", response.getStatusCode());
+                throw new CustomException(ErrorCode.ORDER_DELETION_FAILED);
             }
+            return objectMapper.readTree(response.getBody());
         } catch (Exception e) {
             log.error("Failed to execute DELETE request: {}", e.getMessage());
             throw new CustomException(ErrorCode.ORDER_DELETION_FAILED);
@@ -0,0 +1,113 @@
+package scoula.coin.global.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시 타이머 휠 (만료 시각별로 슬롯에 나눠 담고, 지나간 슬롯만 확인)
+ * 등록/취소는 O(1)이고 advance()는 지나간 tick의 슬롯만 훑는다. 한 바퀴보다 먼 만료 시각은
+ * 같은 슬롯에 남아 있다가 해당 바퀴에서 만료된다. 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ * @param <K> : 타이머 키 (같은 키로 다시 등록하면 기존 타이머를 대체)
+ */
+public class TimerWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Entry<K>>[] slots;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis : long 슬롯 하나의 시간 폭 (만료 정밀도)
+     * @param slotCount : int 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param startMillis : long 시작 시각 (epoch millis)
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, int slotCount, long startMillis) {
+        if (tickMillis <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("tickMillis and slotCount must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(slotCount - 1, 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.slots = new List[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 타이머 등록, 이미 지난 시각이면 다음 advance()에서 만료
+     * @param key : K
+     * @param deadlineMillis : long 만료 시각 (epoch millis)
+     */
+    public void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        Entry<K> entry = new Entry<>(key, deadlineTick);
+        slots[(int) (deadlineTick & mask)].add(entry);
+        entries.put(key, entry);
+    }
+
+    /**
+     * @return : boolean 등록된 타이머가 있었으면 true
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        slots[(int) (entry.deadlineTick & mask)].remove(entry);
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 만료된 타이머를 꺼냄
+     * @param nowMillis : long 현재 시각 (epoch millis)
+     * @return : List<K> 만료된 키
+     */
+    public List<K> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<K> expired = new ArrayList<>();
+        if (nowTick <= currentTick) {
+            return expired;
+        }
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+        long from = Math.max(currentTick + 1, nowTick - mask);
+        for (long tick = from; tick <= nowTick; tick++) {
+            Iterator<Entry<K>> iterator = slots[(int) (tick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Entry<K> entry = iterator.next();
+                if (entry.deadlineTick <= nowTick) {
+                    iterator.remove();
+                    entries.remove(entry.key);
+                    expired.add(entry.key);
+                }
+            }
+        }
+        currentTick = nowTick;
+        return expired;
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineTick;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
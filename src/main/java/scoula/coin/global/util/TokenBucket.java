@@ -0,0 +1,74 @@
+package scoula.coin.global.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 여러 스레드가 공유하는 token bucket 요청 제한
+ * 초당 permitsPerSecond개씩 채워지고 최대 burst개까지 모아 둘 수 있다.
+ * acquire()는 토큰을 예약한 뒤 잠금 밖에서 기다리므로 대기 중인 스레드가 다른 스레드의 예약을 막지 않고,
+ * 예약 순서대로 간격이 벌어져 동시에 몰려도 제한을 넘지 않는다.
+ */
+public class TokenBucket {
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final long nanosPerPermit;
+    private final LongSupplier nanoClock;
+
+    // 아래 상태는 this로 동기화
+    private double available;
+    private long lastRefill;
+
+    /**
+     * @param permitsPerSecond : double 초당 허용 요청 수
+     * @param burst : int 한 번에 몰아서 보낼 수 있는 최대 요청 수
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.nanosPerPermit = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nanoClock = nanoClock;
+        this.available = burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 받을 때까지 대기
+     * @return : long 기다린 시간 (ns)
+     */
+    public long acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 토큰 하나를 예약 (잔량이 음수이면 그만큼 나중에 쓸 수 있음)
+     * @return : long 예약한 토큰을 쓸 수 있을 때까지 남은 시간 (ns)
+     */
+    synchronized long reserve() {
+        refill();
+        available -= 1;
+        return available >= 0 ? 0 : (long) (-available * nanosPerPermit);
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        available = Math.min(burst, available + (now - lastRefill) / (double) nanosPerPermit);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,115 @@
+package scoula.coin.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+/**
+ * 매매 경로 지표 (Micrometer), /actuator/prometheus로 노출
+ */
+public class TradingMetrics {
+
+    private final MeterRegistry registry;
+
+    public TradingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 분석 사이클 단계별 소요 시간
+     * @param stage : String candles, indicators, orderChance, doneOrderScan, orderSubmit 등
+     * @param market : String 코인 마켓
+     * @param nanos : long 소요 시간 (ns)
+     */
+    public void recordStage(String stage, String market, long nanos) {
+        Timer.builder("trading.cycle.stage")
+                .description("Duration of each stage of an analysis cycle")
+                .tag("stage", stage)
+                .tag("market", market)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 분석 사이클 전체 소요 시간
+     * @param outcome : String success, failure
+     */
+    public void recordCycle(String market, String outcome, long nanos) {
+        Timer.builder("trading.cycle")
+                .description("Duration of a whole analysis cycle")
+                .tag("market", market)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Bithumb API 응답 시간 (histogram)
+     * @param method : String HTTP method
+     * @param endpoint : String query를 뺀 경로
+     * @param status : String HTTP 상태 코드, 응답이 없으면 IO_ERROR
+     */
+    public void recordApiCall(String method, String endpoint, String status, long nanos) {
+        Timer.builder("bithumb.api.requests")
+                .description("Latency of Bithumb REST API calls")
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 스케쥴러가 작업을 넘긴 시점부터 실제 실행까지 걸린 시간
+     */
+    public void recordSchedulerLag(String market, long nanos) {
+        Timer.builder("trading.scheduler.lag")
+                .description("Delay between dispatching a market and its cycle starting")
+                .tag("market", market)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 새 분봉에서 발생한 매매 신호
+     * @param signal : int 1: 매수, -1: 매도
+     */
+    public void countSignal(String market, int signal) {
+        counter("trading.signals", "market", market, "side", signal > 0 ? "bid" : "ask").increment();
+    }
+
+    /**
+     * 주문 실행 결과
+     * @param side : String bid, ask
+     * @param result : String success, failure
+     */
+    public void countOrder(String market, String side, String result) {
+        counter("trading.orders", "market", market, "side", side, "result", result).increment();
+    }
+
+    /**
+     * 주문에 쓰이지 않는 전략의 신호 수
+     * @param strategy : String Strategy.getName()
+     */
+    public void countStrategySignal(String market, String strategy, int signal) {
+        counter("trading.strategy.signals", "market", market, "strategy", strategy,
+                "side", signal > 0 ? "bid" : "ask").increment();
+    }
+
+    /**
+     * 저장 대기열이 가득 차서 버린 시그널 이력 행 수
+     * @param rows : int 버린 행 수
+     */
+    public void countSignalJournalDropped(int rows) {
+        counter("trading.signal.journal.dropped").increment(rows);
+    }
+
+    private Counter counter(String name, String... tags) {
+        return Counter.builder(name).tags(tags).register(registry);
+    }
+}
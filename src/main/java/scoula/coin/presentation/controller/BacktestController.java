@@ -0,0 +1,52 @@
+package scoula.coin.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import scoula.coin.application.dto.BacktestResult;
+import scoula.coin.domain.backtest.BacktestService;
+import scoula.coin.domain.strategy.StrategyParameters;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+@RestController
+@RequestMapping("/backtest")
+@RequiredArgsConstructor
+public class BacktestController {
+
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+
+    private final BacktestService backtestService;
+
+    @Operation(summary = "백테스트", description = "저장된 1분봉으로 현재 전략을 재현 (기간은 KST). "
+            + "수수료를 주지 않으면 주문 가능 정보(bid_fee/ask_fee)의 현재 수수료 사용")
+    @GetMapping
+    public ResponseEntity<BacktestResult> backtest(
+            @RequestParam(defaultValue = "KRW-BTC") String market,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1000000") double initialKrw,
+            @RequestParam(required = false) Double bidFee,
+            @RequestParam(required = false) Double askFee) {
+        StrategyParameters parameters = bidFee != null && askFee != null
+                ? StrategyParameters.DEFAULT
+                : backtestService.currentParameters(market);
+        if (bidFee != null || askFee != null) {
+            parameters = parameters.toBuilder()
+                    .bidFee(bidFee != null ? bidFee : parameters.getBidFee())
+                    .askFee(askFee != null ? askFee : parameters.getAskFee())
+                    .build();
+        }
+        return ResponseEntity.ok(backtestService.runStored(market,
+                from.toInstant(KST).toEpochMilli(),
+                to.toInstant(KST).toEpochMilli(),
+                parameters,
+                initialKrw));
+    }
+}
@@ -1,25 +1,22 @@
 package scoula.coin.presentation.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import scoula.coin.application.dto.AnalysisSnapshot;
+import scoula.coin.application.dto.TradingSummaryDTO;
 import scoula.coin.domain.market.CandleService;
-import scoula.coin.domain.order.OrderService;
-import scoula.coin.domain.trading.TradingService;
-
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import scoula.coin.domain.order.PositionLedgerService;
+import scoula.coin.domain.trading.AnalysisResultCache;
+import scoula.coin.domain.trading.ChartStreamService;
 
 @Log4j2
 @Controller
@@ -28,40 +25,49 @@ import java.util.Optional;
 public class ChartController {
 
     private final CandleService candleService;
-    private final TradingService tradingService;
-    private final ObjectMapper objectMapper;
-    private final OrderService orderService;
+    private final AnalysisResultCache analysisResultCache;
+    private final ChartStreamService chartStreamService;
+    private final PositionLedgerService positionLedgerService;
 
-    @Operation(summary = "chart화면", description = "API로 candle차트 불러와서 지표 계산")
+    @Operation(summary = "chart화면", description = "차트 데이터는 /market/chart/stream으로 받음")
     @GetMapping("/chart")
     public String getMarketChart(
             @RequestParam(defaultValue = "KRW-BTC") String market,
             @RequestParam(defaultValue = "100") int count,
-            Model model) throws JsonProcessingException {
-
-        Map<String, Object> analysis = tradingService.getLatestAnalysisResult();
+            Model model) {
 
-        if (analysis == null) {
-            // 아직 스케줄링이 돌기 전이라면
-            analysis = tradingService.analyzeTradingSignals(market, count);
-        }
+        // 화면 조회로 분석(주문)이 실행되지 않도록 스케쥴러가 저장한 결과만 사용
+        AnalysisSnapshot analysis = analysisResultCache.get(market).orElse(null);
 
-        String analysisJson = objectMapper.writeValueAsString(analysis);
-        LocalDateTime startDate = (LocalDateTime) orderService.getStartDate().orElse(null);
-        Long numBid = (Long) orderService.getNumBid().orElse(0L);
-        Long numAsk = (Long) orderService.getNumAsk().orElse(0L);     // 매도 count (예시)
-        BigDecimal profit = (BigDecimal) orderService.caclTradingResult().orElse(BigDecimal.ZERO);
+        // 차트 데이터는 페이지에 넣지 않고 연결 직후 stream의 snapshot 이벤트로 받음
+        // 주문 통계는 증분 갱신되는 원장에서 한 번에 조회
+        TradingSummaryDTO summary = positionLedgerService.getSummary();
 
         model.addAttribute("market", market);
         model.addAttribute("count", count);
-        model.addAttribute("analysis", analysisJson);
-        model.addAttribute("orderExecuted", analysis.get("orderExecuted"));
-        model.addAttribute("orderStatus", analysis.get("orderStatus"));
-        model.addAttribute("startDate", startDate);
-        model.addAttribute("numBid", numBid);
-        model.addAttribute("numAsk", numAsk);
-        model.addAttribute("caclTradingResult", profit);
+        model.addAttribute("orderExecuted", analysis == null ? null : analysis.isOrderExecuted());
+        model.addAttribute("orderStatus", analysis == null ? null : analysis.getOrderStatus());
+        model.addAttribute("analyzedAt", analysis == null ? null : analysis.getAnalyzedAt());
+        model.addAttribute("stale", analysis != null && analysisResultCache.isStale(analysis));
+        model.addAttribute("startDate", summary.getStartDate());
+        model.addAttribute("numBid", summary.getNumBid());
+        model.addAttribute("numAsk", summary.getNumAsk());
+        model.addAttribute("caclTradingResult", summary.getTotalPnl());
 
         return "market/chart";
     }
+
+    @Operation(summary = "실시간 chart", description = "분석 주기마다 새로 닫힌 분봉과 지표, 신호만 SSE로 전송")
+    @GetMapping(value = "/chart/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    /**
+     * 연결 직후 snapshot 이벤트(전체 구간), 이후 update 이벤트(추가된 분봉만)
+     * @param market : String 코인 마켓
+     * @param count : int 화면에 그릴 분봉 수
+     */
+    public SseEmitter streamMarketChart(
+            @RequestParam(defaultValue = "KRW-BTC") String market,
+            @RequestParam(defaultValue = "100") int count) {
+        return chartStreamService.subscribe(market, count);
+    }
 }
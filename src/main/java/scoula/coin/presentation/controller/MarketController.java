@@ -1,38 +1,99 @@
 package scoula.coin.presentation.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import scoula.coin.application.dto.CandleDTO;
+import scoula.coin.application.dto.CandleHistoryDTO;
+import scoula.coin.domain.market.CandleBackfillService;
 import scoula.coin.domain.market.CandleService;
+import scoula.coin.domain.market.CandleSyncService;
+import scoula.coin.domain.market.Timeframe;
+import scoula.coin.domain.market.archive.CandleArchive;
 import scoula.coin.domain.order.OrderService;
-import scoula.coin.domain.trading.TradingService;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.domain.trading.AnalysisResultCache;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/market")
 @RequiredArgsConstructor
 public class MarketController {
 
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+
     private final CandleService candleService;
-    private final TradingService tradingService;
+    private final CandleSyncService candleSyncService;
+    private final CandleArchive candleArchive;
+    private final CandleBackfillService candleBackfillService;
+    private final AnalysisResultCache analysisResultCache;
     private final OrderService orderService;
 
+    @Value("${trading.chart.history-max-points:5000}")
+    private int historyMaxPoints;
+
     @GetMapping("/candle")
     public ResponseEntity<?> getCandle(@RequestParam(defaultValue = "KRW-BTC") String market,
-                                       @RequestParam(defaultValue = "10") int count) {
-        List<CandleDTO> candles = candleService.getCandle(market, count);
+                                       @RequestParam(defaultValue = "10") int count,
+                                       @RequestParam(defaultValue = "1m") String timeframe) {
+        Timeframe unit = Timeframe.from(timeframe);
+        // 상위 분봉은 1분봉을 합쳐서 응답 (API는 1분봉만 호출)
+        List<CandleDTO> candles = unit == Timeframe.M1
+                ? candleService.getCandle(market, count)
+                : candleSyncService.getCandles(market, unit, count);
         return ResponseEntity.ok(candles);
     }
 
+    @GetMapping("/candle/history")
+    public ResponseEntity<?> getCandleHistory(@RequestParam(defaultValue = "KRW-BTC") String market,
+                                              @RequestParam(defaultValue = "1h") String timeframe,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        // 긴 기간은 DB가 아닌 분봉 보관소에서 읽음 (기간은 KST, 상위 분봉은 닫힌 봉만)
+        long fromMillis = from.toInstant(KST).toEpochMilli();
+        long toMillis = to.toInstant(KST).toEpochMilli();
+        if (fromMillis >= toMillis) {
+            throw new CustomException(ErrorCode.HISTORY_INVALID_RANGE);
+        }
+        // 봉 수가 history-max-points를 넘으면 더 큰 단위로 올려서 응답 (응답의 timeframe이 실제 단위)
+        Timeframe unit = Timeframe.from(timeframe).coarsenFor(toMillis - fromMillis, historyMaxPoints);
+        PriceSeries series = candleArchive.load(market, unit, fromMillis, toMillis);
+        return ResponseEntity.ok(CandleHistoryDTO.of(market, unit.getLabel(), series));
+    }
+
+    @PostMapping("/candle/backfill")
+    public ResponseEntity<?> startBackfill(@RequestParam List<String> markets,
+                                           @RequestParam(defaultValue = "365") int days) {
+        // 마켓별로 과거 분봉을 받기 시작하고 바로 응답 (진행 상황은 GET으로 조회)
+        long from = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days);
+        return ResponseEntity.accepted().body(candleBackfillService.start(markets, from));
+    }
+
+    @GetMapping("/candle/backfill")
+    public ResponseEntity<?> getBackfillStatus(@RequestParam List<String> markets) {
+        return ResponseEntity.ok(candleBackfillService.getStatus(markets));
+    }
+
     @GetMapping("/analysis")
     public ResponseEntity<?> getMarketAnalysis(
             @RequestParam(defaultValue = "KRW-BTC") String market,
             @RequestParam(defaultValue = "100") int count) {
-        return ResponseEntity.ok(tradingService.analyzeTradingSignals(market, count));
+        // 분석(주문)은 스케쥴러에서만 실행하고 여기서는 마지막 결과만 조회
+        if (count < 1) {
+            throw new CustomException(ErrorCode.HISTORY_INVALID_RANGE);
+        }
+        return analysisResultCache.get(market)
+                .<ResponseEntity<?>>map(snapshot -> ResponseEntity.ok(snapshot.latest(count)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
     }
 
     @GetMapping("/orderchance")
@@ -3,18 +3,24 @@ package scoula.coin.presentation.controller;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import scoula.coin.application.dto.ApiResponse;
+import scoula.coin.application.dto.HistoryPage;
 import scoula.coin.application.dto.OrderHistoryDTO;
 import scoula.coin.application.dto.TradingSignalHistoryDTO;
-import scoula.coin.application.entity.TradingSignalHistory;
+import scoula.coin.domain.order.ExportFormat;
+import scoula.coin.domain.order.HistoryExportService;
 import scoula.coin.domain.order.OrderService;
-import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 
 @Slf4j
@@ -26,7 +32,7 @@ import java.util.stream.Collectors;
  */
 public class OrderController {
     private final OrderService orderService;
-    private final TradingSignalHistoryRepository tradingSignalHistoryRepository;
+    private final HistoryExportService historyExportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<?>> createOrder(
@@ -53,8 +59,13 @@ public class OrderController {
 
     @GetMapping("/history")
     public ResponseEntity<ApiResponse<?>> getOrderHistory(
-            @RequestParam(required = false) String market) {
-        List<OrderHistoryDTO> history = orderService.getOrderHistory(market);
+            @RequestParam(required = false) String market,
+            @RequestParam(required = false) String side,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        HistoryPage<OrderHistoryDTO> history = orderService.getOrderHistory(market, side, from, to, cursor, limit);
         return ResponseEntity.ok(ApiResponse.success(history));
     }
 
@@ -62,24 +73,47 @@ public class OrderController {
     public ResponseEntity<ApiResponse<?>> getSignalHistory(
             @RequestParam(required = false) String market,
             @RequestParam(required = false) Integer signalType,
-            @RequestParam(required = false) Boolean executed) {
-
-        List<TradingSignalHistory> signals;
-        if (market != null) {
-            signals = tradingSignalHistoryRepository.findByMarketOrderByCreatedAtDesc(market);
-        } else if (signalType != null) {
-            signals = tradingSignalHistoryRepository.findBySignalTypeOrderByCreatedAtDesc(signalType);
-        } else if (executed != null) {
-            signals = tradingSignalHistoryRepository.findByOrderExecutedOrderByCreatedAtDesc(executed);
-        } else {
-            signals = (List<TradingSignalHistory>) tradingSignalHistoryRepository.findAll();
-        }
-
-        List<TradingSignalHistoryDTO> dtos = signals.stream()
-                .map(TradingSignalHistoryDTO::fromEntity)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(ApiResponse.success(dtos));
+            @RequestParam(required = false) Boolean executed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        HistoryPage<TradingSignalHistoryDTO> signals =
+                orderService.getSignalHistory(market, signalType, executed, from, to, cursor, limit);
+        return ResponseEntity.ok(ApiResponse.success(signals));
+    }
+
+    @GetMapping("/history/export")
+    /**
+     * 주문 이력 전체를 CSV/NDJSON으로 스트리밍 (페이지 없이 시간순)
+     */
+    public ResponseEntity<StreamingResponseBody> exportOrderHistory(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String market,
+            @RequestParam(required = false) String side,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        historyExportService.validateRange(from, to);
+        return export("order-history", exportFormat,
+                out -> historyExportService.exportOrders(exportFormat, market, side, from, to, out));
+    }
+
+    @GetMapping("/signals/export")
+    /**
+     * 시그널 이력 전체를 CSV/NDJSON으로 스트리밍 (페이지 없이 시간순)
+     */
+    public ResponseEntity<StreamingResponseBody> exportSignalHistory(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String market,
+            @RequestParam(required = false) Integer signalType,
+            @RequestParam(required = false) Boolean executed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        historyExportService.validateRange(from, to);
+        return export("signal-history", exportFormat,
+                out -> historyExportService.exportSignals(exportFormat, market, signalType, executed, from, to, out));
     }
 
     @GetMapping
@@ -118,5 +152,13 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
-
+    private ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
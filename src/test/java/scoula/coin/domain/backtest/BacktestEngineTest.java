@@ -0,0 +1,183 @@
+package scoula.coin.domain.backtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import scoula.coin.application.dto.BacktestResult;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.domain.strategy.StrategyParameters;
+import scoula.coin.domain.strategy.TechnicalIndicator;
+
+import java.io.StringReader;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BacktestEngineTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final int WARM_UP = 40; // 지표가 모두 준비되는 분봉 수 이상
+    private static final double TRIGGER_CLOSE = 100.25;
+    private static final double SELL_TRIGGER_CLOSE = 99.75;
+
+    @Mock
+    private TechnicalIndicator technicalIndicator;
+
+    @InjectMocks
+    private BacktestEngine backtestEngine;
+
+    private final StrategyParameters parameters = StrategyParameters.builder()
+            .bidFee(0.001)
+            .askFee(0.001)
+            .build();
+
+    @Test
+    void run_BuyFillsThenTakeProfitSells() {
+        PriceSeries candles = new PriceSeries(100);
+        warmUp(candles);
+        candles.add(WARM_UP * MINUTE, 100, 100, 99, 100, 1);          // 매수 주문(100) 체결
+        candles.add((WARM_UP + 1) * MINUTE, 100, 104, 100, 104, 1);
+        candles.add((WARM_UP + 2) * MINUTE, 106, 107, 105, 106, 1);   // 시가 106에서 익절 주문
+        candles.add((WARM_UP + 3) * MINUTE, 104, 108, 104, 107, 1);   // 매도 체결
+        signalAtTrigger(1);
+
+        BacktestResult result = backtestEngine.run(candles, parameters, 1_000_000);
+
+        assertEquals(1, result.getBuySignals());
+        assertEquals(1, result.getBuyFills());
+        assertEquals(1, result.getTakeProfitStopLoss());
+        assertEquals(1, result.getSellFills());
+        assertEquals(0, result.getCanceledOrders());
+
+        double volume = 100_000 / 100.0;          // 잔고의 10%
+        double sold = volume * 0.1;               // 코인의 10%
+        double expectedFees = 100_000 * 0.001 + sold * 106 * 0.001;
+        assertEquals(expectedFees, result.getFeesPaid(), 1e-6);
+        double expectedEquity = 1_000_000 - 100_000 * 1.001 + sold * 106 * 0.999 + (volume - sold) * 107;
+        assertEquals(expectedEquity, result.getFinalEquity(), 1e-6);
+    }
+
+    @Test
+    void run_CancelsUnfilledOrderAfterTimeout() {
+        PriceSeries candles = new PriceSeries(100);
+        warmUp(candles);
+        candles.add(WARM_UP * MINUTE, 100, 100, 100, 100, 1);          // 주문가 100
+        for (int i = 1; i <= 4; i++) {
+            candles.add((WARM_UP + i) * MINUTE, 101, 102, 101, 101, 1); // 저가가 주문가에 닿지 않음
+        }
+        signalAtTrigger(1);
+
+        BacktestResult result = backtestEngine.run(candles, parameters, 1_000_000);
+
+        assertEquals(1, result.getBuyOrders());
+        assertEquals(0, result.getBuyFills());
+        assertEquals(1, result.getCanceledOrders());
+        assertEquals(1_000_000, result.getFinalEquity(), 1e-6);
+        assertEquals(0, result.getMaxDrawdown(), 1e-12);
+    }
+
+    @Test
+    void run_SellIsSkippedBelowLastBuyPlusFee() {
+        PriceSeries candles = new PriceSeries(100);
+        warmUp(candles);
+        candles.add(WARM_UP * MINUTE, 100, 100, 99, 100, 1);                  // 매수 체결
+        candles.add((WARM_UP + 1) * MINUTE, 100, 100, 99.5, SELL_TRIGGER_CLOSE, 1);
+        candles.add((WARM_UP + 2) * MINUTE, 100, 101, 100, 100, 1);           // 매도 주문가 100 < 100 * 1.001
+        signalAtTrigger(1);
+
+        BacktestResult result = backtestEngine.run(candles, parameters, 1_000_000);
+
+        assertEquals(1, result.getBuyFills());
+        assertEquals(1, result.getSellSignals());
+        assertEquals(0, result.getSellOrders());
+    }
+
+    @Test
+    void run_MillionCandlesInSeconds() {
+        BacktestEngine engine = new BacktestEngine(new TechnicalIndicator());
+        int length = 1_000_000;
+        long[] times = new long[length];
+        double[] open = new double[length];
+        double[] high = new double[length];
+        double[] low = new double[length];
+        double[] close = new double[length];
+        Random random = new Random(7);
+        double price = 50_000_000;
+        for (int i = 0; i < length; i++) {
+            times[i] = i * MINUTE;
+            open[i] = price;
+            price = Math.max(1_000, price + (random.nextDouble() - 0.5) * 200_000);
+            close[i] = price;
+            high[i] = Math.max(open[i], close[i]) + random.nextDouble() * 50_000;
+            low[i] = Math.min(open[i], close[i]) - random.nextDouble() * 50_000;
+        }
+
+        BacktestResult result = engine.run(times, open, high, low, close, length, StrategyParameters.DEFAULT, 10_000_000);
+
+        assertEquals(length, result.getCandles());
+        assertTrue(result.getElapsedMillis() < 5_000, "took " + result.getElapsedMillis() + " ms");
+        assertTrue(result.getMaxDrawdown() >= 0 && result.getMaxDrawdown() <= 1);
+        assertTrue(result.getBuyFills() <= result.getBuyOrders());
+    }
+
+    @Test
+    void csvReader_ParsesHeaderAndIsoTimes() throws Exception {
+        String csv = """
+                candle_time,open,high,low,close,volume
+                2024-01-01T00:00:00,100,110,90,105,1.5
+                1704067260000,105,106,104,104.5,2
+                """;
+
+        PriceSeries series = CandleCsvReader.read(new StringReader(csv));
+
+        assertEquals(2, series.size());
+        assertEquals(1704067200000L, series.getTime(0));
+        assertEquals(1704067260000L, series.getTime(1));
+        assertEquals(105, series.close().get(0));
+        assertEquals(2, series.volume().get(1));
+    }
+
+    @Test
+    void csvReader_RejectsRowsWithMissingOrExtraFields() {
+        String missing = """
+                1704067200000,100,110,90,105,1.5
+                1704067260000,105,106,104,104.5
+                """;
+        String extra = """
+                1704067200000,100,110,90,105,1.5,7
+                """;
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> CandleCsvReader.read(new StringReader(missing)));
+        assertTrue(error.getMessage().startsWith("Invalid candle at line 2"), error.getMessage());
+        error = assertThrows(IllegalArgumentException.class, () -> CandleCsvReader.read(new StringReader(extra)));
+        assertTrue(error.getMessage().startsWith("Invalid candle at line 1"), error.getMessage());
+    }
+
+    /**
+     * 종가 100, 마지막 분봉만 종가 TRIGGER_CLOSE인 워밍업 구간
+     */
+    private void warmUp(PriceSeries candles) {
+        for (int i = 0; i < WARM_UP; i++) {
+            double close = i == WARM_UP - 1 ? TRIGGER_CLOSE : 100;
+            candles.add(i * MINUTE, 100, 100.5, 100, close, 1);
+        }
+    }
+
+    /**
+     * 종가가 TRIGGER_CLOSE인 분봉에서 signal, SELL_TRIGGER_CLOSE인 분봉에서 매도 신호 발생
+     */
+    private void signalAtTrigger(int signal) {
+        when(technicalIndicator.evaluateSignal(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), any(StrategyParameters.class)))
+                .thenAnswer(invocation -> {
+                    double close = invocation.getArgument(0);
+                    return close == TRIGGER_CLOSE ? signal : close == SELL_TRIGGER_CLOSE ? -1 : 0;
+                });
+    }
+}
@@ -0,0 +1,57 @@
+package scoula.coin.domain.backtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import scoula.coin.application.dto.OrderBookDTO;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.archive.CandleArchive;
+import scoula.coin.domain.order.OrderService;
+import scoula.coin.domain.strategy.StrategyParameters;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BacktestServiceTest {
+
+    @Mock
+    private CandleRepository candleRepository;
+
+    @Mock
+    private CandleArchive candleArchive;
+
+    @Mock
+    private BacktestEngine backtestEngine;
+
+    @Mock
+    private OrderService orderService;
+
+    @InjectMocks
+    private BacktestService backtestService;
+
+    @Test
+    void currentParameters_UsesExchangeFees() {
+        when(orderService.getOrderChance("KRW-BTC")).thenReturn(OrderBookDTO.builder()
+                .bidFee(new BigDecimal("0.0004"))
+                .askFee(new BigDecimal("0.0005"))
+                .build());
+
+        StrategyParameters parameters = backtestService.currentParameters("KRW-BTC");
+
+        assertEquals(0.0004, parameters.getBidFee());
+        assertEquals(0.0005, parameters.getAskFee());
+        assertEquals(StrategyParameters.DEFAULT.getRsiPeriod(), parameters.getRsiPeriod());
+    }
+
+    @Test
+    void currentParameters_FallsBackToDefaultFeesWhenOrderChanceFails() {
+        when(orderService.getOrderChance("KRW-BTC")).thenThrow(new RuntimeException("API down"));
+
+        assertSame(StrategyParameters.DEFAULT, backtestService.currentParameters("KRW-BTC"));
+    }
+}
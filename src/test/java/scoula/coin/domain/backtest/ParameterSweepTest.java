@@ -0,0 +1,97 @@
+package scoula.coin.domain.backtest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import scoula.coin.application.dto.BacktestResult;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.domain.strategy.StrategyParameters;
+import scoula.coin.domain.strategy.TechnicalIndicator;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParameterSweepTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private final BacktestEngine backtestEngine = new BacktestEngine(new TechnicalIndicator());
+    private final ParameterSweep parameterSweep = new ParameterSweep(backtestEngine);
+    private PriceSeries candles;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        candles = new PriceSeries(20_000);
+        double price = 50_000_000;
+        for (int i = 0; i < 20_000; i++) {
+            double open = price;
+            price *= 1 + (random.nextDouble() - 0.5) * 0.004;
+            double high = Math.max(open, price) * (1 + random.nextDouble() * 0.001);
+            double low = Math.min(open, price) * (1 - random.nextDouble() * 0.001);
+            candles.add(i * MINUTE, open, high, low, price, 1);
+        }
+    }
+
+    @Test
+    void parse_DecodesListsAndRanges() {
+        ParameterGrid grid = ParameterGrid.parse("rsiPeriod=7,14;takeProfitStopLoss=0.02:0.05:0.01", StrategyParameters.DEFAULT);
+
+        assertEquals(8, grid.size());
+        assertEquals(List.of("rsiPeriod", "takeProfitStopLoss"), grid.getNames());
+        StrategyParameters last = grid.get(7);
+        assertEquals(14, last.getRsiPeriod());
+        assertEquals(0.05, last.getTakeProfitStopLoss(), 1e-12);
+        assertEquals(StrategyParameters.DEFAULT.getFastPeriod(), last.getFastPeriod());
+        assertThrows(IllegalArgumentException.class, () -> ParameterGrid.parse("unknown=1", StrategyParameters.DEFAULT));
+    }
+
+    @Test
+    void sample_ReturnsDistinctIndicesWithinGrid() {
+        ParameterGrid grid = ParameterGrid.parse("rsiPeriod=5:30:1;bandPeriod=10:40:1", StrategyParameters.DEFAULT);
+
+        long[] indices = grid.sample(100, 1);
+
+        assertEquals(100, indices.length);
+        assertEquals(100, Arrays.stream(indices).distinct().count());
+        assertTrue(Arrays.stream(indices).allMatch(index -> index >= 0 && index < grid.size()));
+        assertArrayEquals(indices, grid.sample(100, 1));
+    }
+
+    @Test
+    void run_MatchesSingleBacktestsAndRanksByReturn() {
+        ParameterGrid grid = ParameterGrid.parse(
+                "fastPeriod=8,12,30;rsiPeriod=7,14;rsiBuyThreshold=30,40;takeProfitStopLoss=0.01,0.05",
+                StrategyParameters.DEFAULT);
+
+        List<SweepResult> ranked = parameterSweep.run(candles, grid, grid.all(), 1_000_000, 4);
+
+        assertEquals(16, ranked.size()); // fastPeriod 30 >= slowPeriod 26 조합은 제외
+        for (int i = 1; i < ranked.size(); i++) {
+            assertTrue(ranked.get(i - 1).getResult().getReturnRate() >= ranked.get(i).getResult().getReturnRate());
+        }
+        for (SweepResult sweep : ranked) {
+            BacktestResult single = backtestEngine.run(candles, sweep.getParameters(), 1_000_000);
+            assertEquals(single.getFinalEquity(), sweep.getResult().getFinalEquity(), 1e-6);
+            assertEquals(single.getBuyFills(), sweep.getResult().getBuyFills());
+        }
+    }
+
+    @Test
+    void writeReport_WritesRankedRowsWithParameterColumns() throws Exception {
+        ParameterGrid grid = ParameterGrid.parse("rsiBuyThreshold=30,40", StrategyParameters.DEFAULT);
+        List<SweepResult> ranked = parameterSweep.run(candles, grid, grid.all(), 1_000_000, 2);
+        StringWriter out = new StringWriter();
+
+        SweepReportWriter.write(out, ranked, grid.getNames());
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("rank,return_rate"));
+        assertTrue(lines[0].endsWith(",rsiBuyThreshold"));
+        assertTrue(lines[1].startsWith("1,"));
+    }
+}
@@ -0,0 +1,184 @@
+package scoula.coin.domain.market;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import scoula.coin.application.dto.CandleDTO;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.global.error.CustomException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandleAggregatorTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private CandleRepository candleRepository;
+
+    private CandleAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new CandleAggregator(candleRepository, 100, 0);
+    }
+
+    @Test
+    void accept_MergesMinutesIntoHigherTimeframes() {
+        for (int i = 0; i < 7; i++) {
+            // 시가 100 + i, 고가 +5, 저가 -5, 거래량 1
+            aggregator.accept(MARKET, minute(START.plusMinutes(i), 100 + i));
+        }
+
+        PriceSeries fiveMinutes = aggregator.getSeries(MARKET, Timeframe.M5, false);
+        assertEquals(2, fiveMinutes.size());
+        assertEquals(millis(START), fiveMinutes.getTime(0));
+        assertEquals(100, fiveMinutes.open().get(0));
+        assertEquals(109, fiveMinutes.high().get(0));
+        assertEquals(95, fiveMinutes.low().get(0));
+        assertEquals(105, fiveMinutes.close().get(0));      // 4분봉 종가 104 + 1
+        assertEquals(5, fiveMinutes.volume().get(0));
+        assertEquals(millis(START.plusMinutes(5)), fiveMinutes.getTime(1));
+        assertEquals(2, fiveMinutes.volume().get(1));
+
+        PriceSeries hour = aggregator.getSeries(MARKET, Timeframe.H1, false);
+        assertEquals(1, hour.size());
+        assertEquals(7, hour.volume().last());
+        assertEquals(7, aggregator.getSeries(MARKET, Timeframe.M1, false).size());
+    }
+
+    @Test
+    void getSeries_ClosedOnlyExcludesFormingBucket() {
+        for (int i = 0; i < 5; i++) {
+            aggregator.accept(MARKET, minute(START.plusMinutes(i), 100));
+        }
+        // 5분봉의 마지막 분까지 반영 -> 닫힘
+        assertEquals(1, aggregator.getSeries(MARKET, Timeframe.M5, true).size());
+        // 15분봉은 아직 진행 중
+        assertEquals(0, aggregator.getSeries(MARKET, Timeframe.M15, true).size());
+        assertEquals(1, aggregator.getSeries(MARKET, Timeframe.M15, false).size());
+    }
+
+    @Test
+    void accept_IgnoresDuplicateAndOlderMinutes() {
+        assertTrue(aggregator.accept(MARKET, minute(START.plusMinutes(1), 100)));
+        assertFalse(aggregator.accept(MARKET, minute(START.plusMinutes(1), 100)));
+        assertFalse(aggregator.accept(MARKET, minute(START, 100)));
+        assertEquals(1, aggregator.getSeries(MARKET, Timeframe.M5, false).volume().last());
+    }
+
+    @Test
+    void getCandles_NewestFirstWithFormingMinuteMergedIntoCopy() {
+        for (int i = 0; i < 7; i++) {
+            aggregator.accept(MARKET, minute(START.plusMinutes(i), 100 + i));
+        }
+        CandleDTO forming = minute(START.plusMinutes(7), 200);
+
+        List<CandleDTO> candles = aggregator.getCandles(MARKET, Timeframe.M5, 10, forming);
+
+        assertEquals(2, candles.size());
+        assertEquals(millis(START.plusMinutes(5)), candles.get(0).candleTimeMillis());
+        assertEquals(201, candles.get(0).getTradePrice());
+        assertEquals(205, candles.get(0).getHighPrice());
+        assertEquals(3, candles.get(0).getCandleAccTradeVolume());
+        assertEquals(5, candles.get(0).getUnit());
+        assertEquals(millis(START), candles.get(1).candleTimeMillis());
+        // 진행 중인 분봉은 복사본에만 합쳐짐
+        assertEquals(2, aggregator.getSeries(MARKET, Timeframe.M5, false).volume().last());
+    }
+
+    @Test
+    void getSeries_SeedsFromStoredMinutesOnFirstRead() {
+        aggregator = new CandleAggregator(candleRepository, 100, 60);
+
+        aggregator.accept(MARKET, minute(START.plusMinutes(60), 130));
+        aggregator.accept(MARKET, minute(START.plusMinutes(61), 140));
+        // 분봉 반영 중에는 DB를 읽지 않음
+        verifyNoInteractions(candleRepository);
+
+        when(candleRepository.findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                eq(MARKET), eq(1), eq(millis(START) - 1), eq(millis(START.plusMinutes(61))), any(Pageable.class)))
+                .thenReturn(List.of(stored(START, 100), stored(START.plusMinutes(30), 120)));
+
+        PriceSeries hour = aggregator.getSeries(MARKET, Timeframe.H1, false);
+        assertEquals(2, hour.size());
+        assertEquals(100, hour.open().get(0));
+        assertEquals(121, hour.close().get(0));
+        assertEquals(2, hour.volume().get(1));
+        assertEquals(2, aggregator.getSeries(MARKET, Timeframe.H1, false).size());
+        verify(candleRepository, times(1))
+                .findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                        anyString(), anyInt(), anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void getCandles_UnknownMarketReturnsOnlyFormingMinute() {
+        List<CandleDTO> candles = aggregator.getCandles("KRW-ETH", Timeframe.H1, 5,
+                minute(START.plusMinutes(7), 100));
+
+        assertEquals(1, candles.size());
+        assertEquals(millis(START), candles.get(0).candleTimeMillis());
+        assertTrue(aggregator.getSeries("KRW-ETH", Timeframe.H1, false).isEmpty());
+    }
+
+    @Test
+    void timeframe_FromParsesLabels() {
+        assertEquals(Timeframe.H4, Timeframe.from("4H"));
+        assertEquals(millis(START), Timeframe.D1.bucketStart(millis(START.plusHours(23))));
+        assertThrows(RuntimeException.class, () -> Timeframe.from("3m"));
+    }
+
+    @Test
+    void timeframe_CoarsenForKeepsPointCountBounded() {
+        long day = Timeframe.D1.getMillis();
+
+        assertEquals(Timeframe.M1, Timeframe.M1.coarsenFor(day, 5_000));
+        assertEquals(Timeframe.M5, Timeframe.M1.coarsenFor(7 * day, 5_000));
+        assertEquals(Timeframe.H4, Timeframe.M1.coarsenFor(365 * day, 5_000));
+        assertEquals(Timeframe.H1, Timeframe.H1.coarsenFor(day, 5_000));
+        assertThrows(CustomException.class, () -> Timeframe.M1.coarsenFor(20 * 365 * day, 5_000));
+    }
+
+    private long millis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private CandleDTO minute(LocalDateTime time, double open) {
+        CandleDTO candle = new CandleDTO();
+        candle.setMarket(MARKET);
+        candle.setCandleTime(millis(time));
+        candle.setOpeningPrice(open);
+        candle.setHighPrice(open + 5);
+        candle.setLowPrice(open - 5);
+        candle.setTradePrice(open + 1);
+        candle.setCandleAccTradeVolume(1.0);
+        candle.setUnit(1);
+        return candle;
+    }
+
+    private Candle stored(LocalDateTime time, double open) {
+        return Candle.builder()
+                .market(MARKET)
+                .unit(1)
+                .candleTime(millis(time))
+                .openingPrice(open)
+                .highPrice(open + 5)
+                .lowPrice(open - 5)
+                .tradePrice(open + 1)
+                .candleAccTradeVolume(1.0)
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package scoula.coin.domain.market;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import scoula.coin.application.dto.BackfillStatusDTO;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.application.entity.CandleBackfillCheckpoint;
+import scoula.coin.domain.market.Repository.CandleBackfillCheckpointRepository;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.archive.CandleArchive;
+import scoula.coin.global.error.CustomException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandleBackfillServiceTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final long MINUTE = 60_000L;
+    private static final long CURSOR = 1_000 * MINUTE;
+
+    @Mock
+    private CandleService candleService;
+
+    @Mock
+    private CandleRepository candleRepository;
+
+    @Mock
+    private CandleBackfillCheckpointRepository checkpointRepository;
+
+    @Mock
+    private CandleArchive candleArchive;
+
+    @Captor
+    private ArgumentCaptor<List<Candle>> storedCaptor;
+
+    private CandleBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트에서는 호출 스레드에서 바로 실행
+        backfillService = new CandleBackfillService(candleService, candleRepository, checkpointRepository,
+                candleArchive, Runnable::run, 1_000, 1_000);
+    }
+
+    @Test
+    void backfill_PagesBackwardsFromCheckpointUntilTarget() throws Exception {
+        CandleBackfillCheckpoint checkpoint = checkpoint(CURSOR, CURSOR - 300 * MINUTE);
+        when(checkpointRepository.findById(MARKET)).thenReturn(Optional.of(checkpoint));
+        when(candleService.getCandleBatch(MARKET, 200, CURSOR)).thenReturn(page(CURSOR, 200));
+        when(candleService.getCandleBatch(MARKET, 200, CURSOR - 200 * MINUTE)).thenReturn(page(CURSOR - 200 * MINUTE, 200));
+
+        long fetched = backfillService.backfill(MARKET, CURSOR - 300 * MINUTE);
+
+        // 두 번째 페이지는 목표 시각 이후의 100개만 저장
+        assertEquals(300, fetched);
+        verify(candleRepository, times(2)).batchInsert(storedCaptor.capture());
+        assertEquals(200, storedCaptor.getAllValues().get(0).size());
+        assertEquals(100, storedCaptor.getAllValues().get(1).size());
+        assertTrue(checkpoint.getCompleted());
+        assertEquals(CURSOR - 400 * MINUTE, checkpoint.getCursorTime());
+        assertEquals(300, checkpoint.getFetchedCount());
+        verify(candleService, times(2)).getCandleBatch(eq(MARKET), eq(200), anyLong());
+    }
+
+    @Test
+    void backfill_CompletesWhenExchangeHasNoOlderCandles() throws Exception {
+        CandleBackfillCheckpoint checkpoint = checkpoint(CURSOR, 0L);
+        when(checkpointRepository.findById(MARKET)).thenReturn(Optional.of(checkpoint));
+        when(candleService.getCandleBatch(MARKET, 200, CURSOR)).thenReturn(page(CURSOR, 50));
+        when(candleService.getCandleBatch(MARKET, 200, CURSOR - 50 * MINUTE)).thenReturn(new CandleBatch(0));
+
+        assertEquals(50, backfillService.backfill(MARKET, 0L));
+
+        assertTrue(checkpoint.getCompleted());
+        assertEquals(CURSOR - 50 * MINUTE, checkpoint.getCursorTime());
+    }
+
+    @Test
+    void backfill_CompletedCheckpointOnlyResumesForOlderTarget() throws Exception {
+        CandleBackfillCheckpoint checkpoint = checkpoint(CURSOR, CURSOR - 10 * MINUTE);
+        checkpoint.setCompleted(true);
+        when(checkpointRepository.findById(MARKET)).thenReturn(Optional.of(checkpoint));
+
+        assertEquals(0, backfillService.backfill(MARKET, CURSOR - 10 * MINUTE));
+        verifyNoInteractions(candleService);
+
+        when(candleService.getCandleBatch(MARKET, 200, CURSOR)).thenReturn(page(CURSOR, 20));
+        assertEquals(20, backfillService.backfill(MARKET, CURSOR - 20 * MINUTE));
+        assertTrue(checkpoint.getCompleted());
+    }
+
+    @Test
+    void backfill_RetriesFailedPage() throws Exception {
+        CandleBackfillCheckpoint checkpoint = checkpoint(CURSOR, CURSOR - 10 * MINUTE);
+        when(checkpointRepository.findById(MARKET)).thenReturn(Optional.of(checkpoint));
+        when(candleService.getCandleBatch(MARKET, 200, CURSOR))
+                .thenThrow(new RuntimeException("429 Too Many Requests"))
+                .thenReturn(page(CURSOR, 10));
+
+        assertEquals(10, backfillService.backfill(MARKET, CURSOR - 10 * MINUTE));
+        verify(candleService, times(2)).getCandleBatch(MARKET, 200, CURSOR);
+    }
+
+    @Test
+    void start_RunsMarketsAndRebuildsArchive() throws Exception {
+        when(checkpointRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(candleService.getCandleBatch(eq(MARKET), eq(200), anyLong())).thenReturn(new CandleBatch(0));
+
+        List<BackfillStatusDTO> statuses = backfillService.start(List.of(MARKET), System.currentTimeMillis() - MINUTE * 5);
+
+        assertEquals(1, statuses.size());
+        assertFalse(statuses.get(0).isRunning());
+        assertNull(statuses.get(0).getError());
+        verify(checkpointRepository, atLeastOnce()).save(any(CandleBackfillCheckpoint.class));
+        // 받은 분봉이 없으면 보관소를 다시 만들지 않음
+        verify(candleArchive, never()).rebuild(anyString());
+    }
+
+    @Test
+    void start_RebuildsArchiveWhenRunFailsAfterStoringAPage() throws Exception {
+        long from = CURSOR - 300 * MINUTE;
+        CandleBackfillCheckpoint checkpoint = checkpoint(CURSOR, from);
+        when(checkpointRepository.findById(MARKET)).thenReturn(Optional.of(checkpoint));
+        when(candleService.getCandleBatch(MARKET, 200, CURSOR)).thenReturn(page(CURSOR, 200));
+        when(candleService.getCandleBatch(MARKET, 200, CURSOR - 200 * MINUTE)).thenReturn(page(CURSOR - 200 * MINUTE, 200));
+        when(candleRepository.batchInsert(anyList())).thenReturn(200).thenThrow(new RuntimeException("Deadlock found"));
+
+        List<BackfillStatusDTO> statuses = backfillService.start(List.of(MARKET), from);
+
+        assertEquals("Deadlock found", statuses.get(0).getError());
+        // 실패 전에 저장한 첫 페이지를 보관소에 반영
+        verify(candleArchive).rebuild(MARKET);
+        assertFalse(checkpoint.getArchivePending());
+    }
+
+    @Test
+    void estimateRequests_CountsNothingForMarketsAlreadyCompleteForTarget() {
+        CandleBackfillCheckpoint completed = checkpoint(CURSOR, CURSOR - 10 * MINUTE);
+        completed.setCompleted(true);
+        when(checkpointRepository.findById(MARKET)).thenReturn(Optional.of(completed));
+        when(checkpointRepository.findById("KRW-ETH")).thenReturn(Optional.empty());
+
+        assertEquals(0, backfillService.estimateRequests(List.of(MARKET), CURSOR - 10 * MINUTE, CURSOR + MINUTE));
+        // 더 오래된 목표면 남은 구간만, 체크포인트가 없으면 현재부터
+        assertEquals(1, backfillService.estimateRequests(List.of(MARKET), CURSOR - 20 * MINUTE, CURSOR + MINUTE));
+        assertEquals(2, backfillService.estimateRequests(List.of("KRW-ETH"), CURSOR - 200 * MINUTE, CURSOR));
+    }
+
+    @Test
+    void start_RejectsFutureTarget() {
+        assertThrows(CustomException.class,
+                () -> backfillService.start(List.of(MARKET), System.currentTimeMillis() + MINUTE));
+    }
+
+    private CandleBackfillCheckpoint checkpoint(long cursor, long target) {
+        return CandleBackfillCheckpoint.builder()
+                .market(MARKET)
+                .cursorTime(cursor)
+                .targetTime(target)
+                .build();
+    }
+
+    /**
+     * to 이전의 분봉 count개 (시간 역순)
+     */
+    private CandleBatch page(long to, int count) {
+        CandleBatch batch = new CandleBatch(count);
+        batch.setMarket(MARKET);
+        for (int i = 1; i <= count; i++) {
+            batch.add(to - i * MINUTE, 100.0, 110.0, 90.0, 105.0, to - i * MINUTE, 1000.0, 1.0);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,111 @@
+package scoula.coin.domain.market;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleResponseDecoderTest {
+
+    @Test
+    void decode_ReadsFieldsInAnyOrderAndSkipsUnknown() throws Exception {
+        String body = "[{\"unit\":1,\"trade_price\":60500.5,\"market\":\"KRW-BTC\",\"extra\":{\"nested\":[1,2]},"
+                + "\"candle_date_time_kst\":\"2024-02-29T09:01:00\",\"candle_date_time_utc\":\"2024-02-29T00:01:00\","
+                + "\"opening_price\":60000,\"high_price\":61000,\"low_price\":59000,\"timestamp\":1709164919000,"
+                + "\"candle_acc_trade_price\":1000000.25,\"candle_acc_trade_volume\":20.5},"
+                + "{\"market\":\"KRW-BTC\",\"candle_date_time_utc\":\"2024-02-29T00:00:00\",\"opening_price\":1,"
+                + "\"high_price\":2,\"low_price\":0.5,\"trade_price\":1.5,\"timestamp\":null,"
+                + "\"candle_acc_trade_price\":\"3.5\",\"candle_acc_trade_volume\":4,\"unit\":1}]";
+
+        CandleBatch batch = CandleResponseDecoder.decode(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), 1);
+
+        assertEquals(2, batch.size());
+        assertEquals("KRW-BTC", batch.getMarket());
+        assertEquals(1, batch.getUnit());
+        assertEquals(LocalDateTime.of(2024, 2, 29, 0, 1).toInstant(ZoneOffset.UTC).toEpochMilli(), batch.getTime(0));
+        assertEquals(60000, batch.getOpen(0));
+        assertEquals(61000, batch.getHigh(0));
+        assertEquals(59000, batch.getLow(0));
+        assertEquals(60500.5, batch.getClose(0));
+        assertEquals(1709164919000L, batch.getLastTradeTime(0));
+        assertEquals(1000000.25, batch.getAccTradePrice(0));
+        assertEquals(20.5, batch.getAccTradeVolume(0));
+        // null은 기본값, 숫자 문자열은 숫자로
+        assertEquals(0, batch.getLastTradeTime(1));
+        assertEquals(3.5, batch.getAccTradePrice(1));
+        assertEquals("2024-02-29T09:00:00", batch.toCandleDTO(1).getCandleDateTimeKst());
+    }
+
+    @Test
+    void decode_EmptyArray() throws Exception {
+        assertTrue(CandleResponseDecoder.decode("[]".getBytes(StandardCharsets.UTF_8), 200).isEmpty());
+    }
+
+    @Test
+    void decode_ErrorObjectFailsWithMessage() {
+        byte[] body = "{\"error\":{\"name\":\"invalid_parameter\",\"message\":\"잘못된 파라미터\"}}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> CandleResponseDecoder.decode(body, 1));
+        assertTrue(error.getMessage().contains("invalid_parameter - 잘못된 파라미터"));
+    }
+
+    @Test
+    void decode_RejectsCandleWithoutTime() {
+        byte[] body = "[{\"market\":\"KRW-BTC\",\"trade_price\":1}]".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> CandleResponseDecoder.decode(body, 1));
+    }
+
+    @Test
+    void decode_RejectsCandlesWithoutPrices() throws Exception {
+        byte[] body = ("[{\"candle_date_time_utc\":\"2024-01-01T00:01:00\",\"opening_price\":1,"
+                + "\"high_price\":2,\"low_price\":null,\"trade_price\":1.5},"
+                + "{\"candle_date_time_utc\":\"2024-01-01T00:00:00\",\"opening_price\":1,"
+                + "\"high_price\":2,\"low_price\":0.5,\"trade_price\":1.5}]").getBytes(StandardCharsets.UTF_8);
+
+        CandleBatch batch = CandleResponseDecoder.decode(body, 2);
+
+        assertEquals(1, batch.size());
+        assertEquals(1, batch.getRejected());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli(), batch.getTime(0));
+        // 거래대금/거래량이 없으면 0
+        assertEquals(0, batch.getAccTradeVolume(0));
+    }
+
+    @Test
+    void decode_FallsBackForOtherTimeFormats() throws Exception {
+        byte[] body = ("[{\"candle_date_time_utc\":\"2024-01-01T00:00:00.000\",\"opening_price\":1,"
+                + "\"high_price\":1,\"low_price\":1,\"trade_price\":1}]").getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0).toInstant(ZoneOffset.UTC).toEpochMilli(),
+                CandleResponseDecoder.decode(body, 1).getTime(0));
+    }
+
+    @Test
+    void epochDay_MatchesLocalDate() {
+        for (LocalDate date = LocalDate.of(1999, 12, 25); date.isBefore(LocalDate.of(2101, 1, 5)); date = date.plusDays(7)) {
+            assertEquals(date.toEpochDay(),
+                    CandleResponseDecoder.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    void candleBatch_GrowsBeyondInitialCapacity() {
+        CandleBatch batch = new CandleBatch(1);
+        for (int i = 0; i < 5; i++) {
+            batch.add(i, i, i, i, i, i, i, i);
+        }
+        assertEquals(5, batch.size());
+        assertEquals(4, batch.getClose(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getTime(5));
+    }
+}
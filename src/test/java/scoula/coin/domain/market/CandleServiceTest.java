@@ -1,21 +1,19 @@
 package scoula.coin.domain.market;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import scoula.coin.application.dto.CandleDTO;
 
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,19 +22,15 @@ import static org.mockito.Mockito.*;
 
 class CandleServiceTest {
 
-    @InjectMocks
     private CandleService candleService;
 
     @Mock
     private RestTemplate restTemplate;
 
-    @Mock
-    private ObjectMapper objectMapper;
-
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        candleService = new CandleService(restTemplate, objectMapper);
+        candleService = new CandleService(restTemplate);
         ReflectionTestUtils.setField(candleService, "secretKey", "testSecretKey");
         ReflectionTestUtils.setField(candleService, "appKey", "testAppKey");
     }
@@ -51,13 +45,10 @@ class CandleServiceTest {
                 "  {\"market\":\"BTC_KRW\", \"candle_date_time_utc\":\"2023-12-01T01:00:00\", \"candle_date_time_kst\":\"2023-12-01T10:00:00\", \"opening_price\":60500, \"high_price\":62000, \"low_price\":60000, \"trade_price\":61500, \"timestamp\":1700003600000, \"candle_acc_trade_price\":1200000, \"candle_acc_trade_volume\":25, \"unit\":1}\n" +
                 "]";
 
-        JsonNode jsonNode = new ObjectMapper().readTree(apiResponse);
-
-        ResponseEntity<String> mockResponse = mock(ResponseEntity.class);
-        when(mockResponse.getBody()).thenReturn(apiResponse);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(mockResponse);
-        when(objectMapper.readTree(apiResponse)).thenReturn(jsonNode);
+        // 응답 본문은 스트림으로 디코딩
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), anyCandleExtractor()))
+                .thenAnswer(invocation -> invocation.<ResponseExtractor<CandleBatch>>getArgument(3).extractData(
+                        new MockClientHttpResponse(apiResponse.getBytes(StandardCharsets.UTF_8), HttpStatus.OK)));
 
         // When
         List<CandleDTO> candleDTOList = candleService.getCandle(market, count);
@@ -79,8 +70,7 @@ class CandleServiceTest {
         assertEquals(20, firstCandle.getCandleAccTradeVolume());
         assertEquals(1, firstCandle.getUnit());
 
-        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
-        verify(objectMapper, times(1)).readTree(apiResponse);
+        verify(restTemplate, times(1)).execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), anyCandleExtractor());
     }
 
     @Test
@@ -89,13 +79,17 @@ class CandleServiceTest {
         String market = "BTC_KRW";
         int count = 2;
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), anyCandleExtractor()))
                 .thenThrow(new RuntimeException("API call failed"));
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> candleService.getCandle(market, count));
         assertEquals("Failed to fetch coin data", exception.getMessage());
 
-        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+        verify(restTemplate, times(1)).execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), anyCandleExtractor());
+    }
+
+    private static ResponseExtractor<CandleBatch> anyCandleExtractor() {
+        return any();
     }
 }
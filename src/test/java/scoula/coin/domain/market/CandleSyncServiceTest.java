@@ -0,0 +1,203 @@
+package scoula.coin.domain.market;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import scoula.coin.application.dto.CandleDTO;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.stream.CandleClosedEvent;
+import scoula.coin.domain.market.stream.MarketStreamHandler;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandleSyncServiceTest {
+
+    private static final String MARKET = "KRW-BTC";
+
+    @Mock
+    private CandleService candleService;
+
+    @Mock
+    private CandleRepository candleRepository;
+
+    @Mock
+    private ObjectProvider<MarketStreamHandler> streamHandler;
+
+    @Mock
+    private CandleAggregator candleAggregator;
+
+    @InjectMocks
+    private CandleSyncService candleSyncService;
+
+    @Captor
+    private ArgumentCaptor<List<Candle>> storedCaptor;
+
+    private final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES);
+
+    @Test
+    void getCandles_ColdStartFetchesFullWindowAndStoresClosedCandles() {
+        when(candleRepository.findByMarketAndUnitOrderByCandleTimeDesc(eq(MARKET), eq(1), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(candleService.getCandleBatch(MARKET, 10, null)).thenReturn(candles(now, 10));
+
+        List<CandleDTO> result = candleSyncService.getCandles(MARKET, 10);
+
+        assertEquals(10, result.size());
+        assertEquals(millis(now), result.get(0).candleTimeMillis());
+        verify(candleRepository).batchInsert(storedCaptor.capture());
+        assertEquals(9, storedCaptor.getValue().size()); // 진행 중인 분봉은 저장하지 않음
+        verify(candleAggregator, times(9)).accept(eq(MARKET), any(CandleDTO.class));
+    }
+
+    @Test
+    void getCandles_WarmCacheFetchesOnlyNewCandles() {
+        when(candleRepository.findByMarketAndUnitOrderByCandleTimeDesc(eq(MARKET), eq(1), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(candleService.getCandleBatch(MARKET, 10, null)).thenReturn(candles(now.minusMinutes(1), 10));
+        candleSyncService.getCandles(MARKET, 10);
+
+        when(candleService.getCandleBatch(eq(MARKET), intThat(count -> count <= 3), isNull())).thenReturn(candles(now, 2));
+
+        List<CandleDTO> result = candleSyncService.getCandles(MARKET, 10);
+
+        assertEquals(10, result.size());
+        assertEquals(millis(now), result.get(0).candleTimeMillis());
+        assertEquals(millis(now.minusMinutes(1)), result.get(1).candleTimeMillis());
+        assertEquals(millis(now.minusMinutes(2)), result.get(2).candleTimeMillis());
+        verify(candleRepository, times(2)).batchInsert(storedCaptor.capture());
+        assertEquals(1, storedCaptor.getValue().size());
+    }
+
+    @Test
+    void getCandles_LoadsStoredCandlesAfterRestart() {
+        List<Candle> stored = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            stored.add(candle(now.minusMinutes(i)).toEntity()); // 최신순
+        }
+        when(candleRepository.findByMarketAndUnitOrderByCandleTimeDesc(eq(MARKET), eq(1), any(Pageable.class)))
+                .thenReturn(stored);
+        when(candleService.getCandleBatch(eq(MARKET), intThat(count -> count <= 3), isNull())).thenReturn(candles(now, 2));
+
+        List<CandleDTO> result = candleSyncService.getCandles(MARKET, 6);
+
+        assertEquals(6, result.size());
+        assertEquals(millis(now.minusMinutes(5)), result.get(5).candleTimeMillis());
+        verify(candleRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    void getCandles_KeepsCacheWhenStoreFails() {
+        when(candleRepository.findByMarketAndUnitOrderByCandleTimeDesc(eq(MARKET), eq(1), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(candleService.getCandleBatch(MARKET, 5, null)).thenReturn(candles(now, 5));
+        when(candleRepository.batchInsert(anyList())).thenThrow(new RuntimeException("DB down"));
+
+        List<CandleDTO> result = candleSyncService.getCandles(MARKET, 5);
+
+        assertEquals(5, result.size());
+    }
+
+    @Test
+    void onCandleClosed_AppendsStreamedCandleAndSkipsApiWhileStreamIsCurrent() {
+        LocalDateTime currentMinute = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES);
+        when(candleRepository.findByMarketAndUnitOrderByCandleTimeDesc(eq(MARKET), eq(1), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(candleService.getCandleBatch(MARKET, 5, null)).thenReturn(candles(currentMinute.minusMinutes(1), 5));
+        candleSyncService.getCandles(MARKET, 5);
+
+        candleSyncService.onCandleClosed(new CandleClosedEvent(MARKET, candle(currentMinute.minusMinutes(1))));
+
+        MarketStreamHandler handler = mock(MarketStreamHandler.class);
+        when(streamHandler.getIfAvailable()).thenReturn(handler);
+        when(handler.getLastClosedTime(MARKET)).thenReturn(millis(currentMinute.minusMinutes(1)));
+        when(handler.getFormingCandle(MARKET)).thenReturn(Optional.of(candle(currentMinute)));
+
+        List<CandleDTO> result = candleSyncService.getCandles(MARKET, 5);
+
+        assertEquals(millis(currentMinute), result.get(0).candleTimeMillis());
+        assertEquals(millis(currentMinute.minusMinutes(1)), result.get(1).candleTimeMillis());
+        verify(candleService, times(1)).getCandleBatch(anyString(), anyInt(), any());
+        verify(candleRepository, times(2)).batchInsert(anyList());
+    }
+
+    @Test
+    void onCandleClosed_IgnoresCandleThatSkipsAMinuteAndCatchesUpFromApi() {
+        LocalDateTime currentMinute = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES);
+        when(candleRepository.findByMarketAndUnitOrderByCandleTimeDesc(eq(MARKET), eq(1), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(candleService.getCandleBatch(MARKET, 5, null)).thenReturn(candles(currentMinute.minusMinutes(2), 5));
+        candleSyncService.getCandles(MARKET, 5);
+
+        // 캐시는 3분 전까지, 스트림은 2분 전 분봉을 버리고 1분 전 분봉을 닫음
+        candleSyncService.onCandleClosed(new CandleClosedEvent(MARKET, candle(currentMinute.minusMinutes(1))));
+
+        MarketStreamHandler handler = mock(MarketStreamHandler.class);
+        when(streamHandler.getIfAvailable()).thenReturn(handler);
+        when(handler.getLastClosedTime(MARKET)).thenReturn(millis(currentMinute.minusMinutes(1)));
+        when(candleService.getCandleBatch(eq(MARKET), intThat(count -> count != 5), isNull())).thenReturn(candles(currentMinute, 4));
+
+        List<CandleDTO> result = candleSyncService.getCandles(MARKET, 5);
+
+        assertEquals(millis(currentMinute), result.get(0).candleTimeMillis());
+        assertEquals(millis(currentMinute.minusMinutes(1)), result.get(1).candleTimeMillis());
+        assertEquals(millis(currentMinute.minusMinutes(2)), result.get(2).candleTimeMillis());
+        assertEquals(millis(currentMinute.minusMinutes(3)), result.get(3).candleTimeMillis());
+        verify(candleService, times(2)).getCandleBatch(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void onCandleClosed_IgnoredBeforeCacheIsLoaded() {
+        candleSyncService.onCandleClosed(new CandleClosedEvent(MARKET, candle(now)));
+
+        verifyNoInteractions(candleRepository);
+    }
+
+    private long millis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * API 응답과 같은 시간 역순 분봉
+     */
+    private CandleBatch candles(LocalDateTime latest, int count) {
+        CandleBatch candles = new CandleBatch(count);
+        candles.setMarket(MARKET);
+        for (int i = 0; i < count; i++) {
+            long time = millis(latest.minusMinutes(i));
+            candles.add(time, 100.0, 110.0, 90.0, 105.0, time, 1000.0, 10.0);
+        }
+        return candles;
+    }
+
+    private CandleDTO candle(LocalDateTime time) {
+        CandleDTO candle = new CandleDTO();
+        candle.setMarket(MARKET);
+        candle.setCandleDateTimeUtc(time.toString());
+        candle.setOpeningPrice(100.0);
+        candle.setHighPrice(110.0);
+        candle.setLowPrice(90.0);
+        candle.setTradePrice(105.0);
+        candle.setTimeStamp(time.toInstant(ZoneOffset.UTC).toEpochMilli());
+        candle.setCandleAccTradePrice(1000.0);
+        candle.setCandleAccTradeVolume(10.0);
+        candle.setUnit(1);
+        return candle;
+    }
+}
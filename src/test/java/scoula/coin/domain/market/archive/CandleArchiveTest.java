@@ -0,0 +1,131 @@
+package scoula.coin.domain.market.archive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.Timeframe;
+import scoula.coin.domain.strategy.PriceSeries;
+import scoula.coin.global.error.CustomException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandleArchiveTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final long MINUTE = 60_000L;
+
+    @Mock
+    private CandleRepository candleRepository;
+
+    @TempDir
+    Path root;
+
+    private CandleArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new CandleArchive(candleRepository, root, List.of(MARKET));
+    }
+
+    @AfterEach
+    void tearDown() {
+        archive.close();
+    }
+
+    @Test
+    void sync_ImportsNewMinutesAndRollsUpClosedBuckets() throws Exception {
+        when(candleRepository.findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                eq(MARKET), eq(1), eq(Long.MIN_VALUE), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(candles(0, 12));
+
+        assertEquals(12, archive.sync(MARKET));
+
+        assertEquals(12, archive.load(MARKET, Timeframe.M1, 0, Long.MAX_VALUE).size());
+        // 0~4분, 5~9분은 닫힘, 10~11분은 진행 중
+        PriceSeries fiveMinutes = archive.load(MARKET, Timeframe.M5, 0, Long.MAX_VALUE);
+        assertEquals(2, fiveMinutes.size());
+        assertEquals(100, fiveMinutes.open().get(0));
+        assertEquals(106, fiveMinutes.high().get(0));
+        assertEquals(98, fiveMinutes.low().get(0));
+        assertEquals(105, fiveMinutes.close().get(0));
+        assertEquals(5, fiveMinutes.volume().get(0));
+        assertTrue(archive.load(MARKET, Timeframe.H1, 0, Long.MAX_VALUE).isEmpty());
+
+        // 다음 동기화는 마지막 보관 시각 이후만 조회하고 진행 중이던 봉을 닫음
+        when(candleRepository.findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                eq(MARKET), eq(1), eq(11 * MINUTE), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(candles(12, 4));
+
+        assertEquals(4, archive.sync(MARKET));
+        fiveMinutes = archive.load(MARKET, Timeframe.M5, 0, Long.MAX_VALUE);
+        assertEquals(3, fiveMinutes.size());
+        assertEquals(10 * MINUTE, fiveMinutes.getLastTime());
+        assertEquals(5, fiveMinutes.volume().last());
+    }
+
+    @Test
+    void covers_OnlyAfterSyncUpToSyncTime() throws Exception {
+        assertFalse(archive.covers(MARKET, 0, 0));
+        when(candleRepository.findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                anyString(), anyInt(), anyLong(), anyLong(), any(Pageable.class)))
+                .thenReturn(candles(0, 3));
+
+        archive.sync(MARKET);
+
+        assertTrue(archive.covers(MARKET, 0, 2 * MINUTE));
+        assertFalse(archive.covers(MARKET, 0, System.currentTimeMillis() + 60 * MINUTE));
+    }
+
+    @Test
+    void covers_FalseWhenDbHasCandlesBeforeArchivedRange() throws Exception {
+        when(candleRepository.findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                anyString(), anyInt(), anyLong(), anyLong(), any(Pageable.class)))
+                .thenReturn(candles(10, 3));
+        archive.sync(MARKET);
+
+        when(candleRepository.existsByMarketAndUnitAndCandleTimeBetween(MARKET, 1, 0L, 10 * MINUTE - 1))
+                .thenReturn(true);
+        when(candleRepository.existsByMarketAndUnitAndCandleTimeBetween(MARKET, 1, 5 * MINUTE, 10 * MINUTE - 1))
+                .thenReturn(false);
+
+        assertFalse(archive.covers(MARKET, 0, 12 * MINUTE));
+        assertTrue(archive.covers(MARKET, 5 * MINUTE, 12 * MINUTE));
+        assertTrue(archive.covers(MARKET, 10 * MINUTE, 12 * MINUTE));
+    }
+
+    @Test
+    void load_RejectsMarketThatIsNotAPathSegment() {
+        assertThrows(CustomException.class, () -> archive.load("../KRW-BTC", Timeframe.M1, 0, 1));
+    }
+
+    private List<Candle> candles(int first, int count) {
+        List<Candle> candles = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            candles.add(Candle.builder()
+                    .market(MARKET)
+                    .unit(1)
+                    .candleTime(i * MINUTE)
+                    .openingPrice(100.0 + i)
+                    .highPrice(102.0 + i)
+                    .lowPrice(98.0 + i)
+                    .tradePrice(101.0 + i)
+                    .candleAccTradeVolume(1.0)
+                    .build());
+        }
+        return candles;
+    }
+}
@@ -0,0 +1,85 @@
+package scoula.coin.domain.market.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import scoula.coin.domain.strategy.PriceSeries;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleColumnsTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void read_BinarySearchesInclusiveRange() throws Exception {
+        try (CandleColumns columns = new CandleColumns(dir)) {
+            columns.append(minutes(0, 100), 0, 100);
+
+            PriceSeries range = columns.read(10 * MINUTE, 19 * MINUTE);
+
+            assertEquals(10, range.size());
+            assertEquals(10 * MINUTE, range.getTime(0));
+            assertEquals(19 * MINUTE, range.getLastTime());
+            assertEquals(110, range.open().get(0));
+            assertEquals(121, range.high().get(9));
+            assertEquals(117, range.low().get(9));
+            assertEquals(120, range.close().get(9));
+            assertEquals(19, range.volume().get(9));
+            // 행 사이의 시각과 범위 밖
+            assertEquals(1, columns.read(5 * MINUTE - 1, 5 * MINUTE + 1).size());
+            assertTrue(columns.read(200 * MINUTE, 300 * MINUTE).isEmpty());
+        }
+    }
+
+    @Test
+    void append_SkipsRowsNotNewerAndSurvivesReopen() throws Exception {
+        try (CandleColumns columns = new CandleColumns(dir)) {
+            assertEquals(10, columns.append(minutes(0, 10), 0, 10));
+            // 앞의 5개는 이미 보관됨
+            assertEquals(5, columns.append(minutes(5, 10), 0, 10));
+            assertEquals(14 * MINUTE, columns.getLastTime());
+            // 매핑 이후 추가한 행도 읽힘
+            assertEquals(15, columns.read(0, Long.MAX_VALUE).size());
+        }
+        try (CandleColumns reopened = new CandleColumns(dir)) {
+            assertEquals(15, reopened.size());
+            assertEquals(0, reopened.getFirstTime());
+            assertEquals(14 * MINUTE, reopened.getLastTime());
+        }
+    }
+
+    @Test
+    void open_TruncatesColumnsToShortestAfterTornWrite() throws Exception {
+        try (CandleColumns columns = new CandleColumns(dir)) {
+            columns.append(minutes(0, 10), 0, 10);
+        }
+        // 시각 컬럼만 두 행 더 쓰인 상태
+        try (FileChannel time = FileChannel.open(dir.resolve("time.bin"), StandardOpenOption.WRITE)) {
+            time.truncate(10 * 8);
+            time.write(ByteBuffer.allocate(16 + 3), 10 * 8);
+        }
+
+        try (CandleColumns reopened = new CandleColumns(dir)) {
+            assertEquals(10, reopened.size());
+            assertEquals(9 * MINUTE, reopened.getLastTime());
+            assertEquals(1, reopened.append(minutes(10, 1), 0, 1));
+            assertEquals(10 * MINUTE, reopened.read(0, Long.MAX_VALUE).getLastTime());
+        }
+    }
+
+    private PriceSeries minutes(int first, int count) {
+        PriceSeries series = new PriceSeries(count);
+        for (int i = first; i < first + count; i++) {
+            series.add(i * MINUTE, 100 + i, 102 + i, 98 + i, 101 + i, i);
+        }
+        return series;
+    }
+}
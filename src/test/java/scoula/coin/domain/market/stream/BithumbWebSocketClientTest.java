@@ -0,0 +1,123 @@
+package scoula.coin.domain.market.stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 가짜 WebSocket 서버로 구독, 분봉 생성, 시세 갱신 확인
+ */
+class BithumbWebSocketClientTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long START = 1_700_000_040_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+
+    private FakeWebSocketServer server;
+    private MarketStreamHandler handler;
+    private BithumbWebSocketClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeWebSocketServer();
+        handler = new MarketStreamHandler(objectMapper, events::add, 1_000);
+        client = client(30_000);
+        client.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.stop();
+        server.close();
+    }
+
+    @Test
+    void start_SubscribesToConfiguredMarkets() throws Exception {
+        JsonNode request = objectMapper.readTree(server.nextReceived(5_000));
+
+        assertTrue(request.get(0).has("ticket"));
+        assertEquals("trade", request.get(1).get("type").asText());
+        assertEquals("KRW-ETH", request.get(1).get("codes").get(1).asText());
+        assertEquals("orderbook", request.get(3).get("type").asText());
+        assertEquals("DEFAULT", request.get(4).get("format").asText());
+    }
+
+    @Test
+    void onMessage_PublishesClosedCandleAndUpdatesQuote() throws Exception {
+        assertNotNull(server.nextReceived(5_000)); // 구독 요청
+
+        server.sendBinary(trade(100, START + 30_000));
+        server.sendText(trade(101, START + MINUTE + 1_000));
+        server.sendBinary(trade(104, START + MINUTE + 30_000));
+        server.sendText(trade(103, START + 2 * MINUTE + 1_000));
+        server.sendText("{\"type\":\"ticker\",\"code\":\"KRW-BTC\",\"trade_price\":103.5,\"timestamp\":"
+                + (START + 2 * MINUTE + 2_000) + "}");
+        server.sendText("{\"type\":\"orderbook\",\"code\":\"KRW-BTC\",\"timestamp\":" + (START + 2 * MINUTE + 3_000)
+                + ",\"orderbook_units\":[{\"ask_price\":104.0,\"bid_price\":103.0,\"ask_size\":1,\"bid_size\":2}]}");
+
+        CandleClosedEvent event = (CandleClosedEvent) events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertEquals("KRW-BTC", event.market());
+        assertEquals(START + MINUTE, event.candle().candleTimeMillis());
+        assertEquals(101, event.candle().getOpeningPrice());
+        assertEquals(104, event.candle().getTradePrice());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline
+                && handler.getQuote("KRW-BTC").map(quote -> Double.isNaN(quote.bestAskPrice())).orElse(true)) {
+            Thread.sleep(10);
+        }
+        MarketQuote quote = handler.getQuote("KRW-BTC").orElseThrow();
+        assertEquals(103.5, quote.tradePrice());
+        assertEquals(103.0, quote.bestBidPrice());
+        assertEquals(104.0, quote.bestAskPrice());
+        assertTrue(client.isConnected());
+    }
+
+    @Test
+    void idleConnection_ReconnectsAndDropsPartialFrame() throws Exception {
+        // 테스트 서버는 연결을 하나씩 받으므로 setUp의 client가 연결을 닫은 뒤 짧은 idle-timeout으로 다시 시작
+        assertNotNull(server.nextReceived(5_000));
+        client.stop();
+        client = client(1_000);
+        client.start();
+        assertNotNull(server.nextReceived(5_000));
+
+        server.sendPartialText("{\"type\":\"trade\",\"code\":\"KRW-");
+        // 더 보내지 않으면 idle-timeout 뒤 끊고 다시 연결해서 구독
+        assertNotNull(server.nextReceived(10_000));
+
+        // 새 연결의 첫 메시지 앞에 받다 만 frame이 붙으면 첫 분봉이 없어져 다음 분봉이 발행되지 않음
+        server.sendText(trade(100, START + 30_000));
+        server.sendText(trade(101, START + MINUTE + 1_000));
+        server.sendText(trade(104, START + MINUTE + 30_000));
+        server.sendText(trade(103, START + 2 * MINUTE + 1_000));
+
+        CandleClosedEvent event = (CandleClosedEvent) events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertEquals(START + MINUTE, event.candle().candleTimeMillis());
+        assertEquals(101, event.candle().getOpeningPrice());
+        assertEquals(104, event.candle().getTradePrice());
+    }
+
+    private BithumbWebSocketClient client(long idleTimeoutMillis) {
+        return new BithumbWebSocketClient(handler, objectMapper, server.url(), List.of("KRW-BTC", "KRW-ETH"),
+                idleTimeoutMillis);
+    }
+
+    private String trade(double price, long timestamp) {
+        return "{\"type\":\"trade\",\"code\":\"KRW-BTC\",\"trade_price\":" + price
+                + ",\"trade_volume\":1.0,\"trade_timestamp\":" + timestamp + ",\"ask_bid\":\"BID\"}";
+    }
+}
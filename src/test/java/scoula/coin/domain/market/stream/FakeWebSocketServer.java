@@ -0,0 +1,163 @@
+package scoula.coin.domain.market.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트용 최소 WebSocket 서버 (RFC 6455), 한 번에 연결 하나만 받고 끊기면 다음 연결을 받는다
+ * 클라이언트가 보낸 텍스트 메시지는 received에 쌓이고, sendText/sendBinary로 서버 메시지를 보낸다.
+ */
+class FakeWebSocketServer implements AutoCloseable {
+
+    private static final String GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private final ServerSocket serverSocket;
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private volatile Socket socket;
+    private volatile OutputStream out;
+
+    FakeWebSocketServer() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::serve, "fake-ws-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    String url() {
+        return "ws://localhost:" + serverSocket.getLocalPort() + "/websocket/v1";
+    }
+
+    /**
+     * 클라이언트가 보낸 다음 텍스트 메시지
+     */
+    String nextReceived(long timeoutMillis) throws InterruptedException {
+        return received.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void sendText(String message) throws IOException {
+        writeFrame(0x1, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    synchronized void sendBinary(String message) throws IOException {
+        writeFrame(0x2, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 끝나지 않은 텍스트 frame (FIN 없음), 이어지는 frame을 보내지 않으면 클라이언트에 받다 만 메시지가 남는다
+     */
+    synchronized void sendPartialText(String fragment) throws IOException {
+        writeFrame(false, 0x1, fragment.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void serve() {
+        while (!serverSocket.isClosed()) {
+            try (Socket accepted = serverSocket.accept()) {
+                socket = accepted;
+                handle(accepted.getInputStream());
+            } catch (IOException e) {
+                // 테스트 종료 또는 클라이언트가 연결을 끊음
+            }
+        }
+    }
+
+    private void handle(InputStream in) throws IOException {
+        out = socket.getOutputStream();
+        handshake(in);
+        while (true) {
+            int first = in.read();
+            if (first < 0) {
+                return;
+            }
+            int opcode = first & 0x0F;
+            int length = in.read() & 0x7F;   // 클라이언트 frame은 항상 mask 됨
+            if (length == 126) {
+                length = (in.read() << 8) | in.read();
+            } else if (length == 127) {
+                throw new IOException("Frame too large for test server");
+            }
+            byte[] mask = in.readNBytes(4);
+            byte[] payload = in.readNBytes(length);
+            for (int i = 0; i < payload.length; i++) {
+                payload[i] ^= mask[i % 4];
+            }
+            if (opcode == 0x8) {
+                synchronized (this) {
+                    writeFrame(0x8, payload);
+                }
+                return;
+            }
+            if (opcode == 0x1) {
+                received.add(new String(payload, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private void handshake(InputStream in) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        while (!header.toString(StandardCharsets.ISO_8859_1).endsWith("\r\n\r\n")) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Connection closed during handshake");
+            }
+            header.write(b);
+        }
+        String key = null;
+        for (String line : header.toString(StandardCharsets.ISO_8859_1).split("\r\n")) {
+            if (line.toLowerCase().startsWith("sec-websocket-key:")) {
+                key = line.substring(line.indexOf(':') + 1).trim();
+            }
+        }
+        String accept;
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            accept = Base64.getEncoder().encodeToString(
+                    sha1.digest((key + GUID).getBytes(StandardCharsets.ISO_8859_1)));
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+        String response = "HTTP/1.1 101 Switching Protocols\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + accept + "\r\n\r\n";
+        synchronized (this) {
+            out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+        }
+    }
+
+    private void writeFrame(int opcode, byte[] payload) throws IOException {
+        writeFrame(true, opcode, payload);
+    }
+
+    private void writeFrame(boolean fin, int opcode, byte[] payload) throws IOException {
+        out.write((fin ? 0x80 : 0) | opcode);
+        if (payload.length < 126) {
+            out.write(payload.length);
+        } else {
+            out.write(126);
+            out.write(payload.length >> 8);
+            out.write(payload.length & 0xFF);
+        }
+        out.write(payload);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (socket != null) {
+            socket.close();
+        }
+        serverSocket.close();
+    }
+}
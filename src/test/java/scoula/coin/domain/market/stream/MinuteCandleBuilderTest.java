@@ -0,0 +1,63 @@
+package scoula.coin.domain.market.stream;
+
+import org.junit.jupiter.api.Test;
+import scoula.coin.application.dto.CandleDTO;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinuteCandleBuilderTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long START = 1_700_000_040_000L; // 분 시작 시각
+
+    @Test
+    void onTrade_SkipsFirstPartialMinuteAndBuildsNextOne() {
+        MinuteCandleBuilder builder = new MinuteCandleBuilder("KRW-BTC");
+
+        assertNull(builder.onTrade(100, 1, START + 30_000));
+        assertNull(builder.onTrade(101, 1, START + MINUTE + 1_000)); // 첫 분봉은 일부 체결만 있어 버림
+        assertNull(builder.onTrade(105, 2, START + MINUTE + 10_000));
+        assertNull(builder.onTrade(99, 1, START + MINUTE + 20_000));
+        assertNull(builder.onTrade(102, 1, START + MINUTE + 59_000));
+
+        CandleDTO closed = builder.onTrade(103, 1, START + 2 * MINUTE + 500);
+
+        assertNotNull(closed);
+        assertEquals(START + MINUTE, closed.candleTimeMillis());
+        assertEquals(101, closed.getOpeningPrice());
+        assertEquals(105, closed.getHighPrice());
+        assertEquals(99, closed.getLowPrice());
+        assertEquals(102, closed.getTradePrice());
+        assertEquals(5, closed.getCandleAccTradeVolume());
+        assertEquals(101 + 210 + 99 + 102, closed.getCandleAccTradePrice(), 1e-9);
+        assertEquals(START + MINUTE + 59_000, closed.getTimeStamp());
+        assertEquals(START + 2 * MINUTE, builder.forming().candleTimeMillis());
+    }
+
+    @Test
+    void closeIfElapsed_ClosesAfterGraceAndSkipsIdleMinutes() {
+        MinuteCandleBuilder builder = new MinuteCandleBuilder("KRW-BTC");
+        builder.onTrade(100, 1, START + 30_000);
+        builder.onTrade(101, 1, START + MINUTE + 1_000);
+
+        assertNull(builder.closeIfElapsed(START + 2 * MINUTE + 500, 1_000));
+        CandleDTO closed = builder.closeIfElapsed(START + 2 * MINUTE + 1_000, 1_000);
+        assertEquals(START + MINUTE, closed.candleTimeMillis());
+
+        // 체결이 없는 분은 분봉을 만들지 않음
+        assertNull(builder.closeIfElapsed(START + 3 * MINUTE + 1_000, 1_000));
+        assertNull(builder.forming());
+    }
+
+    @Test
+    void onTrade_IgnoresLateTradeForClosedMinute() {
+        MinuteCandleBuilder builder = new MinuteCandleBuilder("KRW-BTC");
+        builder.onTrade(100, 1, START + 30_000);
+        builder.onTrade(101, 1, START + MINUTE + 1_000);
+        builder.closeIfElapsed(START + 2 * MINUTE + 1_000, 1_000);
+
+        assertNull(builder.onTrade(500, 1, START + MINUTE + 59_900));
+        assertEquals(START + MINUTE, builder.getLastClosedTime());
+        assertNull(builder.forming());
+    }
+}
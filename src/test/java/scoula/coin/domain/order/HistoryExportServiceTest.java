@@ -0,0 +1,131 @@
+package scoula.coin.domain.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import scoula.coin.application.entity.OrderHistory;
+import scoula.coin.application.entity.TradingSignalHistory;
+import scoula.coin.domain.order.Repository.OrderHistoryRepository;
+import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
+import scoula.coin.global.error.CustomException;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HistoryExportServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Mock
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Mock
+    private TradingSignalHistoryRepository signalHistoryRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private HistoryExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new HistoryExportService(orderHistoryRepository, signalHistoryRepository,
+                entityManager, objectMapper);
+    }
+
+    @Test
+    void exportOrders_Csv_WritesHeaderAndRowsInOrderAndDetachesEach() {
+        OrderHistory first = order("uuid-1", "bid", "50000000", START);
+        OrderHistory second = order("uuid-2", "ask", "51000000", START.plusMinutes(1));
+        when(orderHistoryRepository.streamHistory("KRW-BTC", null, null, null))
+                .thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.exportOrders(ExportFormat.CSV, "KRW-BTC", null, null, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, count);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("uuid,market,side,ord_type,price,"));
+        assertTrue(lines[1].startsWith("uuid-1,KRW-BTC,bid,limit,50000000,"));
+        assertTrue(lines[2].startsWith("uuid-2,KRW-BTC,ask,limit,51000000,"));
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void exportSignals_Ndjson_WritesOneJsonObjectPerLine() throws Exception {
+        TradingSignalHistory signal = TradingSignalHistory.builder()
+                .id(7L)
+                .market("KRW-BTC")
+                .price(new BigDecimal("50000000"))
+                .signalType(1)
+                .orderExecuted(false)
+                .failureReason("Insufficient balance, skipped")
+                .createdAt(START)
+                .build();
+        when(signalHistoryRepository.streamHistory(null, 1, null, START, START.plusDays(1)))
+                .thenReturn(Stream.of(signal, signal));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.exportSignals(ExportFormat.NDJSON, null, 1, null, START, START.plusDays(1), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        ObjectMapper reader = new ObjectMapper();
+        assertEquals(7, reader.readTree(lines[0]).get("id").asLong());
+        assertEquals("Insufficient balance, skipped", reader.readTree(lines[1]).get("failureReason").asText());
+        verify(entityManager, times(2)).detach(signal);
+    }
+
+    @Test
+    void escapeCsv_QuotesFieldsWithSeparatorsAndDoublesQuotes() {
+        assertEquals("", HistoryExportService.escapeCsv(null));
+        assertEquals("plain", HistoryExportService.escapeCsv("plain"));
+        assertEquals("\"a,b\"", HistoryExportService.escapeCsv("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", HistoryExportService.escapeCsv("say \"hi\""));
+        assertEquals("\"line\nbreak\"", HistoryExportService.escapeCsv("line\nbreak"));
+        assertEquals("0.00000001", HistoryExportService.escapeCsv(new BigDecimal("1E-8")));
+    }
+
+    @Test
+    void validateRange_RejectsEmptyRange() {
+        assertThrows(CustomException.class, () -> exportService.validateRange(START, START));
+        assertDoesNotThrow(() -> exportService.validateRange(START, null));
+    }
+
+    @Test
+    void exportFormat_From_IsCaseInsensitiveAndRejectsUnknown() {
+        assertEquals(ExportFormat.NDJSON, ExportFormat.from("NDJSON"));
+        assertEquals(ExportFormat.CSV, ExportFormat.from("csv"));
+        assertThrows(CustomException.class, () -> ExportFormat.from("xlsx"));
+    }
+
+    private OrderHistory order(String uuid, String side, String price, LocalDateTime createdAt) {
+        return OrderHistory.builder()
+                .uuid(uuid)
+                .market("KRW-BTC")
+                .side(side)
+                .ordType("limit")
+                .price(new BigDecimal(price))
+                .volume(new BigDecimal("0.001"))
+                .state("wait")
+                .createdAt(createdAt)
+                .build();
+    }
+}
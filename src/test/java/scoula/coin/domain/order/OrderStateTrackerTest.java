@@ -0,0 +1,153 @@
+package scoula.coin.domain.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import scoula.coin.application.entity.OrderHistory;
+import scoula.coin.application.entity.TradingSignalHistory;
+import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
+import scoula.coin.domain.trading.SignalJournal;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStateTrackerTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final long CANCEL_AFTER = 180_000L;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private TradingSignalHistoryRepository signalHistoryRepository;
+
+    @Mock
+    private SignalJournal signalJournal;
+
+    private OrderStateTracker tracker;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        tracker = new OrderStateTracker(orderService, signalHistoryRepository, signalJournal, List.of(MARKET),
+                CANCEL_AFTER);
+    }
+
+    @Test
+    void cancelExpiredOrders_CancelsSignalOrderOnceTimeoutPasses() {
+        TradingSignalHistory signal = signal(LocalDateTime.now());
+        tracker.track(MARKET, order("o1", "bid", "wait"), signal);
+        long now = System.currentTimeMillis();
+
+        tracker.cancelExpiredOrders(now + CANCEL_AFTER - 5_000);
+        verifyNoInteractions(orderService);
+
+        tracker.cancelExpiredOrders(now + CANCEL_AFTER + 2_000);
+
+        verify(orderService).cancelOrder("o1");
+        verify(signalJournal).updateFailureReason("o1", "Order canceled after 3 minutes timeout");
+        assertTrue(tracker.getOpenOrders(MARKET).isEmpty());
+    }
+
+    @Test
+    void cancelExpiredOrders_RetriesAfterFailure() {
+        tracker.track(MARKET, order("o1", "bid", "wait"), signal(LocalDateTime.now().minusMinutes(10)));
+        when(orderService.cancelOrder("o1")).thenThrow(new CustomException(ErrorCode.ORDER_DELETION_FAILED));
+        long now = System.currentTimeMillis() + 2_000;
+
+        tracker.cancelExpiredOrders(now);
+        tracker.cancelExpiredOrders(now + 30_000);
+        verify(orderService, times(1)).cancelOrder("o1");
+
+        tracker.cancelExpiredOrders(now + 61_000);
+        verify(orderService, times(2)).cancelOrder("o1");
+        assertEquals(List.of("o1"), tracker.getOpenOrders(MARKET));
+    }
+
+    @Test
+    void track_OrdersWithoutSignalAreNotCanceled() {
+        tracker.track(MARKET, order("tp", "ask", "wait"), null);
+
+        tracker.cancelExpiredOrders(System.currentTimeMillis() + 3_600_000);
+
+        verifyNoInteractions(orderService);
+        assertEquals(List.of("tp"), tracker.getOpenOrders(MARKET));
+    }
+
+    @Test
+    void track_ImmediatelyFilledBidIsUsedForTakeProfit() {
+        tracker.track(MARKET, order("o1", "bid", "done"), signal(LocalDateTime.now()));
+
+        assertEquals(List.of(50_000_000.0), tracker.getFilledBidPrices(MARKET));
+        assertTrue(tracker.getOpenOrders(MARKET).isEmpty());
+    }
+
+    @Test
+    void reconcile_DropsFilledOrdersAndAdoptsUnknownWaitOrders() throws InterruptedException {
+        tracker.track(MARKET, order("filled", "bid", "wait"), signal(LocalDateTime.now()));
+        Thread.sleep(2); // 대조 시작보다 먼저 등록된 주문만 정리 대상
+        TradingSignalHistory restored = signal(LocalDateTime.now().minusMinutes(10));
+        when(signalHistoryRepository.findByOrderUuid("restored")).thenReturn(Optional.of(restored));
+        when(orderService.getOrders(MARKET, null, 1, 100, "wait")).thenReturn(orders("restored", "bid"));
+        when(orderService.getOrders(MARKET, null, 1, 10, "done")).thenReturn(orders("filled", "bid"));
+
+        tracker.reconcile();
+
+        assertEquals(List.of("restored"), tracker.getOpenOrders(MARKET));
+        assertEquals(List.of(50_000_000.0), tracker.getFilledBidPrices(MARKET));
+
+        // 재시작 전 시그널 기준으로 이미 시간이 지났으므로 다음 tick에 취소
+        tracker.cancelExpiredOrders(System.currentTimeMillis() + 2_000);
+        verify(orderService).cancelOrder("restored");
+        verify(signalHistoryRepository, never()).findByOrderUuid("filled");
+    }
+
+    private TradingSignalHistory signal(LocalDateTime createdAt) {
+        TradingSignalHistory signal = TradingSignalHistory.builder()
+                .market(MARKET)
+                .signalType(1)
+                .price(BigDecimal.valueOf(50_000_000))
+                .orderExecuted(true)
+                .build();
+        signal.setCreatedAt(createdAt);
+        return signal;
+    }
+
+    private OrderHistory order(String uuid, String side, String state) {
+        return OrderHistory.builder()
+                .uuid(uuid)
+                .market(MARKET)
+                .side(side)
+                .price(BigDecimal.valueOf(50_000_000))
+                .state(state)
+                .build();
+    }
+
+    private JsonNode orders(String uuid, String side) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode data = root.putArray("data");
+        data.addObject()
+                .put("uuid", uuid)
+                .put("side", side)
+                .put("price", "50000000")
+                .put("market", MARKET);
+        return root;
+    }
+}
@@ -0,0 +1,144 @@
+package scoula.coin.domain.order;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import scoula.coin.application.dto.TradingSummaryDTO;
+import scoula.coin.application.entity.OrderHistory;
+import scoula.coin.application.entity.PositionLedger;
+import scoula.coin.domain.order.Repository.OrderHistoryRepository;
+import scoula.coin.domain.order.Repository.PositionLedgerRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PositionLedgerServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Mock
+    private PositionLedgerRepository positionLedgerRepository;
+
+    @Mock
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @InjectMocks
+    private PositionLedgerService positionLedgerService;
+
+    @Test
+    void record_TracksAverageCostRealizedAndUnrealizedPnl() {
+        when(positionLedgerRepository.findAll()).thenReturn(List.of());
+
+        positionLedgerService.record(order("o1", "KRW-BTC", "bid", "100", "2", "1", START));
+        positionLedgerService.record(order("o2", "KRW-BTC", "bid", "130", "1", "1", START.plusMinutes(1)));
+        positionLedgerService.record(order("o3", "KRW-BTC", "ask", "150", "1.5", "0", START.plusMinutes(2)));
+
+        PositionLedger ledger = positionLedgerService.getLedger("KRW-BTC").orElseThrow();
+        assertEquals(0, new BigDecimal("1.5").compareTo(ledger.getPosition()));
+        assertEquals(0, new BigDecimal("110").compareTo(ledger.getAveragePrice()));
+        assertEquals(0, new BigDecimal("60").compareTo(ledger.getRealizedPnl()));     // (150 - 110) x 1.5
+        assertEquals(0, new BigDecimal("60").compareTo(ledger.getUnrealizedPnl()));   // (150 - 110) x 1.5
+        assertEquals(0, new BigDecimal("118").compareTo(ledger.getTotalPnl()));       // 수수료 2
+
+        TradingSummaryDTO summary = positionLedgerService.getSummary();
+        assertEquals(2, summary.getNumBid());
+        assertEquals(1, summary.getNumAsk());
+        assertEquals(START, summary.getStartDate());
+        verify(positionLedgerRepository, times(3)).save(any(PositionLedger.class));
+        verify(positionLedgerRepository).save(ledger);
+        verify(orderHistoryRepository, never()).findAll(any(Sort.class));
+    }
+
+    @Test
+    void record_IgnoresSameOrderTwice() {
+        when(positionLedgerRepository.findAll()).thenReturn(List.of());
+        OrderHistory order = order("o1", "KRW-BTC", "bid", "100", "1", "0", START);
+
+        positionLedgerService.record(order);
+        positionLedgerService.record(order);
+
+        assertEquals(1, positionLedgerService.getSummary().getNumBid());
+        verify(positionLedgerRepository, times(1)).save(any(PositionLedger.class));
+    }
+
+    @Test
+    void record_LeavesLedgerUnchangedWhenSaveFails() {
+        when(positionLedgerRepository.findAll()).thenReturn(List.of());
+        OrderHistory first = order("o1", "KRW-BTC", "bid", "100", "1", "0", START);
+        OrderHistory second = order("o2", "KRW-BTC", "bid", "120", "1", "0", START.plusMinutes(1));
+        positionLedgerService.record(first);
+        PositionLedger saved = positionLedgerService.getLedger("KRW-BTC").orElseThrow();
+        when(positionLedgerRepository.save(any(PositionLedger.class)))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThrows(RuntimeException.class, () -> positionLedgerService.record(second));
+
+        assertSame(saved, positionLedgerService.getLedger("KRW-BTC").orElseThrow());
+        assertEquals(1, saved.getNumBid());
+        assertEquals("o1", saved.getLastOrderUuid());
+
+        // 같은 주문을 다시 반영하면 한 번만 더해짐
+        positionLedgerService.record(second);
+        assertEquals(2, positionLedgerService.getLedger("KRW-BTC").orElseThrow().getNumBid());
+        assertEquals(0, new BigDecimal("2").compareTo(positionLedgerService.getLedger("KRW-BTC").orElseThrow().getPosition()));
+    }
+
+    @Test
+    void getSummary_SumsMarketsFromSnapshotsWithoutScanningOrders() {
+        PositionLedger btc = PositionLedger.builder().market("KRW-BTC").numBid(3L).numAsk(1L)
+                .realizedPnl(new BigDecimal("10")).fees(new BigDecimal("1")).firstTradeAt(START.plusDays(1)).build();
+        PositionLedger eth = PositionLedger.builder().market("KRW-ETH").numBid(2L).numAsk(2L)
+                .position(new BigDecimal("1")).costBasis(new BigDecimal("100")).lastPrice(new BigDecimal("90"))
+                .firstTradeAt(START).build();
+        when(positionLedgerRepository.findAll()).thenReturn(List.of(btc, eth));
+
+        TradingSummaryDTO summary = positionLedgerService.getSummary();
+        positionLedgerService.getSummary();
+
+        assertEquals(5, summary.getNumBid());
+        assertEquals(3, summary.getNumAsk());
+        assertEquals(START, summary.getStartDate());
+        assertEquals(0, new BigDecimal("-1").compareTo(summary.getTotalPnl()));       // 10 - 10 - 1
+        verify(positionLedgerRepository, times(1)).findAll();
+        verifyNoInteractions(orderHistoryRepository);
+    }
+
+    @Test
+    void getSummary_RebuildsFromOrderHistoryWhenNoSnapshot() {
+        when(positionLedgerRepository.findAll()).thenReturn(List.of());
+        when(orderHistoryRepository.count()).thenReturn(2L);
+        when(orderHistoryRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                order("o1", "KRW-BTC", "bid", "100", "1", "0", START),
+                order("o2", "KRW-BTC", "ask", "120", "1", "0", START.plusMinutes(5))));
+
+        TradingSummaryDTO summary = positionLedgerService.getSummary();
+
+        assertEquals(0, new BigDecimal("20").compareTo(summary.getTotalPnl()));
+        assertEquals(1, summary.getNumBid());
+        assertEquals(1, summary.getNumAsk());
+        verify(positionLedgerRepository).saveAll(any());
+    }
+
+    private OrderHistory order(String uuid, String market, String side, String price, String volume, String fee,
+                               LocalDateTime createdAt) {
+        return OrderHistory.builder()
+                .uuid(uuid)
+                .market(market)
+                .side(side)
+                .price(new BigDecimal(price))
+                .volume(new BigDecimal(volume))
+                .remainingFee(new BigDecimal(fee))
+                .createdAt(createdAt)
+                .build();
+    }
+}
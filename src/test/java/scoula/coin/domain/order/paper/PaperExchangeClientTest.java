@@ -0,0 +1,142 @@
+package scoula.coin.domain.order.paper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import scoula.coin.application.entity.Candle;
+import scoula.coin.domain.market.Repository.CandleRepository;
+import scoula.coin.domain.market.stream.MarketStreamHandler;
+import scoula.coin.global.error.CustomException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaperExchangeClientTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final long MINUTE = 60_000L;
+
+    @Mock
+    private CandleRepository candleRepository;
+
+    @Mock
+    private ObjectProvider<MarketStreamHandler> streamHandler;
+
+    private PaperExchangeClient exchange;
+
+    @BeforeEach
+    void setUp() {
+        exchange = new PaperExchangeClient(new ObjectMapper(), candleRepository, streamHandler,
+                new BigDecimal("1000000"), new BigDecimal("0.001"), new BigDecimal("5000"));
+    }
+
+    @Test
+    void placeOrder_LocksFundsUntilCandleTradesThroughPrice() {
+        JsonNode order = exchange.placeOrder(MARKET, "bid", 0.01, 50_000_000, "limit");
+
+        assertEquals("wait", order.get("state").asText());
+        JsonNode chance = exchange.getOrderChance(MARKET);
+        assertEquals(0, new BigDecimal("499500").compareTo(decimal(chance.get("bid_account"), "balance")));
+        assertEquals(0, new BigDecimal("500500").compareTo(decimal(chance.get("bid_account"), "locked")));
+
+        long nextMinute = currentMinute() + MINUTE;
+        exchange.match(MARKET, nextMinute, 50_100_000, 50_000_000);           // 주문가에 닿기만 함
+        assertEquals(1, exchange.getOrders(MARKET, null, 1, 10, "wait").get("data").size());
+
+        exchange.match(MARKET, nextMinute + MINUTE, 50_100_000, 49_900_000);  // 주문가 아래로 거래
+        JsonNode done = exchange.getOrders(MARKET, null, 1, 10, "done").get("data");
+        assertEquals(1, done.size());
+        assertEquals(order.get("uuid").asText(), done.get(0).get("uuid").asText());
+        assertEquals("500", done.get(0).get("paid_fee").asText());
+
+        chance = exchange.getOrderChance(MARKET);
+        assertEquals(0, new BigDecimal("499500").compareTo(decimal(chance.get("bid_account"), "balance")));
+        assertEquals(0, BigDecimal.ZERO.compareTo(decimal(chance.get("bid_account"), "locked")));
+        assertEquals(0, new BigDecimal("0.01").compareTo(decimal(chance.get("ask_account"), "balance")));
+        assertEquals(0, new BigDecimal("50000000").compareTo(decimal(chance.get("ask_account"), "avg_buy_price")));
+    }
+
+    @Test
+    void match_IgnoresCandleThatStartedBeforeOrder() {
+        long orderMinute = currentMinute();
+        exchange.placeOrder(MARKET, "bid", 0.01, 50_000_000, "limit");
+
+        // 주문을 낸 분봉의 저가는 주문 전 거래일 수 있음
+        exchange.match(MARKET, orderMinute, 50_100_000, 49_000_000);
+        assertEquals(1, exchange.getOrders(MARKET, null, 1, 10, "wait").get("data").size());
+
+        exchange.match(MARKET, orderMinute + MINUTE, 50_100_000, 49_000_000);
+        assertEquals(1, exchange.getOrders(MARKET, null, 1, 10, "done").get("data").size());
+    }
+
+    @Test
+    void cancelOrder_ReleasesLockedCoin() {
+        exchange.placeOrder(MARKET, "bid", 0.01, 50_000_000, "limit");
+        exchange.match(MARKET, currentMinute() + MINUTE, 50_000_000, 49_000_000);
+        JsonNode sell = exchange.placeOrder(MARKET, "ask", 0.005, 60_000_000, "limit");
+        assertEquals(0, new BigDecimal("0.005").compareTo(
+                decimal(exchange.getOrderChance(MARKET).get("ask_account"), "locked")));
+
+        JsonNode canceled = exchange.cancelOrder(sell.get("uuid").asText());
+
+        assertEquals("cancel", canceled.get("state").asText());
+        JsonNode askAccount = exchange.getOrderChance(MARKET).get("ask_account");
+        assertEquals(0, new BigDecimal("0.01").compareTo(decimal(askAccount, "balance")));
+        assertEquals(0, BigDecimal.ZERO.compareTo(decimal(askAccount, "locked")));
+        assertThrows(CustomException.class, () -> exchange.cancelOrder(sell.get("uuid").asText()));
+    }
+
+    @Test
+    void placeOrder_RejectsInsufficientBalanceAndSmallOrders() {
+        assertThrows(CustomException.class, () -> exchange.placeOrder(MARKET, "bid", 1, 50_000_000, "limit"));
+        assertThrows(CustomException.class, () -> exchange.placeOrder(MARKET, "ask", 0.01, 50_000_000, "limit"));
+        assertThrows(CustomException.class, () -> exchange.placeOrder(MARKET, "bid", 0.00001, 50_000_000, "limit"));
+    }
+
+    @Test
+    void getOrders_FillsFromStoredCandlesWithoutStream() {
+        exchange.placeOrder(MARKET, "bid", 0.01, 50_000_000, "limit");
+        Candle candle = Candle.builder()
+                .market(MARKET).unit(1).candleTime(currentMinute() + MINUTE)
+                .openingPrice(50_000_000.0).highPrice(50_000_000.0).lowPrice(49_000_000.0).tradePrice(49_500_000.0)
+                .build();
+        when(candleRepository.findByMarketAndUnitAndCandleTimeGreaterThanAndCandleTimeLessThanEqualOrderByCandleTimeAsc(
+                eq(MARKET), eq(1), anyLong(), anyLong(), any(Pageable.class))).thenReturn(List.of(candle));
+
+        JsonNode done = exchange.getOrders(MARKET, null, 1, 10, "done").get("data");
+
+        assertEquals(1, done.size());
+    }
+
+    @Test
+    void getOrders_PagesNewestFirst() {
+        for (int i = 0; i < 5; i++) {
+            exchange.placeOrder(MARKET, "bid", 0.001, 10_000_000 + i, "limit");
+        }
+
+        JsonNode page = exchange.getOrders(MARKET, null, 2, 2, "wait").get("data");
+
+        assertEquals(2, page.size());
+        assertEquals("10000002", page.get(0).get("price").asText());
+        assertEquals("10000001", page.get(1).get("price").asText());
+    }
+
+    private long currentMinute() {
+        return System.currentTimeMillis() / MINUTE * MINUTE;
+    }
+
+    private BigDecimal decimal(JsonNode node, String field) {
+        return new BigDecimal(node.get(field).asText());
+    }
+}
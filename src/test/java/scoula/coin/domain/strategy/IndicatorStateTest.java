@@ -0,0 +1,128 @@
+package scoula.coin.domain.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 증분 계산 결과가 TechnicalIndicator의 전체 재계산 결과와 같은지 확인
+ */
+class IndicatorStateTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private final TechnicalIndicator technicalIndicator = new TechnicalIndicator();
+    private List<Double> prices;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        prices = new ArrayList<>();
+        double price = 50_000_000;
+        for (int i = 0; i < 300; i++) {
+            price += (random.nextDouble() - 0.5) * 200_000;
+            prices.add(price);
+        }
+    }
+
+    @Test
+    void update_MatchesBatchRsiAndBollingerBands() {
+        IndicatorState state = new IndicatorState(100, 12, 26, 9, 14, 20, 2.0);
+        List<Double> rsi = technicalIndicator.calculateRSI(prices, 14);
+        List<List<Double>> bands = technicalIndicator.calculateBollingerBands(prices, 20, 2.0);
+
+        for (int i = 0; i < prices.size(); i++) {
+            state.update(i * MINUTE, prices.get(i));
+            if (i >= 14) {
+                assertEquals(rsi.get(i - 14), state.getRsi(), 1e-9);
+            }
+            if (i >= 19) {
+                assertEquals(bands.get(0).get(i - 19), state.getUpperBand(), 1e-4);
+                assertEquals(bands.get(1).get(i - 19), state.getMiddleBand(), 1e-4);
+                assertEquals(bands.get(2).get(i - 19), state.getLowerBand(), 1e-4);
+            }
+        }
+    }
+
+    @Test
+    void update_MatchesTimeAlignedMacdSignalLine() {
+        IndicatorState state = new IndicatorState(100, 12, 26, 9, 14, 20, 2.0);
+        List<Double> fastEma = technicalIndicator.calculateEMA(prices, 12);
+        List<Double> slowEma = technicalIndicator.calculateEMA(prices, 26);
+
+        // 같은 분봉끼리 맞춘 MACD 라인
+        List<Double> macdLine = new ArrayList<>();
+        for (int i = 25; i < prices.size(); i++) {
+            macdLine.add(fastEma.get(i - 11) - slowEma.get(i - 25));
+        }
+        List<Double> signalLine = technicalIndicator.calculateEMA(macdLine, 9);
+
+        for (int i = 0; i < prices.size(); i++) {
+            boolean ready = state.update(i * MINUTE, prices.get(i));
+            assertEquals(i >= 33, ready);
+            if (ready) {
+                assertEquals(signalLine.get(i - 33), state.getMacd(), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void appendHistory_KeepsOnlyLatestValues() {
+        IndicatorState state = new IndicatorState(10, 12, 26, 9, 14, 20, 2.0);
+        for (int i = 0; i < prices.size(); i++) {
+            if (state.update(i * MINUTE, prices.get(i))) {
+                state.appendHistory(i % 3 - 1);
+            }
+        }
+
+        assertEquals(10, state.getSize());
+        assertEquals(prices.subList(prices.size() - 10, prices.size()), state.getPrices());
+        assertEquals(10, state.getBollingerBandHistory().get(0).size());
+        assertEquals((prices.size() - 1) % 3 - 1, state.getLatestSignal());
+    }
+
+    @Test
+    void update_RejectsCandleNotNewerThanLast() {
+        IndicatorState state = new IndicatorState(10, 12, 26, 9, 14, 20, 2.0);
+        state.update(MINUTE, 100.0);
+
+        assertThrows(IllegalArgumentException.class, () -> state.update(MINUTE, 101.0));
+    }
+
+    @Test
+    void indicatorSeries_MatchesIncrementalState() {
+        double[] close = prices.stream().mapToDouble(Double::doubleValue).toArray();
+        IndicatorSeries series = IndicatorSeries.compute(close, close.length, StrategyParameters.DEFAULT);
+        IndicatorState state = StrategyParameters.DEFAULT.newIndicatorState(10);
+
+        for (int i = 0; i < close.length; i++) {
+            boolean ready = state.update(i * MINUTE, close[i]) && state.hasPreviousMacd();
+            assertEquals(ready, series.isReady(i));
+            if (ready) {
+                assertEquals(state.getMacd(), series.getMacd(i), 1e-9);
+                assertEquals(state.getPreviousMacd(), series.getPreviousMacd(i), 1e-9);
+                assertEquals(state.getRsi(), series.getRsi(i), 1e-9);
+                assertEquals(state.getUpperBand(), series.getUpperBand(i), 1e-9);
+                assertEquals(state.getLowerBand(), series.getLowerBand(i), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void reset_StartsOver() {
+        IndicatorState state = new IndicatorState(10, 12, 26, 9, 14, 20, 2.0);
+        for (int i = 0; i < 50; i++) {
+            state.update(i * MINUTE, prices.get(i));
+        }
+        state.reset();
+
+        assertTrue(state.isEmpty());
+        assertFalse(state.isReady());
+        assertFalse(state.hasPreviousMacd());
+    }
+}
@@ -0,0 +1,62 @@
+package scoula.coin.domain.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceSeriesTest {
+
+    @Test
+    void add_OverwritesOldestWhenFull() {
+        PriceSeries series = new PriceSeries(3);
+        for (int i = 1; i <= 5; i++) {
+            series.add(i, i, i + 1, i - 1, i + 0.5, i * 10);
+        }
+
+        assertEquals(3, series.size());
+        assertEquals(3, series.getTime(0));
+        assertEquals(5, series.getLastTime());
+        assertEquals(3.5, series.close().get(0));
+        assertEquals(5.5, series.close().last());
+        assertEquals(6, series.high().last());
+        assertEquals(50, series.volume().last());
+    }
+
+    @Test
+    void copyTo_ReturnsChronologicalOrder() {
+        PriceSeries series = new PriceSeries(4);
+        for (int i = 1; i <= 6; i++) {
+            series.add(i * 60_000L, i, i, i, i, i);
+        }
+        double[] closes = new double[4];
+        long[] times = new long[4];
+
+        assertEquals(4, series.close().copyTo(closes));
+        assertEquals(4, series.copyTimesTo(times));
+        assertArrayEquals(new double[]{3, 4, 5, 6}, closes);
+        assertArrayEquals(new long[]{180_000L, 240_000L, 300_000L, 360_000L}, times);
+    }
+
+    @Test
+    void updateLast_ChangesOnlyNewestCandle() {
+        PriceSeries series = new PriceSeries(2);
+        series.add(1, 10, 11, 9, 10, 1);
+        series.add(2, 10, 12, 8, 11, 2);
+
+        series.updateLast(13, 7, 12, 3);
+
+        assertEquals(10, series.close().get(0));
+        assertEquals(12, series.close().last());
+        assertEquals(13, series.high().last());
+        assertEquals(7, series.low().last());
+    }
+
+    @Test
+    void get_ThrowsOutsideRange() {
+        PriceSeries series = new PriceSeries(2);
+        series.add(1, 1, 1, 1, 1, 1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> series.close().get(1));
+        assertThrows(IllegalStateException.class, () -> new PriceSeries(1).getLastTime());
+    }
+}
@@ -0,0 +1,83 @@
+package scoula.coin.domain.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyEngineTest {
+
+    private final TechnicalIndicator technicalIndicator = new TechnicalIndicator();
+
+    @Test
+    void constructor_ComputesSharedIndicatorsOnce() {
+        StrategyEngine engine = new StrategyEngine(
+                List.of(new MacdRsiBandStrategy(technicalIndicator), new PivotMomentumStrategy()),
+                List.of(IndicatorSpec.rsi(14), IndicatorSpec.bandMiddle(20, 2.0)));
+
+        // 종가, MACD, RSI, 볼린저 밴드(상/중/하 공유), 모멘텀, 피봇 저점, 피봇 고점
+        assertEquals(7, engine.getCalculatorCount());
+        assertEquals(engine.slot(IndicatorSpec.rsi(14)), engine.slot(IndicatorSpec.rsi(14)));
+        assertThrows(IllegalArgumentException.class, () -> engine.slot(IndicatorSpec.rsi(7)));
+    }
+
+    @Test
+    void update_DefaultStrategyMatchesBatchSignals() {
+        double[] close = randomWalk(2_000);
+        IndicatorSeries series = IndicatorSeries.compute(close, close.length, StrategyParameters.DEFAULT);
+        StrategyEngine engine = new StrategyEngine(List.of(new MacdRsiBandStrategy(technicalIndicator)), List.of());
+
+        for (int i = 0; i < close.length; i++) {
+            engine.update(close[i]);
+            int expected = series.isReady(i)
+                    ? technicalIndicator.evaluateSignal(close[i], series.getRsi(i), series.getPreviousMacd(i),
+                            series.getMacd(i), series.getUpperBand(i), series.getLowerBand(i))
+                    : 0;
+            assertEquals(expected, engine.getSignal(0), "candle " + i);
+        }
+    }
+
+    @Test
+    void update_ConfirmsPivotAfterWindowAndTracksMomentum() {
+        IndicatorSpec bottom = IndicatorSpec.pivotBottom(2);
+        IndicatorSpec momentum = IndicatorSpec.momentum(2);
+        StrategyEngine engine = new StrategyEngine(List.of(), List.of(bottom, momentum));
+        int bottomSlot = engine.slot(bottom);
+        int momentumSlot = engine.slot(momentum);
+
+        double[] close = {105, 103, 100, 102, 104, 106};
+        double[] expectedBottom = {Double.NaN, Double.NaN, Double.NaN, Double.NaN, 1, 0};
+        for (int i = 0; i < close.length; i++) {
+            engine.update(close[i]);
+            assertEquals(expectedBottom[i], engine.value(bottomSlot, 0), "candle " + i);
+        }
+        assertEquals(4, engine.value(momentumSlot, 0), 1e-12);   // 106 - 102
+        assertEquals(4, engine.value(momentumSlot, 1), 1e-12);   // 104 - 100
+        assertTrue(Double.isNaN(engine.value(momentumSlot, 2))); // lookback 1 밖
+    }
+
+    @Test
+    void reset_ClearsValuesAndSignals() {
+        StrategyEngine engine = new StrategyEngine(List.of(new PivotMomentumStrategy()), List.of(IndicatorSpec.close()));
+        for (double price : randomWalk(100)) {
+            engine.update(price);
+        }
+        engine.reset();
+
+        assertTrue(Double.isNaN(engine.value(engine.slot(IndicatorSpec.close()), 0)));
+        assertEquals(0, engine.getSignal(0));
+    }
+
+    private double[] randomWalk(int size) {
+        Random random = new Random(3);
+        double[] prices = new double[size];
+        double price = 50_000_000;
+        for (int i = 0; i < size; i++) {
+            price += (random.nextDouble() - 0.5) * 400_000;
+            prices[i] = price;
+        }
+        return prices;
+    }
+}
@@ -1,28 +1,209 @@
 package scoula.coin.domain.strategy;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
+/**
+ * List 메서드와 double[] 메서드가 같은 결과를 내는지 확인
+ */
 class TechnicalIndicatorTest {
 
+    private final TechnicalIndicator technicalIndicator = new TechnicalIndicator();
+    private List<Double> prices;
+    private double[] priceArray;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        prices = new ArrayList<>();
+        double price = 50_000_000;
+        for (int i = 0; i < 500; i++) {
+            price += (random.nextDouble() - 0.5) * 300_000;
+            prices.add(price);
+        }
+        priceArray = prices.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
     @Test
     void calculateMACD() {
+        List<Double> expected = technicalIndicator.calculateMACD(prices, 12, 26, 9);
+        double[] out = new double[prices.size()];
+
+        int written = technicalIndicator.calculateMACD(priceArray, priceArray.length, 12, 26, 9, out);
+
+        assertEquals(expected.size(), written);
+        for (int i = 0; i < written; i++) {
+            assertEquals(expected.get(i), out[i], 1e-6);
+        }
+        assertEquals(0, technicalIndicator.calculateMACD(priceArray, 25, 12, 26, 9, out));
     }
 
     @Test
     void calculateEMA() {
+        List<Double> expected = technicalIndicator.calculateEMA(prices, 20);
+        double[] out = new double[prices.size()];
+
+        int written = technicalIndicator.calculateEMA(priceArray, priceArray.length, 20, out);
+
+        assertEquals(expected.size(), written);
+        for (int i = 0; i < written; i++) {
+            assertEquals(expected.get(i), out[i], 1e-6);
+        }
     }
 
     @Test
     void calculateRSI() {
+        List<Double> expected = technicalIndicator.calculateRSI(prices, 14);
+        double[] out = new double[prices.size()];
+
+        int written = technicalIndicator.calculateRSI(priceArray, priceArray.length, 14, out);
+
+        assertEquals(expected.size(), written);
+        for (int i = 0; i < written; i++) {
+            assertEquals(expected.get(i), out[i], 1e-9);
+        }
+        assertEquals(0, technicalIndicator.calculateRSI(priceArray, 14, 14, out));
     }
 
     @Test
     void calculateBollingerBands() {
+        List<List<Double>> expected = referenceBollingerBands(prices, 20, 2.0);
+
+        List<List<Double>> bands = technicalIndicator.calculateBollingerBands(prices, 20, 2.0);
+
+        assertBandsEqual(expected, bands);
+    }
+
+    @Test
+    void calculateBollingerBands_PrimitiveMatchesList() {
+        List<List<Double>> expected = technicalIndicator.calculateBollingerBands(prices, 20, 2.0);
+        double[] upper = new double[prices.size()];
+        double[] middle = new double[prices.size()];
+        double[] lower = new double[prices.size()];
+
+        int written = technicalIndicator.calculateBollingerBands(priceArray, priceArray.length, 20, 2.0,
+                upper, middle, lower);
+
+        assertEquals(expected.get(1).size(), written);
+        for (int i = 0; i < written; i++) {
+            assertEquals(expected.get(0).get(i), upper[i]);
+            assertEquals(expected.get(1).get(i), middle[i]);
+            assertEquals(expected.get(2).get(i), lower[i]);
+        }
+    }
+
+    @Test
+    void calculateBollingerBands_LongSeriesStaysStable() {
+        // 기준값 재계산 주기를 여러 번 지나는 긴 구간, 큰 가격대에서도 구간별 계산과 같아야 함
+        Random random = new Random(11);
+        List<Double> longPrices = new ArrayList<>();
+        double price = 150_000_000;
+        for (int i = 0; i < 5_000; i++) {
+            price += (random.nextDouble() - 0.5) * 500_000;
+            longPrices.add(price);
+        }
+
+        assertBandsEqual(referenceBollingerBands(longPrices, 20, 2.0),
+                technicalIndicator.calculateBollingerBands(longPrices, 20, 2.0));
+        assertBandsEqual(referenceBollingerBands(longPrices, 200, 2.5),
+                technicalIndicator.calculateBollingerBands(longPrices, 200, 2.5));
+    }
+
+    @Test
+    void calculateBollingerBands_FlatPricesHaveNoWidth() {
+        List<Double> flat = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            flat.add(100.0);
+        }
+
+        List<List<Double>> bands = technicalIndicator.calculateBollingerBands(flat, 20, 2.0);
+
+        assertEquals(31, bands.get(1).size());
+        for (int i = 0; i < 31; i++) {
+            assertEquals(100.0, bands.get(0).get(i), 1e-12);
+            assertEquals(100.0, bands.get(2).get(i), 1e-12);
+        }
     }
 
     @Test
     void generateSignals() {
+        int size = 100;
+        List<Double> macd = technicalIndicator.calculateMACD(prices, 12, 26, 9);
+        List<Double> rsi = technicalIndicator.calculateRSI(prices, 14);
+        List<List<Double>> bands = technicalIndicator.calculateBollingerBands(prices, 20, 2.0);
+
+        List<Double> tailPrices = tail(prices, size);
+        List<Double> tailMacd = tail(macd, size);
+        List<Double> tailRsi = tail(rsi, size);
+        List<List<Double>> tailBands = List.of(tail(bands.get(0), size), tail(bands.get(1), size), tail(bands.get(2), size));
+        List<Integer> expected = technicalIndicator.generateSignals(tailPrices, tailRsi, tailMacd, tailBands);
+
+        int[] out = new int[size];
+        int written = technicalIndicator.generateSignals(toArray(tailPrices), size, toArray(tailRsi), size,
+                toArray(tailMacd), size, toArray(tailBands.get(0)), toArray(tailBands.get(2)), out);
+
+        assertEquals(expected.size(), written);
+        for (int i = 0; i < written; i++) {
+            assertEquals(expected.get(i), out[i]);
+        }
+    }
+
+    @Test
+    void evaluateSignal() {
+        // 과매도 + 밴드 하단 + MACD 상향 교차
+        assertEquals(1, technicalIndicator.evaluateSignal(91, 25, -0.5, 0.5, 110, 90));
+        // 과매수 + 밴드 상단 + MACD 하향 교차
+        assertEquals(-1, technicalIndicator.evaluateSignal(109, 75, 0.5, -0.5, 110, 90));
+        // 교차 없음
+        assertEquals(0, technicalIndicator.evaluateSignal(91, 25, 0.5, 0.6, 110, 90));
+    }
+
+    /**
+     * 구간마다 평균과 분산을 다시 계산하던 기존 구현 (비교 기준)
+     */
+    private List<List<Double>> referenceBollingerBands(List<Double> prices, int period, double stdDev) {
+        List<Double> sma = new ArrayList<>();
+        List<Double> upperBand = new ArrayList<>();
+        List<Double> lowerBand = new ArrayList<>();
+
+        for (int i = period - 1; i < prices.size(); i++) {
+            List<Double> window = prices.subList(i - period + 1, i + 1);
+            double avg = window.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+            double variance = window.stream()
+                    .mapToDouble(x -> Math.pow(x - avg, 2))
+                    .average()
+                    .orElse(0);
+            double standardDeviation = Math.sqrt(variance);
+
+            sma.add(avg);
+            upperBand.add(avg + (standardDeviation * stdDev));
+            lowerBand.add(avg - (standardDeviation * stdDev));
+        }
+
+        return List.of(upperBand, sma, lowerBand);
+    }
+
+    private void assertBandsEqual(List<List<Double>> expected, List<List<Double>> actual) {
+        assertEquals(expected.get(1).size(), actual.get(1).size());
+        for (int band = 0; band < 3; band++) {
+            for (int i = 0; i < expected.get(band).size(); i++) {
+                double value = expected.get(band).get(i);
+                assertEquals(value, actual.get(band).get(i), Math.abs(value) * 1e-12);
+            }
+        }
+    }
+
+    private List<Double> tail(List<Double> values, int size) {
+        return values.subList(values.size() - size, values.size());
+    }
+
+    private double[] toArray(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
     }
-}
\ No newline at end of file
+}
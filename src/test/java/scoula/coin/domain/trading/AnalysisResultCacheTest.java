@@ -0,0 +1,96 @@
+package scoula.coin.domain.trading;
+
+import org.junit.jupiter.api.Test;
+import scoula.coin.application.dto.AnalysisSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisResultCacheTest {
+
+    private final AnalysisResultCache cache = new AnalysisResultCache(180);
+
+    @Test
+    void get_ReturnsSnapshotOfRequestedMarketOnly() {
+        AnalysisSnapshot btc = snapshot("KRW-BTC", LocalDateTime.now());
+        AnalysisSnapshot eth = snapshot("KRW-ETH", LocalDateTime.now());
+        cache.publish(btc);
+        cache.publish(eth);
+
+        assertSame(btc, cache.get("KRW-BTC").orElseThrow());
+        assertSame(eth, cache.get("KRW-ETH").orElseThrow());
+        assertTrue(cache.get("KRW-XRP").isEmpty());
+    }
+
+    @Test
+    void publish_ReplacesPreviousSnapshot() {
+        cache.publish(snapshot("KRW-BTC", LocalDateTime.now().minusMinutes(1)));
+        AnalysisSnapshot latest = snapshot("KRW-BTC", LocalDateTime.now());
+        cache.publish(latest);
+
+        assertSame(latest, cache.get("KRW-BTC").orElseThrow());
+    }
+
+    @Test
+    void publish_NotifiesListenersWithPreviousSnapshot() {
+        List<AnalysisSnapshot> notified = new ArrayList<>();
+        cache.addListener((previous, current) -> {
+            notified.add(previous);
+            notified.add(current);
+        });
+        AnalysisSnapshot first = snapshot("KRW-BTC", LocalDateTime.now().minusMinutes(1));
+        AnalysisSnapshot second = snapshot("KRW-BTC", LocalDateTime.now());
+        cache.publish(first);
+        cache.publish(second);
+
+        assertNull(notified.get(0));
+        assertSame(first, notified.get(1));
+        assertSame(first, notified.get(2));
+        assertSame(second, notified.get(3));
+    }
+
+    @Test
+    void isStale_AfterTtl() {
+        assertFalse(cache.isStale(snapshot("KRW-BTC", LocalDateTime.now().minusMinutes(1))));
+        assertTrue(cache.isStale(snapshot("KRW-BTC", LocalDateTime.now().minusMinutes(4))));
+    }
+
+    @Test
+    void snapshot_IsNotAffectedBySourceListChanges() {
+        List<Double> prices = new ArrayList<>(List.of(1.0, 2.0, 3.0));
+        AnalysisSnapshot snapshot = AnalysisSnapshot.builder()
+                .market("KRW-BTC")
+                .prices(prices)
+                .macd(List.of(0.1, 0.2, 0.3))
+                .rsi(List.of(40.0, 50.0, 60.0))
+                .bollingerBands(List.of(List.of(4.0, 4.0, 4.0), List.of(2.0, 2.0, 2.0), List.of(0.0, 0.0, 0.0)))
+                .signals(List.of(0, 1, 0))
+                .analyzedAt(LocalDateTime.now())
+                .build();
+        prices.add(4.0);
+
+        assertEquals(3, snapshot.getPrices().size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPrices().add(5.0));
+
+        AnalysisSnapshot latest = snapshot.latest(2);
+        assertEquals(List.of(2.0, 3.0), latest.getPrices());
+        assertEquals(List.of(1, 0), latest.getSignals());
+        assertEquals(List.of(2.0, 2.0), latest.getBollingerBands().get(1));
+    }
+
+    private AnalysisSnapshot snapshot(String market, LocalDateTime analyzedAt) {
+        return AnalysisSnapshot.builder()
+                .market(market)
+                .prices(List.of(1.0))
+                .macd(List.of(0.0))
+                .rsi(List.of(50.0))
+                .bollingerBands(List.of(List.of(1.0), List.of(1.0), List.of(1.0)))
+                .signals(List.of(0))
+                .orderStatus("No order executed")
+                .analyzedAt(analyzedAt)
+                .build();
+    }
+}
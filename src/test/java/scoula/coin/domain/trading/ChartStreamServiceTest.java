@@ -0,0 +1,176 @@
+package scoula.coin.domain.trading;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import scoula.coin.application.dto.AnalysisSnapshot;
+import scoula.coin.application.dto.ChartUpdateDTO;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChartStreamServiceTest {
+
+    private static final String MARKET = "KRW-BTC";
+    private static final long MINUTE = 60_000L;
+
+    private AnalysisResultCache cache;
+    private List<RecordingEmitter> emitters;
+    private ChartStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AnalysisResultCache(180);
+        emitters = new ArrayList<>();
+        service = new ChartStreamService(cache, Runnable::run, List.of(MARKET, "KRW-ETH"), 60_000, 2) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    void subscribe_SendsLatestWindowAsSnapshot() {
+        cache.publish(snapshot(MARKET, 1, 5));
+
+        service.subscribe(MARKET, 3);
+
+        RecordingEmitter emitter = emitters.get(0);
+        assertEquals(List.of("snapshot"), emitter.names);
+        ChartUpdateDTO sent = emitter.data.get(0);
+        assertNull(sent.getBaseCandleTime());
+        assertEquals(List.of(3 * MINUTE, 4 * MINUTE, 5 * MINUTE), sent.getTimes());
+        assertEquals(List.of(3.0, 4.0, 5.0), sent.getPrices());
+        assertEquals(5 * MINUTE, sent.getLastCandleTime());
+        assertEquals(1, service.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_BeforeFirstAnalysisSendsNothing() {
+        service.subscribe(MARKET, 100);
+
+        assertTrue(emitters.get(0).names.isEmpty());
+    }
+
+    @Test
+    void publish_SendsOnlyNewCandlesToMarketSubscribers() {
+        cache.publish(snapshot(MARKET, 1, 5));
+        service.subscribe(MARKET, 100);
+        service.subscribe("KRW-ETH", 100);
+
+        cache.publish(snapshot(MARKET, 2, 7));
+
+        RecordingEmitter btc = emitters.get(0);
+        assertEquals(List.of("snapshot", "update"), btc.names);
+        ChartUpdateDTO update = btc.data.get(1);
+        assertEquals(5 * MINUTE, update.getBaseCandleTime());
+        assertEquals(7 * MINUTE, update.getLastCandleTime());
+        assertEquals(List.of(6 * MINUTE, 7 * MINUTE), update.getTimes());
+        assertEquals(List.of(6.0, 7.0), update.getPrices());
+        assertEquals(List.of(6.0, 7.0), update.getBollingerBands().get(0));
+        assertEquals(2, update.getSignals().size());
+        assertTrue(emitters.get(1).names.isEmpty());
+    }
+
+    @Test
+    void publish_WithoutNewCandlesSendsStatusOnly() {
+        cache.publish(snapshot(MARKET, 1, 5));
+        service.subscribe(MARKET, 100);
+
+        cache.publish(snapshot(MARKET, 1, 5));
+
+        ChartUpdateDTO update = emitters.get(0).data.get(1);
+        assertEquals(5 * MINUTE, update.getBaseCandleTime());
+        assertTrue(update.getTimes().isEmpty());
+        assertTrue(update.getPrices().isEmpty());
+        assertEquals("No signal generated", update.getOrderStatus());
+    }
+
+    @Test
+    void publish_AfterIndicatorRebuildSendsSnapshot() {
+        cache.publish(snapshot(MARKET, 1, 5));
+        service.subscribe(MARKET, 2);
+
+        // 이전 결과와 겹치는 분봉이 없음 (지표를 다시 계산한 경우)
+        cache.publish(snapshot(MARKET, 20, 25));
+
+        RecordingEmitter emitter = emitters.get(0);
+        assertEquals(List.of("snapshot", "snapshot"), emitter.names);
+        assertEquals(List.of(24 * MINUTE, 25 * MINUTE), emitter.data.get(1).getTimes());
+    }
+
+    @Test
+    void subscribe_RejectsUnknownMarketAndTooManySubscribers() {
+        CustomException unknown = assertThrows(CustomException.class, () -> service.subscribe("KRW-XRP", 100));
+        assertEquals(ErrorCode.ORDER_INVALID_MARKET, unknown.getErrorCode());
+
+        service.subscribe(MARKET, 100);
+        service.subscribe(MARKET, 100);
+        CustomException limit = assertThrows(CustomException.class, () -> service.subscribe(MARKET, 100));
+        assertEquals(ErrorCode.MARKET_STREAM_LIMIT, limit.getErrorCode());
+        assertEquals(2, service.getSubscriberCount());
+    }
+
+    @Test
+    void publish_DropsSubscriberWhenSendFails() {
+        cache.publish(snapshot(MARKET, 1, 5));
+        service.subscribe(MARKET, 100);
+        emitters.get(0).failing = true;
+
+        cache.publish(snapshot(MARKET, 1, 6));
+        cache.publish(snapshot(MARKET, 1, 7));
+
+        assertEquals(0, service.getSubscriberCount());
+        assertEquals(List.of("snapshot"), emitters.get(0).names);
+    }
+
+    private AnalysisSnapshot snapshot(String market, long firstMinute, long lastMinute) {
+        List<Long> times = LongStream.rangeClosed(firstMinute, lastMinute).map(minute -> minute * MINUTE).boxed().toList();
+        List<Double> values = LongStream.rangeClosed(firstMinute, lastMinute).mapToDouble(minute -> minute).boxed().toList();
+        return AnalysisSnapshot.builder()
+                .market(market)
+                .times(times)
+                .prices(values)
+                .macd(values)
+                .rsi(values)
+                .bollingerBands(List.of(values, values, values))
+                .signals(values.stream().map(value -> 0).toList())
+                .orderStatus("No signal generated")
+                .analyzedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 보낸 이벤트 이름과 데이터를 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> names = new ArrayList<>();
+        private final List<ChartUpdateDTO> data = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            for (ResponseBodyEmitter.DataWithMediaType item : builder.build()) {
+                if (item.getData() instanceof ChartUpdateDTO update) {
+                    data.add(update);
+                } else if (item.getData() instanceof String text && text.startsWith("event:")) {
+                    names.add(text.substring("event:".length(), text.indexOf('\n')));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package scoula.coin.domain.trading;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import scoula.coin.application.entity.TradingSignalHistory;
+import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
+import scoula.coin.global.util.TradingMetrics;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SignalJournalTest {
+
+    @Mock
+    private TradingSignalHistoryRepository signalHistoryRepository;
+
+    @Captor
+    private ArgumentCaptor<List<TradingSignalHistory>> batches;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private SignalJournal signalJournal;
+
+    @BeforeEach
+    void setUp() {
+        // 재시도 대기 없이 바로 다시 시도
+        signalJournal = journal(10, 0);
+    }
+
+    @Test
+    void append_DoesNotTouchDatabaseUntilFlush() {
+        signalJournal.append(signal("o1"));
+
+        verifyNoInteractions(signalHistoryRepository);
+        assertEquals(1, signalJournal.getPendingCount());
+    }
+
+    @Test
+    void flush_InsertsInBatchesThenAppliesFailureUpdates() {
+        signalJournal.append(signal("o1"));
+        signalJournal.append(signal("o2"));
+        signalJournal.append(signal("o3"));
+        signalJournal.updateFailureReason("o1", "Order canceled after 3 minutes timeout");
+
+        signalJournal.flush();
+
+        verify(signalHistoryRepository, times(2)).batchInsert(batches.capture());
+        assertEquals(2, batches.getAllValues().get(0).size());
+        assertEquals("o3", batches.getAllValues().get(1).get(0).getOrderUuid());
+        assertNotNull(batches.getAllValues().get(0).get(0).getCreatedAt());
+        verify(signalHistoryRepository).batchUpdateFailureReason(
+                Map.of("o1", "Order canceled after 3 minutes timeout"));
+        assertEquals(0, signalJournal.getPendingCount());
+
+        signalJournal.flush();
+        verifyNoMoreInteractions(signalHistoryRepository);
+    }
+
+    @Test
+    void flush_RetriesOnlyRowsThatWereNotSaved() {
+        signalJournal.append(signal("o1"));
+        signalJournal.append(signal("o2"));
+        signalJournal.append(signal("o3"));
+        when(signalHistoryRepository.batchInsert(anyList()))
+                .thenReturn(2)
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(1);
+
+        signalJournal.flush();
+        signalJournal.flush();
+
+        verify(signalHistoryRepository, times(3)).batchInsert(batches.capture());
+        assertEquals("o3", batches.getAllValues().get(1).get(0).getOrderUuid());
+        assertEquals("o3", batches.getAllValues().get(2).get(0).getOrderUuid());
+        assertEquals(1, batches.getAllValues().get(2).size());
+    }
+
+    @Test
+    void flush_KeepsRetryingUntilDatabaseRecovers() {
+        signalJournal.append(signal("o1"));
+        when(signalHistoryRepository.batchInsert(anyList()))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(1);
+
+        for (int i = 0; i < 5; i++) {
+            signalJournal.flush();
+        }
+
+        verify(signalHistoryRepository, times(5)).batchInsert(anyList());
+        assertEquals(0, signalJournal.getPendingCount());
+        assertEquals(0, dropped());
+    }
+
+    @Test
+    void flush_WaitsForBackoffAfterFailure() {
+        signalJournal = journal(10, 60_000);
+        signalJournal.append(signal("o1"));
+        when(signalHistoryRepository.batchInsert(anyList())).thenThrow(new RuntimeException("DB down"));
+
+        signalJournal.flush();
+        signalJournal.flush();
+
+        verify(signalHistoryRepository, times(1)).batchInsert(anyList());
+        assertEquals(1, signalJournal.getPendingCount());
+    }
+
+    @Test
+    void append_DropsAndCountsRowsOnlyWhenQueueIsFull() {
+        signalJournal = journal(2, 0);
+
+        signalJournal.append(signal("o1"));
+        signalJournal.append(signal("o2"));
+        signalJournal.append(signal("o3"));
+        signalJournal.updateFailureReason("o1", "Order canceled after 3 minutes timeout");
+
+        assertEquals(2, signalJournal.getPendingCount());
+        assertEquals(2, dropped());
+    }
+
+    private SignalJournal journal(int maxPending, long backoffMillis) {
+        return new SignalJournal(signalHistoryRepository, new TradingMetrics(registry),
+                2, maxPending, backoffMillis, 60_000);
+    }
+
+    private double dropped() {
+        return registry.counter("trading.signal.journal.dropped").count();
+    }
+
+    private TradingSignalHistory signal(String orderUuid) {
+        return TradingSignalHistory.builder()
+                .market("KRW-BTC")
+                .price(BigDecimal.valueOf(50_000_000))
+                .signalType(1)
+                .orderExecuted(true)
+                .orderUuid(orderUuid)
+                .build();
+    }
+}
@@ -4,22 +4,31 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import scoula.coin.application.dto.AnalysisSnapshot;
 import scoula.coin.application.dto.CandleDTO;
 import scoula.coin.application.dto.OrderBookDTO;
 import scoula.coin.application.entity.OrderHistory;
 import scoula.coin.application.entity.TradingSignalHistory;
-import scoula.coin.domain.market.CandleService;
+import scoula.coin.domain.market.CandleSyncService;
 import scoula.coin.domain.order.OrderService;
-import scoula.coin.domain.run.Repository.TradingSignalHistoryRepository;
+import scoula.coin.domain.order.OrderStateTracker;
+import scoula.coin.domain.strategy.IncrementalIndicatorService;
+import scoula.coin.domain.strategy.MacdRsiBandStrategy;
+import scoula.coin.domain.strategy.StrategyParameters;
 import scoula.coin.domain.strategy.TechnicalIndicator;
+import scoula.coin.global.util.ApiCallExecutor;
+import scoula.coin.global.util.TradingMetrics;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,7 +42,7 @@ import static org.mockito.Mockito.*;
 class TradingServiceTest {
 
     @Mock // @Mock 어노테이션을 사용하여 필요한 서비스들의 모의 객체를 생성
-    private CandleService candleService;
+    private CandleSyncService candleSyncService;
 
     @Mock
     private TechnicalIndicator technicalIndicator;
@@ -42,9 +51,20 @@ class TradingServiceTest {
     private OrderService orderService;
 
     @Mock
-    private TradingSignalHistoryRepository signalHistoryRepository;
+    private OrderStateTracker orderStateTracker;
+
+    @Mock
+    private SignalJournal signalJournal;
+
+    @Spy
+    private AnalysisResultCache analysisResultCache = new AnalysisResultCache(180);
+
+    @Spy
+    private ApiCallExecutor apiCallExecutor = new ApiCallExecutor(Runnable::run, 10_000);
+
+    @Spy
+    private TradingMetrics tradingMetrics = new TradingMetrics(new SimpleMeterRegistry());
 
-    @InjectMocks //  Mock 객체들을 자동으로 주입
     private TradingService tradingService;
 
     private ObjectMapper objectMapper;
@@ -56,6 +76,11 @@ class TradingServiceTest {
      */
     void setUp() {
         objectMapper = new ObjectMapper();
+        // 주 전략은 mock TechnicalIndicator의 신호를 그대로 사용
+        IncrementalIndicatorService indicatorService = new IncrementalIndicatorService(
+                List.of(new MacdRsiBandStrategy(technicalIndicator)), List.of(MacdRsiBandStrategy.NAME));
+        tradingService = new TradingService(candleSyncService, orderService, orderStateTracker, signalJournal,
+                indicatorService, analysisResultCache, apiCallExecutor, tradingMetrics);
     }
 
     @Test
@@ -69,28 +94,21 @@ class TradingServiceTest {
         List<CandleDTO> mockCandles = createMockCandles(count + 35);
 
         // Mock all dependencies first
-        setupBasicMocks(market, mockCandles, Arrays.asList(0, 0, -1));
-
-        // Mock TradingSignalHistory
-        TradingSignalHistory mockSignalHistory = TradingSignalHistory.builder()
-                .market(market)
-                .signalType(-1)
-                .price(BigDecimal.valueOf(50000.0))
-                .build();
-        when(signalHistoryRepository.save(any(TradingSignalHistory.class))).thenReturn(mockSignalHistory);
+        setupBasicMocks(market, mockCandles, -1);
 
         // When
-        Map<String, Object> result = tradingService.analyzeTradingSignals(market, count);
+        AnalysisSnapshot result = tradingService.analyzeTradingSignals(market, count);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.containsKey("prices"));
-        assertTrue(result.containsKey("macd"));
-        assertTrue(result.containsKey("rsi"));
-        assertTrue(result.containsKey("bollingerBands"));
-        assertTrue(result.containsKey("signals"));
-        assertTrue(result.containsKey("orderExecuted"));
-        assertTrue(result.containsKey("orderStatus"));
+        assertEquals(market, result.getMarket());
+        assertFalse(result.getPrices().isEmpty());
+        assertEquals(result.getPrices().size(), result.getMacd().size());
+        assertEquals(result.getPrices().size(), result.getRsi().size());
+        assertEquals(3, result.getBollingerBands().size());
+        assertEquals(result.getPrices().size(), result.getSignals().size());
+        assertNotNull(result.getOrderStatus());
+        assertSame(result, analysisResultCache.get(market).orElseThrow());
     }
 
     @Test
@@ -104,7 +122,7 @@ class TradingServiceTest {
         List<CandleDTO> mockCandles = createMockCandles(15); // Less than required 20 data points
 
         // Mock dependency with complete stubbing
-        when(candleService.getCandle(anyString(), anyInt())).thenReturn(mockCandles);
+        when(candleSyncService.getCandles(anyString(), anyInt())).thenReturn(mockCandles);
 
         // When & Then
         Exception exception = assertThrows(RuntimeException.class, () ->
@@ -119,18 +137,10 @@ class TradingServiceTest {
         String market = "KRW-BTC";
         int count = 10;
         List<CandleDTO> mockCandles = createMockCandles(count + 35);
-        List<Integer> mockSignals = Arrays.asList(0, 0, 1); // Buy signal at the end
-
-        // Mock TradingSignalHistory
-        TradingSignalHistory mockSignalHistory = TradingSignalHistory.builder()
-                .market(market)
-                .signalType(1)
-                .price(BigDecimal.valueOf(50000.0))
-                .build();
-        when(signalHistoryRepository.save(any(TradingSignalHistory.class))).thenReturn(mockSignalHistory);
+        int mockSignal = 1; // Buy signal at the end
 
         // Mock regular dependencies
-        setupBasicMocks(market, mockCandles, mockSignals);
+        setupBasicMocks(market, mockCandles, mockSignal);
 
         // Mock OrderHistory response
         OrderHistory mockOrderHistory = new OrderHistory();
@@ -139,35 +149,42 @@ class TradingServiceTest {
                 .thenReturn(mockOrderHistory);
 
         // When
-        Map<String, Object> result = tradingService.analyzeTradingSignals(market, count);
+        AnalysisSnapshot result = tradingService.analyzeTradingSignals(market, count);
 
         // Then
         assertNotNull(result);
         verify(orderService).doOrder(eq(market), eq("bid"), anyDouble(), anyDouble(), eq("limit"));
+        verify(orderService, never()).getOrders(anyString(), any(), any(), any(), anyString());
+
+        // 주문 UUID까지 채운 시그널 한 행만 journal에 기록
+        ArgumentCaptor<TradingSignalHistory> signal = ArgumentCaptor.forClass(TradingSignalHistory.class);
+        verify(signalJournal).append(signal.capture());
+        assertEquals("mock-order-uuid", signal.getValue().getOrderUuid());
+        assertTrue(signal.getValue().getOrderExecuted());
+        verify(orderStateTracker).track(market, mockOrderHistory, signal.getValue());
     }
 
     // [Previous helper methods remain the same: createMockCandles, createMockOrderBookDTO, createMockOrdersJsonNode]
 
-    private void setupBasicMocks(String market, List<CandleDTO> mockCandles, List<Integer> mockSignals) {
-        when(candleService.getCandle(eq(market), anyInt())).thenReturn(mockCandles);
-        when(technicalIndicator.calculateMACD(anyList(), anyInt(), anyInt(), anyInt()))
-                .thenReturn(Arrays.asList(0.5, 0.6, 0.7));
-        when(technicalIndicator.calculateRSI(anyList(), anyInt()))
-                .thenReturn(Arrays.asList(45.0, 50.0, 55.0));
-        when(technicalIndicator.calculateBollingerBands(anyList(), anyInt(), anyDouble()))
-                .thenReturn(Arrays.asList(Arrays.asList(95.0, 100.0, 105.0)));
-        when(technicalIndicator.generateSignals(anyList(), anyList(), anyList(), anyList()))
-                .thenReturn(mockSignals);
+    private void setupBasicMocks(String market, List<CandleDTO> mockCandles, int mockSignal) {
+        when(candleSyncService.getCandles(eq(market), anyInt())).thenReturn(mockCandles);
+        when(technicalIndicator.evaluateSignal(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                any(StrategyParameters.class)))
+                .thenReturn(mockSignal);
         when(orderService.getOrderChance(market)).thenReturn(createMockOrderBookDTO());
-        when(orderService.getOrders(eq(market), isNull(), anyInt(), anyInt(), anyString()))
-                .thenReturn(createMockOrdersJsonNode(false));
     }
 
     private List<CandleDTO> createMockCandles(int count) {
         List<CandleDTO> candles = new ArrayList<>();
+        LocalDateTime latest = LocalDateTime.of(2024, 1, 1, 0, 0);
         for (int i = 0; i < count; i++) {
             CandleDTO candle = new CandleDTO();
+            candle.setCandleDateTimeUtc(latest.minusMinutes(i).toString()); // 시간 역순
+            candle.setOpeningPrice(50000.0 + i * 100);
+            candle.setHighPrice(50050.0 + i * 100);
+            candle.setLowPrice(49950.0 + i * 100);
             candle.setTradePrice(50000.0 + i * 100); // Incremental prices
+            candle.setCandleAccTradeVolume(1.0);
             candles.add(candle);
         }
         return candles;
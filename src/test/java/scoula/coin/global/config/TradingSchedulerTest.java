@@ -0,0 +1,101 @@
+package scoula.coin.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import scoula.coin.domain.trading.TradingService;
+import scoula.coin.global.util.TradingMetrics;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TradingSchedulerTest {
+
+    @Mock
+    private TradingService tradingService;
+
+    private final TradingMetrics tradingMetrics = new TradingMetrics(new SimpleMeterRegistry());
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void scheduledAnalyzeTradingSignals_SlowMarketDoesNotBlockOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastDone = new CountDownLatch(2);
+        when(tradingService.analyzeTradingSignals(eq("KRW-BTC"), anyInt())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        when(tradingService.analyzeTradingSignals(eq("KRW-ETH"), anyInt())).thenAnswer(invocation -> {
+            fastDone.countDown();
+            return null;
+        });
+        when(tradingService.analyzeTradingSignals(eq("KRW-XRP"), anyInt())).thenAnswer(invocation -> {
+            fastDone.countDown();
+            return null;
+        });
+        TradingScheduler scheduler = new TradingScheduler(tradingService, tradingMetrics, executor::execute,
+                List.of("KRW-BTC", "KRW-ETH", "KRW-XRP"), 100);
+
+        scheduler.scheduledAnalyzeTradingSignals();
+
+        assertTrue(fastDone.await(2, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void scheduledAnalyzeTradingSignals_SkipsMarketStillRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(tradingService.analyzeTradingSignals(eq("KRW-BTC"), anyInt())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        TradingScheduler scheduler = new TradingScheduler(tradingService, tradingMetrics, executor::execute, List.of("KRW-BTC"), 100);
+
+        scheduler.scheduledAnalyzeTradingSignals();
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        scheduler.scheduledAnalyzeTradingSignals();
+        release.countDown();
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.SECONDS));
+        verify(tradingService, times(1)).analyzeTradingSignals("KRW-BTC", 100);
+    }
+
+    @Test
+    void scheduledAnalyzeTradingSignals_FailureReleasesMarket() throws Exception {
+        when(tradingService.analyzeTradingSignals(eq("KRW-BTC"), anyInt()))
+                .thenThrow(new RuntimeException("API timeout"));
+        TradingScheduler scheduler = new TradingScheduler(tradingService, tradingMetrics, Runnable::run, List.of("KRW-BTC"), 100);
+
+        scheduler.scheduledAnalyzeTradingSignals();
+        scheduler.scheduledAnalyzeTradingSignals();
+
+        verify(tradingService, times(2)).analyzeTradingSignals("KRW-BTC", 100);
+    }
+}
@@ -0,0 +1,106 @@
+package scoula.coin.global.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import scoula.coin.global.error.CustomException;
+import scoula.coin.global.error.ErrorCode;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiCallExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void submit_RunsCallsConcurrentlyAndRecordsLatency() {
+        ApiCallExecutor executor = new ApiCallExecutor(pool, 5_000);
+        long start = System.nanoTime();
+
+        try (ApiCallExecutor.Cycle calls = executor.newCycle()) {
+            Future<String> first = calls.submit("first", () -> sleepAndReturn(300, "a"));
+            Future<String> second = calls.submit("second", () -> sleepAndReturn(300, "b"));
+            Future<String> third = calls.submit("third", () -> sleepAndReturn(300, "c"));
+
+            assertEquals("a", calls.await("first", first));
+            assertEquals("b", calls.await("second", second));
+            assertEquals("c", calls.await("third", third));
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(elapsedMillis < 800, "calls should overlap, took " + elapsedMillis + " ms");
+            assertEquals(3, calls.getLatencies().size());
+            assertTrue(calls.getLatencies().get("first") >= 250);
+        }
+    }
+
+    @Test
+    void await_ThrowsWhenDeadlineExceeded() {
+        ApiCallExecutor executor = new ApiCallExecutor(pool, 100);
+
+        try (ApiCallExecutor.Cycle calls = executor.newCycle()) {
+            Future<String> slow = calls.submit("slow", () -> sleepAndReturn(2_000, "late"));
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> calls.await("slow", slow));
+            assertTrue(exception.getMessage().contains("slow"));
+        }
+    }
+
+    @Test
+    void close_InterruptsRunningCallAndIgnoresItsLateLatency() throws Exception {
+        ApiCallExecutor executor = new ApiCallExecutor(pool, 5_000);
+        List<String> recorded = new CopyOnWriteArrayList<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        try (ApiCallExecutor.Cycle calls = executor.newCycle((name, nanos) -> recorded.add(name))) {
+            calls.submit("slow", () -> {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return "late";
+            });
+            sleepAndReturn(100, "started");
+        }
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(2, TimeUnit.SECONDS), "cancelled call should release its thread");
+        assertTrue(interrupted.get());
+        assertTrue(recorded.isEmpty());
+    }
+
+    @Test
+    void await_RethrowsCallException() {
+        ApiCallExecutor executor = new ApiCallExecutor(pool, 5_000);
+
+        try (ApiCallExecutor.Cycle calls = executor.newCycle()) {
+            Future<String> failing = calls.submit("failing", () -> {
+                throw new CustomException(ErrorCode.ORDER_EXECUTION_FAILED);
+            });
+
+            assertThrows(CustomException.class, () -> calls.await("failing", failing));
+        }
+    }
+
+    private String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
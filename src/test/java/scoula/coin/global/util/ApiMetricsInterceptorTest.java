@@ -0,0 +1,55 @@
+package scoula.coin.global.util;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ApiMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new ApiMetricsInterceptor(new TradingMetrics(registry)));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void intercept_RecordsLatencyByEndpointWithoutQuery() {
+        server.expect(requestTo("https://api.bithumb.com/v1/orders?market=KRW-BTC&uuid=a"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://api.bithumb.com/v1/orders?market=KRW-BTC&uuid=b"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        restTemplate.getForObject("https://api.bithumb.com/v1/orders?market=KRW-BTC&uuid=a", String.class);
+        restTemplate.getForObject("https://api.bithumb.com/v1/orders?market=KRW-BTC&uuid=b", String.class);
+
+        Timer timer = registry.get("bithumb.api.requests")
+                .tags("method", "GET", "endpoint", "/v1/orders", "status", "200")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void intercept_RecordsErrorStatus() {
+        server.expect(requestTo("https://api.bithumb.com/v1/order?uuid=a")).andRespond(withBadRequest());
+
+        assertThrows(HttpClientErrorException.class,
+                () -> restTemplate.delete("https://api.bithumb.com/v1/order?uuid=a"));
+
+        assertEquals(1, registry.get("bithumb.api.requests").tags("status", "400").timer().count());
+    }
+}
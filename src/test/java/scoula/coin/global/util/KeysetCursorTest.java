@@ -0,0 +1,52 @@
+package scoula.coin.global.util;
+
+import org.junit.jupiter.api.Test;
+import scoula.coin.application.dto.HistoryPage;
+import scoula.coin.global.error.CustomException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 1, 1, 9, 0, 0, 123_456_000);
+
+    @Test
+    void decode_RoundTripsTimeAndKey() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(TIME, "8b7c-uuid|with-bar"));
+
+        assertEquals(TIME, cursor.getCreatedAt());
+        assertEquals("8b7c-uuid|with-bar", cursor.getKey());
+        assertEquals(42L, KeysetCursor.decode(KeysetCursor.encode(TIME, 42L)).getLongKey());
+    }
+
+    @Test
+    void decode_BlankIsFirstPageAndGarbageIsRejected() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+        assertThrows(CustomException.class, () -> KeysetCursor.decode("not base64!"));
+        assertThrows(CustomException.class, () -> KeysetCursor.decode(KeysetCursor.encode(TIME, "")));
+        assertThrows(CustomException.class, () -> KeysetCursor.decode(KeysetCursor.encode(TIME, "abc")).getLongKey());
+    }
+
+    @Test
+    void historyPage_UsesExtraRowOnlyToDetectNextPage() {
+        List<Long> rows = List.of(5L, 4L, 3L);
+        Function<Long, LocalDateTime> createdAt = id -> TIME.plusSeconds(id);
+
+        HistoryPage<String> page = HistoryPage.from(rows, 2, String::valueOf, createdAt, id -> id);
+
+        assertEquals(List.of("5", "4"), page.getItems());
+        assertTrue(page.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(TIME.plusSeconds(4), next.getCreatedAt());
+        assertEquals(4L, next.getLongKey());
+
+        HistoryPage<String> last = HistoryPage.from(rows, 3, String::valueOf, createdAt, id -> id);
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+    }
+}
@@ -1,11 +1,42 @@
 package scoula.coin.global.util;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.message.BasicNameValuePair;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import scoula.coin.global.error.CustomException;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 class OrderUtilsTest {
 
+    private static final String BASE_URL = "https://api.bithumb.com";
+
+    private MockRestServiceServer server;
+    private OrderUtils orderUtils;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        orderUtils = new OrderUtils(new ObjectMapper(), restTemplate);
+        ReflectionTestUtils.setField(orderUtils, "accessKey", "access");
+        ReflectionTestUtils.setField(orderUtils, "secretKey", "secret");
+    }
+
     @Test
     void generateJwtToken() {
     }
@@ -24,5 +55,40 @@ class OrderUtilsTest {
 
     @Test
     void executePostRequest() {
+        server.expect(requestTo(BASE_URL + "/v1/orders"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("Authorization", startsWith("Bearer ")))
+                .andExpect(jsonPath("$.market").value("KRW-BTC"))
+                .andRespond(withStatus(HttpStatus.CREATED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"uuid\":\"order-1\"}"));
+
+        JsonNode response = orderUtils.executePostRequest(BASE_URL, "/v1/orders",
+                Map.of("market", "KRW-BTC", "side", "bid"));
+
+        assertEquals("order-1", response.get("uuid").asText());
+        server.verify();
+    }
+
+    @Test
+    void executeDeleteRequest() {
+        server.expect(requestTo(BASE_URL + "/v1/order?uuid=order-1"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess("{\"uuid\":\"order-1\"}", MediaType.APPLICATION_JSON));
+
+        JsonNode response = orderUtils.executeDeleteRequest(BASE_URL, "/v1/order",
+                List.of(new BasicNameValuePair("uuid", "order-1")));
+
+        assertEquals("order-1", response.get("uuid").asText());
+        server.verify();
+    }
+
+    @Test
+    void executeDeleteRequest_FailureStatus() {
+        server.expect(requestTo(BASE_URL + "/v1/order?uuid=order-1"))
+                .andRespond(withBadRequest());
+
+        assertThrows(CustomException.class, () -> orderUtils.executeDeleteRequest(BASE_URL, "/v1/order",
+                List.of(new BasicNameValuePair("uuid", "order-1"))));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package scoula.coin.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void advance_ExpiresOnlyPassedDeadlines() {
+        TimerWheel<String> wheel = new TimerWheel<>(1_000, 8, START);
+        wheel.schedule("a", START + 2_000);
+        wheel.schedule("b", START + 5_500);
+
+        assertEquals(List.of(), wheel.advance(START + 1_999));
+        assertEquals(List.of("a"), wheel.advance(START + 2_000));
+        assertEquals(List.of(), wheel.advance(START + 5_000));
+        assertEquals(List.of("b"), wheel.advance(START + 6_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_KeepsDeadlinesBeyondOneRotation() {
+        TimerWheel<String> wheel = new TimerWheel<>(1_000, 8, START);
+        wheel.schedule("far", START + 20_000);   // 8슬롯 휠을 두 바퀴 넘김
+
+        assertEquals(List.of(), wheel.advance(START + 10_000));
+        assertTrue(wheel.contains("far"));
+        assertEquals(List.of("far"), wheel.advance(START + 60_000));
+    }
+
+    @Test
+    void schedule_PastDeadlineExpiresOnNextTickAndRescheduleReplaces() {
+        TimerWheel<String> wheel = new TimerWheel<>(1_000, 8, START);
+        wheel.schedule("late", START - 60_000);
+        wheel.schedule("moved", START + 1_000);
+        wheel.schedule("moved", START + 3_000);
+
+        assertEquals(List.of("late"), wheel.advance(START + 1_000));
+        assertEquals(List.of("moved"), wheel.advance(START + 3_000));
+    }
+
+    @Test
+    void cancel_RemovesTimer() {
+        TimerWheel<String> wheel = new TimerWheel<>(1_000, 8, START);
+        wheel.schedule("a", START + 1_000);
+
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        assertEquals(List.of(), wheel.advance(START + 5_000));
+    }
+}